@@ -237,6 +237,25 @@ CREATE TABLE REVIEW_KEYWORDS (
     CONSTRAINT PK_REVIEW_KEYWORDS PRIMARY KEY (KEYWORD_ID)
 );
 
+-- ======================
+-- 17. AMENITY_STORE (배치 생성 - 위치 분석 편의시설 오프라인 저장소)
+-- ======================
+-- AmenityStoreHarvester 가 서울 전역 격자 x 카테고리를 카카오 카테고리 검색으로 수집하여 저장 / 갱신
+-- PLACES: VersionedCacheCodec 으로 인코딩한 격자 장소 열 배열 (Redis 격자 캐시 값과 같은 형식)
+CREATE TABLE AMENITY_STORE (
+    CELL_KEY        VARCHAR2(32)    NOT NULL,
+    GEOHASH_ID      VARCHAR2(12)    NOT NULL,
+    CATEGORY_CODE   VARCHAR2(3)     NOT NULL,
+    PLACES          BLOB            NOT NULL,
+    PLACE_COUNT     NUMBER          NOT NULL,
+    HARVESTED_AT    TIMESTAMP       NOT NULL,
+    CONSTRAINT PK_AMENITY_STORE PRIMARY KEY (CELL_KEY)
+);
+
+-- B-Tree 인덱스 (격자 단위 조회 / 수집기 갱신 대상 선정)
+CREATE INDEX IDX_AMENITY_STORE_GEOHASH ON AMENITY_STORE(GEOHASH_ID);
+CREATE INDEX IDX_AMENITY_STORE_HARVESTED ON AMENITY_STORE(HARVESTED_AT);
+
 -- ============================================================
 -- COMMIT
 -- ============================================================
@@ -0,0 +1,203 @@
+package com.wherehouse.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wherehouse.information.batch.processor.AmenityStoreHarvester;
+import com.wherehouse.information.dao.AmenityStoreRepository;
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.util.AmenityCellService;
+import com.wherehouse.information.util.AmenityStoreService;
+import com.wherehouse.information.util.KakaoApiService;
+import com.wherehouse.redis.service.NearCacheDataService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오프라인 편의시설 저장소 수집기(AmenityStoreHarvester) 동작 검증 (로컬 카카오 stub 서버 사용)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=amenity-store-verification
+ *           --kakao.api.base-url=http://localhost:18089'  (verification.amenity-store.stub-port 와 같은 포트)
+ *           base-url 이 stub 주소가 아니면 실제 카카오 쿼터를 쓰지 않도록 검증을 중단한다.
+ *           검증 범위의 AMENITY_STORE 행 / 격자 캐시 키는 종료 시 삭제하므로 검증용 DB / Redis 에서 실행한다.
+ *
+ * 검증 항목 (서울시청 주변 반경 radius 의 경계 상자 범위):
+ * - 1차 수집 : 범위 격자 x 15개 카테고리가 모두 수집되고, stub 호출 수 = 수집기 카카오 호출 수 (페이지 포함, 수집 건수 이상)
+ * - 2차 수집 : 갱신 주기 이내이므로 대상 0건, stub 호출 없음 (재개 / 증분 갱신)
+ * - 조회     : AmenityCellService.findAmenities 가 stub 호출 없이(저장소 / 격자 캐시만으로) 15개 카테고리를 반환
+ */
+@Component
+@Profile("amenity-store-verification")
+@RequiredArgsConstructor
+@Slf4j
+public class AmenityStoreHarvestVerification implements ApplicationRunner {
+
+    private static final double CENTER_LATITUDE = 37.5665;
+    private static final double CENTER_LONGITUDE = 126.9780;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final AmenityStoreHarvester amenityStoreHarvester;
+    private final AmenityStoreRepository amenityStoreRepository;
+    private final AmenityCellService amenityCellService;
+    private final NearCacheDataService nearCacheDataService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${verification.amenity-store.stub-port:18089}")
+    private int stubPort;
+
+    @Value("${verification.amenity-store.radius:300}")
+    private int radius;
+
+    @Value("${kakao.api.base-url:https://dapi.kakao.com}")
+    private String kakaoApiBaseUrl;
+
+    private final AtomicInteger stubCalls = new AtomicInteger();
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String stubUrl = "http://localhost:" + stubPort;
+        if (!stubUrl.equals(kakaoApiBaseUrl)) {
+            log.error("[AmenityStoreVerification] kakao.api.base-url({})이 stub 주소({})가 아님 - 중단", kakaoApiBaseUrl, stubUrl);
+            return;
+        }
+
+        HttpServer stub = HttpServer.create(new InetSocketAddress("localhost", stubPort), 0);
+        stub.createContext("/v2/local/search/category.json", this::handleCategorySearch);
+        stub.start();
+
+        // 조회 반경 원을 감싸는 경계 상자 (+ 여유) = 수집 범위
+        double deltaLatitude = (radius + 100) / METERS_PER_DEGREE_LAT;
+        double deltaLongitude = (radius + 100) / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(CENTER_LATITUDE)));
+        double south = CENTER_LATITUDE - deltaLatitude;
+        double north = CENTER_LATITUDE + deltaLatitude;
+        double west = CENTER_LONGITUDE - deltaLongitude;
+        double east = CENTER_LONGITUDE + deltaLongitude;
+        List<String> storeKeys = storeKeys(south, north, west, east, amenityCellService.getCellPrecision());
+
+        try {
+            amenityStoreRepository.deleteAllById(storeKeys);
+            storeKeys.forEach(key -> nearCacheDataService.deleteSingleData("amenity:" + key));
+
+            // 1차 수집
+            Map<String, Object> first = amenityStoreHarvester.harvest(south, north, west, east, Integer.MAX_VALUE);
+            int firstCalls = stubCalls.get();
+            boolean firstPassed = ((Number) first.get("harvested")).intValue() == storeKeys.size()
+                    && firstCalls == ((Number) first.get("kakaoCalls")).intValue()
+                    && firstCalls >= storeKeys.size();
+            log.info("[AmenityStoreVerification] 1차 수집 - {} (대상 키: {}건, 결과: {}, stub 호출: {}건)",
+                    firstPassed ? "통과" : "실패", storeKeys.size(), first, firstCalls);
+
+            // 2차 수집 (갱신 주기 이내 → 대상 없음)
+            Map<String, Object> second = amenityStoreHarvester.harvest(south, north, west, east, Integer.MAX_VALUE);
+            boolean secondPassed = ((Number) second.get("targets")).intValue() == 0 && stubCalls.get() == firstCalls;
+            log.info("[AmenityStoreVerification] 2차 수집 - {} (결과: {})", secondPassed ? "통과" : "실패", second);
+
+            // 조회 (카카오 호출 없이 저장소에서)
+            Map<String, List<Map<String, Object>>> amenities =
+                    amenityCellService.findAmenities(CENTER_LATITUDE, CENTER_LONGITUDE, radius);
+            int places = amenities.values().stream().mapToInt(List::size).sum();
+            boolean lookupPassed = stubCalls.get() == firstCalls
+                    && amenities.size() == KakaoApiService.AMENITY_CATEGORIES.length;
+            log.info("[AmenityStoreVerification] 저장소 조회 - {} (카테고리: {}개, 장소: {}건, 추가 stub 호출: {}건, 격자 통계: {})",
+                    lookupPassed ? "통과" : "실패", amenities.size(), places, stubCalls.get() - firstCalls,
+                    amenityCellService.getStats());
+
+        } finally {
+            amenityStoreRepository.deleteAllById(storeKeys);
+            storeKeys.forEach(key -> nearCacheDataService.deleteSingleData("amenity:" + key));
+            stub.stop(0);
+        }
+    }
+
+    private static List<String> storeKeys(double south, double north, double west, double east, int precision) {
+        List<String> keys = new ArrayList<>();
+        long row = GeohashCodec.encode(south, west, precision);
+        while (GeohashCodec.southLatitude(row) <= north) {
+            long cell = row;
+            while (GeohashCodec.westLongitude(cell) <= east) {
+                for (String category : KakaoApiService.AMENITY_CATEGORIES) {
+                    keys.add(AmenityStoreService.storeKey(cell, category));
+                }
+                cell = GeohashCodec.neighbour(cell, 0, 1);
+            }
+            row = GeohashCodec.neighbour(row, 1, 0);
+        }
+        return keys;
+    }
+
+    // ========================================
+    // 카카오 카테고리 검색 stub
+    // ========================================
+
+    /* 요청 중심 반경 안에 거리순 최대 45건 중 page 번째 15건 (중심 좌표 / 카테고리로 시드를 정해 같은 요청은 같은 응답) */
+    private void handleCategorySearch(HttpExchange exchange) {
+        stubCalls.incrementAndGet();
+        try {
+            Map<String, String> query = new HashMap<>();
+            for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                query.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+            double x = Double.parseDouble(query.get("x"));
+            double y = Double.parseDouble(query.get("y"));
+            int queryRadius = Integer.parseInt(query.get("radius"));
+            String category = query.get("category_group_code");
+            int page = Integer.parseInt(query.getOrDefault("page", "1"));
+
+            Random random = new Random(Double.hashCode(x) * 31L + Double.hashCode(y) + category.hashCode());
+            List<Map<String, Object>> documents = new ArrayList<>();
+            int distance = 0;
+            int pageable = 0;
+            for (int i = 0; i < 45; i++) {
+                distance += 1 + random.nextInt(Math.max(1, queryRadius / 15));
+                if (distance > queryRadius) {
+                    break;
+                }
+                pageable++;
+                double bearing = random.nextDouble() * 2 * Math.PI;
+                double placeLatitude = y + distance * Math.cos(bearing) / METERS_PER_DEGREE_LAT;
+                double placeLongitude = x + distance * Math.sin(bearing)
+                        / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(y)));
+
+                Map<String, Object> doc = new HashMap<>();
+                doc.put("place_name", category + " stub " + i);
+                doc.put("x", String.format(Locale.ROOT, "%.7f", placeLongitude));
+                doc.put("y", String.format(Locale.ROOT, "%.7f", placeLatitude));
+                doc.put("distance", String.valueOf(distance));
+                doc.put("category_group_name", category);
+                if (i / 15 == page - 1) {
+                    documents.add(doc);
+                }
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("documents", documents,
+                    "meta", Map.of("is_end", page * 15 >= pageable, "pageable_count", pageable, "total_count", pageable)));
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (Exception e) {
+            log.warn("[AmenityStoreVerification] stub 응답 실패: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+}
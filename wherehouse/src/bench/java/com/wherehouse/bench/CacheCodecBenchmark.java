@@ -0,0 +1,195 @@
+package com.wherehouse.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.model.AddressDto;
+import com.wherehouse.information.model.LocationAnalysisRequestDTO;
+import com.wherehouse.information.model.LocationAnalysisResponseDTO;
+import com.wherehouse.information.service.LocationAnalysisServiceImpl;
+import com.wherehouse.redis.codec.CacheCodec;
+import com.wherehouse.redis.codec.VersionedCacheCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 캐시 값 인코딩 방식별 크기 / 인코딩 / 디코딩 시간 비교 벤치마크 (왕복 / 이전 값 호환 정합성은 VersionedCacheCodecTest)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=codec-benchmark'
+ *
+ * 비교 대상:
+ * - legacy : ObjectMapper.writeValueAsString → Jackson2JsonRedisSerializer(Object) 직렬화 (기존 이중 인코딩 경로)
+ * - json   : JsonCacheCodec 본문 + 버전 헤더
+ * - smile  : SmileCacheCodec 본문 + 버전 헤더
+ *
+ * 측정 대상 값:
+ * - LocationAnalysisResponseDTO (실제 analyzeLocation 결과 1건)
+ * - List<CctvGeo> (격자 1개 분량, data:{geohash}:cctv 키)
+ * - 편의시설 Map (15개 카테고리, amenity: 키)
+ * - AddressDto (address: 키)
+ *
+ * 측정 방식:
+ * - 워밍업 반복 후 같은 값을 iterations 회 인코딩/디코딩하여 1회 평균(µs)을 기록한다.
+ * - 디코딩 결과는 누적 해시에 반영하여 JIT 가 결과를 버리지 못하도록 한다.
+ */
+@Component
+@Profile("codec-benchmark")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheCodecBenchmark implements ApplicationRunner {
+
+    private static final String[] CATEGORIES = {"SW8", "CS2", "FD6", "CE7", "MT1", "BK9", "PO3",
+            "CT1", "HP8", "PM9", "PK6", "OL7", "SC4", "AC5", "AT4"};
+
+    private final LocationAnalysisServiceImpl locationAnalysisService;
+    private final ObjectMapper objectMapper;
+    private final List<CacheCodec> codecs;
+
+    @Value("${benchmark.codec.iterations:20000}")
+    private int iterations;
+
+    @Value("${benchmark.codec.warmup:5000}")
+    private int warmup;
+
+    @Value("${benchmark.codec.cctv-per-cell:40}")
+    private int cctvPerCell;
+
+    @Value("${benchmark.codec.places-per-category:15}")
+    private int placesPerCategory;
+
+    private long blackhole;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("[CodecBenchmark] 시작 - iterations: {}, warmup: {}", iterations, warmup);
+
+        Random random = new Random(42);
+
+        LocationAnalysisResponseDTO response = locationAnalysisService.analyzeLocation(
+                LocationAnalysisRequestDTO.builder().latitude(37.5665).longitude(126.9780).radius(500).build());
+
+        benchmark("LocationAnalysisResponseDTO", response,
+                objectMapper.constructType(LocationAnalysisResponseDTO.class));
+        benchmark("List<CctvGeo>", sampleCctv(random),
+                objectMapper.getTypeFactory().constructType(new TypeReference<List<CctvGeo>>() {}));
+        benchmark("편의시설 Map", sampleAmenities(random),
+                objectMapper.getTypeFactory().constructType(new TypeReference<Map<String, List<Map<String, Object>>>>() {}));
+        benchmark("AddressDto",
+                AddressDto.builder().roadAddress("서울특별시 중구 세종대로 110").jibunAddress("서울특별시 중구 태평로1가 31").build(),
+                objectMapper.constructType(AddressDto.class));
+
+        log.info("[CodecBenchmark] 종료 (blackhole: {})", blackhole);
+    }
+
+    private void benchmark(String label, Object value, JavaType type) throws Exception {
+        // 기존 경로: JSON 문자열 → Jackson2JsonRedisSerializer 가 문자열을 다시 JSON 으로 인코딩
+        Jackson2JsonRedisSerializer<Object> legacySerializer = new Jackson2JsonRedisSerializer<>(Object.class);
+
+        Codec legacy = new Codec() {
+            public byte[] encode(Object v) throws Exception {
+                return legacySerializer.serialize(objectMapper.writeValueAsString(v));
+            }
+
+            public Object decode(byte[] bytes) throws Exception {
+                return objectMapper.readValue(String.valueOf(legacySerializer.deserialize(bytes)), type);
+            }
+        };
+        report(label, "legacy", legacy, value);
+
+        for (CacheCodec cacheCodec : codecs) {
+            Codec candidate = new Codec() {
+                public byte[] encode(Object v) throws Exception {
+                    byte[] body = cacheCodec.encode(v);
+                    byte[] bytes = new byte[VersionedCacheCodec.HEADER_SIZE + body.length];
+                    System.arraycopy(body, 0, bytes, VersionedCacheCodec.HEADER_SIZE, body.length);
+                    return bytes;
+                }
+
+                public Object decode(byte[] bytes) throws Exception {
+                    return cacheCodec.decode(bytes, VersionedCacheCodec.HEADER_SIZE,
+                            bytes.length - VersionedCacheCodec.HEADER_SIZE, type);
+                }
+            };
+            report(label, cacheCodec.formatName(), candidate, value);
+        }
+    }
+
+    private void report(String label, String codecName, Codec codec, Object value) throws Exception {
+        byte[] encoded = codec.encode(value);
+
+        for (int i = 0; i < warmup; i++) {
+            blackhole += codec.encode(value).length;
+            blackhole += codec.decode(encoded).hashCode();
+        }
+
+        long encodeStartNs = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += codec.encode(value).length;
+        }
+        long encodeNs = System.nanoTime() - encodeStartNs;
+
+        long decodeStartNs = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += codec.decode(encoded).hashCode();
+        }
+        long decodeNs = System.nanoTime() - decodeStartNs;
+
+        log.info("[CodecBenchmark] {} / {} - 크기: {}B, 인코딩: {}µs, 디코딩: {}µs",
+                label, codecName, encoded.length,
+                String.format("%.2f", encodeNs / 1_000.0 / iterations),
+                String.format("%.2f", decodeNs / 1_000.0 / iterations));
+    }
+
+    private List<CctvGeo> sampleCctv(Random random) {
+        List<CctvGeo> cctvList = new ArrayList<>(cctvPerCell);
+        for (int i = 0; i < cctvPerCell; i++) {
+            cctvList.add(CctvGeo.builder()
+                    .numbers(100000L + i)
+                    .address("서울특별시 중구 세종대로 " + (100 + random.nextInt(100)))
+                    .latitude(37.56 + random.nextDouble() * 0.01)
+                    .longitude(126.97 + random.nextDouble() * 0.01)
+                    .cameraCount(1 + random.nextInt(4))
+                    .geohashId("wydm9qy")
+                    .build());
+        }
+        return cctvList;
+    }
+
+    private Map<String, List<Map<String, Object>>> sampleAmenities(Random random) {
+        Map<String, List<Map<String, Object>>> amenities = new LinkedHashMap<>();
+        for (String category : CATEGORIES) {
+            List<Map<String, Object>> places = new ArrayList<>(placesPerCategory);
+            for (int i = 0; i < placesPerCategory; i++) {
+                Map<String, Object> place = new HashMap<>();
+                place.put("name", category + " 장소 " + i);
+                place.put("latitude", 37.56 + random.nextDouble() * 0.01);
+                place.put("longitude", 126.97 + random.nextDouble() * 0.01);
+                place.put("distance", random.nextInt(500));
+                place.put("categoryName", category);
+                places.add(place);
+            }
+            amenities.put(category, places);
+        }
+        return amenities;
+    }
+
+    private interface Codec {
+        byte[] encode(Object value) throws Exception;
+
+        Object decode(byte[] bytes) throws Exception;
+    }
+}
@@ -0,0 +1,145 @@
+package com.wherehouse.bench;
+
+import com.wherehouse.recommand.service.RedisCandidateIntersector;
+import com.wherehouse.recommand.service.RedisCandidateIntersector.IndexRange;
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 서버 측 후보 교집합(RedisCandidateIntersector) 정합성 검증 및 전송량 / 시간 측정
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=candidate-intersection-verification'
+ *           (RdbSyncListener 로 Redis 인덱스가 적재된 상태여야 한다)
+ *
+ * 검증 항목:
+ * - 무작위 범위 조건 queries 개(전세·월세 각각)에 대해 Lua 결과와 기존 방식(ZSet 범위 전체 수신 → retainAll) 결과를 지역구별 비교
+ *
+ * 측정 항목:
+ * - 조건 1건(25개 구)당 평균 수신 member 수 / 소요 시간 - 스크립트 / 기존 방식
+ */
+@Component
+@Profile("candidate-intersection-verification")
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateIntersectionVerification implements ApplicationRunner {
+
+    private static final List<String> SEOUL_DISTRICTS = Arrays.asList(
+            "종로구", "중구", "용산구", "성동구", "광진구", "동대문구", "중랑구", "성북구",
+            "강북구", "도봉구", "노원구", "은평구", "서대문구", "마포구", "양천구", "강서구",
+            "구로구", "금천구", "영등포구", "동작구", "관악구", "서초구", "강남구", "송파구", "강동구"
+    );
+
+    private final RedisCandidateIntersector candidateIntersector;
+    private final RedisHandler redisHandler;
+
+    @Value("${verification.candidate-intersection.queries:200}")
+    private int queries;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[CandidateIntersectionVerification] 시작 - 조건 {}건 × {}개 구", queries, SEOUL_DISTRICTS.size());
+
+        boolean charterPassed = verify(false);
+        boolean monthlyPassed = verify(true);
+
+        log.info("[CandidateIntersectionVerification] 종료 - {} ({})",
+                charterPassed && monthlyPassed ? "전체 통과" : "실패 항목 있음", candidateIntersector.getStats());
+    }
+
+    private boolean verify(boolean monthly) {
+        String label = monthly ? "월세" : "전세";
+        Random random = new Random(42);
+
+        int mismatched = 0;
+        long scriptNs = 0;
+        long clientNs = 0;
+        long scriptMembers = 0;
+        long clientMembers = 0;
+
+        for (int q = 0; q < queries; q++) {
+            int depositMin = random.nextInt(monthly ? 5000 : 60000);
+            int depositMax = depositMin + 1000 + random.nextInt(monthly ? 20000 : 60000);
+            int rentMin = random.nextInt(100);
+            int rentMax = rentMin + 20 + random.nextInt(150);
+            double areaMin = 5 + random.nextInt(30);
+            double areaMax = areaMin + 5 + random.nextInt(30);
+
+            List<IndexRange> ranges = monthly
+                    ? List.of(IndexRange.of("idx:deposit:{district}", depositMin, depositMax),
+                              IndexRange.of("idx:monthlyRent:{district}:월세", rentMin, rentMax),
+                              IndexRange.of("idx:area:{district}:월세", areaMin, areaMax))
+                    : List.of(IndexRange.of("idx:charterPrice:{district}", depositMin, depositMax),
+                              IndexRange.of("idx:area:{district}:전세", areaMin, areaMax));
+
+            long start = System.nanoTime();
+            Map<String, Set<String>> scriptResult = candidateIntersector.intersect(SEOUL_DISTRICTS, ranges);
+            scriptNs += System.nanoTime() - start;
+
+            if (scriptResult == null) {
+                log.error("[CandidateIntersectionVerification] {} - 스크립트 실행 실패 (비활성화 또는 Redis 스크립트 미지원)", label);
+                return false;
+            }
+
+            start = System.nanoTime();
+            Map<String, Set<String>> clientResult = new LinkedHashMap<>();
+            for (String district : SEOUL_DISTRICTS) {
+                Set<String> ids;
+                if (monthly) {
+                    ids = fetch("idx:deposit:" + district, depositMin, depositMax);
+                    clientMembers += ids.size();
+                    Set<String> rentIds = fetch("idx:monthlyRent:" + district + ":월세", rentMin, rentMax);
+                    clientMembers += rentIds.size();
+                    ids.retainAll(rentIds);
+                } else {
+                    ids = fetch("idx:charterPrice:" + district, depositMin, depositMax);
+                    clientMembers += ids.size();
+                }
+                Set<String> areaIds = fetch("idx:area:" + district + (monthly ? ":월세" : ":전세"), areaMin, areaMax);
+                clientMembers += areaIds.size();
+                ids.retainAll(areaIds);
+                if (!ids.isEmpty()) {
+                    clientResult.put(district, ids);
+                }
+            }
+            clientNs += System.nanoTime() - start;
+
+            scriptMembers += scriptResult.values().stream().mapToInt(Set::size).sum();
+            if (!scriptResult.equals(clientResult)) {
+                mismatched++;
+            }
+        }
+
+        boolean passed = mismatched == 0;
+        int divisor = Math.max(1, queries);
+        log.info("[CandidateIntersectionVerification] {} - {} | 불일치 조건: {}건", label, passed ? "통과" : "실패", mismatched);
+        log.info("[CandidateIntersectionVerification] {} 수신 member - 스크립트: {}건/조건, 기존: {}건/조건",
+                label, scriptMembers / divisor, clientMembers / divisor);
+        log.info("[CandidateIntersectionVerification] {} 소요 시간 - 스크립트: {}ms/조건, 기존(지역구별 순차): {}ms/조건",
+                label, String.format("%.3f", scriptNs / 1_000_000.0 / divisor),
+                String.format("%.3f", clientNs / 1_000_000.0 / divisor));
+        return passed;
+    }
+
+    private Set<String> fetch(String key, double min, double max) {
+        Set<String> result = new HashSet<>();
+        Set<Object> members = redisHandler.redisTemplate.opsForZSet().rangeByScore(key, min, max);
+        if (members != null) {
+            members.forEach(member -> result.add(member.toString()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package com.wherehouse.bench;
+
+import com.wherehouse.information.dao.CctvGeoRepository;
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.index.DistrictIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 자치구 경계 인덱스(DistrictIndex) 실데이터 주소 일치율 및 조회 시간 측정 (적재 / 판정 단위 검증은 DistrictIndexTest)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=district-index-verification'
+ *           (CCTV_GEO 가 적재된 DB 필요)
+ *
+ * 검증 항목:
+ * - 주소 일치율 : CCTV_GEO 전체 좌표의 판정 결과가 주소 문자열에서 추출한 '구'와 같은 비율 (min-agreement 이상이면 통과)
+ *                (주소 기반 추출이 기존 검거율 조회 경로이므로 불일치 상위 쌍을 함께 출력)
+ * - 경계 밖 판정 : 주소에 '구'가 있는데 인덱스가 null 을 반환한 좌표 수
+ *
+ * 측정 항목:
+ * - 서울 경계 상자 무작위 좌표 lookups 개의 1회 평균 판정 시간(µs)
+ */
+@Component
+@Profile("district-index-verification")
+@RequiredArgsConstructor
+@Slf4j
+public class DistrictIndexVerification implements ApplicationRunner {
+
+    // 서울 경계 상자 (대략)
+    private static final double MIN_LATITUDE = 37.42;
+    private static final double MAX_LATITUDE = 37.70;
+    private static final double MIN_LONGITUDE = 126.76;
+    private static final double MAX_LONGITUDE = 127.18;
+
+    private final DistrictIndex districtIndex;
+    private final CctvGeoRepository cctvGeoRepository;
+
+    @Value("${verification.district-index.min-agreement:0.98}")
+    private double minAgreement;
+
+    @Value("${verification.district-index.lookups:1000000}")
+    private int lookups;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!districtIndex.isReady()) {
+            log.error("[DistrictIndexVerification] 경계 인덱스 미적재 - 중단 ({})", districtIndex.getStats());
+            return;
+        }
+        log.info("[DistrictIndexVerification] 시작 - {}", districtIndex.getStats());
+
+        // 1. CCTV 주소 기준 일치율
+        List<CctvGeo> cctvs = cctvGeoRepository.findAll();
+        int compared = 0;
+        int agreed = 0;
+        int unresolved = 0;
+        Map<String, Integer> mismatches = new LinkedHashMap<>();
+
+        for (CctvGeo cctv : cctvs) {
+            String expected = extractGu(cctv.getAddress());
+            if (expected == null || cctv.getLatitude() == null || cctv.getLongitude() == null) {
+                continue;
+            }
+            compared++;
+
+            String resolved = districtIndex.resolve(cctv.getLatitude(), cctv.getLongitude());
+            if (resolved == null) {
+                unresolved++;
+            } else if (resolved.equals(expected)) {
+                agreed++;
+            } else {
+                mismatches.merge(expected + " → " + resolved, 1, Integer::sum);
+            }
+        }
+
+        double agreement = compared == 0 ? 0.0 : (double) agreed / compared;
+        boolean passed = compared > 0 && agreement >= minAgreement;
+
+        List<Map.Entry<String, Integer>> topMismatches = new ArrayList<>(mismatches.entrySet());
+        topMismatches.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        log.info("[DistrictIndexVerification] 주소 일치율 - {} | 비교: {}건, 일치: {}건 ({}%), 경계 밖: {}건, 불일치 상위: {}",
+                passed ? "통과" : "실패", compared, agreed, String.format("%.2f", agreement * 100), unresolved,
+                topMismatches.subList(0, Math.min(10, topMismatches.size())));
+
+        // 2. 조회 시간 (무작위 좌표, 경계 밖 포함)
+        Random random = new Random(42);
+        double[] latitudes = new double[lookups];
+        double[] longitudes = new double[lookups];
+        for (int i = 0; i < lookups; i++) {
+            latitudes[i] = MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+            longitudes[i] = MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+        }
+
+        int resolvedCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            if (districtIndex.resolve(latitudes[i], longitudes[i]) != null) {
+                resolvedCount++;
+            }
+        }
+        long elapsedNs = System.nanoTime() - start;
+
+        log.info("[DistrictIndexVerification] 조회 시간 - {}회, 평균: {}µs, 구 판정: {}건",
+                lookups, String.format("%.3f", elapsedNs / 1_000.0 / lookups), resolvedCount);
+
+        log.info("[DistrictIndexVerification] 종료 - {}", passed ? "전체 통과" : "실패 항목 있음");
+    }
+
+    /* 주소에서 "구" 로 끝나는 첫 토큰 추출 (LocationAnalysisServiceImpl.extractGu 와 동일) */
+    private static String extractGu(String address) {
+        if (address == null || address.isEmpty()) {
+            return null;
+        }
+        for (String part : address.split(" ")) {
+            if (part.endsWith("구")) {
+                return part;
+            }
+        }
+        return null;
+    }
+}
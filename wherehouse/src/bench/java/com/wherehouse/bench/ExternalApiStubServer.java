@@ -0,0 +1,553 @@
+package com.wherehouse.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wherehouse.information.index.DistrictIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카카오 / 국토부(MOLIT) 전월세 API 프로세스 내장 stub 서버 (부하 벤치마크용)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=external-api-stub
+ *           --kakao.api.base-url=http://localhost:18090
+ *           --molit.rent-api.base-url=http://localhost:18090/molit'
+ *           (bench 소스 세트 - 배포 WAR 에는 포함되지 않는다)
+ *           (LoadBenchmarkDriver 와 함께 쓰면 카카오 쿼터 / 네트워크 변동 없이 같은 조건을 반복 측정할 수 있다)
+ *
+ * 응답 (엔드포인트별 기록 재생 → 없으면 합성):
+ * - 기록 재생: benchmark.stub.recordings-file (JSON Lines, 1줄 = {"endpoint","params","status","body"})
+ *   · 카테고리 검색 : 같은 카테고리 / 페이지 기록 중 요청 좌표에서 가장 가까운 기록을 골라 장소 좌표를 요청 좌표 기준으로 평행 이동
+ *   · 주소 변환     : 요청 좌표에서 가장 가까운 기록
+ *   · 전월세 조회   : LAWD_CD + DEAL_YMD + pageNo 일치 → LAWD_CD + pageNo 일치 → 합성
+ * - 기록 모드 (benchmark.stub.record-upstream=true): 같은 요청(좌표 / 월)의 기록이 없으면 실제 API 로 그대로 전달하고
+ *   응답을 기록 파일에 추가한다. (기록 모드로 부하 시나리오를 한 번 돌린 뒤 재생 모드로 반복 측정)
+ *   (요청의 Authorization 헤더 / serviceKey 를 그대로 전달하므로 stub 에는 키가 필요 없다)
+ * - 합성: 카테고리 검색 페이지당 15건 (반경 안 최대 45건, 거리순) / 주소 변환 1건 (구는 DistrictIndex 판정, 미적재 시 "중구") / 전월세 numOfRows 건 XML
+ *   (같은 요청에는 항상 같은 응답)
+ *
+ * 지연 / 장애 주입 (기록 재생 / 합성 응답에만 적용, seed 고정):
+ * - 지연: 중앙값 latency-median, 99분위 latency-p99 인 로그정규 분포
+ * - error-rate 비율로 HTTP 500, timeout-rate 비율로 timeout-delay 대기 후 HTTP 504
+ *
+ * 종료 시 엔드포인트별 호출 / 재생 / 합성 / 주입 건수를 출력한다. (getStats)
+ */
+@Component
+@Profile("external-api-stub")
+@RequiredArgsConstructor
+@Slf4j
+public class ExternalApiStubServer {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final double Z_99 = 2.326;
+
+    private static final String CATEGORY = "category";
+    private static final String ADDRESS = "coord2address";
+    private static final String MOLIT_RENT = "molit-rent";
+
+    private final ObjectMapper objectMapper;
+    private final DistrictIndex districtIndex;
+
+    @Value("${benchmark.stub.port:18090}")
+    private int port;
+
+    @Value("${benchmark.stub.worker-threads:128}")
+    private int workerThreads;
+
+    @Value("${benchmark.stub.recordings-file:}")
+    private String recordingsFile;
+
+    @Value("${benchmark.stub.record-upstream:false}")
+    private boolean recordUpstream;
+
+    @Value("${benchmark.stub.kakao-upstream:https://dapi.kakao.com}")
+    private String kakaoUpstream;
+
+    @Value("${benchmark.stub.molit-upstream:https://apis.data.go.kr/1613000/RTMSDataSvcAptRent}")
+    private String molitUpstream;
+
+    @Value("${benchmark.stub.latency-median:40ms}")
+    private Duration latencyMedian;
+
+    @Value("${benchmark.stub.latency-p99:250ms}")
+    private Duration latencyP99;
+
+    @Value("${benchmark.stub.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${benchmark.stub.timeout-rate:0.0}")
+    private double timeoutRate;
+
+    @Value("${benchmark.stub.timeout-delay:10s}")
+    private Duration timeoutDelay;
+
+    @Value("${benchmark.stub.seed:42}")
+    private long seed;
+
+    private final Map<String, List<Recording>> recordings = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService workers;
+    private HttpClient upstreamClient;
+    private Random random;
+
+    @PostConstruct
+    public void start() throws IOException {
+        random = new Random(seed);
+        for (String endpoint : List.of(CATEGORY, ADDRESS, MOLIT_RENT)) {
+            recordings.put(endpoint, new CopyOnWriteArrayList<>());
+            stats.put(endpoint, new EndpointStats());
+        }
+        loadRecordings();
+
+        if (recordUpstream) {
+            upstreamClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        }
+
+        // 응답 헤더 / 본문 분리 전송 시 Nagle + delayed ACK 로 약 40ms 가 더해지므로 TCP_NODELAY 사용 (주입 지연만 남도록)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+
+        workers = Executors.newFixedThreadPool(workerThreads);
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(workers);
+        server.createContext("/v2/local/search/category.json", exchange -> handle(exchange, CATEGORY));
+        server.createContext("/v2/local/geo/coord2address.json", exchange -> handle(exchange, ADDRESS));
+        server.createContext("/molit/getRTMSDataSvcAptRent", exchange -> handle(exchange, MOLIT_RENT));
+        server.start();
+
+        log.info("[ExternalApiStub] 시작 - 포트: {}, 기록: {}, 지연: 중앙값 {}ms / p99 {}ms, 오류: {}, 타임아웃: {}, 기록 모드: {}",
+                port, recordingCounts(), latencyMedian.toMillis(), latencyP99.toMillis(), errorRate, timeoutRate,
+                recordUpstream);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            workers.shutdownNow();
+            log.info("[ExternalApiStub] 종료 - {}", getStats());
+        }
+    }
+
+    /**
+     * 엔드포인트별 호출 / 재생 / 합성 / 기록 / 주입 건수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> result.put(endpoint, endpointStats.toMap()));
+        return result;
+    }
+
+    // ========================================
+    // 요청 처리
+    // ========================================
+
+    private void handle(HttpExchange exchange, String endpoint) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        endpointStats.requests.incrementAndGet();
+        try {
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            String body = replay(endpoint, params);
+            if (body != null) {
+                endpointStats.replayed.incrementAndGet();
+            } else if (recordUpstream) {
+                Recording recorded = fetchUpstream(exchange, endpoint, params);
+                endpointStats.recorded.incrementAndGet();
+                send(exchange, recorded.status, recorded.body, endpoint);
+                return;
+            } else {
+                body = synthesize(endpoint, params);
+                endpointStats.synthesized.incrementAndGet();
+            }
+
+            // 지연 / 장애 주입
+            double roll;
+            long delayMs;
+            synchronized (random) {
+                roll = random.nextDouble();
+                delayMs = sampleLatencyMs();
+            }
+            if (roll < timeoutRate) {
+                endpointStats.timeouts.incrementAndGet();
+                Thread.sleep(timeoutDelay.toMillis());
+                send(exchange, 504, "", endpoint);
+                return;
+            }
+            Thread.sleep(delayMs);
+            if (roll < timeoutRate + errorRate) {
+                endpointStats.errors.incrementAndGet();
+                send(exchange, 500, "{\"errorType\":\"InternalServerError\",\"message\":\"stub injected error\"}", endpoint);
+                return;
+            }
+            send(exchange, 200, body, endpoint);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("[ExternalApiStub] {} 응답 실패: {}", endpoint, e.getMessage());
+            try {
+                send(exchange, 500, "", endpoint);
+            } catch (IOException ignored) {
+                // 응답 헤더 전송 이후 실패 시 연결 종료로 처리
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /* 로그정규 지연 (ln 지연 ~ N(ln 중앙값, sigma), sigma = ln(p99 / 중앙값) / z99) */
+    private long sampleLatencyMs() {
+        if (latencyMedian.isZero()) {
+            return 0;
+        }
+        double median = latencyMedian.toMillis();
+        double sigma = Math.log(Math.max(median, latencyP99.toMillis()) / median) / Z_99;
+        return Math.round(median * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private void send(HttpExchange exchange, int status, String body, String endpoint) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", MOLIT_RENT.equals(endpoint)
+                ? "application/xml;charset=UTF-8" : "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    // ========================================
+    // 기록 재생
+    // ========================================
+
+    private String replay(String endpoint, Map<String, String> params) throws IOException {
+        List<Recording> candidates = recordings.get(endpoint);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        if (MOLIT_RENT.equals(endpoint)) {
+            Recording sameMonth = null;
+            Recording sameDistrict = null;
+            for (Recording recording : candidates) {
+                if (!same(recording, params, "LAWD_CD") || !same(recording, params, "pageNo")) {
+                    continue;
+                }
+                if (same(recording, params, "DEAL_YMD")) {
+                    sameMonth = recording;
+                    break;
+                }
+                sameDistrict = sameDistrict != null ? sameDistrict : recording;
+            }
+            Recording match = sameMonth != null || recordUpstream ? sameMonth : sameDistrict;
+            return match != null ? match.body : null;
+        }
+
+        double x = Double.parseDouble(params.get("x"));
+        double y = Double.parseDouble(params.get("y"));
+        Recording nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Recording recording : candidates) {
+            if (CATEGORY.equals(endpoint)
+                    && (!same(recording, params, "category_group_code") || !samePage(recording, params))) {
+                continue;
+            }
+            double dx = recording.x - x;
+            double dy = recording.y - y;
+            double distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = recording;
+            }
+        }
+        if (nearest == null || (recordUpstream && nearestDistance > 0)) {
+            return null;  // 기록 모드: 같은 좌표 기록만 재생하고 나머지는 새로 기록
+        }
+        if (ADDRESS.equals(endpoint)) {
+            return nearest.body;
+        }
+
+        // 카테고리 검색: 장소 좌표를 (요청 좌표 - 기록 좌표) 만큼 평행 이동 (거리 / 순서는 기록 그대로)
+        JsonNode root = nearest.tree.deepCopy();
+        for (JsonNode document : root.path("documents")) {
+            ObjectNode place = (ObjectNode) document;
+            place.put("x", String.format(Locale.ROOT, "%.7f", place.path("x").asDouble() + x - nearest.x));
+            place.put("y", String.format(Locale.ROOT, "%.7f", place.path("y").asDouble() + y - nearest.y));
+        }
+        return objectMapper.writeValueAsString(root);
+    }
+
+    private static boolean same(Recording recording, Map<String, String> params, String name) {
+        return String.valueOf(params.get(name)).equals(recording.params.get(name));
+    }
+
+    /* page 가 없는 기록 / 요청은 1페이지 */
+    private static boolean samePage(Recording recording, Map<String, String> params) {
+        return params.getOrDefault("page", "1").equals(recording.params.getOrDefault("page", "1"));
+    }
+
+    private void loadRecordings() throws IOException {
+        if (recordingsFile.isBlank() || !Files.exists(Path.of(recordingsFile))) {
+            return;
+        }
+        for (String line : Files.readAllLines(Path.of(recordingsFile), StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node = objectMapper.readTree(line);
+            Map<String, String> params = new HashMap<>();
+            node.path("params").fields().forEachRemaining(entry -> params.put(entry.getKey(), entry.getValue().asText()));
+            addRecording(node.path("endpoint").asText(), params, node.path("status").asInt(200), node.path("body").asText());
+        }
+    }
+
+    private Recording addRecording(String endpoint, Map<String, String> params, int status, String body)
+            throws IOException {
+        List<Recording> target = recordings.get(endpoint);
+        Recording recording = new Recording(params, status, body,
+                CATEGORY.equals(endpoint) && status == 200 ? objectMapper.readTree(body) : null);
+        if (target != null && status == 200) {
+            target.add(recording);
+        }
+        return recording;
+    }
+
+    /* 실제 API 로 전달 후 기록 파일에 추가 (기록 모드) */
+    private Recording fetchUpstream(HttpExchange exchange, String endpoint, Map<String, String> params)
+            throws IOException, InterruptedException {
+        String path = exchange.getRequestURI().getRawPath();
+        String upstream = MOLIT_RENT.equals(endpoint)
+                ? molitUpstream + path.substring("/molit".length())
+                : kakaoUpstream + path;
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upstream + "?" + exchange.getRequestURI().getRawQuery()))
+                .timeout(Duration.ofSeconds(10))
+                .GET();
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        HttpResponse<String> response = upstreamClient.send(request.build(),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+
+        // 키가 기록 파일에 남지 않도록 serviceKey 제외
+        Map<String, String> recordedParams = new LinkedHashMap<>(params);
+        recordedParams.remove("serviceKey");
+        Recording recording = addRecording(endpoint, recordedParams, response.statusCode(), response.body());
+
+        if (!recordingsFile.isBlank() && response.statusCode() == 200) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("endpoint", endpoint);
+            line.put("params", recordedParams);
+            line.put("status", response.statusCode());
+            line.put("body", response.body());
+            synchronized (this) {
+                Files.writeString(Path.of(recordingsFile), objectMapper.writeValueAsString(line) + "\n",
+                        StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        }
+        return recording;
+    }
+
+    private Map<String, Integer> recordingCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        recordings.forEach((endpoint, list) -> counts.put(endpoint, list.size()));
+        return counts;
+    }
+
+    // ========================================
+    // 합성 응답 (같은 요청 → 같은 응답)
+    // ========================================
+
+    private String synthesize(String endpoint, Map<String, String> params) throws IOException {
+        return switch (endpoint) {
+            case CATEGORY -> synthesizeCategory(params);
+            case ADDRESS -> synthesizeAddress(params);
+            default -> synthesizeRent(params);
+        };
+    }
+
+    private String synthesizeCategory(Map<String, String> params) throws IOException {
+        double x = Double.parseDouble(params.get("x"));
+        double y = Double.parseDouble(params.get("y"));
+        int radius = Integer.parseInt(params.getOrDefault("radius", "500"));
+        String category = params.getOrDefault("category_group_code", "CS2");
+        int page = Integer.parseInt(params.getOrDefault("page", "1"));
+
+        // 반경 안 최대 45건을 거리순으로 만들고 page 번째 15건 반환 (앞 페이지는 같은 시드로 다시 만들어 건너뜀)
+        Random placeRandom = new Random(Double.hashCode(x) * 31L + Double.hashCode(y) + category.hashCode());
+        List<Map<String, Object>> documents = new ArrayList<>();
+        int distance = 0;
+        int pageable = 0;
+        for (int i = 0; i < 45; i++) {
+            distance += 1 + placeRandom.nextInt(Math.max(1, radius / 15));
+            if (distance > radius) {
+                break;
+            }
+            pageable++;
+            double bearing = placeRandom.nextDouble() * 2 * Math.PI;
+            double placeLatitude = y + distance * Math.cos(bearing) / METERS_PER_DEGREE_LAT;
+            double placeLongitude = x + distance * Math.sin(bearing)
+                    / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(y)));
+
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("id", String.valueOf(Math.abs(placeRandom.nextLong() % 1_000_000_000L)));
+            document.put("place_name", category + " stub " + i);
+            document.put("category_group_code", category);
+            document.put("category_group_name", category);
+            document.put("x", String.format(Locale.ROOT, "%.7f", placeLongitude));
+            document.put("y", String.format(Locale.ROOT, "%.7f", placeLatitude));
+            document.put("distance", String.valueOf(distance));
+            if (i / 15 == page - 1) {
+                documents.add(document);
+            }
+        }
+        return objectMapper.writeValueAsString(Map.of("documents", documents,
+                "meta", Map.of("is_end", page * 15 >= pageable, "pageable_count", pageable, "total_count", pageable)));
+    }
+
+    private String synthesizeAddress(Map<String, String> params) throws IOException {
+        double x = Double.parseDouble(params.get("x"));
+        double y = Double.parseDouble(params.get("y"));
+        String gu = districtIndex.resolve(y, x);
+        gu = gu != null ? gu : "중구";
+        int number = 1 + (int) (Math.abs(Double.hashCode(x) * 31L + Double.hashCode(y)) % 300);
+
+        Map<String, Object> document = Map.of(
+                "road_address", Map.of("address_name", "서울특별시 " + gu + " 스텁대로 " + number,
+                        "region_2depth_name", gu),
+                "address", Map.of("address_name", "서울특별시 " + gu + " 스텁동 " + number,
+                        "region_2depth_name", gu));
+        return objectMapper.writeValueAsString(Map.of("documents", List.of(document),
+                "meta", Map.of("total_count", 1)));
+    }
+
+    private String synthesizeRent(Map<String, String> params) {
+        String lawdCd = params.getOrDefault("LAWD_CD", "11110");
+        String dealYmd = params.getOrDefault("DEAL_YMD", "202501");
+        int pageNo = Integer.parseInt(params.getOrDefault("pageNo", "1"));
+        int numOfRows = Integer.parseInt(params.getOrDefault("numOfRows", "1000"));
+        int totalCount = numOfRows * 2;  // 2페이지
+
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><header>")
+                .append("<resultCode>000</resultCode><resultMsg>OK</resultMsg></header><body><items>");
+        if (pageNo <= 2) {
+            Random rentRandom = new Random(lawdCd.hashCode() * 31L + dealYmd.hashCode() + pageNo);
+            for (int i = 0; i < numOfRows; i++) {
+                boolean monthly = rentRandom.nextInt(3) == 0;
+                xml.append("<item>")
+                        .append("<aptNm>스텁아파트").append(rentRandom.nextInt(200)).append("</aptNm>")
+                        .append("<excluUseAr>").append(String.format(Locale.ROOT, "%.2f", 20 + rentRandom.nextDouble() * 100)).append("</excluUseAr>")
+                        .append("<floor>").append(1 + rentRandom.nextInt(30)).append("</floor>")
+                        .append("<buildYear>").append(1985 + rentRandom.nextInt(40)).append("</buildYear>")
+                        .append("<dealYear>").append(dealYmd, 0, 4).append("</dealYear>")
+                        .append("<dealMonth>").append(Integer.parseInt(dealYmd.substring(4))).append("</dealMonth>")
+                        .append("<dealDay>").append(1 + rentRandom.nextInt(28)).append("</dealDay>")
+                        .append("<deposit>").append(String.format("%,d", monthly ? 1000 + rentRandom.nextInt(20000)
+                                : 10000 + rentRandom.nextInt(90000))).append("</deposit>")
+                        .append("<monthlyRent>").append(monthly ? 30 + rentRandom.nextInt(200) : 0).append("</monthlyRent>")
+                        .append("<umdNm>스텁동</umdNm>")
+                        .append("<jibun>").append(1 + rentRandom.nextInt(999)).append("</jibun>")
+                        .append("<sggCd>").append(lawdCd).append("</sggCd>")
+                        .append("</item>");
+            }
+        }
+        return xml.append("</items><numOfRows>").append(numOfRows).append("</numOfRows><pageNo>").append(pageNo)
+                .append("</pageNo><totalCount>").append(totalCount).append("</totalCount></body></response>")
+                .toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    // ========================================
+    // 내부 클래스
+    // ========================================
+
+    private static final class Recording {
+
+        final Map<String, String> params;
+        final int status;
+        final String body;
+        final JsonNode tree;  // 카테고리 검색만 (좌표 평행 이동용)
+        final double x;
+        final double y;
+
+        Recording(Map<String, String> params, int status, String body, JsonNode tree) {
+            this.params = params;
+            this.status = status;
+            this.body = body;
+            this.tree = tree;
+            this.x = Double.parseDouble(params.getOrDefault("x", "0"));
+            this.y = Double.parseDouble(params.getOrDefault("y", "0"));
+        }
+    }
+
+    private static final class EndpointStats {
+
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong replayed = new AtomicLong();
+        final AtomicLong synthesized = new AtomicLong();
+        final AtomicLong recorded = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests.get());
+            map.put("replayed", replayed.get());
+            map.put("synthesized", synthesized.get());
+            map.put("recorded", recorded.get());
+            map.put("injectedErrors", errors.get());
+            map.put("injectedTimeouts", timeouts.get());
+            return map;
+        }
+    }
+}
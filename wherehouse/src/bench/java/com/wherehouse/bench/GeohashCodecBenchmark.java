@@ -0,0 +1,131 @@
+package com.wherehouse.bench;
+
+import ch.hsr.geohash.GeoHash;
+import com.wherehouse.information.index.GeohashCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Random;
+
+/**
+ * GeohashCodec 처리 시간 비교 (ch.hsr GeoHash 대비, 정합성은 GeohashCodecTest)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=geohash-codec-benchmark'
+ *
+ * 측정 항목 (7자리, 서울 영역):
+ * - 인코딩 + base32 / 9-Block(중심 + 인접 8개) base32 1회 평균(ns), ch.hsr 대비
+ */
+@Component
+@Profile("geohash-codec-benchmark")
+@Slf4j
+public class GeohashCodecBenchmark implements ApplicationRunner {
+
+    private static final int BENCHMARK_PRECISION = 7;
+
+    // 서울 경계 상자 (대략)
+    private static final double MIN_LATITUDE = 37.42;
+    private static final double MAX_LATITUDE = 37.70;
+    private static final double MIN_LONGITUDE = 126.76;
+    private static final double MAX_LONGITUDE = 127.18;
+
+    @Value("${benchmark.geohash-codec.iterations:1000000}")
+    private int iterations;
+
+    @Value("${benchmark.geohash-codec.warmup:200000}")
+    private int warmup;
+
+    private long blackhole;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[GeohashCodecBenchmark] 시작 - 측정 반복: {}회, 워밍업: {}회", iterations, warmup);
+
+        benchmark();
+
+        log.info("[GeohashCodecBenchmark] 종료 (blackhole: {})", blackhole);
+    }
+
+    // ========================================
+    // 처리 시간 비교
+    // ========================================
+
+    private void benchmark() {
+        Random random = new Random(7);
+        int size = 4096;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+            longitudes[i] = MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+        }
+        long[] adjacent = new long[8];
+
+        Task libraryEncode = i -> GeoHash.withCharacterPrecision(latitudes[i], longitudes[i], BENCHMARK_PRECISION)
+                .toBase32().length();
+
+        Task codecEncode = i -> GeohashCodec.toBase32(
+                GeohashCodec.encode(latitudes[i], longitudes[i], BENCHMARK_PRECISION)).length();
+
+        Task codecEncodeOnly = i -> GeohashCodec.encode(latitudes[i], longitudes[i], BENCHMARK_PRECISION);
+
+        Task libraryNineBlock = i -> {
+            GeoHash center = GeoHash.withCharacterPrecision(latitudes[i], longitudes[i], BENCHMARK_PRECISION);
+            long sum = center.toBase32().length();
+            for (GeoHash neighbour : center.getAdjacent()) {
+                sum += neighbour.toBase32().length();
+            }
+            return sum;
+        };
+
+        Task codecNineBlock = i -> {
+            long center = GeohashCodec.encode(latitudes[i], longitudes[i], BENCHMARK_PRECISION);
+            long sum = GeohashCodec.toBase32(center).length();
+            GeohashCodec.adjacent(center, adjacent);
+            for (long neighbour : adjacent) {
+                sum += GeohashCodec.toBase32(neighbour).length();
+            }
+            return sum;
+        };
+
+        Task codecNineBlockOnly = i -> {
+            long center = GeohashCodec.encode(latitudes[i], longitudes[i], BENCHMARK_PRECISION);
+            GeohashCodec.adjacent(center, adjacent);
+            long sum = center;
+            for (long neighbour : adjacent) {
+                sum ^= neighbour;
+            }
+            return sum;
+        };
+
+        report("ch.hsr / 인코딩 + base32", libraryEncode, size);
+        report("codec / 인코딩 + base32", codecEncode, size);
+        report("codec / 인코딩 (long)", codecEncodeOnly, size);
+        report("ch.hsr / 9-Block + base32", libraryNineBlock, size);
+        report("codec / 9-Block + base32", codecNineBlock, size);
+        report("codec / 9-Block (long)", codecNineBlockOnly, size);
+    }
+
+    private void report(String label, Task task, int size) {
+        for (int i = 0; i < warmup; i++) {
+            blackhole += task.run(i & (size - 1));
+        }
+
+        long startNs = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += task.run(i & (size - 1));
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+
+        log.info("[GeohashCodecBenchmark] {} - 1회: {}ns",
+                label, String.format("%.1f", (double) elapsedNs / iterations));
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        long run(int index);
+    }
+}
\ No newline at end of file
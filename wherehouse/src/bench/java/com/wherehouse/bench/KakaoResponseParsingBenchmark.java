@@ -0,0 +1,255 @@
+package com.wherehouse.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wherehouse.information.model.KakaoPlaces;
+import com.wherehouse.information.util.KakaoPlaceStreamParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 카카오 카테고리 검색 응답 파싱 방식별 처리 시간 / 할당량 비교 마이크로 벤치마크 (파싱 정합성은 KakaoPlaceStreamParserTest)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=kakao-parse-benchmark'
+ *           (--benchmark.kakao-parse.response-files=a.json,b.json 으로 실제 기록한 응답 파일 지정 가능,
+ *            미지정 시 카카오 응답 형식의 15건 응답을 카테고리별로 생성)
+ *
+ * 비교 대상:
+ * - legacy    : 기존 방식. 응답 바이트 → String → ObjectMapper.readTree → 장소마다 HashMap
+ * - streaming : KakaoPlaceStreamParser. 응답을 chunk-size 바이트 direct ByteBuffer 조각으로 나누어 넣음 (Netty 수신 버퍼 흉내)
+ *
+ * 측정 방식:
+ * - 워밍업 반복 후 응답 목록을 iterations 회 파싱하여 응답 1건당 평균(µs)과 할당 바이트를 기록한다.
+ *   (할당량: com.sun.management.ThreadMXBean.getThreadAllocatedBytes, 측정 스레드 기준)
+ * - 두 방식의 장소명 / 좌표 / 거리 / 카테고리명이 모두 같은지 먼저 확인한다.
+ */
+@Component
+@Profile("kakao-parse-benchmark")
+@RequiredArgsConstructor
+@Slf4j
+public class KakaoResponseParsingBenchmark implements ApplicationRunner {
+
+    private static final String[] CATEGORY_NAMES = {"지하철역", "편의점", "음식점", "카페", "대형마트", "은행", "공공기관",
+            "문화시설", "병원", "약국", "주차장", "주유소,충전소", "학교", "학원", "관광명소"};
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${benchmark.kakao-parse.iterations:2000}")
+    private int iterations;
+
+    @Value("${benchmark.kakao-parse.warmup:500}")
+    private int warmup;
+
+    @Value("${benchmark.kakao-parse.chunk-size:8192}")
+    private int chunkSize;
+
+    @Value("${benchmark.kakao-parse.response-files:}")
+    private List<String> responseFiles;
+
+    private long blackhole;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<byte[]> responses = loadResponses();
+        List<ByteBuffer[]> chunked = new ArrayList<>(responses.size());
+        for (byte[] response : responses) {
+            chunked.add(toDirectChunks(response, chunkSize));
+        }
+
+        log.info("[KakaoParseBenchmark] 시작 - 응답: {}건 (평균 {}바이트), iterations: {}, warmup: {}, 조각 크기: {}",
+                responses.size(), responses.stream().mapToInt(r -> r.length).sum() / responses.size(),
+                iterations, warmup, chunkSize);
+
+        int mismatched = 0;
+        for (int i = 0; i < responses.size(); i++) {
+            if (!samePlaces(parseLegacy(responses.get(i)), parseStreaming(chunked.get(i)))) {
+                mismatched++;
+            }
+        }
+        log.info("[KakaoParseBenchmark] 결과 동일성 - {} (불일치 응답: {}건)", mismatched == 0 ? "통과" : "실패", mismatched);
+
+        report("legacy / String + JsonNode + HashMap", responses.size(), () -> {
+            for (byte[] response : responses) {
+                blackhole += parseLegacy(response).size();
+            }
+        });
+
+        report("streaming / ByteBuffer 조각 → KakaoPlaces", responses.size(), () -> {
+            for (ByteBuffer[] chunks : chunked) {
+                blackhole += parseStreaming(chunks).getSize();
+            }
+        });
+
+        log.info("[KakaoParseBenchmark] 종료 (blackhole: {})", blackhole);
+    }
+
+    // ========================================
+    // 파싱 방식
+    // ========================================
+
+    /* KakaoApiService 의 기존 searchPlacesByCategory 본문 처리와 같은 경로 */
+    private List<Map<String, Object>> parseLegacy(byte[] body) throws Exception {
+        String response = new String(body, StandardCharsets.UTF_8);
+        JsonNode root = objectMapper.readTree(response);
+        JsonNode documents = root.path("documents");
+
+        List<Map<String, Object>> places = new ArrayList<>();
+        for (JsonNode doc : documents) {
+            Map<String, Object> place = new HashMap<>();
+            place.put("name", doc.path("place_name").asText());
+            place.put("latitude", doc.path("y").asDouble());
+            place.put("longitude", doc.path("x").asDouble());
+            place.put("distance", doc.path("distance").asInt());
+            place.put("categoryName", doc.path("category_group_name").asText());
+            places.add(place);
+        }
+        return places;
+    }
+
+    private KakaoPlaces parseStreaming(ByteBuffer[] chunks) throws Exception {
+        KakaoPlaceStreamParser parser = new KakaoPlaceStreamParser(objectMapper.getFactory());
+        for (ByteBuffer chunk : chunks) {
+            parser.feed(chunk.duplicate());
+        }
+        return parser.finish();
+    }
+
+    private static boolean samePlaces(List<Map<String, Object>> legacy, KakaoPlaces streaming) {
+        if (legacy.size() != streaming.getSize()) {
+            return false;
+        }
+        for (int i = 0; i < legacy.size(); i++) {
+            Map<String, Object> place = legacy.get(i);
+            if (!place.get("name").equals(streaming.getNames()[i])
+                    || (double) place.get("latitude") != streaming.getLatitudes()[i]
+                    || (double) place.get("longitude") != streaming.getLongitudes()[i]
+                    || (int) place.get("distance") != streaming.getDistances()[i]
+                    || !place.get("categoryName").equals(streaming.getCategoryNames()[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ========================================
+    // 측정
+    // ========================================
+
+    private void report(String label, int responseCount, Task task) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            task.run();
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long startNs = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        long parsed = (long) iterations * responseCount;
+        log.info("[KakaoParseBenchmark] {} - 응답 1건: {}µs, 할당: {}바이트",
+                label,
+                String.format("%.2f", elapsedNs / 1_000.0 / parsed),
+                allocated / parsed);
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    // ========================================
+    // 응답 준비
+    // ========================================
+
+    private List<byte[]> loadResponses() throws Exception {
+        List<byte[]> responses = new ArrayList<>();
+        if (responseFiles != null) {
+            for (String file : responseFiles) {
+                if (!file.isBlank()) {
+                    responses.add(Files.readAllBytes(Path.of(file.trim())));
+                }
+            }
+        }
+        if (!responses.isEmpty()) {
+            return responses;
+        }
+
+        Random random = new Random(42);
+        for (String categoryName : CATEGORY_NAMES) {
+            responses.add(sampleResponse(random, categoryName).getBytes(StandardCharsets.UTF_8));
+        }
+        return responses;
+    }
+
+    /* 카카오 카테고리 검색 응답 형식 (documents 15건 + meta) */
+    private String sampleResponse(Random random, String categoryName) throws Exception {
+        List<Map<String, Object>> documents = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            double x = 126.9780 + (random.nextDouble() - 0.5) * 0.02;
+            double y = 37.5665 + (random.nextDouble() - 0.5) * 0.02;
+
+            Map<String, Object> doc = new HashMap<>();
+            doc.put("address_name", "서울 중구 태평로1가 " + (i + 1));
+            doc.put("category_group_code", "CS2");
+            doc.put("category_group_name", categoryName);
+            doc.put("category_name", "가정,생활 > " + categoryName + " > 예시 " + i);
+            doc.put("distance", String.valueOf(random.nextInt(1000)));
+            doc.put("id", String.valueOf(10_000_000 + random.nextInt(90_000_000)));
+            doc.put("phone", "02-" + (1000 + random.nextInt(9000)) + "-" + (1000 + random.nextInt(9000)));
+            doc.put("place_name", categoryName + " 서울시청점 " + i);
+            doc.put("place_url", "http://place.map.kakao.com/" + random.nextInt(100_000_000));
+            doc.put("road_address_name", "서울 중구 세종대로 " + (100 + i));
+            doc.put("x", String.format(Locale.ROOT, "%.12f", x));
+            doc.put("y", String.format(Locale.ROOT, "%.12f", y));
+            documents.add(doc);
+        }
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("is_end", false);
+        meta.put("pageable_count", 45);
+        meta.put("same_name", null);
+        meta.put("total_count", 120);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("documents", documents);
+        body.put("meta", meta);
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private static ByteBuffer[] toDirectChunks(byte[] bytes, int chunkSize) {
+        int count = (bytes.length + chunkSize - 1) / chunkSize;
+        ByteBuffer[] chunks = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            int from = i * chunkSize;
+            int length = Math.min(chunkSize, bytes.length - from);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(bytes, from, length).flip();
+            chunks[i] = chunk.asReadOnlyBuffer();
+        }
+        return chunks;
+    }
+}
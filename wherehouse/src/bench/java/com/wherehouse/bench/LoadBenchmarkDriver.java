@@ -0,0 +1,460 @@
+package com.wherehouse.bench;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+/**
+ * 엔드투엔드 부하 벤치마크 드라이버 (위치 분석 / 지역구 추천 / 방문 예약 / 리뷰 API)
+ *
+ * 기존 JMeter 계획(F006, F009)은 원격 Oracle / Redis / 카카오를 그대로 사용하여 실행마다 결과가 달라 재현이 어렵다.
+ * 외부 API 는 ExternalApiStubServer(같은 JVM), Oracle / Redis 는 src/bench/docker-compose.bench.yml 의 로컬 컨테이너로 대체하고
+ * 이 드라이버로 같은 부하를 반복하여 성능 변경 전후를 노트북에서 비교한다.
+ *
+ * 실행 방법:
+ * 1) 대상 서버와 같은 JVM (간편, 드라이버 스레드가 서버와 CPU 를 나눠 씀)
+ *    ./gradlew bootRunBench --args='--spring.profiles.active=external-api-stub,load-benchmark
+ *    --kakao.api.base-url=http://localhost:18090 --molit.rent-api.base-url=http://localhost:18090/molit'
+ * 2) 별도 JVM (권장, 서버는 1) 에서 load-benchmark 프로필만 제외하고 실행)
+ *    ./gradlew loadBenchmark --args='--benchmark.load.threads=64 ...'
+ *
+ * 부하 모델 (closed loop):
+ * - threads 개 가상 사용자가 응답을 받는 즉시 다음 요청을 보낸다. (think-time 지정 시 요청 사이 대기)
+ * - 요청마다 mix 가중치로 시나리오를 고른다. (예: "analyze:4,charter:2,monthly:2,slots:1,reviews:1")
+ *   · analyze  : POST /api/location-analysis (서울 영역 좌표, hot-locations > 0 이면 고정 좌표 N개 순환 → 캐시 적중 경로)
+ *   · charter  : POST /api/recommendations/charter-districts
+ *   · monthly  : POST /api/recommendations/monthly-districts
+ *   · slots    : GET  /api/v1/visit/properties/{id}/slots (방문 예약 조회 경로, property-ids 필요)
+ *   · reviews  : GET  /api/v1/reviews/list
+ * - warmup 동안의 응답은 통계에서 제외한다. seed 가 같으면 같은 요청 순서가 만들어진다.
+ * - closed loop 는 서버가 느려지면 요청 속도도 줄어 지연이 과소 측정될 수 있으므로(coordinated omission)
+ *   변경 전후 비교는 같은 threads / think-time 으로 한다.
+ *
+ * 출력: 시나리오별 / 전체 요청 수, 오류 수(2xx 외 / 예외 / 타임아웃), 처리량(req/s), 평균 / p50 / p95 / p99 / 최대(ms)
+ *       report-file 지정 시 같은 내용을 CSV 로 추가 (label 로 실행 구분)
+ */
+@Component
+@Profile("load-benchmark")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadBenchmarkDriver implements ApplicationRunner {
+
+    /* 서울 영역 (위도/경도 범위) */
+    private static final double MIN_LATITUDE = 37.48;
+    private static final double MAX_LATITUDE = 37.62;
+    private static final double MIN_LONGITUDE = 126.90;
+    private static final double MAX_LONGITUDE = 127.10;
+
+    private static final String[] PRIORITY_ORDERS = {
+            "PRICE,SAFETY,SPACE", "SAFETY,PRICE,SPACE", "SPACE,PRICE,SAFETY", "SAFETY,SPACE,PRICE"};
+
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        new LoadRun(Settings.from(environment::getProperty)).execute();
+    }
+
+    /**
+     * 별도 JVM 실행 진입점 (--benchmark.load.xxx=값 인자, Spring 컨텍스트 없이 실행)
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> properties = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                properties.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        new LoadRun(Settings.from(properties::get)).execute();
+    }
+
+    // ========================================
+    // 설정
+    // ========================================
+
+    private record Settings(String targetUrl, int threads, Duration duration, Duration warmup, Duration thinkTime,
+                            Duration requestTimeout, Map<String, Integer> mix, int radius, int hotLocations,
+                            List<String> propertyIds, long seed, String label, String reportFile) {
+
+        static Settings from(Function<String, String> property) {
+            Function<String, String> p = key -> property.apply("benchmark.load." + key);
+            return new Settings(
+                    or(p.apply("target-url"), "http://localhost:8185/wherehouse"),
+                    Integer.parseInt(or(p.apply("threads"), "32")),
+                    duration(or(p.apply("duration"), "60s")),
+                    duration(or(p.apply("warmup"), "10s")),
+                    duration(or(p.apply("think-time"), "0ms")),
+                    duration(or(p.apply("request-timeout"), "10s")),
+                    mix(or(p.apply("mix"), "analyze:4,charter:2,monthly:2,slots:1,reviews:1")),
+                    Integer.parseInt(or(p.apply("radius"), "500")),
+                    Integer.parseInt(or(p.apply("hot-locations"), "0")),
+                    list(or(p.apply("property-ids"), "")),
+                    Long.parseLong(or(p.apply("seed"), "42")),
+                    or(p.apply("label"), "default"),
+                    or(p.apply("report-file"), ""));
+        }
+
+        private static String or(String value, String defaultValue) {
+            return value == null || value.isBlank() ? defaultValue : value.trim();
+        }
+
+        /* "500ms" / "30s" / "2m" (단위 없으면 ms) */
+        private static Duration duration(String value) {
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+            }
+            return Duration.ofMillis(Long.parseLong(value));
+        }
+
+        private static Map<String, Integer> mix(String value) {
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            for (String entry : value.split(",")) {
+                String[] parts = entry.trim().split(":");
+                weights.put(parts[0].trim(), parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+            }
+            return weights;
+        }
+
+        private static List<String> list(String value) {
+            return value.isBlank() ? List.of() : Arrays.stream(value.split(",")).map(String::trim).toList();
+        }
+    }
+
+    // ========================================
+    // 실행
+    // ========================================
+
+    private static final class LoadRun {
+
+        private final Settings settings;
+        private final HttpClient client;
+        private final List<String> scenarios = new ArrayList<>();
+        private final int[] cumulativeWeights;
+        private final double[][] hotLocations;
+
+        LoadRun(Settings settings) {
+            this.settings = settings;
+            this.client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            List<Integer> weights = new ArrayList<>();
+            settings.mix().forEach((scenario, weight) -> {
+                if (weight <= 0) {
+                    return;
+                }
+                if ("slots".equals(scenario) && settings.propertyIds().isEmpty()) {
+                    log.warn("[LoadBenchmark] property-ids 미지정 - {} 시나리오 제외", scenario);
+                    return;
+                }
+                scenarios.add(scenario);
+                weights.add(weight);
+            });
+            cumulativeWeights = new int[weights.size()];
+            for (int i = 0, sum = 0; i < weights.size(); i++) {
+                sum += weights.get(i);
+                cumulativeWeights[i] = sum;
+            }
+
+            Random random = new Random(settings.seed());
+            hotLocations = new double[settings.hotLocations()][];
+            for (int i = 0; i < hotLocations.length; i++) {
+                hotLocations[i] = randomLocation(random);
+            }
+        }
+
+        void execute() throws InterruptedException, IOException {
+            if (scenarios.isEmpty()) {
+                log.error("[LoadBenchmark] 실행할 시나리오 없음 - mix: {}", settings.mix());
+                return;
+            }
+            log.info("[LoadBenchmark] 시작 - 대상: {}, 스레드: {}, 측정: {}s (워밍업 {}s), 시나리오: {}, 고정 좌표: {}개",
+                    settings.targetUrl(), settings.threads(), settings.duration().toSeconds(),
+                    settings.warmup().toSeconds(), settings.mix(), settings.hotLocations());
+
+            long startNs = System.nanoTime();
+            long measureFromNs = startNs + settings.warmup().toNanos();
+            long endNs = measureFromNs + settings.duration().toNanos();
+
+            List<Recorder> recorders = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(settings.threads());
+            for (int t = 0; t < settings.threads(); t++) {
+                Recorder recorder = new Recorder(scenarios.size());
+                recorders.add(recorder);
+                Random random = new Random(settings.seed() + 1 + t);
+                Thread worker = new Thread(() -> {
+                    try {
+                        runUser(random, recorder, measureFromNs, endNs);
+                    } finally {
+                        done.countDown();
+                    }
+                }, "load-benchmark-" + t);
+                worker.setDaemon(true);
+                worker.start();
+            }
+            done.await();
+
+            report(recorders, (System.nanoTime() - measureFromNs) / 1_000_000_000.0);
+        }
+
+        private void runUser(Random random, Recorder recorder, long measureFromNs, long endNs) {
+            long thinkMs = settings.thinkTime().toMillis();
+            while (System.nanoTime() < endNs) {
+                int scenario = pickScenario(random);
+                HttpRequest request = buildRequest(scenarios.get(scenario), random);
+
+                long sentNs = System.nanoTime();
+                Outcome outcome;
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    outcome = response.statusCode() / 100 == 2 ? Outcome.OK : Outcome.HTTP_ERROR;
+                } catch (HttpTimeoutException e) {
+                    outcome = Outcome.TIMEOUT;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    outcome = Outcome.IO_ERROR;
+                }
+                long receivedNs = System.nanoTime();
+
+                if (sentNs >= measureFromNs && receivedNs <= endNs) {
+                    recorder.record(scenario, receivedNs - sentNs, outcome);
+                }
+
+                if (thinkMs > 0) {
+                    try {
+                        Thread.sleep(thinkMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private int pickScenario(Random random) {
+            int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return i;
+                }
+            }
+            return cumulativeWeights.length - 1;
+        }
+
+        private HttpRequest buildRequest(String scenario, Random random) {
+            return switch (scenario) {
+                case "analyze" -> {
+                    double[] location = hotLocations.length > 0
+                            ? hotLocations[random.nextInt(hotLocations.length)]
+                            : randomLocation(random);
+                    yield post("/api/location-analysis", String.format(Locale.ROOT,
+                            "{\"latitude\":%.6f,\"longitude\":%.6f,\"radius\":%d}",
+                            location[0], location[1], settings.radius()));
+                }
+                case "charter" -> {
+                    int budgetMin = 10_000 + random.nextInt(8) * 5_000;
+                    String[] priorities = PRIORITY_ORDERS[random.nextInt(PRIORITY_ORDERS.length)].split(",");
+                    yield post("/api/recommendations/charter-districts", String.format(Locale.ROOT,
+                            "{\"budgetMin\":%d,\"budgetMax\":%d,\"areaMin\":%.1f,\"areaMax\":%.1f,"
+                                    + "\"priority1\":\"%s\",\"priority2\":\"%s\",\"priority3\":\"%s\","
+                                    + "\"budgetFlexibility\":%d,\"minSafetyScore\":0,\"absoluteMinArea\":0.0}",
+                            budgetMin, budgetMin + 20_000, 15.0 + random.nextInt(4) * 5, 40.0 + random.nextInt(4) * 10,
+                            priorities[0], priorities[1], priorities[2], random.nextInt(3) * 10));
+                }
+                case "monthly" -> {
+                    int budgetMin = 500 + random.nextInt(6) * 500;
+                    int rentMin = 30 + random.nextInt(5) * 10;
+                    String[] priorities = PRIORITY_ORDERS[random.nextInt(PRIORITY_ORDERS.length)].split(",");
+                    yield post("/api/recommendations/monthly-districts", String.format(Locale.ROOT,
+                            "{\"budgetMin\":%d,\"budgetMax\":%d,\"monthlyRentMin\":%d,\"monthlyRentMax\":%d,"
+                                    + "\"areaMin\":%.1f,\"areaMax\":%.1f,"
+                                    + "\"priority1\":\"%s\",\"priority2\":\"%s\",\"priority3\":\"%s\","
+                                    + "\"budgetFlexibility\":%d,\"minSafetyScore\":0,\"absoluteMinArea\":0.0}",
+                            budgetMin, budgetMin + 3_000, rentMin, rentMin + 60,
+                            10.0 + random.nextInt(4) * 5, 30.0 + random.nextInt(4) * 10,
+                            priorities[0], priorities[1], priorities[2], random.nextInt(3) * 10));
+                }
+                case "slots" -> get("/api/v1/visit/properties/" + randomPropertyId(random) + "/slots");
+                case "reviews" -> get(settings.propertyIds().isEmpty()
+                        ? "/api/v1/reviews/list?page=" + (1 + random.nextInt(3))
+                        : "/api/v1/reviews/list?page=1&propertyId=" + randomPropertyId(random));
+                default -> throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+            };
+        }
+
+        private String randomPropertyId(Random random) {
+            return settings.propertyIds().get(random.nextInt(settings.propertyIds().size()));
+        }
+
+        private HttpRequest post(String path, String json) {
+            return HttpRequest.newBuilder(URI.create(settings.targetUrl() + path))
+                    .timeout(settings.requestTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                    .build();
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(settings.targetUrl() + path))
+                    .timeout(settings.requestTimeout())
+                    .GET()
+                    .build();
+        }
+
+        private static double[] randomLocation(Random random) {
+            return new double[]{
+                    MIN_LATITUDE + (MAX_LATITUDE - MIN_LATITUDE) * random.nextDouble(),
+                    MIN_LONGITUDE + (MAX_LONGITUDE - MIN_LONGITUDE) * random.nextDouble()};
+        }
+
+        // ========================================
+        // 집계 / 출력
+        // ========================================
+
+        private void report(List<Recorder> recorders, double elapsedSeconds) throws IOException {
+            List<String> csvLines = new ArrayList<>();
+            long[] allLatencies = new long[0];
+            long allErrors = 0;
+
+            for (int s = 0; s < scenarios.size(); s++) {
+                int scenario = s;
+                long[] latencies = merge(recorders.stream().map(r -> r.latencies(scenario)).toList());
+                long errors = recorders.stream().mapToLong(r -> r.errors[scenario]).sum();
+                long timeouts = recorders.stream().mapToLong(r -> r.timeouts[scenario]).sum();
+                csvLines.add(reportLine(scenarios.get(s), latencies, errors, timeouts, elapsedSeconds));
+
+                allLatencies = merge(List.of(allLatencies, latencies));
+                allErrors += errors;
+            }
+            long allTimeouts = recorders.stream().mapToLong(r -> Arrays.stream(r.timeouts).sum()).sum();
+            csvLines.add(reportLine("total", allLatencies, allErrors, allTimeouts, elapsedSeconds));
+
+            if (!settings.reportFile().isBlank()) {
+                Path path = Path.of(settings.reportFile());
+                if (!Files.exists(path)) {
+                    Files.writeString(path, "timestamp,label,threads,scenario,requests,errors,timeouts,rps,"
+                            + "mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n", StandardCharsets.UTF_8);
+                }
+                String prefix = LocalDateTime.now() + "," + settings.label() + "," + settings.threads() + ",";
+                Files.writeString(path, String.join("", csvLines.stream().map(line -> prefix + line + "\n").toList()),
+                        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+                log.info("[LoadBenchmark] 결과 추가 - {}", path.toAbsolutePath());
+            }
+        }
+
+        /* 로그 1줄 출력 후 CSV 본문(scenario 이후 열) 반환 */
+        private String reportLine(String scenario, long[] sortedNs, long errors, long timeouts, double elapsedSeconds) {
+            int requests = sortedNs.length;
+            double rps = requests / elapsedSeconds;
+            double meanMs = requests == 0 ? 0 : Arrays.stream(sortedNs).average().orElse(0) / 1_000_000.0;
+            double p50 = percentileMs(sortedNs, 0.50);
+            double p95 = percentileMs(sortedNs, 0.95);
+            double p99 = percentileMs(sortedNs, 0.99);
+            double max = requests == 0 ? 0 : sortedNs[requests - 1] / 1_000_000.0;
+
+            log.info("[LoadBenchmark] {} - 요청: {}, 오류: {} (타임아웃 {}), 처리량: {} req/s, "
+                            + "평균: {}ms, p50: {}ms, p95: {}ms, p99: {}ms, 최대: {}ms",
+                    scenario, requests, errors, timeouts, format(rps), format(meanMs), format(p50), format(p95),
+                    format(p99), format(max));
+
+            return String.join(",", scenario, String.valueOf(requests), String.valueOf(errors),
+                    String.valueOf(timeouts), format(rps), format(meanMs), format(p50), format(p95), format(p99),
+                    format(max));
+        }
+
+        private static double percentileMs(long[] sortedNs, double p) {
+            if (sortedNs.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedNs.length) - 1;
+            return sortedNs[Math.max(0, Math.min(index, sortedNs.length - 1))] / 1_000_000.0;
+        }
+
+        private static long[] merge(List<long[]> parts) {
+            long[] merged = new long[parts.stream().mapToInt(part -> part.length).sum()];
+            int offset = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, merged, offset, part.length);
+                offset += part.length;
+            }
+            Arrays.sort(merged);
+            return merged;
+        }
+
+        private static String format(double value) {
+            return String.format(Locale.ROOT, "%.1f", value);
+        }
+    }
+
+    private enum Outcome { OK, HTTP_ERROR, IO_ERROR, TIMEOUT }
+
+    /* 가상 사용자(스레드) 1개 전용 기록기 (측정 중 공유 자료구조 경합 없음) */
+    private static final class Recorder {
+
+        private final long[][] latencies;
+        private final int[] sizes;
+        private final long[] errors;
+        private final long[] timeouts;
+
+        Recorder(int scenarioCount) {
+            latencies = new long[scenarioCount][1024];
+            sizes = new int[scenarioCount];
+            errors = new long[scenarioCount];
+            timeouts = new long[scenarioCount];
+        }
+
+        void record(int scenario, long latencyNs, Outcome outcome) {
+            if (sizes[scenario] == latencies[scenario].length) {
+                latencies[scenario] = Arrays.copyOf(latencies[scenario], sizes[scenario] * 2);
+            }
+            latencies[scenario][sizes[scenario]++] = latencyNs;
+            if (outcome != Outcome.OK) {
+                errors[scenario]++;
+            }
+            if (outcome == Outcome.TIMEOUT) {
+                timeouts[scenario]++;
+            }
+        }
+
+        long[] latencies(int scenario) {
+            return Arrays.copyOf(latencies[scenario], sizes[scenario]);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.wherehouse.bench;
+
+import com.wherehouse.information.model.LocationAnalysisRequestDTO;
+import com.wherehouse.information.service.LocationAnalysisServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 위치 분석 단계 실행 방식(순차 vs 동시) 벽시계 시간 비교 벤치마크
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=stage-benchmark'
+ *
+ * 측정 방식:
+ * - 서울 영역 내 무작위 좌표를 반복마다 2개 생성하여 순차/동시 모드에 하나씩 배정한다.
+ *   (좌표가 매번 달라 1단계 캐시(dto:)와 주소/편의시설 캐시가 적중하지 않으므로 두 모드 모두 콜드 경로를 측정)
+ * - 반복마다 실행 순서를 교대하여 커넥션 풀/JIT 워밍업 편향을 줄인다.
+ * - 워밍업 반복은 통계에서 제외한다.
+ */
+@Component
+@Profile("stage-benchmark")
+@RequiredArgsConstructor
+@Slf4j
+public class LocationAnalysisStageBenchmark implements ApplicationRunner {
+
+    /* 서울 영역 (위도/경도 범위) */
+    private static final double MIN_LATITUDE = 37.48;
+    private static final double MAX_LATITUDE = 37.62;
+    private static final double MIN_LONGITUDE = 126.90;
+    private static final double MAX_LONGITUDE = 127.10;
+
+    private final LocationAnalysisServiceImpl locationAnalysisService;
+
+    @Value("${benchmark.stage.iterations:20}")
+    private int iterations;
+
+    @Value("${benchmark.stage.warmup:3}")
+    private int warmup;
+
+    @Value("${benchmark.stage.radius:500}")
+    private int radius;
+
+    @Value("${benchmark.stage.seed:42}")
+    private long seed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[StageBenchmark] 시작 - iterations: {}, warmup: {}, radius: {}m", iterations, warmup, radius);
+
+        Random random = new Random(seed);
+        List<Long> serialNs = new ArrayList<>();
+        List<Long> concurrentNs = new ArrayList<>();
+
+        for (int i = 0; i < warmup + iterations; i++) {
+            LocationAnalysisRequestDTO serialRequest = randomRequest(random);
+            LocationAnalysisRequestDTO concurrentRequest = randomRequest(random);
+
+            long serialElapsed;
+            long concurrentElapsed;
+
+            if (i % 2 == 0) {
+                serialElapsed = measure(serialRequest, false);
+                concurrentElapsed = measure(concurrentRequest, true);
+            } else {
+                concurrentElapsed = measure(concurrentRequest, true);
+                serialElapsed = measure(serialRequest, false);
+            }
+
+            if (i >= warmup) {
+                serialNs.add(serialElapsed);
+                concurrentNs.add(concurrentElapsed);
+            }
+        }
+
+        report("순차 실행", serialNs);
+        report("동시 실행", concurrentNs);
+
+        double serialAvg = average(serialNs);
+        double concurrentAvg = average(concurrentNs);
+        if (concurrentAvg > 0) {
+            log.info("[StageBenchmark] 평균 기준 속도 향상: {}배", String.format("%.2f", serialAvg / concurrentAvg));
+        }
+    }
+
+    private long measure(LocationAnalysisRequestDTO request, boolean concurrent) {
+        long startNs = System.nanoTime();
+        locationAnalysisService.analyzeLocation(request, concurrent);
+        return System.nanoTime() - startNs;
+    }
+
+    private LocationAnalysisRequestDTO randomRequest(Random random) {
+        return LocationAnalysisRequestDTO.builder()
+                .latitude(MIN_LATITUDE + (MAX_LATITUDE - MIN_LATITUDE) * random.nextDouble())
+                .longitude(MIN_LONGITUDE + (MAX_LONGITUDE - MIN_LONGITUDE) * random.nextDouble())
+                .radius(radius)
+                .build();
+    }
+
+    private void report(String label, List<Long> samplesNs) {
+        if (samplesNs.isEmpty()) {
+            return;
+        }
+
+        List<Long> sorted = new ArrayList<>(samplesNs);
+        Collections.sort(sorted);
+
+        log.info("[StageBenchmark] {} - 평균: {}ms, p50: {}ms, p95: {}ms, 최대: {}ms (n={})",
+                label,
+                toMs(average(sorted)),
+                toMs(percentile(sorted, 0.50)),
+                toMs(percentile(sorted, 0.95)),
+                toMs(sorted.get(sorted.size() - 1)),
+                sorted.size());
+    }
+
+    private double average(List<Long> samplesNs) {
+        return samplesNs.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    private long percentile(List<Long> sortedNs, double p) {
+        int index = (int) Math.ceil(p * sortedNs.size()) - 1;
+        return sortedNs.get(Math.max(0, Math.min(index, sortedNs.size() - 1)));
+    }
+
+    private String toMs(double nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+}
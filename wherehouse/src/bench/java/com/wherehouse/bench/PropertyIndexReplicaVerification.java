@@ -0,0 +1,206 @@
+package com.wherehouse.bench;
+
+import com.wherehouse.recommand.index.PropertyIndexReplica;
+import com.wherehouse.recommand.index.PropertyRecord;
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 매물 인덱스 복제본(PropertyIndexReplica) 정합성 검증 및 조회 시간 측정
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=property-index-verification'
+ *           (RdbSyncListener 로 Redis 인덱스가 적재된 상태여야 한다)
+ *
+ * 검증 항목:
+ * - 무작위 범위 조건 queries 개(전세·월세 각각)에 대해 지역구별 결과 propertyId 집합 비교
+ *   기준 = 추천 서비스 Redis 경로 (ZSet rangeByScore 교집합 → HGETALL → status/leaseType/범위 재검증)
+ * - 불일치 조건 수가 0 이면 통과 (불일치 시 앞의 몇 건을 출력)
+ *
+ * 측정 항목:
+ * - 조건 1건(25개 구)당 평균 소요 시간 - 복제본 / Redis 경로
+ */
+@Component
+@Profile("property-index-verification")
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyIndexReplicaVerification implements ApplicationRunner {
+
+    private static final List<String> SEOUL_DISTRICTS = Arrays.asList(
+            "종로구", "중구", "용산구", "성동구", "광진구", "동대문구", "중랑구", "성북구",
+            "강북구", "도봉구", "노원구", "은평구", "서대문구", "마포구", "양천구", "강서구",
+            "구로구", "금천구", "영등포구", "동작구", "관악구", "서초구", "강남구", "송파구", "강동구"
+    );
+
+    private final PropertyIndexReplica propertyIndexReplica;
+    private final RedisHandler redisHandler;
+
+    @Value("${verification.property-index.queries:200}")
+    private int queries;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!propertyIndexReplica.isReady()) {
+            propertyIndexReplica.rebuild();
+        }
+        if (!propertyIndexReplica.isReady()) {
+            log.error("[PropertyIndexReplicaVerification] 복제본 미적재 - 중단 ({})", propertyIndexReplica.getStats());
+            return;
+        }
+        log.info("[PropertyIndexReplicaVerification] 시작 - {}", propertyIndexReplica.getStats());
+
+        boolean charterPassed = verify(false);
+        boolean monthlyPassed = verify(true);
+
+        log.info("[PropertyIndexReplicaVerification] 종료 - {}",
+                charterPassed && monthlyPassed ? "전체 통과" : "실패 항목 있음");
+    }
+
+    private boolean verify(boolean monthly) {
+        String label = monthly ? "월세" : "전세";
+        Random random = new Random(42);
+
+        int mismatched = 0;
+        long replicaNs = 0;
+        long redisNs = 0;
+        long matchedProperties = 0;
+        List<String> samples = new ArrayList<>();
+
+        for (int q = 0; q < queries; q++) {
+            // 보증금(만원) / 월세금(만원) / 평수 범위 — 실제 요청 분포와 비슷한 폭
+            int depositMin = random.nextInt(monthly ? 5000 : 60000);
+            int depositMax = depositMin + 1000 + random.nextInt(monthly ? 20000 : 60000);
+            int rentMin = random.nextInt(100);
+            int rentMax = rentMin + 20 + random.nextInt(150);
+            double areaMin = 5 + random.nextInt(30);
+            double areaMax = areaMin + 5 + random.nextInt(30);
+
+            long start = System.nanoTime();
+            List<Set<String>> replicaResult = new ArrayList<>();
+            for (String district : SEOUL_DISTRICTS) {
+                List<PropertyRecord> records = monthly
+                        ? propertyIndexReplica.findMonthly(district, depositMin, depositMax, rentMin, rentMax, areaMin, areaMax)
+                        : propertyIndexReplica.findCharter(district, depositMin, depositMax, areaMin, areaMax);
+                replicaResult.add(records.stream().map(PropertyRecord::getPropertyId).collect(Collectors.toSet()));
+            }
+            replicaNs += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Set<String>> redisResult = queryRedis(monthly, depositMin, depositMax, rentMin, rentMax, areaMin, areaMax);
+            redisNs += System.nanoTime() - start;
+
+            for (int i = 0; i < SEOUL_DISTRICTS.size(); i++) {
+                matchedProperties += redisResult.get(i).size();
+                if (!replicaResult.get(i).equals(redisResult.get(i))) {
+                    mismatched++;
+                    if (samples.size() < 5) {
+                        Set<String> onlyReplica = new HashSet<>(replicaResult.get(i));
+                        onlyReplica.removeAll(redisResult.get(i));
+                        Set<String> onlyRedis = new HashSet<>(redisResult.get(i));
+                        onlyRedis.removeAll(replicaResult.get(i));
+                        samples.add(String.format("%s 보증금 %d~%d 월세 %d~%d 평수 %.0f~%.0f | 복제본만: %s, Redis만: %s",
+                                SEOUL_DISTRICTS.get(i), depositMin, depositMax, rentMin, rentMax, areaMin, areaMax,
+                                limit(onlyReplica), limit(onlyRedis)));
+                    }
+                }
+            }
+        }
+
+        boolean passed = mismatched == 0;
+        log.info("[PropertyIndexReplicaVerification] {} - {} | 조건: {}건 × {}개 구, 불일치: {}건, 평균 결과: {}건/조건",
+                label, passed ? "통과" : "실패", queries, SEOUL_DISTRICTS.size(), mismatched,
+                queries == 0 ? 0 : matchedProperties / queries);
+        log.info("[PropertyIndexReplicaVerification] {} 조회 시간 - 복제본: {}ms/조건, Redis: {}ms/조건",
+                label, String.format("%.3f", replicaNs / 1_000_000.0 / Math.max(1, queries)),
+                String.format("%.3f", redisNs / 1_000_000.0 / Math.max(1, queries)));
+        samples.forEach(sample -> log.info("[PropertyIndexReplicaVerification]   불일치 예: {}", sample));
+        return passed;
+    }
+
+    /* 추천 서비스 Redis 경로와 같은 순서: 지역구별 ZSet 범위 교집합 → HGETALL Pipeline → hard condition */
+    @SuppressWarnings("unchecked")
+    private List<Set<String>> queryRedis(boolean monthly, int depositMin, int depositMax,
+                                         int rentMin, int rentMax, double areaMin, double areaMax) {
+        List<Set<String>> candidates = new ArrayList<>();
+        for (String district : SEOUL_DISTRICTS) {
+            Set<String> ids = toStrings(redisHandler.redisTemplate.opsForZSet().rangeByScore(
+                    monthly ? "idx:deposit:" + district : "idx:charterPrice:" + district, depositMin, depositMax));
+            ids.retainAll(toStrings(redisHandler.redisTemplate.opsForZSet().rangeByScore(
+                    "idx:area:" + district + (monthly ? ":월세" : ":전세"), areaMin, areaMax)));
+            if (monthly) {
+                ids.retainAll(toStrings(redisHandler.redisTemplate.opsForZSet().rangeByScore(
+                        "idx:monthlyRent:" + district + ":월세", rentMin, rentMax)));
+            }
+            candidates.add(ids);
+        }
+
+        List<String> allIds = candidates.stream().flatMap(Set::stream).collect(Collectors.toList());
+        List<Object> hashes = redisHandler.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String propertyId : allIds) {
+                connection.hGetAll(((monthly ? "property:monthly:" : "property:charter:") + propertyId).getBytes());
+            }
+            return null;
+        });
+
+        List<Set<String>> result = new ArrayList<>();
+        int cursor = 0;
+        for (Set<String> ids : candidates) {
+            Set<String> valid = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                Map<Object, Object> hash = (Map<Object, Object>) hashes.get(cursor);
+                String propertyId = allIds.get(cursor++);
+                if (matches(hash, monthly, depositMin, depositMax, rentMin, rentMax, areaMin, areaMax)) {
+                    valid.add(propertyId);
+                }
+            }
+            result.add(valid);
+        }
+        return result;
+    }
+
+    private static boolean matches(Map<Object, Object> hash, boolean monthly, int depositMin, int depositMax,
+                                   int rentMin, int rentMax, double areaMin, double areaMax) {
+        if (hash == null || hash.isEmpty()) return false;
+        if (!"ACTIVE".equals(String.valueOf(hash.get("status")))) return false;
+        if (!(monthly ? "월세" : "전세").equals(String.valueOf(hash.get("leaseType")))) return false;
+        try {
+            int deposit = Integer.parseInt(String.valueOf(hash.get("deposit")));
+            double area = Double.parseDouble(String.valueOf(hash.get("areaInPyeong")));
+            if (deposit < depositMin || deposit > depositMax || area < areaMin || area > areaMax) return false;
+            if (monthly) {
+                int rent = Integer.parseInt(String.valueOf(hash.get("monthlyRent")));
+                return rent >= rentMin && rent <= rentMax;
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Set<String> toStrings(Set<Object> members) {
+        Set<String> result = new HashSet<>();
+        if (members != null) {
+            members.forEach(member -> result.add(member.toString()));
+        }
+        return result;
+    }
+
+    private static String limit(Set<String> ids) {
+        return ids.stream().limit(5).collect(Collectors.toList()) + (ids.size() > 5 ? " 외 " + (ids.size() - 5) + "건" : "");
+    }
+}
@@ -0,0 +1,162 @@
+package com.wherehouse.bench;
+
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.index.RadiusFilter;
+import com.wherehouse.information.util.GeohashService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 반경 필터링 방식별 처리 시간 비교 마이크로 벤치마크 (판정 / 거리 정합성은 RadiusFilterTest)
+ *
+ * 실행 방법: ./gradlew bootRunBench --args='--spring.profiles.active=radius-filter-benchmark'
+ *
+ * 비교 대상:
+ * - haversine : 기존 방식. 박싱된 CctvGeo / 장소 Map 을 순회하며 후보마다 GeohashService.calculateDistance 호출
+ * - kernel    : 위도 / 경도 기본형 배열 + RadiusFilter (경계 상자 → 등장방형 근사 → 경계 부근만 Haversine)
+ *
+ * 측정 방식:
+ * - 요청 좌표 주변(반경의 1.5배 사각형)에 무작위 지점을 생성하여 9-Block / 격자 병합 후보 집합을 흉내낸다.
+ * - 워밍업 반복 후 iterations 회 필터링하여 1회 평균(µs)과 지점당 시간(ns)을 기록한다.
+ * - 두 방식의 반경 안 지점 수를 함께 기록한다.
+ * - 결과 개수를 누적 값에 반영하여 JIT 가 루프를 제거하지 못하도록 한다.
+ */
+@Component
+@Profile("radius-filter-benchmark")
+@RequiredArgsConstructor
+@Slf4j
+public class RadiusFilterBenchmark implements ApplicationRunner {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private final GeohashService geohashService;
+
+    @Value("${benchmark.radius-filter.iterations:2000}")
+    private int iterations;
+
+    @Value("${benchmark.radius-filter.warmup:500}")
+    private int warmup;
+
+    @Value("${benchmark.radius-filter.points:5000}")
+    private int points;
+
+    @Value("${benchmark.radius-filter.radius:2000}")
+    private int radius;
+
+    private long blackhole;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[RadiusFilterBenchmark] 시작 - iterations: {}, warmup: {}, 지점: {}건, 반경: {}m",
+                iterations, warmup, points, radius);
+
+        Random random = new Random(42);
+        double latitude = 37.5665;
+        double longitude = 126.9780;
+
+        double latSpan = radius * 1.5 / METERS_PER_DEGREE;
+        double lonSpan = latSpan / Math.cos(Math.toRadians(latitude));
+
+        // 동일한 지점을 두 표현으로 준비
+        double[] latitudes = new double[points];
+        double[] longitudes = new double[points];
+        List<CctvGeo> cctvList = new ArrayList<>(points);
+        List<Map<String, Object>> places = new ArrayList<>(points);
+
+        for (int i = 0; i < points; i++) {
+            latitudes[i] = latitude + (random.nextDouble() * 2 - 1) * latSpan;
+            longitudes[i] = longitude + (random.nextDouble() * 2 - 1) * lonSpan;
+
+            cctvList.add(CctvGeo.builder()
+                    .numbers((long) i)
+                    .latitude(latitudes[i])
+                    .longitude(longitudes[i])
+                    .cameraCount(1)
+                    .build());
+
+            Map<String, Object> place = new HashMap<>();
+            place.put("name", "장소 " + i);
+            place.put("latitude", latitudes[i]);
+            place.put("longitude", longitudes[i]);
+            places.add(place);
+        }
+
+        int[] out = new int[points];
+
+        Filter haversineCctv = () -> {
+            int count = 0;
+            for (CctvGeo cctv : cctvList) {
+                if (geohashService.calculateDistance(latitude, longitude, cctv.getLatitude(), cctv.getLongitude()) <= radius) {
+                    count++;
+                }
+            }
+            return count;
+        };
+
+        Filter haversinePlaces = () -> {
+            int count = 0;
+            for (Map<String, Object> place : places) {
+                double placeLatitude = ((Number) place.get("latitude")).doubleValue();
+                double placeLongitude = ((Number) place.get("longitude")).doubleValue();
+                if (geohashService.calculateDistance(latitude, longitude, placeLatitude, placeLongitude) <= radius) {
+                    count++;
+                }
+            }
+            return count;
+        };
+
+        Filter kernel = () -> RadiusFilter.of(latitude, longitude, radius)
+                .filter(latitudes, longitudes, 0, points, out, 0);
+
+        Filter kernelWithDistances = () -> {
+            RadiusFilter filter = RadiusFilter.of(latitude, longitude, radius);
+            int count = filter.filter(latitudes, longitudes, 0, points, out, 0);
+            for (int i = 0; i < count; i++) {
+                blackhole += (long) filter.distance(latitudes[out[i]], longitudes[out[i]]);
+            }
+            return count;
+        };
+
+        report("haversine / CctvGeo", haversineCctv);
+        report("haversine / 장소 Map", haversinePlaces);
+        report("kernel / 판정만", kernel);
+        report("kernel / 판정 + 보고 거리", kernelWithDistances);
+
+        log.info("[RadiusFilterBenchmark] 종료 (blackhole: {})", blackhole);
+    }
+
+    private void report(String label, Filter filter) {
+        for (int i = 0; i < warmup; i++) {
+            blackhole += filter.run();
+        }
+
+        int matched = filter.run();
+
+        long startNs = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            blackhole += filter.run();
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+
+        log.info("[RadiusFilterBenchmark] {} - 반경 내: {}/{}건, 1회: {}µs, 지점당: {}ns",
+                label, matched, points,
+                String.format("%.2f", elapsedNs / 1_000.0 / iterations),
+                String.format("%.2f", (double) elapsedNs / iterations / points));
+    }
+
+    @FunctionalInterface
+    private interface Filter {
+        int run();
+    }
+}
@@ -0,0 +1,42 @@
+package com.wherehouse.PropertyManagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 매물 변경 이벤트 (F001 등록 / F002 수정 / F003 상태 변경)
+ *
+ * Charter/MonthlyPropertyWriteService 가 Redis 동기화(Hash + 인덱스 + bounds)를 마친 직후 발행합니다.
+ * 추천 매물 인덱스 메모리 복제본(PropertyIndexReplica)이 구독하여 해당 지역구·임대 유형 파티션만 부분 갱신합니다.
+ *
+ * 이벤트는 변경 후 매물 Hash 전체를 담으므로 같은 이벤트를 여러 번 적용해도 결과가 같다(멱등).
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class PropertyChangedEvent {
+
+    public enum ChangeType {
+        UPSERT,     // 등록 / 수정 — fields 의 값으로 교체
+        REMOVE      // COMPLETED / DELETED 전이 — 추천 대상에서 제외
+    }
+
+    private String propertyId;
+
+    /**
+     * "전세" 또는 "월세"
+     */
+    private String leaseType;
+
+    private String districtName;
+
+    private ChangeType changeType;
+
+    /**
+     * 변경 후 매물 Hash (PropertyHashBuilder 결과, REMOVE 시 null)
+     */
+    private Map<String, Object> fields;
+}
@@ -4,6 +4,7 @@ import com.wherehouse.PropertyManagement.dto.*;
 import com.wherehouse.PropertyManagement.entity.DataSource;
 import com.wherehouse.PropertyManagement.entity.PropertyCharterEntity;
 import com.wherehouse.PropertyManagement.entity.PropertyStatus;
+import com.wherehouse.PropertyManagement.event.PropertyChangedEvent;
 import com.wherehouse.PropertyManagement.execption.customExceptions.*;
 import com.wherehouse.PropertyManagement.integration.BoundsUpdater;
 import com.wherehouse.PropertyManagement.integration.PropertyHashBuilder;
@@ -17,6 +18,7 @@ import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -69,6 +71,9 @@ public class CharterPropertyWriteService {
     /* 방문 예약 연동 (설계 명세서 섹션 2.1 매물 상태 변경 연동) — 비활성 전이 시 활성 윈도우 일괄 철회 */
     private final VisitReservationWriteService visitReservationWriteService;
 
+    /* 추천 매물 인덱스 복제본(PropertyIndexReplica) 부분 갱신용 변경 이벤트 발행 — Redis 동기화 직후 */
+    private final ApplicationEventPublisher eventPublisher;
+
 //    @Autowired(required = false)
 //    private F009RaceLatch f009RaceLatch;
 
@@ -496,6 +501,8 @@ public class CharterPropertyWriteService {
         boundsUpdater.tryExtend(boundsKey, "minArea", "maxArea",
                 entity.getAreaInPyeong().doubleValue(), AREA_ZERO_DELTA);
 
+        publishChange(entity, PropertyChangedEvent.ChangeType.UPSERT, hashFields);
+
         log.info("전세 매물 Redis 동기화(등록) 완료: propertyId={}", propertyId);
     }
 
@@ -540,6 +547,8 @@ public class CharterPropertyWriteService {
             }
         });
 
+        publishChange(entity, PropertyChangedEvent.ChangeType.UPSERT, hashFields);
+
         log.info("전세 매물 Redis 동기화(수정) 완료: propertyId={}, changedFields={}",
                 propertyId, changedFields);
     }
@@ -583,10 +592,29 @@ public class CharterPropertyWriteService {
         /* 이 위치 기능 추가 필요
          *   매물 상태가 Complete 혹은 deleted 상태로 변경 시 전체 매물을 조회 하여 현재 전세 매물에 대해서 가장 작은 금액을 bound 중 min 값으로 수정 후 가장 큰 값을 max 로 값으로 대체 필요. */
 
+        publishChange(entity, PropertyChangedEvent.ChangeType.REMOVE, null);
+
         log.info("전세 매물 Redis 동기화(상태변경) 완료: propertyId={}, target={}",
                 propertyId, target);
     }
 
+    /** Redis 동기화 완료 후 변경 이벤트 발행. 구독자 실패가 쓰기 응답에 영향을 주지 않도록 예외는 기록만 한다. */
+    private void publishChange(PropertyCharterEntity entity, PropertyChangedEvent.ChangeType changeType,
+                               Map<String, Object> hashFields) {
+        try {
+            eventPublisher.publishEvent(PropertyChangedEvent.builder()
+                    .propertyId(entity.getPropertyId())
+                    .leaseType(LEASE_CHARTER_KOR)
+                    .districtName(entity.getDistrictName())
+                    .changeType(changeType)
+                    .fields(hashFields)
+                    .build());
+        } catch (Exception e) {
+            log.warn("전세 매물 변경 이벤트 처리 실패: propertyId={}, msg={}",
+                    entity.getPropertyId(), e.getMessage());
+        }
+    }
+
     // ============================================================
     // 검증 헬퍼
     // ============================================================
@@ -4,6 +4,7 @@ import com.wherehouse.PropertyManagement.dto.*;
 import com.wherehouse.PropertyManagement.entity.DataSource;
 import com.wherehouse.PropertyManagement.entity.PropertyMonthlyEntity;
 import com.wherehouse.PropertyManagement.entity.PropertyStatus;
+import com.wherehouse.PropertyManagement.event.PropertyChangedEvent;
 import com.wherehouse.PropertyManagement.execption.customExceptions.*;
 import com.wherehouse.PropertyManagement.integration.BoundsUpdater;
 import com.wherehouse.PropertyManagement.integration.PropertyHashBuilder;
@@ -13,6 +14,7 @@ import com.wherehouse.recommand.batch.util.IdGenerator;
 import com.wherehouse.redis.handler.RedisHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +46,9 @@ public class MonthlyPropertyWriteService {
     /* 방문 예약 연동 (설계 명세서 섹션 2.1 매물 상태 변경 연동) — 비활성 전이 시 활성 윈도우 일괄 철회 */
     private final VisitReservationWriteService visitReservationWriteService;
 
+    /* 추천 매물 인덱스 복제본(PropertyIndexReplica) 부분 갱신용 변경 이벤트 발행 — Redis 동기화 직후 */
+    private final ApplicationEventPublisher eventPublisher;
+
     private static final String LEASE_MONTHLY_CODE = "MONTHLY";
     private static final String LEASE_MONTHLY_KOR = "월세";
     private static final BigDecimal PYEONG_DIVISOR = new BigDecimal("3.305785");
@@ -247,6 +252,8 @@ public class MonthlyPropertyWriteService {
         boundsUpdater.tryExtend(boundsKey, "minArea", "maxArea",
                 entity.getAreaInPyeong().doubleValue(), AREA_ZERO_DELTA);
 
+        publishChange(entity, PropertyChangedEvent.ChangeType.UPSERT, hashFields);
+
         log.info("월세 매물 Redis 동기화(등록) 완료: propertyId={}", propertyId);
     }
 
@@ -276,6 +283,8 @@ public class MonthlyPropertyWriteService {
                     entity.getMonthlyRent().doubleValue(), MONTHLY_RENT_ZERO_DELTA);
         }
 
+        publishChange(entity, PropertyChangedEvent.ChangeType.UPSERT, hashFields);
+
         log.info("월세 매물 Redis 동기화(수정) 완료: propertyId={}, changedFields={}",
                 propertyId, changedFields);
     }
@@ -315,10 +324,29 @@ public class MonthlyPropertyWriteService {
             redisHandler.redisTemplate.delete(hashKey);
         }
 
+        publishChange(entity, PropertyChangedEvent.ChangeType.REMOVE, null);
+
         log.info("월세 매물 Redis 동기화(상태변경) 완료: propertyId={}, target={}",
                 propertyId, target);
     }
 
+    /** Redis 동기화 완료 후 변경 이벤트 발행. 구독자 실패가 쓰기 응답에 영향을 주지 않도록 예외는 기록만 한다. */
+    private void publishChange(PropertyMonthlyEntity entity, PropertyChangedEvent.ChangeType changeType,
+                               Map<String, Object> hashFields) {
+        try {
+            eventPublisher.publishEvent(PropertyChangedEvent.builder()
+                    .propertyId(entity.getPropertyId())
+                    .leaseType(LEASE_MONTHLY_KOR)
+                    .districtName(entity.getDistrictName())
+                    .changeType(changeType)
+                    .fields(hashFields)
+                    .build());
+        } catch (Exception e) {
+            log.warn("월세 매물 변경 이벤트 처리 실패: propertyId={}, msg={}",
+                    entity.getPropertyId(), e.getMessage());
+        }
+    }
+
     // ============================================================
     // 검증 헬퍼
     // ============================================================
@@ -0,0 +1,34 @@
+package com.wherehouse.information.batch.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Geohash 인덱싱 ETL 완료 이벤트
+ *
+ * GeohashIndexingEtlProcessor 가 CCTV_GEO / POLICEOFFICE_GEO 테이블 재적재를 마친 후 발행하는 이벤트입니다.
+ * 메모리 상주 공간 인덱스(CctvSpatialIndex 등)가 이 이벤트를 구독하여 트랜잭션 커밋 이후 인덱스를 재구축합니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class GeohashEtlCompletedEvent {
+
+    /**
+     * ETL 완료 시각
+     */
+    private LocalDateTime completedAt;
+
+    /**
+     * CCTV_GEO 적재 건수
+     */
+    private int cctvCount;
+
+    /**
+     * POLICEOFFICE_GEO 적재 건수
+     */
+    private int policeOfficeCount;
+}
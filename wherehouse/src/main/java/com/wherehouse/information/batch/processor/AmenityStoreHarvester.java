@@ -0,0 +1,323 @@
+package com.wherehouse.information.batch.processor;
+
+import com.wherehouse.information.dao.AmenityStoreRepository;
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.model.AmenityCellPlaces;
+import com.wherehouse.information.util.AmenityCellService;
+import com.wherehouse.information.util.AmenityStoreService;
+import com.wherehouse.information.util.KakaoApiService;
+import com.wherehouse.redis.service.CellPopularityService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오프라인 편의시설 저장소(AMENITY_STORE) 수집기
+ *
+ * 목적:
+ * - 격자 캐시(Redis, TTL 24시간)가 비어 있는 격자는 분석마다 카테고리 15건의 카카오 호출이 필요하다.
+ * - 서울 전역 격자 x 15개 카테고리를 호출 한도 안에서 미리 수집해 두어, 실시간 편의시설 조회를
+ *   로컬 조회(Redis → AMENITY_STORE)로 바꾸고 카카오 호출은 저장소에 없는 격자에만 남긴다.
+ *
+ * 처리 흐름 (매일 harvest.cron, 기본 새벽 3시):
+ * H-01: 노드 간 일일 잠금 획득 (당일 1개 노드만 수집)
+ * H-02: 수집 범위(서울 경계 상자)의 격자 목록 산출 (AmenityCellService 격자 정밀도)
+ * H-03: 수집 대상 선정 - 저장되지 않은 격자 x 카테고리 → refresh-age 보다 오래된 행(오래된 순), 최대 call-budget 건
+ *       (refresh-age 이내에 수집된 행은 제외)
+ * H-04: 격자 x 카테고리별 카카오 검색 → 격자 경계로 자름 → 즉시 저장
+ *       - 동시 실행 parallelism 건 이하, 호출 시작 간격 1 / calls-per-second 초 이상 (카카오 API 쿼터 보호)
+ *       - 밀집 격자는 대상 1건이 카카오 호출 최대 3건(페이지)이므로, 페이지 포함 호출 수가 call-budget 에 도달하면 새 대상을 시작하지 않는다.
+ *         (이미 진행 중인 대상의 호출만큼, 최대 parallelism × 3건 넘을 수 있음)
+ *       - 연속 실패가 max-consecutive-failures 에 도달하면 중단 (쿼터 소진 / 외부 장애 시 호출 낭비 방지)
+ * H-05: 처리 결과 로깅
+ *
+ * 재개: 수집 결과를 1건마다 저장하므로, 중단되거나 한도에 걸린 실행은 다음 실행의 H-03 에서 남은 대상부터 이어진다.
+ * 카카오 호출은 KakaoApiGateway 를 거치므로 실시간 요청과 같은 동시성 제한 / 서킷 브레이커를 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AmenityStoreHarvester {
+
+    private static final Duration DAILY_LOCK_TTL = Duration.ofHours(20);
+
+    private final AmenityCellService amenityCellService;
+    private final AmenityStoreService amenityStoreService;
+    private final AmenityStoreRepository amenityStoreRepository;
+    private final CellPopularityService cellPopularityService;
+
+    @Value("${amenity-store.harvest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${amenity-store.harvest.refresh-age:30d}")
+    private Duration refreshAge;
+
+    @Value("${amenity-store.harvest.call-budget:20000}")
+    private int callBudget;
+
+    @Value("${amenity-store.harvest.parallelism:4}")
+    private int parallelism;
+
+    @Value("${amenity-store.harvest.calls-per-second:10}")
+    private double callsPerSecond;
+
+    @Value("${amenity-store.harvest.max-consecutive-failures:20}")
+    private int maxConsecutiveFailures;
+
+    @Value("${amenity-store.harvest.min-latitude:37.41}")
+    private double minLatitude;
+
+    @Value("${amenity-store.harvest.max-latitude:37.72}")
+    private double maxLatitude;
+
+    @Value("${amenity-store.harvest.min-longitude:126.73}")
+    private double minLongitude;
+
+    @Value("${amenity-store.harvest.max-longitude:127.27}")
+    private double maxLongitude;
+
+    // 수집 진행 스레드 (1건) / 격자 수집 스레드 (parallelism 건)
+    private ExecutorService dispatcher;
+    private ExecutorService workers;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 마지막 수집 결과
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    @PostConstruct
+    public void initExecutors() {
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "amenity-harvest-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("amenity-harvest-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdownExecutors() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @Scheduled(cron = "${amenity-store.harvest.cron:0 0 3 * * ?}")
+    public void scheduledHarvest() {
+        if (!enabled || !amenityStoreService.isEnabled()) {
+            return;
+        }
+
+        // H-01: 노드 간 일일 잠금
+        String lockName = "amenity-harvest:" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        if (!cellPopularityService.tryAcquireDailyLock(lockName, DAILY_LOCK_TTL)) {
+            log.info("[H-01] 다른 노드가 오늘 수집을 수행 중이거나 완료 - 생략");
+            return;
+        }
+
+        dispatcher.execute(() -> harvest(minLatitude, maxLatitude, minLongitude, maxLongitude, callBudget));
+    }
+
+    /**
+     * 경계 상자 안 격자 x 카테고리 중 저장되지 않았거나 오래된 것을 최대 budget 건 수집한다. (호출 스레드에서 완료까지 실행)
+     *
+     * @return 수집 결과 (이미 다른 수집이 진행 중이면 빈 Map)
+     */
+    public Map<String, Object> harvest(double south, double north, double west, double east, int budget) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[H-01] 이전 수집 진행 중 - 생략");
+            return Map.of();
+        }
+        try {
+            return doHarvest(south, north, west, east, budget);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> doHarvest(double south, double north, double west, double east, int budget) {
+        long startTime = System.currentTimeMillis();
+
+        // H-02: 수집 범위 격자 목록
+        int precision = amenityCellService.getCellPrecision();
+        List<Long> cells = cellsInBounds(south, north, west, east, precision);
+
+        // H-03: 수집 대상 선정 (미수집 → 오래된 순)
+        LocalDateTime cutoff = LocalDateTime.now().minus(refreshAge);
+        Set<String> fresh = new HashSet<>(amenityStoreRepository.findFreshCellKeys(cutoff));
+        List<String> staleOrdered = amenityStoreRepository.findStaleCellKeys(cutoff);
+        Set<String> stale = new HashSet<>(staleOrdered);
+
+        Map<String, Target> targetsByKey = new LinkedHashMap<>();
+        List<Target> targets = new ArrayList<>();
+        for (long cell : cells) {
+            for (String category : KakaoApiService.AMENITY_CATEGORIES) {
+                Target target = new Target(cell, category);
+                String key = AmenityStoreService.storeKey(cell, category);
+                if (stale.contains(key)) {
+                    targetsByKey.put(key, target);
+                } else if (!fresh.contains(key) && targets.size() < budget) {
+                    targets.add(target);
+                }
+            }
+        }
+        int missing = targets.size();
+        for (String key : staleOrdered) {
+            Target target = targetsByKey.get(key);
+            if (target != null && targets.size() < budget) {
+                targets.add(target);
+            }
+        }
+
+        log.info("[H-03] 수집 대상: {}건 (미수집 {}건 + 갱신 {}건, 한도 {}건), 범위 격자: {}개, 동시 실행: {}, 초당: {}건",
+                targets.size(), missing, targets.size() - missing, budget, cells.size(), parallelism, callsPerSecond);
+
+        // H-04: 격자 x 카테고리별 수집 및 저장
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger harvested = new AtomicInteger();
+        AtomicInteger places = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger truncated = new AtomicInteger();
+        AtomicInteger kakaoCalls = new AtomicInteger();
+        AtomicInteger consecutiveFailures = new AtomicInteger();
+        long intervalMillis = callsPerSecond > 0 ? (long) (1000 / callsPerSecond) : 0;
+        int dispatched = 0;
+
+        try {
+            for (Target target : targets) {
+                // 진행 중인 수집의 결과까지 반영해 판정하도록 실행 슬롯을 얻은 뒤 확인
+                permits.acquire();
+                if (consecutiveFailures.get() >= maxConsecutiveFailures) {
+                    permits.release();
+                    log.warn("[H-04] 연속 실패 {}회 - 수집 중단 (남은 대상: {}건, 다음 실행에서 이어서 수집)",
+                            consecutiveFailures.get(), targets.size() - dispatched);
+                    break;
+                }
+                if (kakaoCalls.get() >= budget) {
+                    permits.release();
+                    log.warn("[H-04] 카카오 호출 한도 {}건 도달 - 수집 중단 (남은 대상: {}건, 다음 실행에서 이어서 수집)",
+                            budget, targets.size() - dispatched);
+                    break;
+                }
+
+                workers.execute(() -> {
+                    try {
+                        AmenityCellPlaces clipped = amenityCellService
+                                .startFill(target.cell, target.category, kakaoCalls::incrementAndGet).join();
+                        amenityStoreService.save(target.cell, target.category, clipped);
+                        harvested.incrementAndGet();
+                        places.addAndGet(clipped.size());
+                        if (clipped.isTruncated()) {
+                            truncated.incrementAndGet();
+                        }
+                        consecutiveFailures.set(0);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        consecutiveFailures.incrementAndGet();
+                        log.warn("[H-04] 격자 수집 실패 - 격자: {}, 카테고리: {}, 원인: {}",
+                                GeohashCodec.toBase32(target.cell), target.category, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+                dispatched++;
+
+                Thread.sleep(intervalMillis);
+            }
+
+            // 진행 중인 수집 완료 대기
+            permits.acquire(parallelism);
+            permits.release(parallelism);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[H-04] 수집 중단 (인터럽트)");
+        }
+
+        // H-05: 처리 결과 로깅
+        long duration = System.currentTimeMillis() - startTime;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAtEpochMillis", startTime);
+        result.put("durationMillis", duration);
+        result.put("cellPrecision", precision);
+        result.put("cells", cells.size());
+        result.put("targets", targets.size());
+        result.put("missingTargets", missing);
+        result.put("dispatched", dispatched);
+        result.put("harvested", harvested.get());
+        result.put("places", places.get());
+        result.put("truncated", truncated.get());
+        result.put("failed", failed.get());
+        result.put("kakaoCalls", kakaoCalls.get());
+        this.lastRun = result;
+
+        log.info("[H-05] 수집 완료 - 대상: {}건, 수집: {}건 (장소 {}건, 45건 상한 {}건), 실패: {}건, 카카오 호출: {}건, 소요 시간: {}ms",
+                targets.size(), harvested.get(), places.get(), truncated.get(), failed.get(), kakaoCalls.get(), duration);
+        return result;
+    }
+
+    /* 경계 상자와 겹치는 격자 목록 (남서 격자부터 동쪽 → 북쪽 순) */
+    private static List<Long> cellsInBounds(double south, double north, double west, double east, int precision) {
+        List<Long> cells = new ArrayList<>();
+        long row = GeohashCodec.encode(south, west, precision);
+
+        while (GeohashCodec.southLatitude(row) <= north) {
+            long cell = row;
+            while (GeohashCodec.westLongitude(cell) <= east) {
+                cells.add(cell);
+                cell = GeohashCodec.neighbour(cell, 0, 1);
+            }
+            row = GeohashCodec.neighbour(row, 1, 0);
+        }
+        return cells;
+    }
+
+    private static final class Target {
+        private final long cell;
+        private final String category;
+
+        private Target(long cell, String category) {
+            this.cell = cell;
+            this.category = category;
+        }
+    }
+
+    /**
+     * 수집 설정 / 마지막 수집 결과 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled && amenityStoreService.isEnabled());
+        stats.put("running", running.get());
+        stats.put("refreshAgeDays", refreshAge.toDays());
+        stats.put("callBudget", callBudget);
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+}
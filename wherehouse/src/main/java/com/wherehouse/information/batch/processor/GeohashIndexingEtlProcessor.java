@@ -1,20 +1,24 @@
 package com.wherehouse.information.batch.processor;
 
-import ch.hsr.geohash.GeoHash;
+import com.wherehouse.information.batch.event.GeohashEtlCompletedEvent;
 import com.wherehouse.information.entity.Cctv;
 import com.wherehouse.information.entity.CctvGeo;
 import com.wherehouse.information.entity.PoliceOffice;
 import com.wherehouse.information.entity.PoliceOfficeGeo;
+import com.wherehouse.information.index.GeohashCodec;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -29,9 +33,10 @@ import java.util.List;
  * B-01: ETL 대상 테이블 정의
  * B-02: 목적 테이블 초기화 (TRUNCATE)
  * B-03: 데이터 추출 및 변환 (Geohash ID 계산)
- * B-04: 데이터 적재 (Batch Insert)
+ * B-04: 데이터 적재 (Batch Insert, geohash_id 순 - 같은 구간의 행이 연속된 블록에 모이도록 물리 정렬)
  * B-05: B-Tree 인덱스 생성
  * B-06: 처리 결과 로깅
+ * B-07: ETL 완료 이벤트 발행 (커밋 이후 메모리 공간 인덱스 재구축)
  *
  * 실행 주기: 매일 새벽 4시 자동 실행
  * 수동 실행: executeEtlProcess() 메서드 직접 호출 가능
@@ -45,6 +50,8 @@ public class GeohashIndexingEtlProcessor {
     @PersistenceContext
     private final EntityManager entityManager;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     // Geohash 정밀도: 7자리 (약 150m x 150m 격자)
     private static final int GEOHASH_PRECISION = 7;
 
@@ -69,10 +76,17 @@ public class GeohashIndexingEtlProcessor {
             log.info("[B-01] ETL 대상 테이블: CCTV → CCTV_GEO, POLICEOFFICE → POLICEOFFICE_GEO");
 
             // CCTV 테이블 ETL 처리
-            processCctvTable();
+            int cctvCount = processCctvTable();
 
             // POLICEOFFICE 테이블 ETL 처리
-            processPoliceOfficeTable();
+            int policeOfficeCount = processPoliceOfficeTable();
+
+            // B-07: ETL 완료 이벤트 발행 (구독자는 트랜잭션 커밋 이후 실행)
+            eventPublisher.publishEvent(GeohashEtlCompletedEvent.builder()
+                    .completedAt(LocalDateTime.now())
+                    .cctvCount(cctvCount)
+                    .policeOfficeCount(policeOfficeCount)
+                    .build());
 
             long endTime = System.currentTimeMillis();
             long duration = endTime - startTime;
@@ -97,11 +111,14 @@ public class GeohashIndexingEtlProcessor {
      * 1. CCTV_GEO 테이블 초기화 (TRUNCATE)
      * 2. CCTV 원본 데이터 조회
      * 3. Geohash ID 계산 및 변환
-     * 4. CCTV_GEO 테이블에 Batch Insert
+     * 4. geohash_id 순으로 정렬하여 CCTV_GEO 테이블에 Batch Insert
+     *    (TRUNCATE 직후 순서대로 적재하므로 geohash_id 구간 조회가 연속된 블록만 읽는다)
      * 5. B-Tree 인덱스 생성
+     *
+     * @return CCTV_GEO 적재 건수
      */
 //    @Transactional
-    public void processCctvTable() {
+    public int processCctvTable() {
         log.info("--- [CCTV] ETL 처리 시작 ---");
         long startTime = System.currentTimeMillis();
 
@@ -119,13 +136,12 @@ public class GeohashIndexingEtlProcessor {
 
             if (cctvList.isEmpty()) {
                 log.warn("원본 CCTV 테이블에 데이터가 없습니다. ETL 처리를 건너뜁니다.");
-                return;
+                return 0;
             }
 
-            // B-03 & B-04: 데이터 변환 및 적재
-            log.info("[B-03 & B-04] Geohash ID 계산 및 CCTV_GEO 테이블 적재 중...");
-            int processedCount = 0;
-            List<CctvGeo> batchList = new ArrayList<>();
+            // B-03: 데이터 변환
+            log.info("[B-03] Geohash ID 계산 중...");
+            List<CctvGeo> cctvGeoList = new ArrayList<>(cctvList.size());
 
             for (Cctv cctv : cctvList) {
                 // Geohash ID 계산 (7자리 정밀도)
@@ -141,6 +157,17 @@ public class GeohashIndexingEtlProcessor {
                         .geohashId(geohashId)
                         .build();
 
+                cctvGeoList.add(cctvGeo);
+            }
+
+            // B-04: geohash_id 순 적재
+            log.info("[B-04] geohash_id 순 CCTV_GEO 테이블 적재 중...");
+            cctvGeoList.sort(Comparator.comparing(CctvGeo::getGeohashId));
+
+            int processedCount = 0;
+            List<CctvGeo> batchList = new ArrayList<>();
+
+            for (CctvGeo cctvGeo : cctvGeoList) {
                 batchList.add(cctvGeo);
                 processedCount++;
 
@@ -165,6 +192,8 @@ public class GeohashIndexingEtlProcessor {
             long endTime = System.currentTimeMillis();
             log.info("--- [CCTV] ETL 처리 완료 (소요 시간: {}ms) ---", (endTime - startTime));
 
+            return processedCount;
+
         } catch (Exception e) {
             log.error("[CCTV] ETL 처리 중 오류 발생", e);
             throw new RuntimeException("CCTV ETL 처리 실패", e);
@@ -178,11 +207,13 @@ public class GeohashIndexingEtlProcessor {
      * 1. POLICEOFFICE_GEO 테이블 초기화 (TRUNCATE)
      * 2. POLICEOFFICE 원본 데이터 조회
      * 3. Geohash ID 계산 및 변환
-     * 4. POLICEOFFICE_GEO 테이블에 Batch Insert
+     * 4. geohash_id 순으로 정렬하여 POLICEOFFICE_GEO 테이블에 Batch Insert
      * 5. B-Tree 인덱스 생성
+     *
+     * @return POLICEOFFICE_GEO 적재 건수
      */
 //    @Transactional
-    public void processPoliceOfficeTable() {
+    public int processPoliceOfficeTable() {
         log.info("--- [POLICEOFFICE] ETL 처리 시작 ---");
         long startTime = System.currentTimeMillis();
 
@@ -201,14 +232,12 @@ public class GeohashIndexingEtlProcessor {
 
             if (policeList.isEmpty()) {
                 log.warn("원본 POLICEOFFICE 테이블에 데이터가 없습니다. ETL 처리를 건너뜁니다.");
-                return;
+                return 0;
             }
 
-            // B-03 & B-04: 데이터 변환 및 적재
-            log.info("[B-03 & B-04] Geohash ID 계산 및 POLICEOFFICE_GEO 테이블 적재 중...");
-            int processedCount = 0;
-
-            List<PoliceOfficeGeo> batchList = new ArrayList<>();
+            // B-03: 데이터 변환
+            log.info("[B-03] Geohash ID 계산 중...");
+            List<PoliceOfficeGeo> policeGeoList = new ArrayList<>(policeList.size());
 
             for (PoliceOffice police : policeList) {
                 // Geohash ID 계산 (7자리 정밀도)
@@ -222,6 +251,17 @@ public class GeohashIndexingEtlProcessor {
                         .geohashId(geohashId)
                         .build();
 
+                policeGeoList.add(policeGeo);
+            }
+
+            // B-04: geohash_id 순 적재
+            log.info("[B-04] geohash_id 순 POLICEOFFICE_GEO 테이블 적재 중...");
+            policeGeoList.sort(Comparator.comparing(PoliceOfficeGeo::getGeohashId));
+
+            int processedCount = 0;
+            List<PoliceOfficeGeo> batchList = new ArrayList<>();
+
+            for (PoliceOfficeGeo policeGeo : policeGeoList) {
                 batchList.add(policeGeo);
                 processedCount++;
 
@@ -246,6 +286,8 @@ public class GeohashIndexingEtlProcessor {
             long endTime = System.currentTimeMillis();
             log.info("--- [POLICEOFFICE] ETL 처리 완료 (소요 시간: {}ms) ---", (endTime - startTime));
 
+            return processedCount;
+
         } catch (Exception e) {
             log.error("[POLICEOFFICE] ETL 처리 중 오류 발생", e);
             throw new RuntimeException("POLICEOFFICE ETL 처리 실패", e);
@@ -260,8 +302,7 @@ public class GeohashIndexingEtlProcessor {
      * @return 7자리 정밀도 Geohash ID (예: "wydm7p1")
      */
     private String calculateGeohash(double latitude, double longitude) {
-        GeoHash geoHash = GeoHash.withCharacterPrecision(latitude, longitude, GEOHASH_PRECISION);
-        return geoHash.toBase32();
+        return GeohashCodec.toBase32(GeohashCodec.encode(latitude, longitude, GEOHASH_PRECISION));
     }
 
     /**
@@ -0,0 +1,216 @@
+package com.wherehouse.information.batch.processor;
+
+import com.wherehouse.information.batch.event.GeohashEtlCompletedEvent;
+import com.wherehouse.information.service.ILocationAnalysisService;
+import com.wherehouse.redis.service.CellPopularityService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ETL 이후 인기 격자 1단계 캐시 예열
+ *
+ * 목적:
+ * - 새벽 4시 GeohashIndexingEtlProcessor 실행 이후 격자 캐시가 모두 이전 데이터 기준이거나 비어 있어,
+ *   아침 첫 사용자들이 전체 파이프라인(DB 조회 + 카카오 API) 비용을 부담한다.
+ * - 최근 많이 조회된 중심 격자부터 미리 계산해 두어 아침 응답 시간을 오후 수준으로 맞춘다.
+ *
+ * 처리 흐름 (ETL 완료 이벤트 수신, 커밋 이후):
+ * W-01: 노드 간 일일 잠금 획득 (당일 1개 노드만 예열 / 감쇠 수행)
+ * W-02: CellPopularityService 감쇠 조회 수 상위 top-n 중심 격자 조회
+ * W-03: 인기도 감쇠 (상위 격자 선정 이후 1회)
+ * W-04: 격자별 ILocationAnalysisService.warmUpCell 실행
+ *       - 동시 실행 parallelism 건 이하, 격자 시작 간격 1 / cells-per-second 초 이상 (카카오 API 쿼터 보호)
+ *       - 연속 실패가 max-consecutive-failures 에 도달하면 중단 (쿼터 소진 / 외부 장애 시 호출 낭비 방지)
+ * W-05: 처리 결과 로깅
+ *
+ * 예열은 전용 스레드에서 수행하므로 ETL 스레드와 다른 이벤트 구독자(공간 인덱스 재구축)를 막지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class Level1CacheWarmupProcessor {
+
+    private static final Duration DAILY_LOCK_TTL = Duration.ofHours(20);
+
+    private final ILocationAnalysisService locationAnalysisService;
+    private final CellPopularityService cellPopularityService;
+
+    @Value("${cell-popularity.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cell-popularity.warmup.top-n:200}")
+    private int topN;
+
+    @Value("${cell-popularity.warmup.parallelism:2}")
+    private int parallelism;
+
+    @Value("${cell-popularity.warmup.cells-per-second:2}")
+    private double cellsPerSecond;
+
+    @Value("${cell-popularity.warmup.max-consecutive-failures:5}")
+    private int maxConsecutiveFailures;
+
+    // 예열 진행 스레드 (1건) / 격자 계산 스레드 (parallelism 건)
+    private ExecutorService dispatcher;
+    private ExecutorService workers;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 마지막 예열 결과
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    @PostConstruct
+    public void initExecutors() {
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "level1-warmup-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("level1-warmup-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdownExecutors() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void handleGeohashEtlCompletedEvent(GeohashEtlCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        // W-01: 노드 간 일일 잠금
+        String lockName = "warmup:" + event.getCompletedAt().format(DateTimeFormatter.BASIC_ISO_DATE);
+        if (!cellPopularityService.tryAcquireDailyLock(lockName, DAILY_LOCK_TTL)) {
+            log.info("[W-01] 다른 노드가 오늘 예열을 수행 중이거나 완료 - 생략");
+            return;
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            log.info("[W-01] 이전 예열 진행 중 - 생략");
+            return;
+        }
+
+        dispatcher.execute(() -> {
+            try {
+                warmUp();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void warmUp() {
+        long startTime = System.currentTimeMillis();
+
+        // W-02: 상위 격자 선정 → W-03: 감쇠
+        List<String> cells = cellPopularityService.topCells(topN);
+        cellPopularityService.decay();
+
+        log.info("[W-02] 예열 대상 격자: {}개 (상위 {}개 기준), 동시 실행: {}, 초당: {}개",
+                cells.size(), topN, parallelism, cellsPerSecond);
+
+        // W-04: 격자별 예열
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger warmed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger consecutiveFailures = new AtomicInteger();
+        long intervalMillis = cellsPerSecond > 0 ? (long) (1000 / cellsPerSecond) : 0;
+        int dispatched = 0;
+
+        try {
+            for (String cell : cells) {
+                if (consecutiveFailures.get() >= maxConsecutiveFailures) {
+                    log.warn("[W-04] 연속 실패 {}회 - 예열 중단 (남은 격자: {}개)",
+                            consecutiveFailures.get(), cells.size() - dispatched);
+                    break;
+                }
+
+                permits.acquire();
+                workers.execute(() -> {
+                    try {
+                        if (locationAnalysisService.warmUpCell(cell)) {
+                            warmed.incrementAndGet();
+                        } else {
+                            skipped.incrementAndGet();
+                        }
+                        consecutiveFailures.set(0);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        consecutiveFailures.incrementAndGet();
+                        log.warn("[W-04] 격자 예열 실패 - 격자: {}, 원인: {}", cell, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+                dispatched++;
+
+                Thread.sleep(intervalMillis);
+            }
+
+            // 진행 중인 격자 완료 대기
+            permits.acquire(parallelism);
+            permits.release(parallelism);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[W-04] 예열 중단 (인터럽트)");
+        }
+
+        // W-05: 처리 결과 로깅
+        long duration = System.currentTimeMillis() - startTime;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAtEpochMillis", startTime);
+        result.put("durationMillis", duration);
+        result.put("candidates", cells.size());
+        result.put("dispatched", dispatched);
+        result.put("warmed", warmed.get());
+        result.put("skipped", skipped.get());
+        result.put("failed", failed.get());
+        this.lastRun = result;
+
+        log.info("[W-05] 예열 완료 - 대상: {}개, 예열: {}개, 생략: {}개, 실패: {}개, 소요 시간: {}ms",
+                cells.size(), warmed.get(), skipped.get(), failed.get(), duration);
+    }
+
+    /**
+     * 인기도 집계 / 마지막 예열 결과 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("running", running.get());
+        stats.put("popularity", cellPopularityService.getStats());
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+}
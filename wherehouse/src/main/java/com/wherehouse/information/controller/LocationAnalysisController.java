@@ -1,18 +1,32 @@
 package com.wherehouse.information.controller;
 
+import com.wherehouse.information.batch.processor.AmenityStoreHarvester;
+import com.wherehouse.information.batch.processor.Level1CacheWarmupProcessor;
+import com.wherehouse.information.index.DistrictIndex;
+import com.wherehouse.information.index.SafetyTileGrid;
+import com.wherehouse.information.model.LocationAnalysisBatchRequestDTO;
 import com.wherehouse.information.model.LocationAnalysisRequestDTO;
 
 import com.wherehouse.information.model.LocationAnalysisResponseDTO;
 import com.wherehouse.information.model.PoliceOfficeResponseDTO;
+import com.wherehouse.information.model.SafetyTileDto;
 import com.wherehouse.information.service.ILocationAnalysisService;
+import com.wherehouse.information.util.AmenityCellService;
+import com.wherehouse.information.util.KakaoApiGateway;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -21,6 +35,16 @@ import java.util.List;
 public class LocationAnalysisController {
 
 	private final ILocationAnalysisService locationAnalysisService;
+	private final AmenityCellService amenityCellService;
+	private final KakaoApiGateway kakaoApiGateway;
+	private final SafetyTileGrid safetyTileGrid;
+	private final Level1CacheWarmupProcessor level1CacheWarmupProcessor;
+	private final AmenityStoreHarvester amenityStoreHarvester;
+	private final DistrictIndex districtIndex;
+
+	// 스트리밍 응답 최대 유지 시간 (단계별 타임아웃 합계보다 길어야 result 이벤트가 잘리지 않음)
+	@Value("${location-analysis.stream.emitter-timeout:30s}")
+	private Duration streamEmitterTimeout;
 
 	@PostMapping("/location-analysis")
 	public ResponseEntity<LocationAnalysisResponseDTO> getLocationAnalysis(
@@ -36,6 +60,59 @@ public class LocationAnalysisController {
 		return ResponseEntity.ok(response);
 	}
 
+	/*
+	 * 다수 좌표 일괄 위치 분석 (매물 목록 / 추천 결과 화면용)
+	 * 응답 목록의 순서는 요청 좌표 순서와 같고, 분석에 실패한 좌표는 analysis_status = "FAILED" 로 반환된다.
+	 */
+	@PostMapping("/location-analysis/batch")
+	public ResponseEntity<List<LocationAnalysisResponseDTO>> getLocationAnalysisBatch(
+			@Valid @RequestBody LocationAnalysisBatchRequestDTO request) {
+
+		log.info("=== 일괄 위치 분석 요청 시작 (POST /api/location-analysis/batch) - 좌표: {}개 ===",
+				request.getLocations().size());
+
+		List<LocationAnalysisResponseDTO> responses = locationAnalysisService.analyzeLocations(request.getLocations());
+
+		log.info("일괄 위치 분석 요청 처리 완료 - 응답: {}개", responses.size());
+
+		return ResponseEntity.ok(responses);
+	}
+
+	/*
+	 * 위치 분석 스트리밍 (Server-Sent Events)
+	 * 단계가 끝날 때마다 grid → cctv → safety / address / amenity(카테고리별) → result 이벤트를 전달한다.
+	 * EventSource 는 GET 만 지원하므로 요청 값은 쿼리 파라미터(latitude, longitude, radius)로 받는다.
+	 */
+	@GetMapping(value = "/location-analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamLocationAnalysis(@Valid @ModelAttribute LocationAnalysisRequestDTO request) {
+
+		log.info("=== 위치 분석 스트리밍 요청 시작 (GET /api/location-analysis/stream) ===");
+		log.info("Request DTO: {}", request);
+
+		SseEmitter emitter = new SseEmitter(streamEmitterTimeout.toMillis());
+
+		locationAnalysisService.analyzeLocationProgressively(request,
+				(event, payload) -> emitter.send(SseEmitter.event().name(event).data(payload, MediaType.APPLICATION_JSON)))
+				.whenComplete((ignored, ex) -> {
+					if (ex == null) {
+						emitter.complete();
+						return;
+					}
+
+					log.warn("위치 분석 스트리밍 시작 실패: {}", ex.getMessage());
+					try {
+						emitter.send(SseEmitter.event().name("error")
+								.data(Map.of("message", "요청이 많아 분석을 시작하지 못했습니다. 잠시 후 다시 시도해주세요."),
+										MediaType.APPLICATION_JSON));
+					} catch (IOException | IllegalStateException sendFailure) {
+						log.debug("error 이벤트 전달 실패: {}", sendFailure.getMessage());
+					}
+					emitter.complete();
+				});
+
+		return emitter;
+	}
+
 	/* 처음 상세지포 페이지 로드 시 모든 파출소 좌표 정보 가져오기. */
 	@GetMapping("/police-offices")
 	public ResponseEntity<List<PoliceOfficeResponseDTO>> getAllPoliceOffices() {
@@ -52,6 +129,76 @@ public class LocationAnalysisController {
 		}
 	}
 
+	/* 1단계 캐시 stale-while-revalidate 통계 조회 */
+	@GetMapping("/location-analysis/level1-stats")
+	public ResponseEntity<Map<String, Object>> getLevel1RefreshStats() {
+		return ResponseEntity.ok(locationAnalysisService.getLevel1RefreshStats());
+	}
+
+	/* 격자 단위 편의시설 캐시 히트/미스(= 카카오 호출) 통계 */
+	@GetMapping("/location-analysis/amenity-cell-stats")
+	public ResponseEntity<Map<String, Object>> getAmenityCellStats() {
+		return ResponseEntity.ok(amenityCellService.getStats());
+	}
+
+	/* 카카오 API 게이트웨이 동시성 제한 / 대기열 / 거절 / 서킷 브레이커 통계 */
+	@GetMapping("/location-analysis/kakao-gateway-stats")
+	public ResponseEntity<Map<String, Object>> getKakaoGatewayStats() {
+		return ResponseEntity.ok(kakaoApiGateway.getStats());
+	}
+
+	/* 오프라인 편의시설 저장소 수집기 설정 / 마지막 수집 결과 */
+	@GetMapping("/location-analysis/amenity-store-stats")
+	public ResponseEntity<Map<String, Object>> getAmenityStoreStats() {
+		return ResponseEntity.ok(amenityStoreHarvester.getStats());
+	}
+
+	/* 자치구 경계 인덱스 적재 상태 (구 / 꼭짓점 / 격자 칸 수) */
+	@GetMapping("/location-analysis/district-index-stats")
+	public ResponseEntity<Map<String, Object>> getDistrictIndexStats() {
+		return ResponseEntity.ok(districtIndex.getStats());
+	}
+
+	/*
+	 * 안전 점수 타일 (지도 히트맵용)
+	 * 경계 상자와 겹치는 7자리 Geohash 셀의 사전 계산 점수를 행 우선 바이트 배열(Base64)로 반환한다.
+	 * 격자 계산 전이면 503 을 반환한다.
+	 */
+	@GetMapping("/safety-tiles")
+	public ResponseEntity<SafetyTileDto> getSafetyTile(
+			@RequestParam double south, @RequestParam double west,
+			@RequestParam double north, @RequestParam double east) {
+
+		if (!safetyTileGrid.isReady()) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+		}
+		return ResponseEntity.ok(safetyTileGrid.tile(south, west, north, east));
+	}
+
+	/* 좌표가 속한 셀의 사전 계산 안전 점수 (격자 밖 / 계산 전이면 404) */
+	@GetMapping("/safety-tiles/score")
+	public ResponseEntity<Map<String, Object>> getSafetyTileScore(
+			@RequestParam double latitude, @RequestParam double longitude) {
+
+		int score = safetyTileGrid.scoreAt(latitude, longitude);
+		if (score == SafetyTileGrid.NO_DATA) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.ok(Map.of("latitude", latitude, "longitude", longitude, "score", score));
+	}
+
+	/* 안전 점수 격자 통계 */
+	@GetMapping("/safety-tiles/stats")
+	public ResponseEntity<Map<String, Object>> getSafetyTileStats() {
+		return ResponseEntity.ok(safetyTileGrid.getStats());
+	}
+
+	/* 중심 격자 인기도 집계 / ETL 이후 1단계 캐시 예열 결과 */
+	@GetMapping("/location-analysis/warmup-stats")
+	public ResponseEntity<Map<String, Object>> getWarmupStats() {
+		return ResponseEntity.ok(level1CacheWarmupProcessor.getStats());
+	}
+
 	@GetMapping("/health")
 	public ResponseEntity<String> health() {
 		return ResponseEntity.ok("OK");
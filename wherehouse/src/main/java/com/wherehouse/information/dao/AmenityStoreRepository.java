@@ -0,0 +1,50 @@
+package com.wherehouse.information.dao;
+
+import com.wherehouse.information.entity.AmenityStoreCell;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AmenityStoreCell(AMENITY_STORE) 테이블 접근을 위한 JPA Repository
+ *
+ * 주요 기능:
+ * - 격자 x 카테고리 키 일괄 조회 (PK IN 절)
+ * - 수집기 재개 / 갱신 대상 산출 (수집 시각 기준 키 목록, PLACES 컬럼은 읽지 않음)
+ *
+ * 사용 위치:
+ * - AmenityStoreService: 위치 분석 편의시설 조회, 수집 결과 저장
+ * - AmenityStoreHarvester: 수집 대상 선정
+ */
+@Repository
+public interface AmenityStoreRepository extends JpaRepository<AmenityStoreCell, String> {
+
+    /**
+     * 격자 x 카테고리 키 목록 일괄 조회
+     *
+     * 쿼리 실행 예시:
+     * SELECT * FROM AMENITY_STORE
+     * WHERE CELL_KEY IN ('wydm7p:SW8', 'wydm7p:CS2', ...)
+     *
+     * 인덱스 활용:
+     * - PK 인덱스 Unique Scan (키 수만큼)
+     */
+    @Query("SELECT a FROM AmenityStoreCell a WHERE a.cellKey IN :cellKeys")
+    List<AmenityStoreCell> findByCellKeyIn(@Param("cellKeys") List<String> cellKeys);
+
+    /**
+     * cutoff 이후에 수집된(갱신 불필요) 키 목록
+     */
+    @Query("SELECT a.cellKey FROM AmenityStoreCell a WHERE a.harvestedAt >= :cutoff")
+    List<String> findFreshCellKeys(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * cutoff 이전에 수집된(갱신 대상) 키 목록, 오래된 순
+     */
+    @Query("SELECT a.cellKey FROM AmenityStoreCell a WHERE a.harvestedAt < :cutoff ORDER BY a.harvestedAt")
+    List<String> findStaleCellKeys(@Param("cutoff") LocalDateTime cutoff);
+}
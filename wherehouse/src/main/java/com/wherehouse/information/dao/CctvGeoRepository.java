@@ -15,6 +15,7 @@ import java.util.List;
  * 주요 기능:
  * - Geohash ID 기반 9-Block 그리드 검색
  * - B-Tree 인덱스를 활용한 빠른 조회
+ * - Geohash ID 구간(BETWEEN) 목록 범위 스캔 (정밀도 혼합 격자 커버, 일괄 분석 - CctvGeoRepositoryCustom)
  *
  * 사용 위치:
  * - LocationAnalysisServiceImpl: 반경 내 CCTV 조회
@@ -24,7 +25,7 @@ import java.util.List;
  * - 9개 격자 범위를 한 번의 쿼리로 조회
  */
 @Repository
-public interface CctvGeoRepository extends JpaRepository<CctvGeo, Long> {
+public interface CctvGeoRepository extends JpaRepository<CctvGeo, Long>, CctvGeoRepositoryCustom {
 
     /**
      * 9-Block 그리드 범위 내 모든 CCTV 조회
@@ -47,4 +48,4 @@ public interface CctvGeoRepository extends JpaRepository<CctvGeo, Long> {
      */
     @Query("SELECT c FROM CctvGeo c WHERE c.geohashId IN :geohashIds")
     List<CctvGeo> findByGeohashIdIn(@Param("geohashIds") List<String> geohashIds);
-}
\ No newline at end of file
+}
\ No newline at end of file
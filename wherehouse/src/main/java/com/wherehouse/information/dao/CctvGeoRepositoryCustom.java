@@ -0,0 +1,34 @@
+package com.wherehouse.information.dao;
+
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.index.GeohashKeyRanges;
+
+import java.util.List;
+
+/**
+ * CctvGeoRepository 사용자 정의 조회 (개수가 가변인 geohash_id 구간 조건은 @Query 로 표현할 수 없어 직접 구현)
+ *
+ * 구현: CctvGeoRepositoryImpl (Spring Data 가 "Impl" 접미사로 찾아 CctvGeoRepository 에 합친다)
+ */
+public interface CctvGeoRepositoryCustom {
+
+    /**
+     * geohash_id 구간 목록 안의 모든 CCTV 조회 (구간 RANGES_PER_STATEMENT 개까지 쿼리 1회)
+     *
+     * @param ranges GeohashKeyRanges.merge 결과 (서로 겹치지 않는 닫힌 구간)
+     * @return geohash_id 가 어느 한 구간 [lower, upper] 에 드는 CCTV 목록 (중복 없음)
+     *
+     * 쿼리 실행 예시 (구간 2개):
+     * SELECT * FROM CCTV_GEO
+     * WHERE GEOHASH_ID BETWEEN 'wydm7p0' AND 'wydm7pz'
+     *    OR GEOHASH_ID BETWEEN 'wydm7r0' AND 'wydm7r3'
+     *
+     * 인덱스 활용:
+     * - IDX_CCTV_GEO_GEOHASH 구간별 Index Range Scan (OR 확장 / INLIST 반복), 왕복은 1회
+     * - ETL 이 geohash_id 순으로 적재하므로 구간 안의 행은 연속된 블록에 모여 있다. (rowid 접근이 흩어지지 않음)
+     *
+     * 주의사항:
+     * - 병합된 구간에는 요청하지 않은 틈 격자가 섞일 수 있으므로 애플리케이션 레이어에서 요청 격자별로 다시 분류해야 한다.
+     */
+    List<CctvGeo> findByGeohashIdRanges(List<GeohashKeyRanges.Range> ranges);
+}
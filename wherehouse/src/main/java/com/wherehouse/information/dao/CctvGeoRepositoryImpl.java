@@ -0,0 +1,60 @@
+package com.wherehouse.information.dao;
+
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.index.GeohashKeyRanges;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CctvGeoRepositoryCustom 구현 - geohash_id 구간 목록을 OR 로 묶은 BETWEEN 조건 쿼리 1회로 조회
+ *
+ * 문장 형태 고정:
+ * - 구간 수가 요청마다 달라 그대로 만들면 구간 수마다 다른 SQL 문장이 되어 하드 파싱 / 문장 캐시가 늘어난다.
+ * - 구간 수를 2의 거듭제곱(1, 2, 4, ... RANGES_PER_STATEMENT)으로 올리고 남는 자리는 마지막 구간을 반복한다.
+ *   (같은 구간을 OR 로 반복해도 결과 행은 늘지 않음) → 문장 형태는 최대 7가지
+ * - RANGES_PER_STATEMENT 개를 넘으면 그 단위로 나누어 조회한다. (구간이 서로 겹치지 않으므로 결과 중복 없음)
+ */
+public class CctvGeoRepositoryImpl implements CctvGeoRepositoryCustom {
+
+    static final int RANGES_PER_STATEMENT = 64;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CctvGeo> findByGeohashIdRanges(List<GeohashKeyRanges.Range> ranges) {
+        List<CctvGeo> result = new ArrayList<>();
+        for (int from = 0; from < ranges.size(); from += RANGES_PER_STATEMENT) {
+            List<GeohashKeyRanges.Range> chunk = ranges.subList(from, Math.min(from + RANGES_PER_STATEMENT, ranges.size()));
+            result.addAll(query(chunk));
+        }
+        return result;
+    }
+
+    private List<CctvGeo> query(List<GeohashKeyRanges.Range> chunk) {
+        int slots = Integer.highestOneBit(chunk.size());
+        if (slots < chunk.size()) {
+            slots <<= 1;
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT c FROM CctvGeo c WHERE ");
+        for (int i = 0; i < slots; i++) {
+            if (i > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("c.geohashId BETWEEN :lower").append(i).append(" AND :upper").append(i);
+        }
+
+        TypedQuery<CctvGeo> query = entityManager.createQuery(jpql.toString(), CctvGeo.class);
+        for (int i = 0; i < slots; i++) {
+            GeohashKeyRanges.Range range = chunk.get(Math.min(i, chunk.size() - 1));
+            query.setParameter("lower" + i, range.getLower());
+            query.setParameter("upper" + i, range.getUpper());
+        }
+        return query.getResultList();
+    }
+}
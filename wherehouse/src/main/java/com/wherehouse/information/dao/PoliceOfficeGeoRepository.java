@@ -49,6 +49,7 @@ public interface PoliceOfficeGeoRepository extends JpaRepository<PoliceOfficeGeo
     List<PoliceOfficeGeo> findByGeohashIdIn(@Param("geohashIds") List<String> geohashIds);
 
     // Oracle용 - RADIANS 함수 없이 직접 계산 (π/180)
+    // 전체 행 ACOS 계산 + 정렬이므로 요청 경로에서는 PoliceOfficeSpatialIndex 미적재 시의 fallback 으로만 사용
     @Query(value = "SELECT * FROM ( " +
             "SELECT p.*, " +
             "(6371000 * ACOS(COS(:latitude * 3.14159265359 / 180) * COS(p.LATITUDE * 3.14159265359 / 180) * " +
@@ -69,4 +70,4 @@ public interface PoliceOfficeGeoRepository extends JpaRepository<PoliceOfficeGeo
      */
     @Query("SELECT p FROM PoliceOfficeGeo p WHERE p.address LIKE '서울%'")
     List<PoliceOfficeGeo> findAllBySeoul();
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.wherehouse.information.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AMENITY_STORE 오프라인 편의시설 저장소 엔티티 (격자 x 카테고리 1행)
+ *
+ * 역할: 위치 분석 편의시설 조회의 카카오 API 대체 저장소
+ * 생성: 배치 프로세스(AmenityStoreHarvester)가 서울 전역 격자를 카카오 카테고리 검색으로 수집하여 저장 / 갱신
+ * 용도: AmenityCellService 가 격자 캐시(Redis) 미스 시 카카오 호출 전에 조회
+ *
+ * 테이블 구조:
+ * - CELL_KEY: "{geohash}:{카테고리 코드}" (PK, 격자 캐시 키 "amenity:{geohash}:{카테고리}" 와 같은 격자 단위)
+ * - GEOHASH_ID: 격자 geohash (amenity-cache.cell-precision 자리)
+ * - CATEGORY_CODE: 카카오 카테고리 그룹 코드 (SW8, CS2 ...)
+ * - PLACES: 격자 경계로 자른 장소 열 배열(AmenityCellPlaces)을 VersionedCacheCodec 으로 인코딩한 값
+ *           (Redis 격자 캐시 값과 같은 형식이므로 조회 결과를 그대로 Redis 에 되채울 수 있음)
+ * - PLACE_COUNT: 격자 안 장소 수
+ * - HARVESTED_AT: 마지막 수집 시각 (수집기는 오래된 행부터 갱신)
+ *
+ * 격자 정밀도(amenity-cache.cell-precision)를 바꾸면 기존 행은 조회되지 않으며, 수집기가 새 정밀도 격자로 다시 채운다.
+ *
+ * 테이블 생성 (ddl-auto: none): docs/14. 기타/로컬_개인서버_마이그레이션진행내역/create_wherehouse_tables.sql
+ * - 17. AMENITY_STORE (PK CELL_KEY, 인덱스 GEOHASH_ID / HARVESTED_AT)
+ * - 테이블이 없으면 amenity-store.enabled / amenity-store.harvest.enabled 를 false 로 둔다.
+ */
+@Entity
+@Table(name = "AMENITY_STORE")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmenityStoreCell {
+
+    @Id
+    @Column(name = "CELL_KEY", length = 32, nullable = false)
+    private String cellKey;  // "{geohash}:{카테고리 코드}" (PK)
+
+    @Column(name = "GEOHASH_ID", length = 12, nullable = false)
+    private String geohashId;  // 격자 geohash
+
+    @Column(name = "CATEGORY_CODE", length = 3, nullable = false)
+    private String categoryCode;  // 카카오 카테고리 그룹 코드
+
+    @Lob
+    @Column(name = "PLACES", nullable = false)
+    private byte[] places;  // 인코딩된 AmenityCellPlaces
+
+    @Column(name = "PLACE_COUNT", nullable = false)
+    private Integer placeCount;  // 격자 안 장소 수
+
+    @Column(name = "HARVESTED_AT", nullable = false)
+    private LocalDateTime harvestedAt;  // 마지막 수집 시각
+}
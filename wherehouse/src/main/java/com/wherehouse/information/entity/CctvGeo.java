@@ -24,6 +24,7 @@ import lombok.NoArgsConstructor;
  * 성능 최적화:
  * - geohash_id 컬럼에 B-Tree 인덱스 적용
  * - WHERE geohash_id IN (...) 쿼리로 빠른 조회
+ * - ETL 이 geohash_id 순으로 적재 → WHERE geohash_id BETWEEN ... 구간 조회가 연속된 블록만 읽음
  * - 9-Block 그리드 검색 전략 사용
  *
  * 배치 처리 주기:
@@ -0,0 +1,335 @@
+package com.wherehouse.information.index;
+
+import com.wherehouse.information.batch.event.GeohashEtlCompletedEvent;
+import com.wherehouse.information.dao.CctvGeoRepository;
+import com.wherehouse.information.entity.CctvGeo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CCTV_GEO 메모리 상주 공간 인덱스
+ *
+ * 목적:
+ * - 서울 전체 CCTV_GEO(수만 건)를 기본형 배열에 적재하여 반경 조회를 DB/Redis 왕복 없이 처리
+ * - R-02(2단계 CCTV 캐시 조회), R-03(CCTV DB 조회)을 위치 분석 요청 경로에서 제거
+ *
+ * 구조 (불변 스냅샷):
+ * - 모든 지점을 7자리 Geohash 셀 키(35bit long) 순으로 정렬하여 double[] 위도 / double[] 경도 / int[] 카메라 대수 등
+ *   열(column) 단위 배열에 저장
+ * - 셀 오프셋 테이블: 정렬된 셀 키(long[]) + 셀 시작 위치(int[]). 셀 i 의 지점은 [cellStart[i], cellStart[i+1]) 구간
+ * - 셀 키는 Geohash 와 동일한 비트 교차(경도 비트부터) 방식으로 계산하므로 정렬 순서가 Geohash 문자열 순서와 같다.
+ *
+ * 반경 조회:
+ * - 반경을 포함하는 위/경도 사각형(bounding box)에 걸친 셀만 이진 탐색으로 찾아 해당 구간만 순회
+ * - RadiusFilter 로 판정: 사각형 밖 지점 제외 → 등장방형 근사 비교 → 반경 경계 부근만 Haversine 확정
+ * - 방문 대상(반경 안) 지점만 보고용 Haversine 거리(GeohashService 와 동일 공식) 계산
+ * - 방문자(CctvVisitor) 콜백으로 결과를 전달하므로 조회 자체는 객체를 할당하지 않는다.
+ *
+ * 관리 번호 조회:
+ * - 관리 번호 정렬 배열(long[]) + 위치(int[]) 로 주소를 이진 탐색한다. (1단계 캐시 상위집합은 주소 없이 보관되므로 응답 생성 시 복원)
+ *
+ * 갱신:
+ * - 애플리케이션 기동 완료 시 1회 적재
+ * - GeohashIndexingEtlProcessor 완료 이벤트(커밋 이후) 수신 시 새 스냅샷을 만든 뒤 참조를 원자적으로 교체
+ *   (조회 중인 요청은 이전 스냅샷을 끝까지 사용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CctvSpatialIndex {
+
+    /* 7자리 Geohash = 35bit (경도 18bit, 위도 17bit) */
+    private static final int CELL_PRECISION = 7;
+
+    /* 정렬용 합성 키: (셀 키 << 28) | 원본 위치. 35bit + 28bit = 63bit */
+    private static final int POSITION_BITS = 28;
+
+    private final CctvGeoRepository cctvGeoRepository;
+
+    @Value("${cctv-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 반경 조회 결과 방문자 (조회 1건당 호출, 할당 없이 값 전달)
+     */
+    @FunctionalInterface
+    public interface CctvVisitor {
+        void visit(long numbers, String address, double latitude, double longitude, int cameraCount, double distanceMeters);
+    }
+
+    // ========================================
+    // 적재 / 재구축
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)   // SafetyTileGrid 보다 먼저 재구축
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)   // SafetyTileGrid 보다 먼저 재구축
+    public void handleGeohashEtlCompletedEvent(GeohashEtlCompletedEvent event) {
+        log.info("[CctvSpatialIndex] ETL 완료 이벤트 수신 - CCTV_GEO {}건, 인덱스 재구축", event.getCctvCount());
+        rebuild();
+    }
+
+    /**
+     * CCTV_GEO 전체를 읽어 새 스냅샷을 만들고 현재 스냅샷을 교체한다.
+     * 실패 시 기존 스냅샷을 유지한다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            log.info("[CctvSpatialIndex] 비활성화 상태 - 적재 생략 (기존 Redis/DB 경로 사용)");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            List<CctvGeo> rows = cctvGeoRepository.findAll();
+            Snapshot rebuilt = Snapshot.build(rows);
+            this.snapshot = rebuilt;
+
+            log.info("[CctvSpatialIndex] 인덱스 구축 완료 - 지점: {}건, 셀: {}개, 소요 시간: {}ms",
+                    rebuilt.size, rebuilt.cellKeys.length, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("[CctvSpatialIndex] 인덱스 구축 실패 - 기존 스냅샷 유지 (지점: {}건)", snapshot.size, e);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 인덱스 사용 가능 여부 (활성화 + 1건 이상 적재)
+     */
+    public boolean isReady() {
+        return enabled && snapshot.size > 0;
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * (latitude, longitude) 로부터 radiusMeters 이내의 모든 CCTV 를 방문한다. (객체 할당 없음)
+     *
+     * @return 방문한 CCTV 개수
+     */
+    public int forEachWithinRadius(double latitude, double longitude, double radiusMeters, CctvVisitor visitor) {
+        Snapshot current = this.snapshot;   // 조회 도중 교체되어도 같은 스냅샷을 끝까지 사용
+        if (current.size == 0) {
+            return 0;
+        }
+
+        RadiusFilter filter = RadiusFilter.of(latitude, longitude, radiusMeters);
+
+        int minLatIdx = latitudeIndex(filter.getMinLatitude());
+        int maxLatIdx = latitudeIndex(filter.getMaxLatitude());
+        int minLonIdx = longitudeIndex(filter.getMinLongitude());
+        int maxLonIdx = longitudeIndex(filter.getMaxLongitude());
+
+        double[] lats = current.latitudes;
+        double[] lons = current.longitudes;
+        int[] cellStart = current.cellStart;
+        int visited = 0;
+
+        for (int latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+            for (int lonIdx = minLonIdx; lonIdx <= maxLonIdx; lonIdx++) {
+
+                int cell = Arrays.binarySearch(current.cellKeys, cellKey(latIdx, lonIdx));
+                if (cell < 0) {
+                    continue;
+                }
+
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    double pointLat = lats[i];
+                    double pointLon = lons[i];
+
+                    // 판정은 삼각함수 없이, 보고용 거리만 Haversine
+                    if (filter.contains(pointLat, pointLon)) {
+                        visitor.visit(current.numbers[i], current.addresses[i],
+                                pointLat, pointLon, current.cameraCounts[i], filter.distance(pointLat, pointLon));
+                        visited++;
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * 반경 내 CCTV 를 CctvGeo 목록으로 반환한다. (응답 DTO 생성용, 결과 건수만큼 객체 생성)
+     */
+    public List<CctvGeo> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        List<CctvGeo> result = new ArrayList<>();
+
+        forEachWithinRadius(latitude, longitude, radiusMeters,
+                (numbers, address, pointLat, pointLon, cameraCount, distance) -> result.add(CctvGeo.builder()
+                        .numbers(numbers)
+                        .address(address)
+                        .latitude(pointLat)
+                        .longitude(pointLon)
+                        .cameraCount(cameraCount)
+                        .build()));
+
+        return result;
+    }
+
+    /**
+     * 관리 번호로 CCTV 주소를 찾는다. (1단계 캐시 상위집합에서 요청 반경으로 남은 CCTV 의 주소 복원용)
+     *
+     * @return 주소 (적재되지 않은 관리 번호이거나 주소가 없으면 null)
+     */
+    public String findAddress(long numbers) {
+        Snapshot current = this.snapshot;
+        int found = Arrays.binarySearch(current.sortedNumbers, numbers);
+        return found >= 0 ? current.addresses[current.numberPositions[found]] : null;
+    }
+
+    // ========================================
+    // 셀 키 계산 (Geohash 7자리와 동일한 비트 교차)
+    // ========================================
+
+    static int latitudeIndex(double latitude) {
+        return GeohashCodec.latitudeIndex(latitude, CELL_PRECISION);
+    }
+
+    static int longitudeIndex(double longitude) {
+        return GeohashCodec.longitudeIndex(longitude, CELL_PRECISION);
+    }
+
+    /**
+     * 경도 비트부터 위도 비트와 번갈아 교차한 35bit 셀 키 (Geohash 비트열과 동일)
+     */
+    static long cellKey(int latIdx, int lonIdx) {
+        return GeohashCodec.bits(GeohashCodec.fromIndex(latIdx, lonIdx, CELL_PRECISION));
+    }
+
+    // ========================================
+    // 불변 스냅샷
+    // ========================================
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0, new double[0], new double[0], new int[0],
+                new long[0], new String[0], new long[0], new int[] {0}, new long[0], new int[0]);
+
+        private final int size;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final int[] cameraCounts;
+        private final long[] numbers;
+        private final String[] addresses;
+
+        /* 셀 오프셋 테이블: cellKeys[i] 셀의 지점은 [cellStart[i], cellStart[i + 1]) */
+        private final long[] cellKeys;
+        private final int[] cellStart;
+
+        /* 관리 번호 조회표: sortedNumbers[i] 지점의 위치는 numberPositions[i] */
+        private final long[] sortedNumbers;
+        private final int[] numberPositions;
+
+        private Snapshot(int size, double[] latitudes, double[] longitudes, int[] cameraCounts,
+                         long[] numbers, String[] addresses, long[] cellKeys, int[] cellStart,
+                         long[] sortedNumbers, int[] numberPositions) {
+            this.size = size;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.cameraCounts = cameraCounts;
+            this.numbers = numbers;
+            this.addresses = addresses;
+            this.cellKeys = cellKeys;
+            this.cellStart = cellStart;
+            this.sortedNumbers = sortedNumbers;
+            this.numberPositions = numberPositions;
+        }
+
+        private static Snapshot build(List<CctvGeo> rows) {
+            List<CctvGeo> valid = new ArrayList<>(rows.size());
+            for (CctvGeo row : rows) {
+                if (row.getLatitude() != null && row.getLongitude() != null) {
+                    valid.add(row);
+                }
+            }
+
+            int size = valid.size();
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            // 1. (셀 키, 원본 위치) 합성 키 정렬 → 셀 키 순서로 지점 배치
+            long[] sortKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                CctvGeo row = valid.get(i);
+                long key = cellKey(latitudeIndex(row.getLatitude()), longitudeIndex(row.getLongitude()));
+                sortKeys[i] = (key << POSITION_BITS) | i;
+            }
+            Arrays.sort(sortKeys);
+
+            // 2. 열 단위 배열 채우기 + 셀 오프셋 테이블 구성
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            int[] cameraCounts = new int[size];
+            long[] numbers = new long[size];
+            String[] addresses = new String[size];
+
+            long[] cellKeyBuffer = new long[size];
+            int[] cellStartBuffer = new int[size + 1];
+            int cellCount = 0;
+            long previousKey = -1;
+
+            for (int i = 0; i < size; i++) {
+                long key = sortKeys[i] >>> POSITION_BITS;
+                CctvGeo row = valid.get((int) (sortKeys[i] & ((1L << POSITION_BITS) - 1)));
+
+                latitudes[i] = row.getLatitude();
+                longitudes[i] = row.getLongitude();
+                cameraCounts[i] = row.getCameraCount() != null ? row.getCameraCount() : 0;
+                numbers[i] = row.getNumbers() != null ? row.getNumbers() : 0L;
+                addresses[i] = row.getAddress();
+
+                if (key != previousKey) {
+                    cellKeyBuffer[cellCount] = key;
+                    cellStartBuffer[cellCount] = i;
+                    cellCount++;
+                    previousKey = key;
+                }
+            }
+            cellStartBuffer[cellCount] = size;
+
+            // 3. 관리 번호 조회표 (재구축 시 1회 정렬)
+            Integer[] byNumber = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                byNumber[i] = i;
+            }
+            Arrays.sort(byNumber, (p1, p2) -> Long.compare(numbers[p1], numbers[p2]));
+
+            long[] sortedNumbers = new long[size];
+            int[] numberPositions = new int[size];
+            for (int i = 0; i < size; i++) {
+                numberPositions[i] = byNumber[i];
+                sortedNumbers[i] = numbers[byNumber[i]];
+            }
+
+            return new Snapshot(size, latitudes, longitudes, cameraCounts, numbers, addresses,
+                    Arrays.copyOf(cellKeyBuffer, cellCount), Arrays.copyOf(cellStartBuffer, cellCount + 1),
+                    sortedNumbers, numberPositions);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.wherehouse.information.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서울 자치구 경계 점-다각형 판정 인덱스 (좌표 → '구' 이름)
+ *
+ * 목적:
+ * - 검거율은 '구' 단위 데이터인데, 기존에는 카카오 coord2address 응답의 도로명 주소에서 "구" 토큰을 잘라 구했다.
+ *   (검거율 단계가 주소 변환 네트워크 호출을 기다려야 하고, 주소 형식이 다르면 조용히 0.0 이 된다)
+ * - 자치구 경계 다각형으로 좌표를 직접 판정하여 검거율 / 편의성 점수(구 인구) / 안전 점수 격자를 외부 API 없이 계산한다.
+ *
+ * 경계 데이터:
+ * - district-index.boundary-resource 의 GeoJSON FeatureCollection (Polygon / MultiPolygon, 좌표 [경도, 위도])
+ *   기본값은 지도 화면이 쓰는 static/json/mapData.json (서울 25개 구 Polygon, 구 이름 SIG_KOR_NM)
+ *   구 이름은 district-index.name-properties 중 처음 존재하는 속성 (예: "name", "SIG_KOR_NM")
+ * - 같은 이름의 Feature 가 여러 개면 하나의 구로 합친다. 구는 최대 64개. (서울 25개)
+ * - 파일이 없거나 읽지 못하면 준비되지 않은 상태로 남고, 호출 측은 기존 주소 기반 추출을 사용한다.
+ *
+ * 구조 (불변 스냅샷, 경계 상자 격자 bucket-degrees 간격):
+ * - 경계선이 지나가지 않는 칸: 칸 중심이 속한 구를 미리 판정해 두고 조회 시 배열 1회 참조로 끝낸다. (칸 전체가 같은 구)
+ * - 경계선이 지나가는 칸: 그 칸을 지나는 구 + 칸 중심이 속한 구를 후보 비트마스크로 저장하고, 조회 시 후보 구만 ray casting 판정
+ *   (칸 안의 점이 구 D 에 속하면 D 의 경계가 칸을 지나거나 칸 전체가 D 안이므로 후보에 반드시 포함된다)
+ * - 구마다 링(외곽 + 구멍, MultiPolygon 전체)을 짝홀 규칙으로 판정하므로 구멍 / 월경지도 그대로 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DistrictIndex {
+
+    private static final int MAX_DISTRICTS = 64;
+
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${district-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${district-index.boundary-resource:classpath:static/json/mapData.json}")
+    private String boundaryResource;
+
+    @Value("${district-index.name-properties:name,SIG_KOR_NM,SGG_NM,sggnm}")
+    private List<String> nameProperties;
+
+    @Value("${district-index.bucket-degrees:0.005}")
+    private double bucketDegrees;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.info("[DistrictIndex] 비활성화 상태 - 주소 기반 구 추출 사용");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(boundaryResource);
+        if (!resource.exists()) {
+            log.warn("[DistrictIndex] 경계 파일 없음 ({}) - 주소 기반 구 추출 사용", boundaryResource);
+            return;
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            this.snapshot = build(objectMapper.readTree(in));
+            log.info("[DistrictIndex] 적재 완료 - 구: {}개, 꼭짓점: {}개, 격자: {}x{} (경계 칸 {}개), 소요 시간: {}ms",
+                    snapshot.names.length, snapshot.vertexCount, snapshot.rows, snapshot.cols,
+                    snapshot.boundaryBuckets, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("[DistrictIndex] 경계 파일 적재 실패 ({}) - 주소 기반 구 추출 사용", boundaryResource, e);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+
+    /**
+     * 좌표가 속한 구 이름 (경계 밖 / 인덱스 미준비 시 null)
+     */
+    public String resolve(double latitude, double longitude) {
+        Snapshot current = snapshot;
+        int district = current.locate(latitude, longitude);
+        return district >= 0 ? current.names[district] : null;
+    }
+
+    /**
+     * 주소 문자열에서 '구' 이름 추출 (경계 인덱스 미준비 / 경계 밖일 때의 대체 판정)
+     *
+     * 도로명 주소를 공백 기준으로 분리하여 "구"로 끝나는 첫 행정구역 단위를 찾는다.
+     *
+     * @param address 전체 주소 문자열 (예: "서울특별시 중구 세종대로 110")
+     * @return 추출된 '구' 이름 (예: "중구"), 추출 실패 시 null
+     */
+    public static String extractGu(String address) {
+        if (address == null || address.isEmpty()) {
+            return null;
+        }
+        for (String part : address.split(" ")) {
+            if (part.endsWith("구")) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 인덱스 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", isReady());
+        stats.put("boundaryResource", boundaryResource);
+        stats.put("districts", current.names.length);
+        stats.put("vertices", current.vertexCount);
+        stats.put("buckets", current.rows * current.cols);
+        stats.put("boundaryBuckets", current.boundaryBuckets);
+        return stats;
+    }
+
+    // ========================================
+    // 스냅샷 생성
+    // ========================================
+
+    private Snapshot build(JsonNode featureCollection) {
+        List<String> names = new ArrayList<>();
+        List<List<double[][]>> ringsByDistrict = new ArrayList<>();  // 링: {위도[], 경도[]}
+
+        for (JsonNode feature : featureCollection.path("features")) {
+            String name = districtName(feature.path("properties"));
+            JsonNode geometry = feature.path("geometry");
+            if (name == null || geometry.isMissingNode()) {
+                continue;
+            }
+
+            int district = names.indexOf(name);
+            if (district < 0) {
+                if (names.size() == MAX_DISTRICTS) {
+                    throw new IllegalStateException("구 수가 " + MAX_DISTRICTS + "개를 넘습니다");
+                }
+                district = names.size();
+                names.add(name);
+                ringsByDistrict.add(new ArrayList<>());
+            }
+
+            String type = geometry.path("type").asText();
+            JsonNode coordinates = geometry.path("coordinates");
+            if ("Polygon".equals(type)) {
+                addRings(coordinates, ringsByDistrict.get(district));
+            } else if ("MultiPolygon".equals(type)) {
+                for (JsonNode polygon : coordinates) {
+                    addRings(polygon, ringsByDistrict.get(district));
+                }
+            }
+        }
+
+        if (names.isEmpty()) {
+            throw new IllegalStateException("구 이름 속성(" + nameProperties + ")을 가진 다각형이 없습니다");
+        }
+
+        int districtCount = names.size();
+        double[][][] ringLatitudes = new double[districtCount][][];
+        double[][][] ringLongitudes = new double[districtCount][][];
+        double[][] bounds = new double[districtCount][];  // {남, 북, 서, 동}
+        double south = Double.MAX_VALUE, north = -Double.MAX_VALUE, west = Double.MAX_VALUE, east = -Double.MAX_VALUE;
+        int vertexCount = 0;
+
+        for (int d = 0; d < districtCount; d++) {
+            List<double[][]> rings = ringsByDistrict.get(d);
+            ringLatitudes[d] = new double[rings.size()][];
+            ringLongitudes[d] = new double[rings.size()][];
+            double[] b = {Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+
+            for (int r = 0; r < rings.size(); r++) {
+                ringLatitudes[d][r] = rings.get(r)[0];
+                ringLongitudes[d][r] = rings.get(r)[1];
+                for (int i = 0; i < ringLatitudes[d][r].length; i++) {
+                    b[0] = Math.min(b[0], ringLatitudes[d][r][i]);
+                    b[1] = Math.max(b[1], ringLatitudes[d][r][i]);
+                    b[2] = Math.min(b[2], ringLongitudes[d][r][i]);
+                    b[3] = Math.max(b[3], ringLongitudes[d][r][i]);
+                }
+                vertexCount += ringLatitudes[d][r].length;
+            }
+            bounds[d] = b;
+            south = Math.min(south, b[0]);
+            north = Math.max(north, b[1]);
+            west = Math.min(west, b[2]);
+            east = Math.max(east, b[3]);
+        }
+
+        int rows = (int) Math.floor((north - south) / bucketDegrees) + 1;
+        int cols = (int) Math.floor((east - west) / bucketDegrees) + 1;
+        Snapshot built = new Snapshot(names.toArray(new String[0]), ringLatitudes, ringLongitudes, bounds,
+                south, west, bucketDegrees, rows, cols, vertexCount);
+
+        // 1. 경계선이 지나가는 칸 표시 (변의 경계 상자가 걸친 칸 전체, 후보를 넉넉히 잡아도 조회 시 정확히 판정)
+        long[] edgeMasks = new long[rows * cols];
+        for (int d = 0; d < districtCount; d++) {
+            long bit = 1L << d;
+            for (int r = 0; r < ringLatitudes[d].length; r++) {
+                double[] lats = ringLatitudes[d][r];
+                double[] lons = ringLongitudes[d][r];
+                for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+                    int row0 = built.row(Math.min(lats[i], lats[j]));
+                    int row1 = built.row(Math.max(lats[i], lats[j]));
+                    int col0 = built.col(Math.min(lons[i], lons[j]));
+                    int col1 = built.col(Math.max(lons[i], lons[j]));
+                    for (int row = row0; row <= row1; row++) {
+                        for (int col = col0; col <= col1; col++) {
+                            edgeMasks[row * cols + col] |= bit;
+                        }
+                    }
+                }
+            }
+        }
+
+        // 2. 칸 중심 판정: 경계선 없는 칸은 구 번호, 경계 칸은 후보 비트마스크
+        int boundaryBuckets = 0;
+        for (int row = 0; row < rows; row++) {
+            double centerLatitude = south + (row + 0.5) * bucketDegrees;
+            for (int col = 0; col < cols; col++) {
+                double centerLongitude = west + (col + 0.5) * bucketDegrees;
+                int bucket = row * cols + col;
+
+                int centerDistrict = built.locateExact(centerLatitude, centerLongitude, -1L);
+                if (edgeMasks[bucket] == 0) {
+                    built.interior[bucket] = (byte) centerDistrict;
+                } else {
+                    built.candidates[bucket] = edgeMasks[bucket] | (centerDistrict >= 0 ? 1L << centerDistrict : 0);
+                    boundaryBuckets++;
+                }
+            }
+        }
+        built.boundaryBuckets = boundaryBuckets;
+        return built;
+    }
+
+    private String districtName(JsonNode properties) {
+        for (String property : nameProperties) {
+            JsonNode value = properties.path(property.trim());
+            if (value.isTextual() && !value.asText().isBlank()) {
+                return value.asText().trim();
+            }
+        }
+        return null;
+    }
+
+    /* GeoJSON Polygon 좌표 (외곽 링 + 구멍 링) → {위도[], 경도[]} 링 목록 (닫는 꼭짓점 제외) */
+    private static void addRings(JsonNode polygon, List<double[][]> rings) {
+        for (JsonNode ring : polygon) {
+            int size = ring.size();
+            if (size > 1 && ring.get(0).equals(ring.get(size - 1))) {
+                size--;
+            }
+            if (size < 3) {
+                continue;
+            }
+            double[] lats = new double[size];
+            double[] lons = new double[size];
+            for (int i = 0; i < size; i++) {
+                lons[i] = ring.get(i).get(0).asDouble();
+                lats[i] = ring.get(i).get(1).asDouble();
+            }
+            rings.add(new double[][]{lats, lons});
+        }
+    }
+
+    // ========================================
+    // 불변 스냅샷
+    // ========================================
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new double[0][][], new double[0][][], new double[0][],
+                0, 0, 1, 0, 0, 0);
+
+        final String[] names;
+        final double[][][] ringLatitudes;
+        final double[][][] ringLongitudes;
+        final double[][] bounds;
+        final double south;
+        final double west;
+        final double bucketDegrees;
+        final int rows;
+        final int cols;
+        final int vertexCount;
+
+        final byte[] interior;     // 경계선 없는 칸: 구 번호 (-1: 경계 밖)
+        final long[] candidates;   // 경계 칸: 후보 구 비트마스크 (0: 경계선 없는 칸)
+        int boundaryBuckets;
+
+        Snapshot(String[] names, double[][][] ringLatitudes, double[][][] ringLongitudes, double[][] bounds,
+                 double south, double west, double bucketDegrees, int rows, int cols, int vertexCount) {
+            this.names = names;
+            this.ringLatitudes = ringLatitudes;
+            this.ringLongitudes = ringLongitudes;
+            this.bounds = bounds;
+            this.south = south;
+            this.west = west;
+            this.bucketDegrees = bucketDegrees;
+            this.rows = rows;
+            this.cols = cols;
+            this.vertexCount = vertexCount;
+            this.interior = new byte[rows * cols];
+            this.candidates = new long[rows * cols];
+            Arrays.fill(interior, (byte) -1);
+        }
+
+        int row(double latitude) {
+            return Math.max(0, Math.min(rows - 1, (int) Math.floor((latitude - south) / bucketDegrees)));
+        }
+
+        int col(double longitude) {
+            return Math.max(0, Math.min(cols - 1, (int) Math.floor((longitude - west) / bucketDegrees)));
+        }
+
+        int locate(double latitude, double longitude) {
+            int row = (int) Math.floor((latitude - south) / bucketDegrees);
+            int col = (int) Math.floor((longitude - west) / bucketDegrees);
+            if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                return -1;
+            }
+            int bucket = row * cols + col;
+            long mask = candidates[bucket];
+            return mask == 0 ? interior[bucket] : locateExact(latitude, longitude, mask);
+        }
+
+        /* mask 의 구만 경계 상자 → ray casting 순으로 판정, 처음 포함하는 구 번호 (없으면 -1) */
+        int locateExact(double latitude, double longitude, long mask) {
+            for (int d = 0; d < names.length; d++) {
+                if ((mask & (1L << d)) == 0) {
+                    continue;
+                }
+                double[] b = bounds[d];
+                if (latitude < b[0] || latitude > b[1] || longitude < b[2] || longitude > b[3]) {
+                    continue;
+                }
+                if (contains(d, latitude, longitude)) {
+                    return d;
+                }
+            }
+            return -1;
+        }
+
+        /* 짝홀 규칙 ray casting (구의 모든 링) */
+        boolean contains(int district, double latitude, double longitude) {
+            boolean inside = false;
+            for (int r = 0; r < ringLatitudes[district].length; r++) {
+                double[] lats = ringLatitudes[district][r];
+                double[] lons = ringLongitudes[district][r];
+                for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+                    if ((lats[i] > latitude) != (lats[j] > latitude)
+                            && longitude < (lons[j] - lons[i]) * (latitude - lats[i]) / (lats[j] - lats[i]) + lons[i]) {
+                        inside = !inside;
+                    }
+                }
+            }
+            return inside;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.wherehouse.information.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 반경 원을 덮는 Geohash 격자 집합 계산 (정밀도 혼합, 최대 7자리)
+ *
+ * 목적:
+ * - 기존 9-Block(중심 7자리 격자 + 인접 8개, 약 450m x 450m)은 반경과 무관하게 고정이어서
+ *   큰 반경은 블록 밖 CCTV 를 놓치고, 작은 반경은 필요 없는 격자까지 조회했다.
+ * - 반경과 위도로부터 시작 정밀도를 정하고, 원과 겹치는 격자만 남기되 원 안에 완전히 들어오는 격자는
+ *   굵은 정밀도 그대로 두어 격자 수(= 캐시 키 / DB 조회 대상 수)를 줄인다.
+ *
+ * 계산:
+ * 1. 시작 정밀도: 격자의 짧은 변(남북 / 위도 기준 동서 중 작은 값)이 반경 이상인 가장 세밀한 정밀도 (1 ~ 7)
+ *    → 반경 경계 상자에 걸치는 시작 격자는 축마다 2 ~ 3개
+ * 2. 격자마다 판정 (Haversine, RadiusFilter.distance)
+ *    - 격자 안에서 원 중심에 가장 가까운 점이 반경 밖 → 제외
+ *    - 네 모서리가 모두 반경 안 → 격자 전체가 원 안이므로 현재 정밀도로 채택
+ *    - 그 외(경계 걸침) → 7자리면 채택, 아니면 하위 32개 격자로 분할하여 반복
+ * 3. 하위 32개 격자가 모두 그대로 채택되었으면 상위 격자 1개로 되돌린다. (같은 영역을 더 적은 격자로 표현)
+ * 4. 원 중심을 포함하는 격자는 항상 7자리까지 분할하며, 결과의 0번은 이 7자리 중심 격자다. (1단계 캐시 키)
+ *
+ * 성질:
+ * - 결과 격자들은 서로 겹치지 않는다. (어떤 격자도 다른 격자의 접두사가 아님)
+ * - 결과 격자들의 합집합은 원을 포함한다. (제외 판정에 MARGIN 여유를 두어 경계 오차로 누락되지 않도록 함)
+ * - 계산 중에는 격자를 GeohashCodec packed long 으로만 다루고, 최종 결과만 문자열로 변환한다.
+ */
+public final class GeohashCellCover {
+
+    public static final int MAX_PRECISION = 7;
+
+    private static final double METERS_PER_DEGREE = RadiusFilter.EARTH_RADIUS * Math.PI / 180.0;
+
+    /* 제외 판정 여유 (최근접점 근사 오차로 원과 겹치는 격자를 버리지 않도록) */
+    private static final double MARGIN = 1.001;
+
+    private final double latitude;
+    private final double longitude;
+    private final double radiusMeters;
+    private final RadiusFilter filter;
+
+    private long[] cells = new long[64];
+    private int count;
+
+    private GeohashCellCover(double latitude, double longitude, double radiusMeters) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radiusMeters = radiusMeters;
+        this.filter = RadiusFilter.of(latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * (latitude, longitude) 중심 반경 radiusMeters 원을 덮는 격자 목록
+     *
+     * @return 0번: 중심 좌표의 7자리 격자, 이후: 원과 겹치는 나머지 격자 (정밀도 혼합, 서로 겹치지 않음)
+     */
+    public static List<String> cover(double latitude, double longitude, double radiusMeters) {
+        GeohashCellCover cover = new GeohashCellCover(latitude, longitude, radiusMeters);
+        cover.compute();
+        return cover.toGeohashes();
+    }
+
+    /**
+     * 반경 / 위도 기준 시작 정밀도: 격자의 짧은 변이 반경 이상인 가장 세밀한 정밀도
+     */
+    static int startPrecision(double latitude, double radiusMeters) {
+        double cosLatitude = Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            double height = GeohashCodec.latitudeSpan(precision) * METERS_PER_DEGREE;
+            double width = GeohashCodec.longitudeSpan(precision) * METERS_PER_DEGREE * cosLatitude;
+            if (Math.min(height, width) >= radiusMeters) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    private void compute() {
+        int precision = startPrecision(latitude, radiusMeters);
+
+        int minLatIdx = GeohashCodec.latitudeIndex(filter.getMinLatitude(), precision);
+        int maxLatIdx = GeohashCodec.latitudeIndex(filter.getMaxLatitude(), precision);
+        int minLonIdx = GeohashCodec.longitudeIndex(filter.getMinLongitude(), precision);
+        int maxLonIdx = GeohashCodec.longitudeIndex(filter.getMaxLongitude(), precision);
+
+        for (int latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+            for (int lonIdx = minLonIdx; lonIdx <= maxLonIdx; lonIdx++) {
+                visit(latIdx, lonIdx, precision);
+            }
+        }
+    }
+
+    /**
+     * 격자 1개 판정 / 채택 / 분할
+     *
+     * @return 이 격자가 자기 자신 그대로 결과에 채택되었으면 true (상위 격자 병합 판정용)
+     */
+    private boolean visit(int latIdx, int lonIdx, int precision) {
+        double cellLat = GeohashCodec.latitudeSpan(precision);
+        double cellLon = GeohashCodec.longitudeSpan(precision);
+
+        double south = latIdx * cellLat - 90.0;
+        double north = south + cellLat;
+        double west = lonIdx * cellLon - 180.0;
+        double east = west + cellLon;
+
+        boolean containsCenter = latitude >= south && latitude < north && longitude >= west && longitude < east;
+
+        if (containsCenter) {
+            // 중심 격자: 7자리까지 분할 (7자리 중심 격자는 toGeohashes 에서 0번으로 추가)
+            if (precision == MAX_PRECISION) {
+                return false;
+            }
+        } else {
+            double nearestLat = Math.max(south, Math.min(north, latitude));
+            double nearestLon = Math.max(west, Math.min(east, longitude));
+            if (filter.distance(nearestLat, nearestLon) > radiusMeters * MARGIN) {
+                return false;
+            }
+
+            if (precision == MAX_PRECISION || insideCircle(south, north, west, east)) {
+                add(latIdx, lonIdx, precision);
+                return true;
+            }
+        }
+
+        // 경계 걸침: 하위 32개 격자로 분할
+        int childLatShift = GeohashCodec.latitudeBits(precision + 1) - GeohashCodec.latitudeBits(precision);
+        int childLonShift = GeohashCodec.longitudeBits(precision + 1) - GeohashCodec.longitudeBits(precision);
+        int mark = count;
+        boolean allChildrenWhole = true;
+
+        for (int i = 0; i < (1 << childLatShift); i++) {
+            for (int j = 0; j < (1 << childLonShift); j++) {
+                allChildrenWhole &= visit((latIdx << childLatShift) + i, (lonIdx << childLonShift) + j, precision + 1);
+            }
+        }
+
+        // 하위 격자가 모두 그대로 채택되었으면 상위 격자 1개로 병합 (중심 격자는 하위에서 false 이므로 병합되지 않음)
+        if (allChildrenWhole) {
+            count = mark;
+            add(latIdx, lonIdx, precision);
+            return true;
+        }
+        return false;
+    }
+
+    /* 네 모서리가 모두 반경 안이면 격자 전체가 원 안 */
+    private boolean insideCircle(double south, double north, double west, double east) {
+        return filter.distance(south, west) <= radiusMeters
+                && filter.distance(south, east) <= radiusMeters
+                && filter.distance(north, west) <= radiusMeters
+                && filter.distance(north, east) <= radiusMeters;
+    }
+
+    private void add(int latIdx, int lonIdx, int precision) {
+        if (count == cells.length) {
+            cells = Arrays.copyOf(cells, count * 2);
+        }
+        cells[count++] = GeohashCodec.fromIndex(latIdx, lonIdx, precision);
+    }
+
+    private List<String> toGeohashes() {
+        List<String> geohashes = new ArrayList<>(count + 1);
+        geohashes.add(GeohashCodec.toBase32(GeohashCodec.encode(latitude, longitude, MAX_PRECISION)));
+
+        for (int i = 0; i < count; i++) {
+            geohashes.add(GeohashCodec.toBase32(cells[i]));
+        }
+        return geohashes;
+    }
+}
@@ -0,0 +1,305 @@
+package com.wherehouse.information.index;
+
+import java.util.Arrays;
+
+/**
+ * 기본형 long 기반 Geohash 코덱 (정밀도 1 ~ 12자리)
+ *
+ * 목적:
+ * - ch.hsr GeoHash 는 인코딩 / 인접 격자 / base32 변환마다 객체와 문자열을 만든다.
+ *   분석 요청마다(격자 커버, 편의시설 격자, 캐시 키), ETL 에서는 행마다 Geohash 를 계산하므로
+ *   격자를 long 하나로 다루고 문자열은 캐시 키 / DB 값이 필요할 때만 만든다.
+ *
+ * 표현 (packed long):
+ * - (geohash 비트 << 4) | 정밀도
+ *   geohash 비트는 base32 문자 1개당 5bit, 상위 비트부터 경도 / 위도 교차 (base32 문자열을 5bit 씩 이어 붙인 값과 같음)
+ * - 정밀도 12자리 = 60bit + 정밀도 4bit = 64bit
+ *
+ * 계산:
+ * - 인코딩: 위도 / 경도를 격자 인덱스로 변환한 뒤 8bit 펼침 표(SPREAD)로 비트 교차
+ *   인덱스는 ch.hsr 의 이분 탐색(경계값 이상이면 1)과 같은 결과가 되도록 나눗셈 결과를 경계값과 비교해 보정한다.
+ * - 인접 격자: 비트 압축으로 (위도 인덱스, 경도 인덱스) 복원 → ±1 → 다시 교차 (경도는 날짜변경선에서 순환)
+ * - base32: 문자 표(BASE32 / BASE32_INDEX) 조회
+ *
+ * 모든 메서드는 정적이며, 인코딩 / 인접 격자 / 경계 계산은 객체를 할당하지 않는다.
+ */
+public final class GeohashCodec {
+
+    public static final int MAX_PRECISION = 12;
+
+    /* 인접 격자 방향 (ch.hsr GeoHash.getAdjacent 와 같은 순서: 북, 북동, 동, 남동, 남, 남서, 서, 북서) */
+    private static final int[] ADJACENT_LAT_DELTA = {1, 1, 0, -1, -1, -1, 0, 1};
+    private static final int[] ADJACENT_LON_DELTA = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    private static final int PRECISION_BITS = 4;
+    private static final long PRECISION_MASK = (1L << PRECISION_BITS) - 1;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final byte[] BASE32_INDEX = new byte[128];
+
+    /* 8bit 값의 각 비트를 짝수 위치로 펼친 16bit 값 (비트 i → 비트 2i) */
+    private static final short[] SPREAD = new short[256];
+
+    static {
+        Arrays.fill(BASE32_INDEX, (byte) -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            BASE32_INDEX[BASE32[i]] = (byte) i;
+        }
+
+        for (int v = 0; v < 256; v++) {
+            int spread = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                spread |= ((v >>> bit) & 1) << (bit * 2);
+            }
+            SPREAD[v] = (short) spread;
+        }
+    }
+
+    private GeohashCodec() {
+    }
+
+    // ========================================
+    // 인코딩 / 복원
+    // ========================================
+
+    /**
+     * 좌표 → packed Geohash
+     *
+     * @param precision base32 문자 수 (1 ~ 12)
+     */
+    public static long encode(double latitude, double longitude, int precision) {
+        return fromIndex(latitudeIndex(latitude, precision), longitudeIndex(longitude, precision), precision);
+    }
+
+    /**
+     * (위도 인덱스, 경도 인덱스) → packed Geohash
+     */
+    public static long fromIndex(int latIdx, int lonIdx, int precision) {
+        long bits;
+        if ((precision & 1) == 0) {
+            // 전체 비트 수 짝수: 최상위 비트(경도)가 홀수 위치
+            bits = (spread(lonIdx) << 1) | spread(latIdx);
+        } else {
+            // 전체 비트 수 홀수: 최상위 비트(경도)가 짝수 위치
+            bits = spread(lonIdx) | (spread(latIdx) << 1);
+        }
+        return (bits << PRECISION_BITS) | precision;
+    }
+
+    /**
+     * geohash 비트열 (하위 정렬, 정밀도 x 5 bit) → packed Geohash (bits 의 역)
+     */
+    public static long fromBits(long bits, int precision) {
+        return (bits << PRECISION_BITS) | precision;
+    }
+
+    public static int precision(long hash) {
+        return (int) (hash & PRECISION_MASK);
+    }
+
+    /**
+     * geohash 비트열 (하위 정렬, 정밀도 x 5 bit)
+     */
+    public static long bits(long hash) {
+        return hash >>> PRECISION_BITS;
+    }
+
+    public static int latitudeIndex(long hash) {
+        long bits = bits(hash);
+        return (precision(hash) & 1) == 0 ? compact(bits) : compact(bits >>> 1);
+    }
+
+    public static int longitudeIndex(long hash) {
+        long bits = bits(hash);
+        return (precision(hash) & 1) == 0 ? compact(bits >>> 1) : compact(bits);
+    }
+
+    /**
+     * 위도 → 해당 정밀도의 위도 인덱스 (ch.hsr 이분 탐색과 같은 경계 판정: 경계값 이상이면 북쪽 격자)
+     */
+    public static int latitudeIndex(double latitude, int precision) {
+        return axisIndex(latitude, -90.0, 180.0, latitudeBits(precision));
+    }
+
+    /**
+     * 경도 → 해당 정밀도의 경도 인덱스 (ch.hsr 이분 탐색과 같은 경계 판정: 경계값 이상이면 동쪽 격자)
+     */
+    public static int longitudeIndex(double longitude, int precision) {
+        return axisIndex(longitude, -180.0, 360.0, longitudeBits(precision));
+    }
+
+    public static int latitudeBits(int precision) {
+        return precision * 5 / 2;
+    }
+
+    public static int longitudeBits(int precision) {
+        return precision * 5 - latitudeBits(precision);
+    }
+
+    // ========================================
+    // 격자 관계
+    // ========================================
+
+    /**
+     * 위도 방향 dLat, 경도 방향 dLon 칸 떨어진 같은 정밀도 격자
+     * (경도는 날짜변경선에서 순환, 위도는 극을 넘으면 극 격자에 고정)
+     */
+    public static long neighbour(long hash, int dLat, int dLon) {
+        int precision = precision(hash);
+        int latCells = 1 << latitudeBits(precision);
+        int lonCells = 1 << longitudeBits(precision);
+
+        int latIdx = Math.max(0, Math.min(latCells - 1, latitudeIndex(hash) + dLat));
+        int lonIdx = Math.floorMod(longitudeIndex(hash) + dLon, lonCells);
+        return fromIndex(latIdx, lonIdx, precision);
+    }
+
+    /**
+     * 인접 8개 격자를 out[0..7] 에 기록 (북, 북동, 동, 남동, 남, 남서, 서, 북서 - ch.hsr getAdjacent 와 같은 순서)
+     */
+    public static void adjacent(long hash, long[] out) {
+        for (int i = 0; i < ADJACENT_LAT_DELTA.length; i++) {
+            out[i] = neighbour(hash, ADJACENT_LAT_DELTA[i], ADJACENT_LON_DELTA[i]);
+        }
+    }
+
+    /**
+     * 상위 정밀도 격자 (precision 이 현재 정밀도 이상이면 그대로)
+     */
+    public static long parent(long hash, int precision) {
+        int current = precision(hash);
+        if (precision >= current) {
+            return hash;
+        }
+        return ((bits(hash) >>> ((current - precision) * 5)) << PRECISION_BITS) | precision;
+    }
+
+    /**
+     * 하위 격자 (base32 문자 값 0 ~ 31 을 뒤에 붙인 격자)
+     */
+    public static long child(long hash, int base32Value) {
+        return (((bits(hash) << 5) | base32Value) << PRECISION_BITS) | (precision(hash) + 1);
+    }
+
+    // ========================================
+    // 격자 경계
+    // ========================================
+
+    public static double southLatitude(long hash) {
+        return latitudeIndex(hash) * latitudeSpan(precision(hash)) - 90.0;
+    }
+
+    public static double northLatitude(long hash) {
+        return southLatitude(hash) + latitudeSpan(precision(hash));
+    }
+
+    public static double westLongitude(long hash) {
+        return longitudeIndex(hash) * longitudeSpan(precision(hash)) - 180.0;
+    }
+
+    public static double eastLongitude(long hash) {
+        return westLongitude(hash) + longitudeSpan(precision(hash));
+    }
+
+    public static double centerLatitude(long hash) {
+        return southLatitude(hash) + latitudeSpan(precision(hash)) / 2;
+    }
+
+    public static double centerLongitude(long hash) {
+        return westLongitude(hash) + longitudeSpan(precision(hash)) / 2;
+    }
+
+    /**
+     * 해당 정밀도 격자의 남북 길이 (도)
+     */
+    public static double latitudeSpan(int precision) {
+        return 180.0 / (1L << latitudeBits(precision));
+    }
+
+    /**
+     * 해당 정밀도 격자의 동서 길이 (도)
+     */
+    public static double longitudeSpan(int precision) {
+        return 360.0 / (1L << longitudeBits(precision));
+    }
+
+    // ========================================
+    // base32
+    // ========================================
+
+    public static String toBase32(long hash) {
+        int precision = precision(hash);
+        long bits = bits(hash);
+        char[] chars = new char[precision];
+        for (int i = precision - 1; i >= 0; i--) {
+            chars[i] = BASE32[(int) (bits & 31)];
+            bits >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * base32 Geohash 문자열 → packed Geohash
+     *
+     * @throws IllegalArgumentException 길이가 1 ~ 12 가 아니거나 base32 외 문자가 있을 때
+     */
+    public static long fromBase32(CharSequence geohash) {
+        int precision = geohash.length();
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Geohash 길이는 1 ~ " + MAX_PRECISION + "자리여야 합니다: " + geohash);
+        }
+
+        long bits = 0;
+        for (int i = 0; i < precision; i++) {
+            char c = geohash.charAt(i);
+            int value = c < 128 ? BASE32_INDEX[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Geohash base32 문자가 아닙니다: " + geohash);
+            }
+            bits = (bits << 5) | value;
+        }
+        return (bits << PRECISION_BITS) | precision;
+    }
+
+    // ========================================
+    // 비트 교차 / 압축
+    // ========================================
+
+    /* 하위 30bit 를 짝수 위치로 펼침 (8bit 씩 표 조회) */
+    private static long spread(int value) {
+        return (SPREAD[value & 0xFF] & 0xFFFFL)
+                | ((SPREAD[(value >>> 8) & 0xFF] & 0xFFFFL) << 16)
+                | ((SPREAD[(value >>> 16) & 0xFF] & 0xFFFFL) << 32)
+                | ((SPREAD[(value >>> 24) & 0xFF] & 0xFFFFL) << 48);
+    }
+
+    /* 짝수 위치 비트를 모아 하위로 압축 (spread 의 역) */
+    private static int compact(long bits) {
+        long x = bits & 0x5555555555555555L;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+        return (int) x;
+    }
+
+    /*
+     * [min, min + span) 을 2^bits 칸으로 나눈 인덱스
+     * 나눗셈 반올림으로 경계값 근처에서 한 칸 어긋날 수 있으므로, 칸의 경계값(2의 거듭제곱 분할이라 double 로 정확)과 비교해 보정한다.
+     */
+    private static int axisIndex(double value, double min, double span, int bits) {
+        long cells = 1L << bits;
+        double cellSpan = span / cells;
+
+        long idx = (long) Math.floor((value - min) / cellSpan);
+        idx = Math.max(0, Math.min(cells - 1, idx));
+
+        if (idx > 0 && value < min + idx * cellSpan) {
+            idx--;
+        } else if (idx < cells - 1 && value >= min + (idx + 1) * cellSpan) {
+            idx++;
+        }
+        return (int) idx;
+    }
+}
@@ -0,0 +1,98 @@
+package com.wherehouse.information.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 정밀도 혼합 격자 목록 → 저장 정밀도 geohash_id 키 범위 목록
+ *
+ * 목적:
+ * - CCTV_GEO / POLICEOFFICE_GEO 는 ETL 이 geohash_id 순으로 적재하므로, geohash_id 구간이 곧 물리적으로 연속된 행 구간이다.
+ * - 격자 커버의 굵은 격자(6자리 이하)를 7자리로 펼쳐 IN 절에 넣는 대신, 격자마다 [접두사 최소 키, 접두사 최대 키] 구간으로 바꾸고
+ *   구간을 정렬 / 병합하여 WHERE GEOHASH_ID BETWEEN :lower AND :upper 범위 스캔 몇 번으로 조회한다.
+ *
+ * 구간 계산:
+ * - 저장 정밀도 p, 격자 정밀도 q 일 때 격자는 저장 비트열 [bits << 5(p-q), (bits + 1) << 5(p-q)) 구간과 같다.
+ *   (base32 문자 순서와 비트열 순서가 같으므로 문자열 BETWEEN 과 비트열 구간이 일치)
+ * - 시작점 순으로 정렬한 뒤, 다음 구간과의 틈이 gapCells 개 이하이면 하나로 합친다.
+ *   틈 격자의 행도 함께 조회되므로 호출 측은 요청 격자 접두사로 다시 분류해야 한다. (틈 허용 = 범위 스캔 횟수 ↔ 불필요 행 수)
+ */
+public final class GeohashKeyRanges {
+
+    private GeohashKeyRanges() {
+    }
+
+    /**
+     * @param geohashIds       요청 격자 목록 (정밀도 혼합, 저장 정밀도보다 긴 격자는 저장 정밀도 상위 격자로 취급)
+     * @param storedPrecision  테이블 geohash_id 정밀도 (7)
+     * @param gapCells         병합을 허용하는 구간 사이 최대 틈 (저장 정밀도 격자 수)
+     * @return 시작 키 순 범위 목록 (서로 겹치지 않음)
+     */
+    public static List<Range> merge(Collection<String> geohashIds, int storedPrecision, int gapCells) {
+        long[][] spans = new long[geohashIds.size()][];
+        int count = 0;
+
+        for (String geohashId : geohashIds) {
+            long hash = GeohashCodec.parent(GeohashCodec.fromBase32(geohashId), storedPrecision);
+            int shift = (storedPrecision - GeohashCodec.precision(hash)) * 5;
+            long bits = GeohashCodec.bits(hash);
+            spans[count++] = new long[]{bits << shift, (bits + 1) << shift};
+        }
+
+        Arrays.sort(spans, 0, count, Comparator.comparingLong(span -> span[0]));
+
+        List<Range> ranges = new ArrayList<>();
+        int i = 0;
+        while (i < count) {
+            long start = spans[i][0];
+            long end = spans[i][1];
+            i++;
+            while (i < count && spans[i][0] <= end + gapCells) {
+                end = Math.max(end, spans[i][1]);
+                i++;
+            }
+            ranges.add(new Range(
+                    GeohashCodec.toBase32(GeohashCodec.fromBits(start, storedPrecision)),
+                    GeohashCodec.toBase32(GeohashCodec.fromBits(end - 1, storedPrecision)),
+                    end - start));
+        }
+        return ranges;
+    }
+
+    /**
+     * geohash_id 닫힌 구간 [lower, upper] (둘 다 저장 정밀도 문자열)
+     */
+    public static final class Range {
+
+        private final String lower;
+        private final String upper;
+        private final long cellCount;
+
+        private Range(String lower, String upper, long cellCount) {
+            this.lower = lower;
+            this.upper = upper;
+            this.cellCount = cellCount;
+        }
+
+        public String getLower() {
+            return lower;
+        }
+
+        public String getUpper() {
+            return upper;
+        }
+
+        /* 구간이 덮는 저장 정밀도 격자 수 (틈 포함) */
+        public long getCellCount() {
+            return cellCount;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + lower + ", " + upper + "]";
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,301 @@
+package com.wherehouse.information.index;
+
+import com.wherehouse.information.batch.event.GeohashEtlCompletedEvent;
+import com.wherehouse.information.dao.PoliceOfficeGeoRepository;
+import com.wherehouse.information.entity.PoliceOfficeGeo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * POLICEOFFICE_GEO 메모리 상주 최근접 이웃(k-NN) 인덱스
+ *
+ * 목적:
+ * - PoliceOfficeGeoRepository.findNearestPoliceStations 는 요청마다 전체 행에 대해 ACOS 거리 계산 후 정렬/ROWNUM 을 수행한다.
+ *   부하 상황에서 가장 무거운 Oracle 문장 중 하나이므로, 동일한 결과를 메모리에서 마이크로초 단위로 응답한다.
+ *
+ * 구조 (불변 스냅샷):
+ * - 위/경도를 단위 구 위의 3차원 벡터(x, y, z)로 변환하여 3차원 KD-트리(배열 기반 암묵적 트리)에 적재
+ * - 두 점의 현(chord) 거리는 대권(great-circle) 거리와 단조 관계이므로, 유클리드 거리 순위 = 구면 거리 순위 (근사 없음)
+ *
+ * 갱신:
+ * - 애플리케이션 기동 완료 시 1회 적재
+ * - GeohashIndexingEtlProcessor 완료 이벤트(커밋 이후) 수신 시 새 스냅샷 생성 후 참조를 원자적으로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PoliceOfficeSpatialIndex {
+
+    private final PoliceOfficeGeoRepository policeOfficeGeoRepository;
+
+    @Value("${police-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // ========================================
+    // 적재 / 재구축
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)   // SafetyTileGrid 보다 먼저 재구축
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)   // SafetyTileGrid 보다 먼저 재구축
+    public void handleGeohashEtlCompletedEvent(GeohashEtlCompletedEvent event) {
+        log.info("[PoliceOfficeSpatialIndex] ETL 완료 이벤트 수신 - POLICEOFFICE_GEO {}건, 인덱스 재구축",
+                event.getPoliceOfficeCount());
+        rebuild();
+    }
+
+    /**
+     * POLICEOFFICE_GEO 전체를 읽어 새 KD-트리를 만들고 현재 스냅샷을 교체한다.
+     * 실패 시 기존 스냅샷을 유지한다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            log.info("[PoliceOfficeSpatialIndex] 비활성화 상태 - 적재 생략 (기존 DB 조회 경로 사용)");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            Snapshot rebuilt = Snapshot.build(policeOfficeGeoRepository.findAll());
+            this.snapshot = rebuilt;
+
+            log.info("[PoliceOfficeSpatialIndex] 인덱스 구축 완료 - 파출소: {}건, 소요 시간: {}ms",
+                    rebuilt.size, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("[PoliceOfficeSpatialIndex] 인덱스 구축 실패 - 기존 스냅샷 유지 (파출소: {}건)", snapshot.size, e);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 인덱스 사용 가능 여부 (활성화 + 1건 이상 적재)
+     */
+    public boolean isReady() {
+        return enabled && snapshot.size > 0;
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * (latitude, longitude) 에서 가까운 순으로 최대 k 개의 파출소를 반환한다.
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param k 반환할 최대 개수
+     * @return 가까운 순으로 정렬된 파출소 목록 (적재 전이거나 k <= 0 이면 빈 목록)
+     */
+    public List<PoliceOfficeGeo> findNearest(double latitude, double longitude, int k) {
+        Snapshot current = this.snapshot;   // 조회 도중 교체되어도 같은 스냅샷을 끝까지 사용
+        int limit = Math.min(k, current.size);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        double qx = Math.cos(lat) * Math.cos(lon);
+        double qy = Math.cos(lat) * Math.sin(lon);
+        double qz = Math.sin(lat);
+
+        // 상위 k 후보 (현 거리 제곱 오름차순 유지)
+        Neighbours neighbours = new Neighbours(limit);
+        current.search(0, current.size, 0, qx, qy, qz, neighbours);
+
+        List<PoliceOfficeGeo> result = new ArrayList<>(neighbours.count);
+        for (int i = 0; i < neighbours.count; i++) {
+            int node = neighbours.nodes[i];
+            result.add(PoliceOfficeGeo.builder()
+                    .address(current.addresses[node])
+                    .latitude(current.latitudes[node])
+                    .longitude(current.longitudes[node])
+                    .geohashId(current.geohashIds[node])
+                    .build());
+        }
+        return result;
+    }
+
+    // ========================================
+    // k-NN 후보 목록
+    // ========================================
+
+    private static final class Neighbours {
+        private final int[] nodes;
+        private final double[] distances;
+        private int count;
+
+        private Neighbours(int k) {
+            this.nodes = new int[k];
+            this.distances = new double[k];
+        }
+
+        /* 현재 k 번째 후보까지의 거리 (후보가 k 개 미만이면 무한대) */
+        private double worst() {
+            return count < nodes.length ? Double.POSITIVE_INFINITY : distances[count - 1];
+        }
+
+        /* 삽입 정렬 방식으로 후보 추가 (k 는 작은 값이므로 힙보다 단순하고 빠름) */
+        private void offer(int node, double distance) {
+            if (distance >= worst()) {
+                return;
+            }
+            int pos = (count < nodes.length) ? count++ : count - 1;
+            while (pos > 0 && distances[pos - 1] > distance) {
+                nodes[pos] = nodes[pos - 1];
+                distances[pos] = distances[pos - 1];
+                pos--;
+            }
+            nodes[pos] = node;
+            distances[pos] = distance;
+        }
+    }
+
+    // ========================================
+    // 불변 스냅샷 (배열 기반 3차원 KD-트리)
+    // ========================================
+
+    /**
+     * 구간 [lo, hi) 의 중앙(mid) 원소가 노드이고, 왼쪽 [lo, mid) / 오른쪽 [mid + 1, hi) 가 하위 트리이다.
+     * 분할 축은 깊이 % 3 (x → y → z).
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0, new double[0][], new String[0],
+                new double[0], new double[0], new String[0]);
+
+        private final int size;
+        private final double[][] coordinates;   // [축][노드] 단위 구 벡터 좌표
+        private final String[] addresses;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final String[] geohashIds;
+
+        private Snapshot(int size, double[][] coordinates, String[] addresses,
+                         double[] latitudes, double[] longitudes, String[] geohashIds) {
+            this.size = size;
+            this.coordinates = coordinates;
+            this.addresses = addresses;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.geohashIds = geohashIds;
+        }
+
+        private void search(int lo, int hi, int depth, double qx, double qy, double qz, Neighbours neighbours) {
+            if (lo >= hi) {
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            double dx = coordinates[0][mid] - qx;
+            double dy = coordinates[1][mid] - qy;
+            double dz = coordinates[2][mid] - qz;
+            neighbours.offer(mid, dx * dx + dy * dy + dz * dz);
+
+            int axis = depth % 3;
+            double diff = (axis == 0 ? qx : axis == 1 ? qy : qz) - coordinates[axis][mid];
+
+            // 질의 점이 속한 쪽을 먼저 탐색하고, 분할 평면까지의 거리가 현재 k 번째 후보보다 가까울 때만 반대쪽 탐색
+            if (diff < 0) {
+                search(lo, mid, depth + 1, qx, qy, qz, neighbours);
+                if (diff * diff < neighbours.worst()) {
+                    search(mid + 1, hi, depth + 1, qx, qy, qz, neighbours);
+                }
+            } else {
+                search(mid + 1, hi, depth + 1, qx, qy, qz, neighbours);
+                if (diff * diff < neighbours.worst()) {
+                    search(lo, mid, depth + 1, qx, qy, qz, neighbours);
+                }
+            }
+        }
+
+        private static Snapshot build(List<PoliceOfficeGeo> rows) {
+            List<PoliceOfficeGeo> valid = new ArrayList<>(rows.size());
+            for (PoliceOfficeGeo row : rows) {
+                if (row.getLatitude() != null && row.getLongitude() != null) {
+                    valid.add(row);
+                }
+            }
+
+            int size = valid.size();
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            // 1. 단위 구 벡터 변환
+            double[][] points = new double[size][3];
+            for (int i = 0; i < size; i++) {
+                double lat = Math.toRadians(valid.get(i).getLatitude());
+                double lon = Math.toRadians(valid.get(i).getLongitude());
+                points[i][0] = Math.cos(lat) * Math.cos(lon);
+                points[i][1] = Math.cos(lat) * Math.sin(lon);
+                points[i][2] = Math.sin(lat);
+            }
+
+            // 2. 중앙값 분할로 트리 순서 결정
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            arrange(order, 0, size, 0, points);
+
+            // 3. 트리 순서대로 열 단위 배열 구성
+            double[][] coordinates = new double[3][size];
+            String[] addresses = new String[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            String[] geohashIds = new String[size];
+
+            for (int node = 0; node < size; node++) {
+                int source = order[node];
+                PoliceOfficeGeo row = valid.get(source);
+
+                coordinates[0][node] = points[source][0];
+                coordinates[1][node] = points[source][1];
+                coordinates[2][node] = points[source][2];
+                addresses[node] = row.getAddress();
+                latitudes[node] = row.getLatitude();
+                longitudes[node] = row.getLongitude();
+                geohashIds[node] = row.getGeohashId();
+            }
+
+            return new Snapshot(size, coordinates, addresses, latitudes, longitudes, geohashIds);
+        }
+
+        /* [lo, hi) 구간을 축 기준으로 정렬한 뒤 중앙을 노드로 고정하고 양쪽을 재귀 분할 (구축 시 1회, 수백 건 규모) */
+        private static void arrange(Integer[] order, int lo, int hi, int depth, double[][] points) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int axis = depth % 3;
+            Arrays.sort(order, lo, hi, Comparator.comparingDouble(i -> points[i][axis]));
+
+            int mid = (lo + hi) >>> 1;
+            arrange(order, lo, mid, depth + 1, points);
+            arrange(order, mid + 1, hi, depth + 1, points);
+        }
+    }
+}
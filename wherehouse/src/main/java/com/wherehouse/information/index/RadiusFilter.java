@@ -0,0 +1,152 @@
+package com.wherehouse.information.index;
+
+/**
+ * 반경 필터링 커널 (조회 1건당 1회 생성, 이후 판정은 객체 할당 / 삼각함수 없음)
+ *
+ * 목적:
+ * - 기존 반경 필터는 후보 지점마다 GeohashService.calculateDistance(Haversine, 삼각함수 6회 + atan2)를 호출했다.
+ *   캐시가 데워진 뒤에는 이 거리 계산이 위치 분석 요청의 주된 CPU 비용이므로, 판정과 거리 보고를 분리한다.
+ *
+ * 판정 단계 (contains):
+ * 1. 경계 상자(bounding box) 비교로 대부분의 후보를 뺄셈 / 비교만으로 제외
+ * 2. 등장방형(equirectangular) 근사 거리 제곱을 반경 제곱과 비교 (곱셈 4회)
+ *    - 근사 오차는 서울 위도 / 조회 반경(수 km) 범위에서 반경의 ±0.5% 경계 띠보다 작으므로, 띠 밖은 근사 결과로 확정
+ *      (RadiusFilterTest 에서 반경 20km 까지 근사 오차가 띠 안에 드는지 검증)
+ * 3. 경계 띠 안의 소수 후보만 Haversine 으로 확정 → 판정 결과는 Haversine 단독 필터와 동일
+ *
+ * 거리 보고 (distance):
+ * - 응답에 실리는 거리만 Haversine 으로 계산한다. (GeohashService.calculateDistance 와 같은 공식 / 같은 결과)
+ *
+ * 배열 필터 (filter):
+ * - 위도 / 경도 기본형 배열 구간을 순회하여 반경 안 지점의 위치만 int[] 에 기록한다. (박싱 / 할당 없음)
+ */
+public final class RadiusFilter {
+
+    public static final double EARTH_RADIUS = 6371000; // 지구 반지름 (미터), GeohashService.calculateDistance 와 동일
+
+    private static final double METERS_PER_DEGREE = EARTH_RADIUS * Math.PI / 180.0;
+
+    /* 근사 확정 경계 띠 (반경 대비 비율) */
+    private static final double BAND = 0.005;
+
+    private final double latitude;
+    private final double longitude;
+    private final double radiusMeters;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private final double longitudeScale;     // 경도 1도당 미터 (기준 위도)
+    private final double cosLatitude;        // Haversine 용 cos(기준 위도)
+    private final double innerSquared;       // 이하이면 반경 안으로 확정
+    private final double outerSquared;       // 초과이면 반경 밖으로 확정
+
+    private RadiusFilter(double latitude, double longitude, double radiusMeters) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radiusMeters = radiusMeters;
+
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS);
+        this.minLatitude = latitude - latDelta;
+        this.maxLatitude = latitude + latDelta;
+
+        // 경도 폭은 상자 안에서 가장 고위도인 지점 기준 (상자가 원을 반드시 포함하도록)
+        double maxAbsLat = Math.min(89.0, Math.max(Math.abs(minLatitude), Math.abs(maxLatitude)));
+        double lonDelta = latDelta / Math.cos(Math.toRadians(maxAbsLat));
+        this.minLongitude = longitude - lonDelta;
+        this.maxLongitude = longitude + lonDelta;
+
+        this.cosLatitude = Math.cos(Math.toRadians(latitude));
+        this.longitudeScale = METERS_PER_DEGREE * cosLatitude;
+
+        double inner = radiusMeters * (1 - BAND);
+        double outer = radiusMeters * (1 + BAND);
+        this.innerSquared = inner * inner;
+        this.outerSquared = outer * outer;
+    }
+
+    /**
+     * (latitude, longitude) 중심 반경 radiusMeters 필터 생성
+     */
+    public static RadiusFilter of(double latitude, double longitude, double radiusMeters) {
+        return new RadiusFilter(latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * 지점이 반경 안(거리 <= 반경)인지 판정한다. Haversine 단독 판정과 결과가 같다.
+     */
+    public boolean contains(double pointLatitude, double pointLongitude) {
+        if (pointLatitude < minLatitude || pointLatitude > maxLatitude
+                || pointLongitude < minLongitude || pointLongitude > maxLongitude) {
+            return false;
+        }
+
+        double squared = approximateSquared(pointLatitude, pointLongitude);
+        if (squared <= innerSquared) {
+            return true;
+        }
+        if (squared > outerSquared) {
+            return false;
+        }
+        return distance(pointLatitude, pointLongitude) <= radiusMeters;
+    }
+
+    /**
+     * 등장방형 근사 거리 제곱 (m², 순위 비교 / 상위 k 선택용)
+     */
+    public double approximateSquared(double pointLatitude, double pointLongitude) {
+        double dy = (pointLatitude - latitude) * METERS_PER_DEGREE;
+        double dx = (pointLongitude - longitude) * longitudeScale;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * 보고용 정확한 거리 (Haversine, 미터)
+     */
+    public double distance(double pointLatitude, double pointLongitude) {
+        double dLat = Math.toRadians(pointLatitude - latitude);
+        double dLon = Math.toRadians(pointLongitude - longitude);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + cosLatitude * Math.cos(Math.toRadians(pointLatitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 배열 구간 [from, to) 중 반경 안 지점의 위치를 out[count..] 에 기록한다.
+     *
+     * @return 기록 후 out 의 유효 개수 (count + 이번에 기록한 개수)
+     */
+    public int filter(double[] latitudes, double[] longitudes, int from, int to, int[] out, int count) {
+        for (int i = from; i < to; i++) {
+            if (contains(latitudes[i], longitudes[i])) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public double getMaxLongitude() {
+        return maxLongitude;
+    }
+
+    public double getRadiusMeters() {
+        return radiusMeters;
+    }
+}
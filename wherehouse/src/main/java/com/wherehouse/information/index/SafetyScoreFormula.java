@@ -0,0 +1,49 @@
+package com.wherehouse.information.index;
+
+/**
+ * 안전 점수 공식 (위치 분석 R-06 / 스트리밍 safety 이벤트 / 안전 점수 격자 SafetyTileGrid 공용)
+ *
+ * JS 구현과 같은 공식:
+ * - 파출소 거리 점수 = (800 - 거리) / 800 × 100  (800m 초과 또는 파출소 없음은 0)
+ * - CCTV 점수       = min(CCTV 수 / 30 × 100, 100)
+ * - 검거율 점수      = 검거율 × 100
+ * - 안전 점수       = 거리 점수 × 0.3 + CCTV 점수 × 0.4 + 검거율 점수 × 0.3  (0 ~ 100)
+ *
+ * 파출소가 없으면 거리로 Double.POSITIVE_INFINITY 를 넘긴다.
+ * 모든 메서드는 정적이다.
+ */
+public final class SafetyScoreFormula {
+
+    public static final double POLICE_WEIGHT = 0.3;
+    public static final double CCTV_WEIGHT = 0.4;
+    public static final double ARREST_WEIGHT = 0.3;
+
+    /* 파출소 거리 점수가 0 이 되는 거리 (미터) */
+    private static final double POLICE_DISTANCE_LIMIT = 800;
+
+    /* CCTV 점수가 100 이 되는 개수 */
+    private static final double CCTV_FULL_COUNT = 30.0;
+
+    private SafetyScoreFormula() {
+    }
+
+    public static double safetyScore(double policeDistance, int cctvCount, double arrestRate) {
+        return policeDistanceScore(policeDistance) * POLICE_WEIGHT
+                + cctvScore(cctvCount) * CCTV_WEIGHT
+                + arrestRateScore(arrestRate) * ARREST_WEIGHT;
+    }
+
+    public static double policeDistanceScore(double policeDistance) {
+        return policeDistance <= POLICE_DISTANCE_LIMIT
+                ? (POLICE_DISTANCE_LIMIT - policeDistance) / POLICE_DISTANCE_LIMIT * 100
+                : 0;
+    }
+
+    public static double cctvScore(int cctvCount) {
+        return Math.min(cctvCount / CCTV_FULL_COUNT * 100, 100);
+    }
+
+    public static double arrestRateScore(double arrestRate) {
+        return arrestRate * 100;
+    }
+}
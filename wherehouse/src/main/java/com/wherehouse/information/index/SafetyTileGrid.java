@@ -0,0 +1,294 @@
+package com.wherehouse.information.index;
+
+import com.wherehouse.information.batch.event.GeohashEtlCompletedEvent;
+import com.wherehouse.information.dao.ArrestRateRepository;
+import com.wherehouse.information.entity.ArrestRate;
+import com.wherehouse.information.entity.PoliceOfficeGeo;
+import com.wherehouse.information.model.SafetyTileDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서울 전역 안전 점수 격자 (7자리 Geohash 셀 단위 사전 계산)
+ *
+ * 목적:
+ * - 안전 점수는 클릭 좌표마다 CCTV 반경 조회 + 최근접 파출소 + 구별 검거율을 매번 계산했다.
+ *   셀 중심 기준 점수를 ETL 직후 한 번에 계산해 두면 임의 좌표의 점수를 O(1) 로 조회할 수 있고,
+ *   지도 전체 안전도 히트맵을 요청 없이 타일 단위로 내려줄 수 있다.
+ *
+ * 구조 (불변 스냅샷):
+ * - 서울 경계 상자(safety-tile.*-latitude / *-longitude)에 걸친 7자리 Geohash 셀을 행(위도) x 열(경도) 격자로 배치
+ *   (셀 인덱스는 CctvSpatialIndex 의 셀 키 계산과 동일, 셀 크기 약 150m x 120m)
+ * - 셀당 1바이트 점수(0~100, NO_DATA_BYTE = 데이터 없음) 행 우선 배열. 서울 전역 약 9만 셀 → 약 90KB
+ *
+ * 셀 점수 (SafetyScoreFormula, 위치 분석 응답과 같은 공식):
+ * - 셀 중심 반경 safety-tile.radius 안 CCTV 수 (CctvSpatialIndex)
+ * - 셀 중심에서 최근접 파출소 거리 (PoliceOfficeSpatialIndex)
+ * - 검거율: 셀 중심이 속한 구 기준 (DistrictIndex), 경계 인덱스 미적재 / 경계 밖이면 최근접 파출소 주소의 구 기준
+ *   (ARRESTRATE 전체를 1회 적재하여 조회)
+ *
+ * 용도:
+ * - 스트리밍 첫 이벤트의 근사 점수, 지도 히트맵 타일. 셀 중심(클릭 좌표와 최대 약 100m 차이)과 고정 반경 기준 값이므로
+ *   요청 좌표 / 요청 반경 기준 CCTV 목록과 함께 내려주는 분석 응답의 점수로는 쓰지 않는다. (LocationAnalysisServiceImpl.calculateSafetyScore)
+ *
+ * 갱신:
+ * - 애플리케이션 기동 완료 / GeohashIndexingEtlProcessor 완료 이벤트 수신 시 재계산 후 참조를 원자적으로 교체
+ * - CCTV / 파출소 인덱스가 먼저 재구축되도록 두 인덱스 리스너보다 늦은 순서(@Order)로 실행
+ * - 인덱스가 준비되지 않았으면 계산을 생략하고 기존 스냅샷을 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SafetyTileGrid {
+
+    /** 점수 조회 결과 없음 (격자 밖, 미적재, 데이터 없는 셀) */
+    public static final int NO_DATA = -1;
+
+    /** 타일 바이트 배열에서 데이터 없는 셀 값 (부호 없는 255) */
+    public static final int NO_DATA_BYTE = 0xFF;
+
+    /* 7자리 Geohash 셀 크기 (도) : 위도 17bit, 경도 18bit */
+    private static final double CELL_LATITUDE_DEGREES = GeohashCodec.latitudeSpan(7);
+    private static final double CELL_LONGITUDE_DEGREES = GeohashCodec.longitudeSpan(7);
+
+    private static final CctvSpatialIndex.CctvVisitor COUNT_ONLY =
+            (numbers, address, latitude, longitude, cameraCount, distance) -> { };
+
+    private final CctvSpatialIndex cctvSpatialIndex;
+    private final PoliceOfficeSpatialIndex policeOfficeSpatialIndex;
+    private final DistrictIndex districtIndex;
+    private final ArrestRateRepository arrestRateRepository;
+
+    @Value("${safety-tile.enabled:true}")
+    private boolean enabled;
+
+    // 셀 중심 CCTV 집계 반경 (미터, 기본 요청 반경과 동일)
+    @Value("${safety-tile.radius:500}")
+    private int radius;
+
+    @Value("${safety-tile.min-latitude:37.41}")
+    private double minLatitude;
+
+    @Value("${safety-tile.max-latitude:37.72}")
+    private double maxLatitude;
+
+    @Value("${safety-tile.min-longitude:126.73}")
+    private double minLongitude;
+
+    @Value("${safety-tile.max-longitude:127.27}")
+    private double maxLongitude;
+
+    private volatile Grid grid = Grid.EMPTY;
+
+    // ========================================
+    // 적재 / 재계산
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void handleGeohashEtlCompletedEvent(GeohashEtlCompletedEvent event) {
+        log.info("[SafetyTileGrid] ETL 완료 이벤트 수신 - 안전 점수 격자 재계산");
+        rebuild();
+    }
+
+    /**
+     * 격자 전체 셀의 안전 점수를 계산하여 현재 스냅샷을 교체한다.
+     * 실패하거나 인덱스가 준비되지 않았으면 기존 스냅샷을 유지한다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            log.info("[SafetyTileGrid] 비활성화 상태 - 계산 생략");
+            return;
+        }
+        if (!cctvSpatialIndex.isReady() || !policeOfficeSpatialIndex.isReady()) {
+            log.warn("[SafetyTileGrid] CCTV / 파출소 인덱스 미준비 - 계산 생략 (기존 격자 유지)");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        try {
+            Map<String, Double> arrestRates = new HashMap<>();
+            for (ArrestRate arrestRate : arrestRateRepository.findAll()) {
+                arrestRates.put(arrestRate.getAddr(), arrestRate.getRate());
+            }
+
+            int baseLatIdx = CctvSpatialIndex.latitudeIndex(minLatitude);
+            int baseLonIdx = CctvSpatialIndex.longitudeIndex(minLongitude);
+            int rows = CctvSpatialIndex.latitudeIndex(maxLatitude) - baseLatIdx + 1;
+            int cols = CctvSpatialIndex.longitudeIndex(maxLongitude) - baseLonIdx + 1;
+
+            byte[] scores = new byte[rows * cols];
+            Map<String, Double> rateByPoliceAddress = new HashMap<>();
+            int scoredCells = 0;
+
+            for (int row = 0; row < rows; row++) {
+                double latitude = cellCenterLatitude(baseLatIdx + row);
+
+                for (int col = 0; col < cols; col++) {
+                    double longitude = cellCenterLongitude(baseLonIdx + col);
+
+                    List<PoliceOfficeGeo> nearest = policeOfficeSpatialIndex.findNearest(latitude, longitude, 1);
+                    if (nearest.isEmpty()) {
+                        scores[row * cols + col] = (byte) NO_DATA_BYTE;
+                        continue;
+                    }
+
+                    PoliceOfficeGeo police = nearest.get(0);
+                    double policeDistance = RadiusFilter.of(latitude, longitude, 0)
+                            .distance(police.getLatitude(), police.getLongitude());
+                    int cctvCount = cctvSpatialIndex.forEachWithinRadius(latitude, longitude, radius, COUNT_ONLY);
+                    String district = districtIndex.resolve(latitude, longitude);
+                    double arrestRate = district != null
+                            ? arrestRates.getOrDefault(district, 0.0)
+                            : rateByPoliceAddress.computeIfAbsent(police.getAddress(),
+                                    address -> arrestRates.getOrDefault(DistrictIndex.extractGu(address), 0.0));
+
+                    scores[row * cols + col] = (byte) Math.round(
+                            SafetyScoreFormula.safetyScore(policeDistance, cctvCount, arrestRate));
+                    scoredCells++;
+                }
+            }
+
+            this.grid = new Grid(baseLatIdx, baseLonIdx, rows, cols, scores, System.currentTimeMillis());
+
+            log.info("[SafetyTileGrid] 격자 계산 완료 - {}x{} 셀 (점수 {}개), 반경: {}m, 소요 시간: {}ms",
+                    rows, cols, scoredCells, radius, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("[SafetyTileGrid] 격자 계산 실패 - 기존 격자 유지", e);
+        }
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 격자 사용 가능 여부 (활성화 + 계산 완료)
+     */
+    public boolean isReady() {
+        return enabled && grid.scores.length > 0;
+    }
+
+    /**
+     * (latitude, longitude) 가 속한 셀의 사전 계산 안전 점수 (0~100)
+     *
+     * @return 안전 점수, 격자 밖 / 미계산 / 데이터 없는 셀이면 NO_DATA
+     */
+    public int scoreAt(double latitude, double longitude) {
+        Grid current = this.grid;
+        int row = CctvSpatialIndex.latitudeIndex(latitude) - current.baseLatIdx;
+        int col = CctvSpatialIndex.longitudeIndex(longitude) - current.baseLonIdx;
+
+        if (row < 0 || row >= current.rows || col < 0 || col >= current.cols) {
+            return NO_DATA;
+        }
+
+        int score = current.scores[row * current.cols + col] & 0xFF;
+        return score == NO_DATA_BYTE ? NO_DATA : score;
+    }
+
+    /**
+     * 경계 상자와 겹치는 셀 구간을 잘라 타일로 반환한다. (격자 범위로 잘림)
+     *
+     * @return 타일 (겹치는 셀이 없으면 rows / cols 가 0 인 빈 타일)
+     */
+    public SafetyTileDto tile(double south, double west, double north, double east) {
+        Grid current = this.grid;
+
+        int fromRow = Math.max(0, CctvSpatialIndex.latitudeIndex(Math.min(south, north)) - current.baseLatIdx);
+        int toRow = Math.min(current.rows - 1, CctvSpatialIndex.latitudeIndex(Math.max(south, north)) - current.baseLatIdx);
+        int fromCol = Math.max(0, CctvSpatialIndex.longitudeIndex(Math.min(west, east)) - current.baseLonIdx);
+        int toCol = Math.min(current.cols - 1, CctvSpatialIndex.longitudeIndex(Math.max(west, east)) - current.baseLonIdx);
+
+        int rows = Math.max(0, toRow - fromRow + 1);
+        int cols = Math.max(0, toCol - fromCol + 1);
+
+        byte[] scores = new byte[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(current.scores, (fromRow + row) * current.cols + fromCol, scores, row * cols, cols);
+        }
+
+        return SafetyTileDto.builder()
+                .southLatitude((current.baseLatIdx + fromRow) * CELL_LATITUDE_DEGREES - 90.0)
+                .westLongitude((current.baseLonIdx + fromCol) * CELL_LONGITUDE_DEGREES - 180.0)
+                .cellLatitudeDegrees(CELL_LATITUDE_DEGREES)
+                .cellLongitudeDegrees(CELL_LONGITUDE_DEGREES)
+                .rows(rows)
+                .cols(cols)
+                .radius(radius)
+                .generatedAt(current.builtAt)
+                .scores(scores)
+                .build();
+    }
+
+    // ========================================
+    // 셀 좌표
+    // ========================================
+
+    private static double cellCenterLatitude(int latIdx) {
+        return (latIdx + 0.5) * CELL_LATITUDE_DEGREES - 90.0;
+    }
+
+    private static double cellCenterLongitude(int lonIdx) {
+        return (lonIdx + 0.5) * CELL_LONGITUDE_DEGREES - 180.0;
+    }
+
+    /**
+     * 격자 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Grid current = this.grid;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", isReady());
+        stats.put("rows", current.rows);
+        stats.put("cols", current.cols);
+        stats.put("radius", radius);
+        stats.put("builtAt", current.builtAt);
+        return stats;
+    }
+
+    // ========================================
+    // 불변 격자 스냅샷
+    // ========================================
+
+    private static final class Grid {
+
+        private static final Grid EMPTY = new Grid(0, 0, 0, 0, new byte[0], 0L);
+
+        private final int baseLatIdx;   // 0행의 위도 셀 인덱스 (남쪽 끝)
+        private final int baseLonIdx;   // 0열의 경도 셀 인덱스 (서쪽 끝)
+        private final int rows;
+        private final int cols;
+        private final byte[] scores;    // 행 우선 [row * cols + col], 0~100 또는 NO_DATA_BYTE
+        private final long builtAt;
+
+        private Grid(int baseLatIdx, int baseLonIdx, int rows, int cols, byte[] scores, long builtAt) {
+            this.baseLatIdx = baseLatIdx;
+            this.baseLonIdx = baseLonIdx;
+            this.rows = rows;
+            this.cols = cols;
+            this.scores = scores;
+            this.builtAt = builtAt;
+        }
+    }
+}
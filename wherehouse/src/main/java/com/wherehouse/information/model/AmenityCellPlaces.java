@@ -0,0 +1,34 @@
+package com.wherehouse.information.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 격자 단위 편의시설 캐시(amenity:{geohash}:{카테고리}) 저장 단위
+ *
+ * 장소별 Map 대신 열(column) 단위 기본형 배열로 보관하여,
+ * 반경 필터링 시 박싱 / Number 언박싱 없이 위도 / 경도 배열을 그대로 순회한다.
+ * 같은 위치(index)의 원소가 장소 1건이다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmenityCellPlaces {
+
+    private String[] names;  // 장소명
+
+    private double[] latitudes;  // 위도
+
+    private double[] longitudes;  // 경도
+
+    private String[] categoryNames;  // 카카오 카테고리 그룹명
+
+    private boolean truncated;  // 카카오 조회 상한(45건)에 걸려 격자 안 장소 일부가 빠졌을 수 있음 (밀집 격자)
+
+    public int size() {
+        return latitudes == null ? 0 : latitudes.length;
+    }
+}
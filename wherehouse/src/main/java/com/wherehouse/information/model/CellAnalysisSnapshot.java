@@ -0,0 +1,52 @@
+package com.wherehouse.information.model;
+
+import com.wherehouse.information.entity.PoliceOfficeGeo;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 격자 단위 위치 분석 상위집합(superset)
+ *
+ * 지원 최대 반경(LocationAnalysisRequestDTO 의 @Max)에 7자리 격자 대각선 여유를 더한 반경으로 한 번 계산한 R-05 결과를 보관한다.
+ * 같은 중심 격자의 요청은 자기 좌표 기준으로 거리를 다시 계산해 반경으로 잘라낸 뒤 R-06/R-07 만 다시 수행하여 응답한다.
+ * (반경과 무관한 값: 파출소, 주소, 검거율 / 반경에 따라 잘라내는 값: CCTV, 편의시설)
+ * 편의시설 distance 는 기준 좌표 기준이다.
+ *
+ * CCTV 는 최대 반경 원 안 전체(요청 반경 500m 응답의 약 20배)를 담으므로 CctvGeo 행 대신 열 단위 기본형 배열로 보관한다.
+ * (주소 / geohash_id 문자열 제외, 1단계 캐시 히트마다 역직렬화되는 크기를 줄임)
+ * 주소는 요청 반경으로 잘라낸 뒤 남은 CCTV 만 관리 번호로 조회한다. (CctvSpatialIndex.findAddress)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CellAnalysisSnapshot {
+
+    private double originLatitude;  // 거리 계산 기준 위도 (상위집합을 계산한 요청 좌표)
+
+    private double originLongitude;  // 거리 계산 기준 경도
+
+    private int supersetRadius;  // 상위집합 계산 반경 (미터)
+
+    private long[] cctvNumbers;  // 반경 내 CCTV 관리 번호 (아래 배열과 같은 순서)
+
+    private double[] cctvLatitudes;  // CCTV 위도
+
+    private double[] cctvLongitudes;  // CCTV 경도
+
+    private int[] cctvCameraCounts;  // CCTV 카메라 대수
+
+    private PoliceOfficeGeo nearestPolice;  // 가장 가까운 파출소 (없으면 null)
+
+    private double distanceToNearestPolice;  // 가장 가까운 파출소까지 거리 (미터)
+
+    private AddressDto address;  // 기준 좌표 주소
+
+    private double arrestRate;  // 구 단위 검거율
+
+    private List<AmenityDetailDto> amenityDetails;  // 카테고리별 편의시설 (places 는 가까운 순, distance 포함)
+}
@@ -0,0 +1,38 @@
+package com.wherehouse.information.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카카오 카테고리 검색 응답 1건(documents)의 장소 목록
+ *
+ * 응답 버퍼를 스트리밍 파서(KakaoPlaceStreamParser)로 읽어 장소별 Map 대신 열(column) 단위 배열에 바로 채운다.
+ * 같은 위치(index)의 원소가 장소 1건이며, 순서는 응답 순서(sort=distance 이면 검색 중심 기준 거리순)와 같다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KakaoPlaces {
+
+    private static final KakaoPlaces EMPTY = new KakaoPlaces(
+            new String[0], new double[0], new double[0], new int[0], new String[0], 0);
+
+    private String[] names;  // place_name
+
+    private double[] latitudes;  // y
+
+    private double[] longitudes;  // x
+
+    private int[] distances;  // distance (검색 중심 기준 미터, 중심 좌표가 없으면 0)
+
+    private String[] categoryNames;  // category_group_name
+
+    private int size;  // 유효 장소 수 (배열 길이 이하)
+
+    public static KakaoPlaces empty() {
+        return EMPTY;
+    }
+}
@@ -0,0 +1,21 @@
+package com.wherehouse.information.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1단계 캐시(dto:{geohash}) 저장 단위
+ * 격자 상위집합(CellAnalysisSnapshot)과 저장 시각을 함께 보관하여 soft/hard 만료(stale-while-revalidate) 판단에 사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Level1CacheEntry {
+
+    private long cachedAtEpochMillis;  // 캐시 저장 시각 (epoch ms, 노드 간 공통 기준)
+
+    private CellAnalysisSnapshot snapshot;  // 최대 반경 기준 격자 상위집합 (요청 반경별 응답은 여기서 파생)
+}
@@ -0,0 +1,29 @@
+package com.wherehouse.information.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 위치 분석 요청 DTO (매물 목록 / 추천 결과처럼 여러 좌표의 안전성 · 편의성 정보가 필요한 화면용)
+ *
+ * 최대 좌표 수는 미스 격자 합집합을 DB IN 조회 1회로 처리할 수 있도록 제한한다. (100개 x 9격자 = 900 < Oracle IN 목록 상한 1000)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationAnalysisBatchRequestDTO {
+
+    @NotEmpty(message = "분석할 좌표 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100개 좌표까지 분석할 수 있습니다")
+    @JsonProperty("locations")
+    private List<@Valid LocationAnalysisRequestDTO> locations;
+}
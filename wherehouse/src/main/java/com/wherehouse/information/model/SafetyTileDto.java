@@ -0,0 +1,49 @@
+package com.wherehouse.information.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 안전 점수 타일 DTO
+ *
+ * SafetyTileGrid 의 경계 상자 구간을 잘라 전달한다.
+ * - scores: 행 우선 셀 점수 (1바이트, 0~100, 255 = 데이터 없음), JSON 에서는 Base64 문자열
+ * - 0행은 남쪽, 0열은 서쪽. 셀 (row, col) 의 남서 모서리 = (south_latitude + row * cell_latitude_degrees,
+ *   west_longitude + col * cell_longitude_degrees)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SafetyTileDto {
+
+    @JsonProperty("south_latitude")
+    private double southLatitude;  // 0행 남쪽 경계 위도
+
+    @JsonProperty("west_longitude")
+    private double westLongitude;  // 0열 서쪽 경계 경도
+
+    @JsonProperty("cell_latitude_degrees")
+    private double cellLatitudeDegrees;  // 셀 높이 (도)
+
+    @JsonProperty("cell_longitude_degrees")
+    private double cellLongitudeDegrees;  // 셀 너비 (도)
+
+    @JsonProperty("rows")
+    private int rows;
+
+    @JsonProperty("cols")
+    private int cols;
+
+    @JsonProperty("radius")
+    private int radius;  // 셀 중심 CCTV 집계 반경 (미터)
+
+    @JsonProperty("generated_at")
+    private long generatedAt;  // 격자 계산 시각 (epoch millis)
+
+    @JsonProperty("scores")
+    private byte[] scores;
+}
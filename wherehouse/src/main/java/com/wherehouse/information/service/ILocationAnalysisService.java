@@ -5,6 +5,8 @@ import com.wherehouse.information.model.LocationAnalysisResponseDTO;
 import com.wherehouse.information.model.PoliceOfficeResponseDTO;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 위치 분석 서비스 인터페이스
@@ -30,5 +32,42 @@ public interface ILocationAnalysisService {
      * @return 안전성, 편의성, 종합 점수 및 상세 정보를 포함한 응답 DTO
      */
     LocationAnalysisResponseDTO analyzeLocation(LocationAnalysisRequestDTO request);
+
+    /**
+     * 위치 분석을 수행하며 단계가 끝날 때마다 부분 결과를 sink 로 전달한다. (SSE 스트리밍 응답용)
+     *
+     * 이벤트 순서 (1단계 캐시 미스 시 단계 완료 순서에 따라 address / amenity / safety 는 섞일 수 있음):
+     * grid → cctv → safety / address / amenity(카테고리별) → result
+     * 처리 중 오류 발생 시 error 이벤트를 전달한다.
+     *
+     * @param request 위도, 경도, 반경 정보를 포함한 요청 DTO
+     * @param sink 이벤트 수신자
+     * @return 마지막 이벤트(result 또는 error) 전달 후 완료되는 Future (전용 스레드 풀 포화 시 예외로 완료)
+     */
+    CompletableFuture<Void> analyzeLocationProgressively(LocationAnalysisRequestDTO request, LocationAnalysisEventSink sink);
+
+    /**
+     * 여러 좌표의 위치 분석을 한 번에 수행한다.
+     *
+     * 같은 중심 격자의 좌표는 하나의 격자 상위집합을 공유하고, 캐시 / DB 조회는 좌표 전체의 격자 합집합으로 일괄 수행한다.
+     *
+     * @param requests 좌표 목록
+     * @return 요청 순서와 같은 순서의 응답 목록 (분석에 실패한 좌표는 analysisStatus = "FAILED")
+     */
+    List<LocationAnalysisResponseDTO> analyzeLocations(List<LocationAnalysisRequestDTO> requests);
+
     List<PoliceOfficeResponseDTO> getAllPoliceOffices();
+
+    /**
+     * 중심 격자(7자리 Geohash)의 격자 상위집합을 다시 계산하여 1단계 캐시에 저장한다. (ETL 이후 캐시 예열용)
+     *
+     * @param centerGeohashId 중심 격자 geohash
+     * @return 계산 / 저장을 수행했으면 true, 같은 격자의 갱신이 이미 진행 중이라 생략했으면 false
+     */
+    boolean warmUpCell(String centerGeohashId);
+
+    /**
+     * 1단계 캐시 stale 응답 / 백그라운드 갱신 통계 (stale 히트 수, 경과 시간, 갱신 성공/실패 등)
+     */
+    Map<String, Object> getLevel1RefreshStats();
 }
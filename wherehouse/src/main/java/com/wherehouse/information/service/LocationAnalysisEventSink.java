@@ -0,0 +1,15 @@
+package com.wherehouse.information.service;
+
+import java.io.IOException;
+
+/**
+ * 위치 분석 단계별 부분 결과 수신자 (SSE 스트리밍 응답용)
+ *
+ * 이벤트 이름과 페이로드(JSON 직렬화 대상)를 전달받는다.
+ * 여러 단계 작업 스레드에서 호출될 수 있으므로 호출 측(LocationAnalysisServiceImpl)이 직렬화하여 전달한다.
+ */
+@FunctionalInterface
+public interface LocationAnalysisEventSink {
+
+    void send(String event, Object payload) throws IOException;
+}
@@ -6,6 +6,15 @@ import com.wherehouse.information.dao.PoliceOfficeGeoRepository;
 import com.wherehouse.information.entity.ArrestRate;
 import com.wherehouse.information.entity.CctvGeo;
 import com.wherehouse.information.entity.PoliceOfficeGeo;
+import com.wherehouse.information.index.CctvSpatialIndex;
+import com.wherehouse.information.index.DistrictIndex;
+import com.wherehouse.information.index.GeohashCellCover;
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.index.GeohashKeyRanges;
+import com.wherehouse.information.index.PoliceOfficeSpatialIndex;
+import com.wherehouse.information.index.RadiusFilter;
+import com.wherehouse.information.index.SafetyScoreFormula;
+import com.wherehouse.information.index.SafetyTileGrid;
 import com.wherehouse.information.model.*;
 import com.wherehouse.information.util.*;
 import com.wherehouse.information.util.KakaoApiService;
@@ -30,19 +39,36 @@ import com.wherehouse.logger.result.R06.R06SafetyScoreResult;
 import com.wherehouse.logger.result.R06.R06ScoreResult;
 import com.wherehouse.logger.result.R07.R07CacheWriteResult;
 import com.wherehouse.logger.result.R07.R07ResponseResult;
-import com.wherehouse.redis.service.RedisSingleDataService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wherehouse.redis.codec.VersionedCacheCodec;
+import com.wherehouse.redis.service.CellPopularityService;
+import com.wherehouse.redis.service.NearCacheDataService;
+import com.wherehouse.redis.service.SingleFlightService;
 import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -52,7 +78,7 @@ import java.util.stream.Collectors;
  * 종합 안전 점수 및 편의성 점수를 제공하는 핵심 비즈니스 로직 구현
  *
  * 처리 단계 (6.4.4절 실시간 서비스 처리 단계)
- * - R-01: '9-Block' 그리드 범위 계산 구현 완료
+ * - R-01: 반경 기반 격자 커버 계산 구현 완료
  * - R-02: 단계별 캐시 조회 구현 완료
  * - R-03: 선택된 데이터베이스 조회 구현 완료
  * - R-04: 외부 API 호출 및 개별 데이터 캐싱 구현 완료
@@ -73,80 +99,1014 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
     private final PoliceOfficeGeoRepository policeOfficeGeoRepository;
     private final ArrestRateRepository arrestRateRepository;
     private final KakaoApiService kakaoApiService;
-    private final RedisSingleDataService redisSingleDataService;
-    private final ObjectMapper objectMapper;
+    private final AmenityCellService amenityCellService;      // 격자(geohash) x 카테고리 단위 편의시설 캐시
+    private final NearCacheDataService nearCacheDataService;  // Redis 앞단 로컬 Near Cache (미스 시 RedisSingleDataService 위임)
+    private final SingleFlightService singleFlightService;    // 1단계 캐시 미스 동시 요청 병합 (중심 격자별 leader 1건만 R-03 ~ R-07 수행)
+    private final CctvSpatialIndex cctvSpatialIndex;           // CCTV_GEO 메모리 상주 공간 인덱스 (적재 완료 시 R-02 2단계 / R-03 CCTV 조회 생략)
+    private final PoliceOfficeSpatialIndex policeOfficeSpatialIndex; // POLICEOFFICE_GEO 메모리 상주 k-NN 인덱스 (적재 완료 시 R-05 ACOS 전체 스캔 생략)
+    private final DistrictIndex districtIndex;                 // 자치구 경계 점-다각형 인덱스 (적재 완료 시 검거율 / 구 인구를 주소 변환 없이 좌표로 판정)
+    private final SafetyTileGrid safetyTileGrid;               // 서울 전역 7자리 Geohash 셀 단위 사전 계산 안전 점수 (스트리밍 첫 이벤트용 근사 점수)
+    private final VersionedCacheCodec cacheCodec;              // 캐시 값 바이너리 코덱 (버전 헤더 + Smile/JSON 본문)
+    private final CellPopularityService cellPopularityService; // 중심 격자 감쇠 조회 수 (ETL 이후 캐시 예열 대상 선정)
 
     // Redis 캐시 TTL 설정
-    private static final Duration LEVEL1_CACHE_TTL = Duration.ofMinutes(5);  // 1단계: 5분
     private static final Duration LEVEL2_CACHE_TTL = Duration.ofHours(24);   // 2단계: 24시간
 
+    // 최대 요청 반경 (LocationAnalysisRequestDTO.radius 의 @Max 와 동일)
+    private static final int MAX_REQUEST_RADIUS = 2000;
+
+    // 격자 상위집합 계산 반경 = 최대 요청 반경 + 7자리 격자 대각선 여유
+    // 같은 중심 격자의 요청은 상위집합 기준 좌표에서 격자 대각선(적도 약 216m)까지 떨어질 수 있으므로,
+    // 그만큼 넓게 계산해야 어느 요청 좌표의 최대 반경 원도 상위집합 안에 온전히 들어온다.
+    private static final int SUPERSET_RADIUS = MAX_REQUEST_RADIUS + 250;
+
+    /* 1단계 캐시 파생 시 CCTV 주소 DB 복원 IN 목록 크기 (Oracle IN 목록 상한) */
+    private static final int CCTV_ID_LOOKUP_CHUNK = 1000;
+
+    // R-03 geohash_id 구간 병합 시 허용하는 틈 (7자리 격자 수, 틈 격자 행은 조회 후 버림)
+    private static final int DB_RANGE_GAP_CELLS = 8;
+
+    // 1단계 캐시 stale-while-revalidate 설정
+    // soft 만료 전: 그대로 반환 / soft ~ hard 사이: 즉시 반환 + 백그라운드 갱신 1건 / hard 만료(= Redis TTL) 후: 미스
+    @Value("${location-analysis.level1.soft-ttl:5m}")
+    private Duration level1SoftTtl;
+
+    @Value("${location-analysis.level1.hard-ttl:30m}")
+    private Duration level1HardTtl;
+
+    @Value("${location-analysis.level1.refresh-pool-size:4}")
+    private int level1RefreshPoolSize;
+
+    @Value("${location-analysis.level1.refresh-queue-capacity:100}")
+    private int level1RefreshQueueCapacity;
+
+    // 스트리밍(SSE) 위치 분석 전용 스레드 풀 (요청 스레드를 반환한 뒤 단계 완료 이벤트를 전달하는 작업용)
+    @Value("${location-analysis.stream.pool-size:16}")
+    private int streamPoolSize;
+
+    @Value("${location-analysis.stream.queue-capacity:100}")
+    private int streamQueueCapacity;
+
+    // 일괄 분석 시 동시에 계산하는 중심 격자(상위집합) 수
+    @Value("${location-analysis.batch.parallelism:8}")
+    private int batchParallelism;
+
+    // R-03 ~ R-05(파출소) 단계 실행 방식 (true: 의존성 그래프 기반 동시 실행, false: 순차 실행)
+    @Value("${location-analysis.stage.concurrent:true}")
+    private boolean concurrentStagesEnabled;
+
+    // 동시 실행 단계 전용 스레드 풀 크기 (요청당 최대 5개 단계 점유)
+    @Value("${location-analysis.stage.pool-size:32}")
+    private int stagePoolSize;
+
+    // 단계별 타임아웃 (초과 시 해당 단계만 기본값으로 대체하고 errors 에 기록)
+    @Value("${location-analysis.stage.timeout.cctv:3s}")
+    private Duration cctvStageTimeout;
+
+    @Value("${location-analysis.stage.timeout.address:3s}")
+    private Duration addressStageTimeout;
+
+    @Value("${location-analysis.stage.timeout.amenity:6s}")
+    private Duration amenityStageTimeout;
+
+    @Value("${location-analysis.stage.timeout.arrest-rate:2s}")
+    private Duration arrestRateStageTimeout;
+
+    @Value("${location-analysis.stage.timeout.police:3s}")
+    private Duration policeStageTimeout;
+
+    // 동시 실행 단계 전용 스레드 풀 (카카오 API 카테고리 호출용 KakaoApiGateway 와 격리)
+    private ExecutorService stageExecutor;
+
+    // 1단계 캐시 백그라운드 갱신 전용 스레드 풀 (갱신 작업이 stageExecutor 를 기다리므로 별도 풀로 분리)
+    private ThreadPoolExecutor level1RefreshExecutor;
+
+    // 스트리밍 위치 분석 전용 스레드 풀 (작업이 stageExecutor 를 기다리므로 별도 풀로 분리)
+    private ThreadPoolExecutor streamExecutor;
+
+    // 일괄 분석 중심 격자별 상위집합 계산 전용 스레드 풀 (작업이 stageExecutor 를 기다리므로 별도 풀로 분리)
+    private ExecutorService batchExecutor;
+
+    // 갱신 진행 중인 1단계 캐시 키 (키당 백그라운드 갱신 1건만 허용)
+    private final Set<String> level1RefreshingKeys = ConcurrentHashMap.newKeySet();
+
+    // 1단계 캐시 stale 응답 / 갱신 결과 통계
+    private final AtomicLong level1StaleHitCount = new AtomicLong();
+    private final AtomicLong level1StaleAgeTotalMillis = new AtomicLong();
+    private final AtomicLong level1StaleAgeMaxMillis = new AtomicLong();
+    private final AtomicLong level1RefreshStartedCount = new AtomicLong();
+    private final AtomicLong level1RefreshSucceededCount = new AtomicLong();
+    private final AtomicLong level1RefreshFailedCount = new AtomicLong();
+    private final AtomicLong level1RefreshSkippedCount = new AtomicLong();
+    private final AtomicLong level1RefreshRejectedCount = new AtomicLong();
+    private final AtomicLong level1DegradedSkipCount = new AtomicLong();   // 단계 실패(기본값 대체)로 1단계 캐시 저장을 생략한 횟수
+
+    @PostConstruct
+    public void initStageExecutor() {
+        this.stageExecutor = Executors.newFixedThreadPool(stagePoolSize, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("location-stage-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.level1RefreshExecutor = new ThreadPoolExecutor(
+                level1RefreshPoolSize, level1RefreshPoolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(level1RefreshQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setName("location-level1-refresh-" + thread.getId());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.streamExecutor = new ThreadPoolExecutor(
+                streamPoolSize, streamPoolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(streamQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setName("location-stream-" + thread.getId());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.batchExecutor = Executors.newFixedThreadPool(batchParallelism, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("location-batch-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdownStageExecutor() {
+        stageExecutor.shutdown();
+        level1RefreshExecutor.shutdown();
+        streamExecutor.shutdown();
+        batchExecutor.shutdown();
+    }
+
     @Override
     public LocationAnalysisResponseDTO analyzeLocation(LocationAnalysisRequestDTO request) {
+        return analyzeLocation(request, concurrentStagesEnabled);
+    }
+
+    /**
+     * 단계 실행 방식을 지정하여 위치 분석을 수행한다. (순차/동시 실행 비교 벤치마크용 진입점)
+     *
+     * @param request 사용자 요청 DTO
+     * @param concurrentStages true: R-03/R-04/파출소 조회를 동시 실행, false: 기존 순차 실행
+     * @return 위치 분석 응답 DTO
+     */
+    public LocationAnalysisResponseDTO analyzeLocation(LocationAnalysisRequestDTO request, boolean concurrentStages) {
         log.info("=== 위치 분석 시작 ===");
         log.info("요청 좌표: latitude={}, longitude={}, radius={}",
                 request.getLatitude(), request.getLongitude(), request.getRadius());
 
-        // R-01: '9-Block' 그리드 범위 계산
-        List<String> nineBlockGeohashes = calculate9BlockGrid(request);
+        // R-01: 상위집합 반경을 덮는 격자 목록 계산
+        List<String> coverGeohashes = calculateCellCover(request);
+        cellPopularityService.recordHit(coverGeohashes.get(0));
 
         // R-02: 단계별 캐시 조회
-        CacheResult cacheResult = performCacheLookup(nineBlockGeohashes, request);
+        CacheResult cacheResult = performCacheLookup(coverGeohashes, request);
+
+        CellAnalysisSnapshot snapshot;
 
-        // 1단계 캐시 히트 시 즉시 반환
+        // 1단계 캐시 히트 시 Redis/DB/외부 API 재호출 없이 응답 파생 (soft 만료가 지난 경우 백그라운드 갱신 1건 예약)
         if (cacheResult.isLevel1Hit()) {
-            log.info("=== 1단계 캐시 히트: 즉시 반환 ===");
-            return cacheResult.getCachedResponse();
+            if (cacheResult.isLevel1Stale()) {
+                log.info("=== 1단계 캐시 stale 히트: 즉시 반환 + 백그라운드 갱신 (경과: {}ms) ===",
+                        cacheResult.getLevel1AgeMillis());
+                scheduleLevel1Refresh(request, coverGeohashes, cacheResult.getLevel1AgeMillis());
+            } else {
+                log.info("=== 1단계 캐시 히트: 즉시 반환 ===");
+            }
+            snapshot = cacheResult.getCachedSnapshot();
+
+        } else {
+            // 1단계 캐시 미스: 같은 중심 격자로 동시에 미스된 요청은 leader 1건의 상위집합 계산 결과를 공유
+            String level1CacheKey = "dto:" + coverGeohashes.get(0);
+
+            snapshot = singleFlightService.execute(
+                    level1CacheKey,
+                    () -> lookupLevel1Snapshot(level1CacheKey),
+                    () -> computeSnapshot(request, concurrentStages, coverGeohashes, cacheResult, StageListener.NONE));
+        }
+
+        // R-05(반경 절단) ~ R-07: 요청 반경에 맞는 응답 파생
+        return deriveResponse(request, snapshot);
+    }
+
+    /**
+     * 일괄 위치 분석
+     *
+     * 좌표 N개를 개별 호출하면 1단계 캐시 조회 N회, 2단계 캐시 / DB 조회 최대 N회, 중복 격자의 상위집합 계산이 반복된다.
+     * 일괄 처리는 다음과 같이 공유한다.
+     *
+     * 1. R-01: 좌표별 격자 커버 계산 후 중심 격자 기준으로 묶음 (같은 중심 격자 = 같은 1단계 캐시 키 = 같은 상위집합)
+     * 2. R-02-1단계: 중심 격자 키 일괄 조회 (Near Cache → Redis MGET 1회), stale 키는 analyzeLocation 과 같이 백그라운드 갱신 예약
+     * 3. R-02-2단계 + R-03: 미스 묶음 전체의 격자 합집합(겹치는 커버 격자 중복 제거)을 MGET 1회 + DB IN 조회 1회로 적재
+     * 4. 미스 중심 격자별 상위집합 계산 (batchExecutor 병렬, SingleFlightService 로 동시 단건 요청과도 병합)
+     *    - 편의시설은 AmenityCellService 격자 캐시 / 진행 중 채우기 공유로 인접 묶음 간 카카오 호출을 공유
+     * 5. R-05 ~ R-07: 좌표별로 자신의 반경에 맞게 응답 파생
+     *
+     * 중심 격자 계산이 실패한 좌표는 analysisStatus = "FAILED" 응답으로 대체하고 나머지 좌표는 정상 응답한다.
+     */
+    @Override
+    public List<LocationAnalysisResponseDTO> analyzeLocations(List<LocationAnalysisRequestDTO> requests) {
+        log.info("=== 일괄 위치 분석 시작 - 좌표: {}개 ===", requests.size());
+        long startNs = System.nanoTime();
+
+        // 1. R-01: 중심 격자 기준 묶음 (묶음의 대표 좌표 = 첫 번째 좌표, 상위집합 계산 기준)
+        String[] centerByIndex = new String[requests.size()];
+        Map<String, List<String>> gridByCenter = new LinkedHashMap<>();
+        Map<String, LocationAnalysisRequestDTO> representativeByCenter = new HashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            LocationAnalysisRequestDTO request = requests.get(i);
+            List<String> coverGeohashes = geohashService.calculateCellCover(
+                    request.getLatitude(), request.getLongitude(), SUPERSET_RADIUS);
+
+            String centerGeohashId = coverGeohashes.get(0);
+            centerByIndex[i] = centerGeohashId;
+            cellPopularityService.recordHit(centerGeohashId);
+
+            if (gridByCenter.putIfAbsent(centerGeohashId, coverGeohashes) == null) {
+                representativeByCenter.put(centerGeohashId, request);
+            }
+        }
+
+        // 2. R-02-1단계: 중심 격자 키 일괄 조회
+        Map<String, CellAnalysisSnapshot> snapshots = lookupLevel1Snapshots(gridByCenter, representativeByCenter);
+        int level1Hits = snapshots.size();
+
+        // 3 ~ 4. 미스 중심 격자 상위집합 계산
+        List<String> missedCenters = new ArrayList<>();
+        for (String centerGeohashId : gridByCenter.keySet()) {
+            if (!snapshots.containsKey(centerGeohashId)) {
+                missedCenters.add(centerGeohashId);
+            }
+        }
+        if (!missedCenters.isEmpty()) {
+            snapshots.putAll(computeBatchSnapshots(missedCenters, gridByCenter, representativeByCenter));
+        }
+
+        // 5. 좌표별 응답 파생
+        List<LocationAnalysisResponseDTO> responses = new ArrayList<>(requests.size());
+        int failed = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            CellAnalysisSnapshot snapshot = snapshots.get(centerByIndex[i]);
+            if (snapshot == null) {
+                responses.add(failedResponse(requests.get(i)));
+                failed++;
+                continue;
+            }
+            responses.add(deriveResponse(requests.get(i), snapshot));
+        }
+
+        log.info("=== 일괄 위치 분석 완료 - 좌표: {}개, 중심 격자: {}개 (1단계 캐시 히트: {}개, 계산: {}개, 실패 좌표: {}개), 소요: {}ms ===",
+                requests.size(), gridByCenter.size(), level1Hits, missedCenters.size(), failed,
+                (System.nanoTime() - startNs) / 1_000_000);
+
+        return responses;
+    }
+
+    /**
+     * 일괄 분석 R-02-1단계: 중심 격자별 1단계 캐시 일괄 조회
+     *
+     * @return 히트(stale 포함)된 중심 격자별 상위집합 (미스 / hard 만료 / 역직렬화 실패 격자는 제외)
+     */
+    private Map<String, CellAnalysisSnapshot> lookupLevel1Snapshots(Map<String, List<String>> gridByCenter,
+                                                                    Map<String, LocationAnalysisRequestDTO> representativeByCenter) {
+        List<String> centerGeohashIds = new ArrayList<>(gridByCenter.keySet());
+        List<String> level1CacheKeys = new ArrayList<>(centerGeohashIds.size());
+        for (String centerGeohashId : centerGeohashIds) {
+            level1CacheKeys.add("dto:" + centerGeohashId);
+        }
+
+        List<byte[]> cachedValues;
+        try {
+            cachedValues = nearCacheDataService.getMultiBinaryData(level1CacheKeys, level1HardTtl);
+        } catch (Exception e) {
+            log.warn("[R-02-1단계] 일괄 캐시 조회 중 오류 - 전체 미스 처리, 오류: {}", e.getMessage());
+            cachedValues = Collections.nCopies(level1CacheKeys.size(), (byte[]) null);
+        }
+
+        Map<String, CellAnalysisSnapshot> snapshots = new HashMap<>();
+        for (int i = 0; i < centerGeohashIds.size(); i++) {
+            byte[] cachedBytes = cachedValues.get(i);
+            if (cachedBytes == null || cachedBytes.length == 0) {
+                continue;
+            }
+
+            String centerGeohashId = centerGeohashIds.get(i);
+            try {
+                Level1CacheEntry entry = cacheCodec.decode(cachedBytes, Level1CacheEntry.class);
+                if (!isCompactLayout(entry)) {
+                    continue;
+                }
+                long ageMillis = level1AgeMillis(entry);
+
+                if (ageMillis >= level1HardTtl.toMillis()) {
+                    continue;
+                }
+                if (ageMillis >= level1SoftTtl.toMillis()) {
+                    scheduleLevel1Refresh(representativeByCenter.get(centerGeohashId),
+                            gridByCenter.get(centerGeohashId), ageMillis);
+                }
+                snapshots.put(centerGeohashId, entry.getSnapshot());
+
+            } catch (Exception e) {
+                log.warn("[R-02-1단계] 캐시 역직렬화 실패 - 미스 처리, Key: {}, 오류: {}",
+                        level1CacheKeys.get(i), e.getMessage());
+            }
+        }
+
+        log.info("[R-02-1단계] 일괄 캐시 조회 완료 - 중심 격자: {}개, 히트: {}개", centerGeohashIds.size(), snapshots.size());
+        return snapshots;
+    }
+
+    /**
+     * 일괄 분석 R-02-2단계 ~ R-05: 미스 중심 격자별 상위집합 계산
+     *
+     * 격자 합집합을 한 번에 조회한 뒤 중심 격자마다 자신의 커버 격자 분량만 2단계 캐시 히트 상태로 넘겨
+     * computeSnapshot 내부의 R-03 에서 DB 를 다시 조회하지 않도록 한다.
+     *
+     * @return 계산에 성공한 중심 격자별 상위집합
+     */
+    private Map<String, CellAnalysisSnapshot> computeBatchSnapshots(List<String> missedCenters,
+                                                                    Map<String, List<String>> gridByCenter,
+                                                                    Map<String, LocationAnalysisRequestDTO> representativeByCenter) {
+        Set<String> unionGeohashes = new LinkedHashSet<>();
+        int coverSizeTotal = 0;
+        for (String centerGeohashId : missedCenters) {
+            unionGeohashes.addAll(gridByCenter.get(centerGeohashId));
+            coverSizeTotal += gridByCenter.get(centerGeohashId).size();
+        }
+
+        log.info("[R-02-2단계] 일괄 분석 격자 합집합 조회 - 중심 격자: {}개, 격자: {}개 (중복 제거 전: {}개)",
+                missedCenters.size(), unionGeohashes.size(), coverSizeTotal);
+
+        DatabaseQueryResult unionDbResult = performDatabaseQuery(performLevel2Lookup(new ArrayList<>(unionGeohashes)));
+
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        Map<String, CompletableFuture<CellAnalysisSnapshot>> futures = new LinkedHashMap<>();
+
+        for (String centerGeohashId : missedCenters) {
+            List<String> coverGeohashes = gridByCenter.get(centerGeohashId);
+            LocationAnalysisRequestDTO representative = representativeByCenter.get(centerGeohashId);
+            CacheResult cacheResult = sliceCacheResult(coverGeohashes, unionDbResult);
+            String level1CacheKey = "dto:" + centerGeohashId;
+
+            futures.put(centerGeohashId, CompletableFuture.supplyAsync(() -> {
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                try {
+                    return singleFlightService.execute(
+                            level1CacheKey,
+                            () -> lookupLevel1Snapshot(level1CacheKey),
+                            () -> computeSnapshot(representative, concurrentStagesEnabled,
+                                    coverGeohashes, cacheResult, StageListener.NONE));
+                } finally {
+                    MDC.clear();
+                }
+            }, batchExecutor));
+        }
+
+        Map<String, CellAnalysisSnapshot> snapshots = new HashMap<>();
+        for (Map.Entry<String, CompletableFuture<CellAnalysisSnapshot>> entry : futures.entrySet()) {
+            try {
+                CellAnalysisSnapshot snapshot = entry.getValue().join();
+                if (snapshot != null) {
+                    snapshots.put(entry.getKey(), snapshot);
+                }
+            } catch (CompletionException e) {
+                log.warn("[R-03] 일괄 분석 중심 격자 계산 실패 - 중심 격자: {}, 원인: {}",
+                        entry.getKey(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 격자 합집합 조회 결과에서 커버 격자 분량만 잘라 2단계 캐시 히트 상태의 CacheResult 로 구성
+     *
+     * - 합집합 결과에 없는 격자는 CCTV 가 없는 격자이므로 빈 목록으로 채운다.
+     * - 단, 합집합 DB 조회가 실패했다면 해당 격자를 미스로 남겨 computeSnapshot 의 R-03 에서 다시 조회하게 한다.
+     */
+    private CacheResult sliceCacheResult(List<String> coverGeohashes, DatabaseQueryResult unionDbResult) {
+        CacheResult result = new CacheResult();
+        result.setLevel1Hit(false);
+        result.setCoverGeohashes(coverGeohashes);
+
+        if (cctvSpatialIndex.isReady()) {
+            return result;
+        }
+
+        for (String geohashId : coverGeohashes) {
+            List<CctvGeo> cctvInGrid = unionDbResult.getCctvData().get(geohashId);
+
+            if (cctvInGrid != null) {
+                result.addCachedCctv(geohashId, cctvInGrid);
+            } else if (unionDbResult.hasErrors()) {
+                result.addCctvMiss(geohashId);
+            } else {
+                result.addCachedCctv(geohashId, Collections.emptyList());
+            }
+        }
+        return result;
+    }
+
+    /* 일괄 분석에서 계산에 실패한 좌표의 응답 (좌표만 포함) */
+    private LocationAnalysisResponseDTO failedResponse(LocationAnalysisRequestDTO request) {
+        CoordinateDto coordinate = new CoordinateDto();
+        coordinate.setLatitude(request.getLatitude());
+        coordinate.setLongitude(request.getLongitude());
+
+        LocationAnalysisResponseDTO response = new LocationAnalysisResponseDTO();
+        response.setAnalysisStatus("FAILED");
+        response.setCoordinate(coordinate);
+        return response;
+    }
+
+    /**
+     * 스트리밍 위치 분석: 전용 스레드 풀에서 분석을 수행하며 단계 완료 시마다 이벤트를 전달한다.
+     *
+     * 이벤트 (페이로드는 최종 응답과 같은 DTO 를 사용하므로 클라이언트는 같은 필드명으로 처리할 수 있다):
+     * - grid    : 격자 커버 목록, 1단계 캐시 히트 여부
+     * - cctv    : 반경 내 CCTV 목록 / 가장 가까운 파출소 (SafetyScoreDto, total / arrest_rate 제외)
+     * - safety  : 검거율까지 반영된 안전성 정보 (SafetyScoreDto)
+     * - address : 주소 (AddressDto)
+     * - amenity : 카테고리 1개 분량의 편의시설 (AmenityDetailDto, 반경 내 장소가 없는 카테고리는 생략)
+     * - result  : 최종 응답 (LocationAnalysisResponseDTO, analyzeLocation 결과와 동일)
+     * - error   : 처리 중 오류
+     */
+    @Override
+    public CompletableFuture<Void> analyzeLocationProgressively(LocationAnalysisRequestDTO request,
+                                                                LocationAnalysisEventSink sink) {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        ProgressiveEmitter emitter = new ProgressiveEmitter(sink);
+
+        try {
+            return CompletableFuture.runAsync(() -> {
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                try {
+                    streamAnalysis(request, emitter);
+                } finally {
+                    MDC.clear();
+                }
+            }, streamExecutor);
+
+        } catch (RejectedExecutionException e) {
+            log.warn("[Stream] 스트리밍 분석 큐 포화 - 요청 거절");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 스트리밍 위치 분석 본문
+     *
+     * - 1단계 캐시 히트: 파생 응답을 단계별 이벤트로 나누어 즉시 전달
+     * - 1단계 캐시 미스: 동시 실행 단계(performStagesConcurrently)의 완료 통지를 받아 요청 반경으로 잘라 전달하고,
+     *   상위집합 계산 / 1단계 캐시 저장은 analyzeLocation 과 같은 경로로 수행한다.
+     *   단, 단계별 통지를 받아야 하므로 SingleFlightService 로 병합하지 않는다. (같은 격자 동시 미스 시 각자 계산)
+     */
+    private void streamAnalysis(LocationAnalysisRequestDTO request, ProgressiveEmitter emitter) {
+        log.info("=== 위치 분석 스트리밍 시작 ===");
+        log.info("요청 좌표: latitude={}, longitude={}, radius={}",
+                request.getLatitude(), request.getLongitude(), request.getRadius());
+
+        try {
+            // R-01: 상위집합 반경을 덮는 격자 목록 계산
+            List<String> coverGeohashes = calculateCellCover(request);
+            cellPopularityService.recordHit(coverGeohashes.get(0));
+
+            // R-02: 단계별 캐시 조회
+            CacheResult cacheResult = performCacheLookup(coverGeohashes, request);
+
+            Map<String, Object> grid = new LinkedHashMap<>();
+            grid.put("geohashes", coverGeohashes);
+            grid.put("level1_hit", cacheResult.isLevel1Hit());
+
+            // 사전 계산 격자 점수 (셀 중심 기준 근사값, O(1)) - 정확한 점수는 safety / result 이벤트로 이어서 전달
+            int tileScore = safetyTileGrid.scoreAt(request.getLatitude(), request.getLongitude());
+            if (tileScore != SafetyTileGrid.NO_DATA) {
+                grid.put("safety_tile_score", tileScore);
+            }
+            emitter.send("grid", grid);
+
+            LocationAnalysisResponseDTO response;
+
+            if (cacheResult.isLevel1Hit()) {
+                if (cacheResult.isLevel1Stale()) {
+                    scheduleLevel1Refresh(request, coverGeohashes, cacheResult.getLevel1AgeMillis());
+                }
+                response = deriveResponse(request, cacheResult.getCachedSnapshot());
+                emitDerivedStages(response, emitter);
+
+            } else {
+                CellAnalysisSnapshot snapshot = computeSnapshot(request, true, coverGeohashes, cacheResult,
+                        new ProgressiveStageListener(request, coverGeohashes, emitter));
+                response = deriveResponse(request, snapshot);
+            }
+
+            emitter.finish("result", response);
+            log.info("=== 위치 분석 스트리밍 완료 ===");
+
+        } catch (Exception e) {
+            log.error("위치 분석 스트리밍 중 오류 발생", e);
+            emitter.finish("error", Map.of("message", "위치 분석 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 1단계 캐시 히트 시 파생 응답을 단계별 이벤트로 나누어 전달 (cctv → safety → address → amenity)
+     */
+    private void emitDerivedStages(LocationAnalysisResponseDTO response, ProgressiveEmitter emitter) {
+        if (response.getSafetyScore() != null) {
+            emitter.send("cctv", safetyLayerOf(response.getSafetyScore()));
+            emitter.send("safety", response.getSafetyScore());
+        }
+        if (response.getAddress() != null) {
+            emitter.send("address", response.getAddress());
+        }
+        if (response.getConvenienceScore() != null && response.getConvenienceScore().getAmenityDetails() != null) {
+            for (com.wherehouse.information.model.AmenityDetailDto amenityDetail
+                    : response.getConvenienceScore().getAmenityDetails()) {
+                emitter.send("amenity", amenityDetail);
+            }
         }
+    }
+
+    /* cctv 이벤트 페이로드: 검거율 / 종합 점수가 정해지기 전의 안전 인프라 정보만 포함 */
+    private SafetyScoreDto safetyLayerOf(SafetyScoreDto safetyScore) {
+        return SafetyScoreDto.builder()
+                .policeDistance(safetyScore.getPoliceDistance())
+                .cctvCount(safetyScore.getCctvCount())
+                .cctvList(safetyScore.getCctvList())
+                .nearestPoliceOffice(safetyScore.getNearestPoliceOffice())
+                .build();
+    }
+
+    /**
+     * R-03 ~ R-05: 1단계 캐시 미스 시 최대 반경(SUPERSET_RADIUS) 기준 격자 상위집합 계산 및 1단계 캐시 저장
+     * (SingleFlightService 의 leader 만 실행)
+     *
+     * 요청 반경과 무관하게 항상 최대 반경으로 CCTV / 편의시설을 조회하므로
+     * 같은 격자의 다른 반경 요청도 이 결과 하나로 응답할 수 있다.
+     *
+     * 단계 실패 / 타임아웃으로 기본값이 섞인 결과는 이번 응답에만 사용하고 1단계 캐시에 저장하지 않는다.
+     * (카카오 타임아웃 1회가 hard 만료까지 같은 격자의 모든 요청에 고정되지 않도록, 기존 항목이 있으면 그대로 둔다)
+     *
+     * @param stageListener 동시 실행 단계 완료 통지 대상 (스트리밍 응답용, 순차 실행 시 호출되지 않음)
+     */
+    private CellAnalysisSnapshot computeSnapshot(LocationAnalysisRequestDTO request,
+                                                 boolean concurrentStages,
+                                                 List<String> coverGeohashes,
+                                                 CacheResult cacheResult,
+                                                 StageListener stageListener) {
+
+        LocationAnalysisRequestDTO supersetRequest = LocationAnalysisRequestDTO.builder()
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .radius(SUPERSET_RADIUS)
+                .build();
 
-        // R-03: 선택된 데이터베이스 조회
-        DatabaseQueryResult dbResult = performDatabaseQuery(cacheResult);
+        DatabaseQueryResult dbResult;
+        ExternalApiResult apiResult;
 
-        // R-04: 외부 API 호출 및 개별 데이터 캐싱
-        ExternalApiResult apiResult = performExternalApiCalls(request);
+        if (concurrentStages) {
+            // R-03 + R-04 + R-05(파출소 조회): 의존성 그래프 기반 동시 실행
+            StageResults stageResults = performStagesConcurrently(supersetRequest, cacheResult, stageListener);
+            dbResult = stageResults.getDbResult();
+            apiResult = stageResults.getApiResult();
+        } else {
+            // R-03: 선택된 데이터베이스 조회
+            dbResult = performDatabaseQuery(cacheResult);
+
+            // R-04: 외부 API 호출 및 개별 데이터 캐싱
+            apiResult = performExternalApiCalls(supersetRequest);
+        }
 
-        // R-05: 데이터 통합, 필터링
+        // R-05: 데이터 통합, 최대 반경 필터링
         IntegratedDataResult integratedResult = integrateAndFilterData(
-                request, dbResult, apiResult, nineBlockGeohashes);
+                supersetRequest, dbResult, apiResult, coverGeohashes);
+
+        CellAnalysisSnapshot snapshot = toSnapshot(supersetRequest, integratedResult);
+
+        // 1단계 캐시에 저장 (저장 시각 포함, Redis TTL: hard 만료) - 단계 실패 결과는 저장 생략
+        if (dbResult.hasErrors() || apiResult.hasErrors()) {
+            level1DegradedSkipCount.incrementAndGet();
+            log.warn("[R-05] 단계 실패 결과 - 1단계 캐시 저장 생략 - Key: dto:{}, 오류: {}",
+                    coverGeohashes.get(0), combineErrors(dbResult, apiResult));
+        } else {
+            cacheLevel1Snapshot(coverGeohashes.get(0), snapshot);
+        }
+
+        return snapshot;
+    }
+
+    private static List<String> combineErrors(DatabaseQueryResult dbResult, ExternalApiResult apiResult) {
+        List<String> errors = new ArrayList<>(dbResult.getErrors());
+        errors.addAll(apiResult.getErrors());
+        return errors;
+    }
+
+    /**
+     * 최대 반경 통합 결과를 상위집합으로 변환
+     *
+     * CCTV 는 관리 번호 / 좌표 / 카메라 대수만 열 단위 배열로 보관한다. (주소는 파생 시 남은 CCTV 만 복원)
+     * 거리 / 정렬은 파생 요청 좌표 기준으로 다시 계산하므로 저장하지 않는다.
+     */
+    private CellAnalysisSnapshot toSnapshot(LocationAnalysisRequestDTO supersetRequest, IntegratedDataResult integratedResult) {
+        List<CctvGeo> filteredCctvList = integratedResult.getFilteredCctvList();
+        int cctvCount = filteredCctvList.size();
+
+        long[] cctvNumbers = new long[cctvCount];
+        double[] cctvLatitudes = new double[cctvCount];
+        double[] cctvLongitudes = new double[cctvCount];
+        int[] cctvCameraCounts = new int[cctvCount];
+        for (int i = 0; i < cctvCount; i++) {
+            CctvGeo cctv = filteredCctvList.get(i);
+            cctvNumbers[i] = cctv.getNumbers() != null ? cctv.getNumbers() : 0L;
+            cctvLatitudes[i] = cctv.getLatitude();
+            cctvLongitudes[i] = cctv.getLongitude();
+            cctvCameraCounts[i] = cctv.getCameraCount() != null ? cctv.getCameraCount() : 0;
+        }
+
+        return CellAnalysisSnapshot.builder()
+                .originLatitude(supersetRequest.getLatitude())
+                .originLongitude(supersetRequest.getLongitude())
+                .supersetRadius(supersetRequest.getRadius())
+                .cctvNumbers(cctvNumbers)
+                .cctvLatitudes(cctvLatitudes)
+                .cctvLongitudes(cctvLongitudes)
+                .cctvCameraCounts(cctvCameraCounts)
+                .nearestPolice(integratedResult.getNearestPolice())
+                .distanceToNearestPolice(integratedResult.getDistanceToNearestPolice())
+                .address(integratedResult.getAddress())
+                .arrestRate(integratedResult.getArrestRate())
+                .amenityDetails(convertToAmenityDetailDtos(integratedResult.getAmenityDetails()))
+                .build();
+    }
+
+    /**
+     * 격자 상위집합에서 요청 반경에 맞는 응답 파생 (Redis / 카카오 API 호출 없음, Oracle 은 CCTV 인덱스 미적재 시 주소 조회만)
+     *
+     * 상위집합의 거리는 기준 좌표(상위집합을 계산한 요청) 기준이고, 같은 중심 격자의 다른 요청 좌표와는 격자 대각선까지 어긋난다.
+     * 따라서 반경 판정 / 정렬 / 보고 거리는 모두 이번 요청 좌표 기준 RadiusFilter 로 다시 계산한다.
+     *
+     * 1. CCTV: 요청 좌표 기준 반경 안 항목만 남기고 가까운 순 정렬, 남은 항목만 주소 복원
+     * 2. 편의시설: 카테고리별로 요청 좌표 기준 거리 재계산 → 반경 안 장소만 가까운 순으로 남기고 개수 / 최근접 거리 재계산
+     *    (남은 장소가 없는 카테고리는 제외)
+     * 3. 파출소: 요청 좌표 기준 거리 재계산 / 주소 / 검거율: 반경과 무관하므로 그대로 사용
+     * 4. R-06 점수 계산, R-07 응답 생성
+     */
+    private LocationAnalysisResponseDTO deriveResponse(LocationAnalysisRequestDTO request, CellAnalysisSnapshot snapshot) {
+        double latitude = request.getLatitude();
+        double longitude = request.getLongitude();
+
+        // 상위집합이 요청 원을 온전히 덮는 반경까지만 파생 (여유가 없던 이전 캐시 항목 대비)
+        double originOffset = geohashService.calculateDistance(
+                snapshot.getOriginLatitude(), snapshot.getOriginLongitude(), latitude, longitude);
+        int radius = (int) Math.min(request.getRadius(), Math.floor(snapshot.getSupersetRadius() - originOffset));
+        if (radius < request.getRadius()) {
+            log.warn("[R-05] 상위집합({}m)이 요청 원을 덮지 못함 - 기준 좌표와 {}m 차이, 반경 {}m → {}m 로 파생",
+                    snapshot.getSupersetRadius(), Math.round(originOffset), request.getRadius(), radius);
+        }
+
+        RadiusFilter radiusFilter = RadiusFilter.of(latitude, longitude, radius);
+
+        IntegratedDataResult result = new IntegratedDataResult();
+
+        // CCTV: 요청 좌표 기준 반경 판정 후 거리 오름차순
+        long[] cctvNumbers = snapshot.getCctvNumbers();
+        double[] cctvLatitudes = snapshot.getCctvLatitudes();
+        double[] cctvLongitudes = snapshot.getCctvLongitudes();
+        int[] cctvCameraCounts = snapshot.getCctvCameraCounts();
+        int supersetCctvCount = cctvLatitudes.length;
+
+        int[] within = new int[supersetCctvCount];
+        int cctvCount = radiusFilter.filter(cctvLatitudes, cctvLongitudes, 0, supersetCctvCount, within, 0);
+
+        double[] distances = new double[supersetCctvCount];
+        Integer[] order = new Integer[cctvCount];
+        for (int i = 0; i < cctvCount; i++) {
+            int index = within[i];
+            distances[index] = radiusFilter.distance(cctvLatitudes[index], cctvLongitudes[index]);
+            order[i] = index;
+        }
+        Arrays.sort(order, (i1, i2) -> Double.compare(distances[i1], distances[i2]));
+
+        String[] addresses = resolveCctvAddresses(cctvNumbers, order);
+
+        List<CctvGeo> filteredCctvList = new ArrayList<>(cctvCount);
+        int totalCameraCount = 0;
+        for (int i = 0; i < cctvCount; i++) {
+            int index = order[i];
+            filteredCctvList.add(CctvGeo.builder()
+                    .numbers(cctvNumbers[index])
+                    .address(addresses[i])
+                    .latitude(cctvLatitudes[index])
+                    .longitude(cctvLongitudes[index])
+                    .cameraCount(cctvCameraCounts[index])
+                    .build());
+            totalCameraCount += cctvCameraCounts[index];
+        }
+        result.setFilteredCctvList(filteredCctvList);
+        result.setTotalCameraCount(totalCameraCount);
+
+        PoliceOfficeGeo nearestPolice = snapshot.getNearestPolice();
+        result.setNearestPolice(nearestPolice);
+        result.setDistanceToNearestPolice(nearestPolice != null
+                ? radiusFilter.distance(nearestPolice.getLatitude(), nearestPolice.getLongitude())
+                : snapshot.getDistanceToNearestPolice());
+        result.setAddress(snapshot.getAddress());
+        result.setDistrict(resolveDistrict(request.getLatitude(), request.getLongitude(), snapshot.getAddress()));
+        result.setArrestRate(snapshot.getArrestRate());
+
+        // 편의시설: 카테고리별로 요청 좌표 기준 거리 재계산 후 반경 절단 / 정렬
+        List<AmenityDetailDto> amenityDetails = new ArrayList<>();
+        if (snapshot.getAmenityDetails() != null) {
+            for (com.wherehouse.information.model.AmenityDetailDto superset : snapshot.getAmenityDetails()) {
+                List<PlaceDto> places = new ArrayList<>();
+                for (com.wherehouse.information.model.PlaceDto place : superset.getPlaces()) {
+                    if (radiusFilter.contains(place.getLatitude(), place.getLongitude())) {
+                        PlaceDto placeDto = new PlaceDto();
+                        placeDto.setName(place.getName());
+                        placeDto.setLatitude(place.getLatitude());
+                        placeDto.setLongitude(place.getLongitude());
+                        placeDto.setDistance((int) Math.round(radiusFilter.distance(place.getLatitude(), place.getLongitude())));
+                        places.add(placeDto);
+                    }
+                }
+
+                if (places.isEmpty()) {
+                    continue;
+                }
+                places.sort(Comparator.comparingInt(PlaceDto::getDistance));
+
+                AmenityDetailDto amenityDetail = new AmenityDetailDto();
+                amenityDetail.setCategoryCode(superset.getCategoryCode());
+                amenityDetail.setCategoryName(superset.getCategoryName());
+                amenityDetail.setCount(places.size());
+                amenityDetail.setClosestDistance(places.get(0).getDistance());
+                amenityDetail.setPlaces(places);
+                amenityDetails.add(amenityDetail);
+            }
+        }
+        result.setAmenityDetails(amenityDetails);
+
+        log.info("[R-05] 상위집합({}m)에서 반경 {}m 파생 - CCTV: {}/{}개, 편의시설 카테고리: {}개",
+                snapshot.getSupersetRadius(), radius, cctvCount, supersetCctvCount, amenityDetails.size());
 
         // R-06: 최종 점수 계산
-        ScoringResult scoringResult = calculateScores(integratedResult);
+        ScoringResult scoringResult = calculateScores(result);
 
-        // R-07: 최종 응답 생성 및 캐싱
-        LocationAnalysisResponseDTO response = buildFinalResponse(
-                request, integratedResult, scoringResult, nineBlockGeohashes.get(0));
+        // R-07: 최종 응답 생성
+        return buildFinalResponse(request, result, scoringResult);
+    }
 
-        return response;
+    /**
+     * 요청 반경으로 남은 CCTV 의 주소 복원 (1단계 캐시 상위집합은 주소를 보관하지 않음)
+     *
+     * - CCTV 메모리 공간 인덱스가 적재되어 있으면 관리 번호로 찾는다. (인덱스에 없는 번호는 ETL 로 사라진 지점이므로 주소 없음)
+     * - 인덱스 미적재 시에만 CCTV_GEO 를 관리 번호로 조회한다. (IN 목록 1000건 단위)
+     *
+     * @param order 남은 CCTV 의 상위집합 위치 (응답 순서)
+     * @return order 와 같은 순서의 주소 (찾지 못하면 null)
+     */
+    private String[] resolveCctvAddresses(long[] cctvNumbers, Integer[] order) {
+        String[] addresses = new String[order.length];
+
+        if (cctvSpatialIndex.isReady()) {
+            for (int i = 0; i < order.length; i++) {
+                addresses[i] = cctvSpatialIndex.findAddress(cctvNumbers[order[i]]);
+            }
+            return addresses;
+        }
+
+        try {
+            Map<Long, String> addressByNumber = new HashMap<>();
+            for (int from = 0; from < order.length; from += CCTV_ID_LOOKUP_CHUNK) {
+                List<Long> ids = new ArrayList<>(CCTV_ID_LOOKUP_CHUNK);
+                for (int i = from; i < Math.min(order.length, from + CCTV_ID_LOOKUP_CHUNK); i++) {
+                    ids.add(cctvNumbers[order[i]]);
+                }
+                for (CctvGeo cctv : cctvGeoRepository.findAllById(ids)) {
+                    addressByNumber.put(cctv.getNumbers(), cctv.getAddress());
+                }
+            }
+            for (int i = 0; i < order.length; i++) {
+                addresses[i] = addressByNumber.get(cctvNumbers[order[i]]);
+            }
+        } catch (Exception e) {
+            log.warn("[R-05] CCTV 주소 복원 실패 - 주소 없이 응답, 대상: {}건, 오류: {}", order.length, e.getMessage());
+        }
+        return addresses;
+    }
+
+    /**
+     * 1단계 캐시에 격자 상위집합 저장 (Redis TTL: hard 만료)
+     */
+    private void cacheLevel1Snapshot(String centerGeohashId, CellAnalysisSnapshot snapshot) {
+        String cacheKey = "dto:" + centerGeohashId;
+
+        try {
+            byte[] encoded = cacheCodec.encode(Level1CacheEntry.builder()
+                    .cachedAtEpochMillis(System.currentTimeMillis())
+                    .snapshot(snapshot)
+                    .build());
+
+            nearCacheDataService.setBinaryData(cacheKey, encoded, level1HardTtl);
+
+            log.info("[R-05] 격자 상위집합 캐싱 완료 - Key: {}, 크기: {}B", cacheKey, encoded.length);
+
+        } catch (Exception e) {
+            log.warn("[R-05] 격자 상위집합 캐싱 실패 - Key: {}, 오류: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 1단계 캐시 백그라운드 갱신 예약 (stale-while-revalidate)
+     *
+     * - 같은 키의 갱신이 진행 중이면 예약하지 않는다. (키당 1건)
+     * - 갱신은 2단계 캐시 조회부터 상위집합 계산 / 1단계 캐시 저장까지 동일한 경로로 수행되며, 저장 시각이 갱신되어 다시 fresh 상태가 된다.
+     * - 갱신 큐가 가득 차면 예약하지 않고, 해당 키는 다음 stale 히트 또는 hard 만료 후 미스 시점에 다시 계산된다.
+     */
+    private void scheduleLevel1Refresh(LocationAnalysisRequestDTO request, List<String> coverGeohashes, long staleAgeMillis) {
+        String level1CacheKey = "dto:" + coverGeohashes.get(0);
+
+        level1StaleHitCount.incrementAndGet();
+        level1StaleAgeTotalMillis.addAndGet(staleAgeMillis);
+        level1StaleAgeMaxMillis.accumulateAndGet(staleAgeMillis, Math::max);
+
+        if (!level1RefreshingKeys.add(level1CacheKey)) {
+            level1RefreshSkippedCount.incrementAndGet();
+            log.debug("[R-02-1단계] 백그라운드 갱신 진행 중 - 예약 생략, Key: {}", level1CacheKey);
+            return;
+        }
+
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        try {
+            level1RefreshExecutor.execute(() -> {
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                long startNs = System.nanoTime();
+                try {
+                    CacheResult level2Result = performLevel2Lookup(coverGeohashes);
+                    computeSnapshot(request, concurrentStagesEnabled, coverGeohashes, level2Result, StageListener.NONE);
+
+                    level1RefreshSucceededCount.incrementAndGet();
+                    log.info("[R-02-1단계] 백그라운드 갱신 완료 - Key: {}, 소요: {}ms",
+                            level1CacheKey, (System.nanoTime() - startNs) / 1_000_000);
+
+                } catch (Exception e) {
+                    level1RefreshFailedCount.incrementAndGet();
+                    log.warn("[R-02-1단계] 백그라운드 갱신 실패 - Key: {}, 원인: {}", level1CacheKey, e.getMessage());
+
+                } finally {
+                    level1RefreshingKeys.remove(level1CacheKey);
+                    MDC.clear();
+                }
+            });
+            level1RefreshStartedCount.incrementAndGet();
+
+        } catch (RejectedExecutionException e) {
+            level1RefreshingKeys.remove(level1CacheKey);
+            level1RefreshRejectedCount.incrementAndGet();
+            log.warn("[R-02-1단계] 백그라운드 갱신 큐 포화 - 예약 생략, Key: {}", level1CacheKey);
+        }
+    }
+
+    /**
+     * 중심 격자 1단계 캐시 예열 (ETL 이후 Level1CacheWarmupProcessor 에서 호출)
+     *
+     * - 격자 중심 좌표를 기준으로 백그라운드 갱신과 같은 경로(2단계 캐시 조회 → 상위집합 계산 → 1단계 캐시 저장)를 수행한다.
+     *   DB 조회 결과 / 주소 / 편의시설 격자 / 검거율 등 개별 캐시도 이 과정에서 함께 채워진다.
+     * - 기존 1단계 엔트리가 있어도 ETL 이전 데이터이므로 다시 계산한다.
+     * - 같은 키의 백그라운드 갱신이 진행 중이면 생략한다. (level1RefreshingKeys 공유)
+     */
+    @Override
+    public boolean warmUpCell(String centerGeohashId) {
+        String level1CacheKey = "dto:" + centerGeohashId;
+
+        if (!level1RefreshingKeys.add(level1CacheKey)) {
+            log.debug("[R-02-1단계] 갱신 진행 중 - 예열 생략, Key: {}", level1CacheKey);
+            return false;
+        }
+
+        try {
+            long centerCell = GeohashCodec.fromBase32(centerGeohashId);
+            LocationAnalysisRequestDTO request = LocationAnalysisRequestDTO.builder()
+                    .latitude(GeohashCodec.centerLatitude(centerCell))
+                    .longitude(GeohashCodec.centerLongitude(centerCell))
+                    .radius(SUPERSET_RADIUS)
+                    .build();
+
+            List<String> coverGeohashes = geohashService.calculateCellCover(
+                    request.getLatitude(), request.getLongitude(), SUPERSET_RADIUS);
+
+            CacheResult level2Result = performLevel2Lookup(coverGeohashes);
+            computeSnapshot(request, concurrentStagesEnabled, coverGeohashes, level2Result, StageListener.NONE);
+            return true;
+
+        } finally {
+            level1RefreshingKeys.remove(level1CacheKey);
+        }
+    }
+
+    /**
+     * 1단계 캐시 stale 응답 및 백그라운드 갱신 통계
+     */
+    @Override
+    public Map<String, Object> getLevel1RefreshStats() {
+        long staleHits = level1StaleHitCount.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("softTtlSeconds", level1SoftTtl.getSeconds());
+        stats.put("hardTtlSeconds", level1HardTtl.getSeconds());
+        stats.put("staleHits", staleHits);
+        stats.put("avgStaleAgeMillis", staleHits == 0 ? 0 : level1StaleAgeTotalMillis.get() / staleHits);
+        stats.put("maxStaleAgeMillis", level1StaleAgeMaxMillis.get());
+        stats.put("refreshStarted", level1RefreshStartedCount.get());
+        stats.put("refreshSucceeded", level1RefreshSucceededCount.get());
+        stats.put("refreshFailed", level1RefreshFailedCount.get());
+        stats.put("refreshSkipped", level1RefreshSkippedCount.get());
+        stats.put("refreshRejected", level1RefreshRejectedCount.get());
+        stats.put("degradedNotCached", level1DegradedSkipCount.get());
+        stats.put("refreshInFlight", level1RefreshingKeys.size());
+        return stats;
+    }
+
+    /**
+     * 1단계 캐시 재조회 (SingleFlightService leader 의 재확인 및 노드 간 대기 시 사용)
+     *
+     * @return 캐시된 격자 상위집합 (미스, hard 만료 또는 역직렬화 실패 시 null)
+     */
+    private CellAnalysisSnapshot lookupLevel1Snapshot(String level1CacheKey) {
+        try {
+            byte[] cachedBytes = nearCacheDataService.getBinaryData(level1CacheKey, level1HardTtl);
+            Level1CacheEntry entry = cacheCodec.decode(cachedBytes, Level1CacheEntry.class);
+            if (entry == null || !isCompactLayout(entry) || level1AgeMillis(entry) >= level1HardTtl.toMillis()) {
+                return null;
+            }
+            return entry.getSnapshot();
+
+        } catch (Exception e) {
+            log.warn("[R-02-1단계] 캐시 재조회 실패 - Key: {}, 원인: {}", level1CacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /*
+     * CCTV 열 배열 형식 엔트리 여부. CctvGeo 목록으로 저장하던 이전 엔트리는 CCTV 배열이 없으므로 미스로 처리하여
+     * 다시 계산 / 저장되게 한다. (hard 만료 안에 모두 교체됨)
+     */
+    private static boolean isCompactLayout(Level1CacheEntry entry) {
+        CellAnalysisSnapshot snapshot = entry.getSnapshot();
+        return snapshot != null && snapshot.getCctvLatitudes() != null;
+    }
+
+    /* 1단계 캐시 엔트리 저장 후 경과 시간 (노드 간 시계 차이로 음수가 되면 0) */
+    private long level1AgeMillis(Level1CacheEntry entry) {
+        return Math.max(0, System.currentTimeMillis() - entry.getCachedAtEpochMillis());
     }
 
     /**
-     * R-01: '9-Block' 그리드 범위 계산
+     * R-01: 격자 커버 계산
      *
-     * 사용자가 요청한 좌표를 기반으로 Geohash 기반 9개 격자(3x3 그리드) ID를 생성한다.
-     * 이는 사용자의 분석 반경이 단일 격자를 초과하여 인접 격자에 걸쳐 있을 가능성을
-     * 구조적으로 해결하기 위한 검색 범위 확장 메커니즘이다.
+     * 요청 좌표 중심 상위집합 반경(SUPERSET_RADIUS) 원을 덮는 Geohash 격자 목록을 생성한다. (GeohashCellCover)
+     * 격자 상위집합은 같은 중심 격자의 모든 반경 요청이 공유하므로, 요청 반경이 아닌 최대 반경 기준으로 덮는다.
      *
      * 처리 흐름
-     * 1. 요청 좌표를 7자리 정밀도 Geohash로 인코딩하여 중심 격자 ID 생성
-     * 2. 중심 격자 주변 8방향의 인접 격자 ID 계산 (총 9개)
-     * 3. 계산된 격자 ID 목록을 다음 단계(R-02)로 전달
+     * 1. 요청 좌표를 7자리 정밀도 Geohash로 인코딩하여 중심 격자 ID 생성 (0번, 1단계 캐시 키)
+     * 2. 원과 겹치는 격자 계산 (원 안에 완전히 들어오는 영역은 6자리 이하 굵은 격자, 경계는 7자리)
+     * 3. 계산된 격자 ID 목록을 다음 단계(R-02)로 전달 (2단계 캐시 키 / R-03 DB 조회 범위)
      *
      * 설계 근거
-     * - 7자리 정밀도 Geohash: 약 150m × 150m 격자 단위
-     * - 9-Block 그리드: 약 450m × 450m 영역 커버 (사용자 요청 반경 500m 포함)
-     * - 경계 문제 해결: 좌표가 격자 경계 근처에 있어도 모든 데이터 포착 보장
+     * - 기존 9-Block(약 450m × 450m)은 반경과 무관하게 고정이어서 큰 반경의 CCTV 를 누락하였다.
+     * - 격자 커버는 원과 겹치지 않는 격자를 포함하지 않으므로 조회 범위가 원의 경계 상자보다 작다.
      *
      * @param request 사용자 요청 DTO (위도, 경도 포함)
-     * @return 9개의 Geohash ID 목록 (중심 1개 + 인접 8개)
+     * @return 격자 ID 목록 (0번: 7자리 중심 격자, 이후: 서로 겹치지 않는 정밀도 혼합 격자)
      */
-    private List<String> calculate9BlockGrid(LocationAnalysisRequestDTO request) {
+    private List<String> calculateCellCover(LocationAnalysisRequestDTO request) {
 
         // [계측 주석 처리] R-01 전체 Step 계측 시작
         // PerformanceLogger perfLogger = PerformanceLogger.start(
         //         "R-01",                              // step
-        //         "calculate9BlockGrid",               // action
+        //         "calculateCellCover",               // action
         //         "Service",                           // layer
         //         "LocationAnalysisServiceImpl",       // class
-        //         "calculate9BlockGrid"                // method
+        //         "calculateCellCover"                // method
         // );
 
         // [계측 주석 처리] 본 루직 결과 담을 빈 dto
@@ -159,7 +1119,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
 
         try {
 
-            log.info("[R-01] 9-Block 그리드 범위 계산 시작");
+            log.info("[R-01] 격자 커버 계산 시작");
 
             log.info("[R-01] 요청 좌표: lat={}, lon={}",
                     request.getLatitude(), request.getLongitude());
@@ -167,26 +1127,26 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             double latitude = request.getLatitude();
             double longitude = request.getLongitude();
 
-            // GeohashService를 통해 중심 격자 + 인접 8개 격자 = 총 9개 격자 ID 생성
-            List<String> nineBlockIds = geohashService.calculate9BlockGeohashes(latitude, longitude);
+            // GeohashService를 통해 상위집합 반경 원을 덮는 격자 ID 생성 (0번: 중심 격자)
+            List<String> cellCoverIds = geohashService.calculateCellCover(latitude, longitude, SUPERSET_RADIUS);
 
             // [계측 주석 처리] 로깅 : 성공 결과 dto 에 넣을 값 설정
-            // result.setCenterGeohashId(nineBlockIds.get(0));
-            // result.setNineBlockGeohashes(nineBlockIds);
-            // result.setTotalGridCount(nineBlockIds.size());
+            // result.setCenterGeohashId(cellCoverIds.get(0));
+            // result.setNineBlockGeohashes(cellCoverIds);
+            // result.setTotalGridCount(cellCoverIds.size());
             // result.setSuccess(true);
 
             // perfLogger.setResultData(result);
 
-            log.info("[R-01] 계산된 9-Block 그리드: {}", nineBlockIds);
-            log.info("[R-01] 중심 격자 ID: {}", nineBlockIds.get(0));
+            log.info("[R-01] 계산된 격자 커버: {}개", cellCoverIds.size());
+            log.info("[R-01] 중심 격자 ID: {}", cellCoverIds.get(0));
 
 
             // 본 로직 : 결과 반환
-            return nineBlockIds;
+            return cellCoverIds;
 
         } catch(Exception e) {
-            log.error("[R-01] 9-Block 그리드 계산 실패", e);
+            log.error("[R-01] 격자 커버 계산 실패", e);
 
             // [계측 주석 처리] 로깅 : 실패 결과 dto 에 넣을 값 설정
             // result.setSuccess(false);
@@ -202,7 +1162,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         }
     }
 
-    private CacheResult performCacheLookup(List<String> nineBlockGeohashes,
+    private CacheResult performCacheLookup(List<String> coverGeohashes,
                                            LocationAnalysisRequestDTO request) {
 
         // [계측 주석 처리] R-02 PerformanceLogger
@@ -216,8 +1176,8 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
 
         // [계측 주석 처리] 본 로직 결과 담을 r-02 로직에 대한 dto 초기화.
         // R02CacheResult r02CacheResult = R02CacheResult.builder()
-        //         .centerGeohashId(nineBlockGeohashes.get(0))
-        //         .nineBlockGeohashes(nineBlockGeohashes)
+        //         .centerGeohashId(coverGeohashes.get(0))
+        //         .nineBlockGeohashes(coverGeohashes)
         //         .l1CacheHit(false)
         //         .l2CacheRequired(false)
         //         .isSuccess(false)
@@ -226,7 +1186,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
 
         log.info("[R-02] 단계별 캐시 조회 시작");
 
-        String centerGeohashId = nineBlockGeohashes.get(0);
+        String centerGeohashId = coverGeohashes.get(0);
         String level1CacheKey = "dto:" + centerGeohashId;
 
         // 1단계 캐시 조회: 중심 격자 ID를 키로 최종 응답 DTO 전체 조회 시도
@@ -240,21 +1200,21 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         try {
             // [계측 주석 처리] ===== [Action 1: L1 캐시 조회 시간 측정] =====
             // long l1StartNs = System.nanoTime();
-            String cachedJson = redisSingleDataService.getSingleData(level1CacheKey);
+            byte[] cachedBytes = nearCacheDataService.getBinaryData(level1CacheKey, level1HardTtl);
             // long l1EndNs = System.nanoTime();
             // l1CacheGetDurationNs = l1EndNs - l1StartNs;
             // =====
 
             /* 1Layer Cache hit */
-            if (cachedJson != null && !cachedJson.isEmpty()) {
+            if (cachedBytes != null && cachedBytes.length > 0) {
 
-                log.info("[R-02-1단계] 캐시 히트! JSON 역직렬화 시도");
+                log.info("[R-02-1단계] 캐시 히트! 역직렬화 시도");
 
                 // [계측 주석 처리] ===== [Action 3: L1 JSON 역직렬화 시간 측정] =====
                 // long deserializeStartNs = System.nanoTime();
-                LocationAnalysisResponseDTO cachedDto = objectMapper.readValue(
-                        cachedJson,
-                        LocationAnalysisResponseDTO.class
+                Level1CacheEntry cachedEntry = cacheCodec.decode(
+                        cachedBytes,
+                        Level1CacheEntry.class
                 );
                 // long deserializeEndNs = System.nanoTime();
                 // l1JsonDeserializeDurationNs = deserializeEndNs - deserializeStartNs;
@@ -264,7 +1224,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                 // R02L1CacheResult r02L1CacheResult = R02L1CacheResult.builder()
                 //         .cacheKey(level1CacheKey)
                 //         .hit(true)
-                //         .valueSize(cachedJson.length())
+                //         .valueSize(cachedBytes.length)
                 //         .l1CacheGetDurationNs(l1CacheGetDurationNs)
                 //         .l1JsonDeserializeDurationNs(l1JsonDeserializeDurationNs)
                 //         .build();
@@ -288,7 +1248,22 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                 // perfLogger.setResultData(r02CacheResult);
                 // perfLogger.end();
 
-                return CacheResult.level1Hit(cachedDto);
+                long ageMillis = level1AgeMillis(cachedEntry);
+
+                if (!isCompactLayout(cachedEntry)) {
+                    log.info("[R-02-1단계] 이전 형식(CctvGeo 목록) 엔트리 - 캐시 미스 처리");
+
+                } else if (ageMillis < level1SoftTtl.toMillis()) {
+                    return CacheResult.level1Hit(cachedEntry.getSnapshot());
+
+                } else if (ageMillis < level1HardTtl.toMillis()) {
+                    log.info("[R-02-1단계] soft 만료 경과 - stale 응답 반환 (경과: {}ms)", ageMillis);
+                    return CacheResult.level1StaleHit(cachedEntry.getSnapshot(), ageMillis);
+
+                } else {
+                    // 로컬 Near Cache 에 hard 만료 직전 적재된 값이 남아 있는 경우 → 미스 처리
+                    log.info("[R-02-1단계] hard 만료 경과 - 캐시 미스 처리 (경과: {}ms)", ageMillis);
+                }
             }
 
         } catch (Exception e) {
@@ -315,13 +1290,29 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         // log.info("[R-02-1단계] 캐시 미스. 2단계 캐시 조회 진행 (L1 조회: {}ms)",
         //         l1CacheGetDurationNs / 1_000_000.0);
 
-        // 2단계 캐시 조회: 9개 격자 각각에 대해 CCTV 컴포넌트 데이터 조회
-        log.info("[R-02-2단계] 개별 격자 데이터 캐시 조회 시작 (9개 격자)");
+        return performLevel2Lookup(coverGeohashes);
+    }
+
+    /**
+     * R-02-2단계: 커버 격자 CCTV 데이터 캐시 조회
+     *
+     * 1단계 캐시 미스 시 및 1단계 캐시 백그라운드 갱신 시 사용한다.
+     */
+    private CacheResult performLevel2Lookup(List<String> coverGeohashes) {
 
         // 실제 응답으로 포함할 캐시 저장 객체
         CacheResult result = new CacheResult();
         result.setLevel1Hit(false);
-        result.setNineBlockGeohashes(nineBlockGeohashes);
+        result.setCoverGeohashes(coverGeohashes);
+
+        // CCTV 메모리 공간 인덱스 사용 가능 시 2단계 캐시 조회 생략 (R-05에서 인덱스로 직접 반경 조회)
+        if (cctvSpatialIndex.isReady()) {
+            log.info("[R-02-2단계] CCTV 메모리 공간 인덱스 사용 - 2단계 캐시 조회 생략 (적재: {}건)", cctvSpatialIndex.size());
+            return result;
+        }
+
+        // 2단계 캐시 조회: 커버 격자 각각에 대해 CCTV 컴포넌트 데이터 조회
+        log.info("[R-02-2단계] 개별 격자 데이터 캐시 조회 시작 ({}개 격자)", coverGeohashes.size());
 
         // [계측 주석 처리] L2 캐시 결과를 담을 리스트
         // List<R02L2CacheResult> l2CacheResults = new ArrayList<>();
@@ -333,27 +1324,41 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         // long l2JsonDeserializeTotalNs = 0;  // L2 전체 역직렬화 시간 누적
         // =====
 
+        // CCTV 데이터 캐시 키 생성 (형식: "data:{geohashId}:cctv") 후 커버 격자를 MGET 1회로 일괄 조회
+        List<String> cctvCacheKeys = new ArrayList<>(coverGeohashes.size());
+        for (String geohashId : coverGeohashes) {
+            cctvCacheKeys.add("data:" + geohashId + ":cctv");
+        }
+
+        List<byte[]> cctvCachedValues;
+        try {
+            cctvCachedValues = nearCacheDataService.getMultiBinaryData(cctvCacheKeys, LEVEL2_CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("[R-02-2단계] CCTV 캐시 일괄 조회 중 오류 - 전체 격자 미스 처리, 오류: {}", e.getMessage());
+            cctvCachedValues = Collections.nCopies(cctvCacheKeys.size(), (byte[]) null);
+        }
+
         // 각 격자 별로 CCTV 데이터 캐시 존재 여부 확인
-        for (String geohashId : nineBlockGeohashes) {
-            // CCTV 데이터 캐시 키 생성 및 조회 (형식: "data:{geohashId}:cctv")
-            String cctvCacheKey = "data:" + geohashId + ":cctv";
+        for (int i = 0; i < coverGeohashes.size(); i++) {
+            String geohashId = coverGeohashes.get(i);
+            String cctvCacheKey = cctvCacheKeys.get(i);
             log.debug("[R-02-2단계] CCTV 캐시 격자 별 조회 - Key: {}", cctvCacheKey);
 
             try {
                 /* Redis 내 해당 geoHash 값에 따른 캐싱 값 존재 여부 확인 */
                 // [계측 주석 처리] ===== [격자별 조회 시간 측정 - 선택적] =====
                 // long gridStartNs = System.nanoTime();
-                String cctvJson = redisSingleDataService.getSingleData(cctvCacheKey);
+                byte[] cctvCached = cctvCachedValues.get(i);
                 // long gridEndNs = System.nanoTime();
                 // long gridDurationNs = gridEndNs - gridStartNs;
                 // =====
 
-                if (cctvJson != null && !cctvJson.isEmpty()) {
+                if (cctvCached != null && cctvCached.length > 0) {
 
                     // [계측 주석 처리] ===== [JSON 역직렬화 시간 측정] =====
                     // long deserializeStartNs = System.nanoTime();
-                    List<CctvGeo> cachedCctv = objectMapper.readValue(
-                            cctvJson,
+                    List<CctvGeo> cachedCctv = cacheCodec.decode(
+                            cctvCached,
                             new TypeReference<List<CctvGeo>>() {}
                     );
                     // long deserializeEndNs = System.nanoTime();
@@ -375,7 +1380,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                     //                 .hit(true)
                     //                 .dataType("cctv")
                     //                 .dataCount(cachedCctv.size())
-                    //                 .dataSize(cctvJson.length())
+                    //                 .dataSize(cctvCached.length)
                     //                 .l2CacheGetDurationNs(gridDurationNs)
                     //                 .build()
                     // );
@@ -472,13 +1477,15 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
      * 처리 흐름
      * 1. R-02에서 캐시 히트된 데이터를 결과 객체에 먼저 추가
      * 2. 캐시 미스 격자 목록에 대해서만 DB 조회 실행 (선택적 조회)
-     * 3. 조회된 데이터를 격자별로 그룹화 (groupCctvByGeohash)
+     * 3. 조회된 데이터를 요청 격자별로 그룹화 (groupCctvByGeohash, 6자리 이하 격자는 접두사 일치로 묶음)
      * 4. 각 격자 데이터를 즉시 Redis 2단계 캐시에 저장 (TTL: 24시간)
      *
      * 인덱스 활용 전략
-     * - 쿼리 패턴: WHERE geohash_id IN (...)
-     * - 사용 인덱스: IDX_CCTV_GEO_GEOHASH (B-Tree)
-     * - 성능: 9개 격자 조회 시 9번의 Index Range Scan (각 밀리초 단위)
+     * - 쿼리 패턴: WHERE geohash_id BETWEEN :lower AND :upper (구간마다 1회)
+     * - 사용 인덱스: IDX_CCTV_GEO_GEOHASH (B-Tree, Index Range Scan)
+     * - 미스 격자(정밀도 혼합)를 7자리 geohash_id 구간으로 바꾸어 정렬 / 병합한다. (GeohashKeyRanges)
+     *   6자리 격자는 7자리 32개를 펼치지 않고 구간 1개로, 이웃한 격자들은 DB_RANGE_GAP_CELLS 이하 틈까지 하나의 구간으로 합친다.
+     * - ETL 이 CCTV_GEO 를 geohash_id 순으로 적재하므로 구간 안의 행은 연속된 블록에 모여 있다.
      *
      * 설계 근거
      * - 선택적 조회: 캐시 미스 격자만 조회하여 DB 부하 최소화
@@ -538,8 +1545,12 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             // long queryStartNs = System.nanoTime();
 
             try {
-                // B-Tree 인덱스(IDX_CCTV_GEO_GEOHASH)를 활용한 IN 절 조회
-                List<CctvGeo> cctvList = cctvGeoRepository.findByGeohashIdIn(cctvMisses);
+                // B-Tree 인덱스(IDX_CCTV_GEO_GEOHASH)를 활용한 geohash_id 구간 조회 (병합된 구간 전체를 OR 로 묶어 쿼리 1회)
+                List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(
+                        cctvMisses, GeohashCellCover.MAX_PRECISION, DB_RANGE_GAP_CELLS);
+                List<CctvGeo> cctvList = cctvGeoRepository.findByGeohashIdRanges(ranges);
+                log.debug("[R-03] CCTV geohash_id 구간 - 미스 격자: {}개 → 구간: {}개 {}",
+                        cctvMisses.size(), ranges.size(), ranges);
 
                 // [계측 주석 처리] 쿼리 시간 측정
                 // long queryEndNs = System.nanoTime();
@@ -547,8 +1558,8 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
 
                 log.info("[R-03] CCTV DB 조회 완료 - 조회된 데이터: {}건", cctvList.size());
 
-                // 조회된 CCTV 리스트를 geohash_id 기준으로 그룹화 (Map<GeohashId, List<CctvGeo>>)
-                Map<String, List<CctvGeo>> groupedCctv = groupCctvByGeohash(cctvList);
+                // 조회된 CCTV 리스트를 요청 격자 기준으로 그룹화 (Map<GeohashId, List<CctvGeo>>)
+                Map<String, List<CctvGeo>> groupedCctv = groupCctvByGeohash(cctvList, cctvMisses);
 
                 // [계측 주석 처리] 격자별 행 수 계산 (로깅용)
                 // Map<String, Integer> rowsPerGrid = new HashMap<>();
@@ -566,7 +1577,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                 // [계측 주석 처리] 서브 루틴 2: L2 캐시 쓰기 로깅 준비
                 // List<R03CacheWriteResult> cacheWriteResults = new ArrayList<>();
 
-                // 격자별로 분류된 데이터를 순회하며 결과 객체에 추가 + Redis 2단계 캐시 저장
+                // 격자별로 분류된 데이터를 순회하며 결과 객체에 추가 (Redis 2단계 캐시 저장은 순회 후 파이프라인 1회로 일괄 처리)
                 for (Map.Entry<String, List<CctvGeo>> entry : groupedCctv.entrySet()) {
                     String geohashId = entry.getKey();
                     List<CctvGeo> data = entry.getValue();
@@ -585,9 +1596,6 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                     //         .errorMessage(null)
                     //         .build();
 
-                    // 기존 메서드 그대로 호출 (비즈니스 로직 변경 없음)
-                    cacheGeohashData(geohashId, "cctv", data);
-
                     // [계측 주석 처리] 캐시 쓰기 로깅
                     // try {
                     //     String jsonData = objectMapper.writeValueAsString(data);
@@ -600,9 +1608,12 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                     // }
 
                     // cacheWriteResults.add(cacheWriteResult);
-                    log.debug("[R-03] CCTV 캐싱 완료 - GeohashId: {}, 개수: {}건", geohashId, data.size());
+                    log.debug("[R-03] CCTV 결과 적재 - GeohashId: {}, 개수: {}건", geohashId, data.size());
                 }
 
+                // 조회된 전체 격자를 Redis 2단계 캐시에 일괄 저장 (1 RTT)
+                cacheGeohashData(groupedCctv, "cctv");
+
                 // [계측 주석 처리] R-03 결과 설정
                 // r03DbResult.setCctvQueryResult(cctvQueryResult);
                 // r03DbResult.setCctvCacheWrites(cacheWriteResults);
@@ -623,6 +1634,9 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                 // r03DbResult.setErrorMessage(e.getMessage());
             }
 
+        } else if (cctvSpatialIndex.isReady()) {
+            log.info("[R-03] CCTV 데이터는 메모리 공간 인덱스에서 조회 (DB 조회 생략)");
+
         } else {
             log.info("[R-03] CCTV 데이터는 모두 캐시에서 조회됨");
 
@@ -645,31 +1659,34 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
     }
 
     /**
-     * CCTV 리스트를 geohash_id별로 그룹화
+     * CCTV 리스트를 요청 격자별로 그룹화
      *
-     * DB에서 IN 절로 조회한 CCTV 리스트를 격자 ID를 키로 하는 Map으로 변환한다.
+     * DB에서 구간 조회한 CCTV 리스트를 요청 격자 ID를 키로 하는 Map으로 변환한다.
      * 이는 각 격자별 데이터를 개별 캐싱하고 결과 객체에 추가하기 위한 전처리 단계다.
+     * 요청 격자는 정밀도가 섞여 있으므로 CCTV 의 7자리 geohash_id 접두사가 요청 격자와 일치하면 그 격자에 넣는다.
+     * (일괄 분석에서는 6자리 격자와 그 하위 7자리 격자가 함께 요청될 수 있으며, 이 경우 양쪽 모두에 넣는다.)
+     * 병합된 구간의 틈 격자에서 조회된 CCTV 는 어느 요청 격자와도 일치하지 않으므로 여기서 버려진다.
      *
      * @param cctvList DB에서 조회된 CCTV 엔티티 리스트 (여러 격자의 데이터가 혼재)
-     * @return 격자 ID를 키로 하는 Map (예: "wydm7p1" -> [CctvGeo1, CctvGeo2, ...])
+     * @param requestedGeohashIds DB 조회를 요청한 격자 목록 (정밀도 혼합)
+     * @return 격자 ID를 키로 하는 Map (예: "wydm7p1" -> [CctvGeo1, CctvGeo2, ...], "wydm7q" -> [...])
      *
      * @see #performDatabaseQuery(CacheResult)
-     * @todo 대용량 데이터 처리 시 Stream API의 Collectors.groupingBy() 또는 병렬 스트림 고려
      */
-    private Map<String, List<CctvGeo>> groupCctvByGeohash(List<CctvGeo> cctvList) {
+    private Map<String, List<CctvGeo>> groupCctvByGeohash(List<CctvGeo> cctvList, List<String> requestedGeohashIds) {
         Map<String, List<CctvGeo>> grouped = new HashMap<>();
+        Set<String> requested = new HashSet<>(requestedGeohashIds);
 
-        // 각 CCTV를 순회하며 geohash_id를 추출하여 해당 격자의 리스트에 추가
+        // 각 CCTV를 순회하며 geohash_id 접두사(1 ~ 7자리)와 일치하는 요청 격자의 리스트에 추가
         for (CctvGeo cctv : cctvList) {
             String geohashId = cctv.getGeohashId();
 
-            // 해당 격자 ID의 리스트가 Map에 없으면 새로운 ArrayList 생성
-            if (!grouped.containsKey(geohashId)) {
-                grouped.put(geohashId, new ArrayList<>());
+            for (int length = 1; length <= geohashId.length(); length++) {
+                String cell = geohashId.substring(0, length);
+                if (requested.contains(cell)) {
+                    grouped.computeIfAbsent(cell, k -> new ArrayList<>()).add(cctv);
+                }
             }
-
-            // 해당 격자 리스트에 현재 CCTV 객체 추가
-            grouped.get(geohashId).add(cctv);
         }
 
         return grouped;
@@ -713,7 +1730,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
      *
      * *** 성능 측정을 위해 순차 실행으로 변경됨 ***
      * - 각 작업의 순수 실행 시간을 정확히 측정하기 위해 비동기 처리 제거
-     * - 병목 지점 식별 후 추후 비동기 처리로 최적화 예정
+     * - 동시 실행은 performStagesConcurrently 참고 (location-analysis.stage.concurrent=false 일 때만 이 메서드 사용)
      *
      * 순차 처리 작업 목록
      * 1. 주소 변환 API: 좌표 → 도로명/지번 주소 (카카오맵 Reverse Geocoding)
@@ -722,7 +1739,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
      *
      * 캐싱 전략
      * - 주소 변환: 키 "address:{lat}:{lon}", TTL 24시간
-     * - 편의시설: 키 "amenity:{lat}:{lon}:{radius}", TTL 24시간
+     * - 편의시설: 키 "amenity:{geohash}:{카테고리}" (격자 단위, 인접 격자 병합 후 거리 필터), TTL 24시간
      * - 검거율: 키 "arrest_rate:{구이름}", TTL 24시간
      *
      * 장애 격리 (Fault Isolation)
@@ -749,46 +1766,137 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         //         "performExternalApiCalls"
         // );
 
-        log.info("[R-04] 외부 API 호출 시작 (순차 실행)");
+        log.info("[R-04] 외부 API 호출 시작 (순차 실행)");
+
+        double latitude = request.getLatitude();
+        double longitude = request.getLongitude();
+        int radius = request.getRadius();
+
+        ExternalApiResult result = new ExternalApiResult();
+
+        // [계측 주석 처리] R-04 메인 로깅 DTO 초기화
+        // R04ApiResult r04ApiResult = R04ApiResult.builder()
+        //         .latitude(latitude)
+        //         .longitude(longitude)
+        //         .radius(radius)
+        //         .totalSequentialTasks(3)
+        //         .totalExecutionTimeNs(0)
+        //         .addressApiResult(null)
+        //         .amenityApiResult(null)
+        //         .arrestRateResult(null)
+        //         .isSuccess(false)
+        //         .errorMessage(null)
+        //         .build();
+
+        // ============================================
+        // 1. 주소 변환 API 호출 (카카오맵 Reverse Geocoding)
+        // ============================================
+
+        // [계측 주석 처리] R04AddressApiResult
+        // R04AddressApiResult addressApiResult = R04AddressApiResult.builder()
+        //         .cached(false)
+        //         .cacheKey(null)
+        //         .roadAddress(null)
+        //         .jibunAddress(null)
+        //         .responseSize(null)
+        //         .executionTimeNs(0)
+        //         .isSuccess(false)
+        //         .errorMessage(null)
+        //         .build();
+
+        // long addressStartNs = System.nanoTime();
+
+        fetchAddress(latitude, longitude, result);
+
+        // [계측 주석 처리] 시간 측정
+        // long addressEndNs = System.nanoTime();
+        // addressApiResult.setExecutionTimeNs(addressEndNs - addressStartNs);
+
+        // ============================================
+        // 2. 편의시설 조회 API 호출 (카카오맵 로컬 검색, 15개 카테고리)
+        // ============================================
+
+        // [계측 주석 처리] R04AmenityApiResult
+        // R04AmenityApiResult amenityApiResult = R04AmenityApiResult.builder()
+        //         .cached(false)
+        //         .cacheKey(null)
+        //         .categoryCount(0)
+        //         .placesByCategory(new HashMap<>())
+        //         .totalPlaces(0)
+        //         .responseSize(null)
+        //         .executionTimeNs(0)
+        //         .isSuccess(false)
+        //         .errorMessage(null)
+        //         .build();
+
+        // long amenityStartNs = System.nanoTime();
 
-        double latitude = request.getLatitude();
-        double longitude = request.getLongitude();
-        int radius = request.getRadius();
+        /* 모든 편의시설(Kakao Map API 15개 코드) */
 
-        ExternalApiResult result = new ExternalApiResult();
+        fetchAmenities(latitude, longitude, radius, result, StageListener.NONE);
 
-        // [계측 주석 처리] R-04 메인 로깅 DTO 초기화
-        // R04ApiResult r04ApiResult = R04ApiResult.builder()
-        //         .latitude(latitude)
-        //         .longitude(longitude)
-        //         .radius(radius)
-        //         .totalSequentialTasks(3)
-        //         .totalExecutionTimeNs(0)
-        //         .addressApiResult(null)
-        //         .amenityApiResult(null)
-        //         .arrestRateResult(null)
-        //         .isSuccess(false)
-        //         .errorMessage(null)
-        //         .build();
+        // [계측 주석 처리] 시간 측정
+        // long amenityEndNs = System.nanoTime();
+        // amenityApiResult.setExecutionTimeNs(amenityEndNs - amenityStartNs);
 
         // ============================================
-        // 1. 주소 변환 API 호출 (카카오맵 Reverse Geocoding)
+        // 3. 검거율 조회 (내부 DB 조회, 주소 변환 결과 필요) - Redis 캐싱 추가
         // ============================================
 
-        // [계측 주석 처리] R04AddressApiResult
-        // R04AddressApiResult addressApiResult = R04AddressApiResult.builder()
+        // [계측 주석 처리] R04ArrestRateResult
+        // R04ArrestRateResult arrestRateResult = R04ArrestRateResult.builder()
         //         .cached(false)
         //         .cacheKey(null)
-        //         .roadAddress(null)
-        //         .jibunAddress(null)
-        //         .responseSize(null)
+        //         .guName(null)
+        //         .arrestRate(null)
+        //         .dataFound(false)
         //         .executionTimeNs(0)
         //         .isSuccess(false)
         //         .errorMessage(null)
         //         .build();
 
-        // long addressStartNs = System.nanoTime();
+        // long arrestRateStartNs = System.nanoTime();
+
+        fetchArrestRate(latitude, longitude, result);
+
+        // [계측 주석 처리] 시간 측정
+        // long arrestRateEndNs = System.nanoTime();
+        // arrestRateResult.setExecutionTimeNs(arrestRateEndNs - arrestRateStartNs);
+
+        // [계측 주석 처리] ============================================
+        // R-04 메인 로깅 DTO 최종 설정
+        // ============================================
+
+        // long totalExecutionTimeNs = addressApiResult.getExecutionTimeNs()
+        //         + amenityApiResult.getExecutionTimeNs()
+        //         + arrestRateResult.getExecutionTimeNs();
+
+        // r04ApiResult.setAddressApiResult(addressApiResult);
+        // r04ApiResult.setAmenityApiResult(amenityApiResult);
+        // r04ApiResult.setArrestRateResult(arrestRateResult);
+        // r04ApiResult.setTotalExecutionTimeNs(totalExecutionTimeNs);
+        // r04ApiResult.setSuccess(true);
+        // r04ApiResult.setErrorMessage(null);
+
+        // ============================================
+        // 최종 결과 로깅
+        // ============================================
+
+        logExternalApiSummary(result);
+
+        // [계측 주석 처리] 로깅 후 종료
+        // perfLogger.setResultData(r04ApiResult);
+        // perfLogger.end();
+
+        return result;
+    }
 
+    /**
+     * R-04-1: 주소 변환 (카카오맵 Reverse Geocoding, 캐시 우선)
+     *
+     * 실패 시 예외를 던지지 않고 result 의 errors 에 기록한다.
+     */
+    private void fetchAddress(double latitude, double longitude, ExternalApiResult result) {
         try {
             log.info("[R-04] 주소 변환 API 호출 시작 - 좌표: ({}, {})", latitude, longitude);
 
@@ -797,20 +1905,20 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             // [계측 주석 처리] addressApiResult.setCacheKey(cacheKey);
 
             // Redis 2단계 캐시 조회 시도
-            String cachedAddress = redisSingleDataService.getSingleData(cacheKey);
+            byte[] cachedAddress = nearCacheDataService.getBinaryData(cacheKey, LEVEL2_CACHE_TTL);
 
-            if (cachedAddress != null && !cachedAddress.isEmpty()) {
+            if (cachedAddress != null && cachedAddress.length > 0) {
                 log.info("[R-04] 주소 변환 캐시 히트");
 
-                // JSON 역직렬화하여 AddressDto 객체로 변환 후 결과에 설정
-                AddressDto addressDto = objectMapper.readValue(cachedAddress, AddressDto.class);
+                // 역직렬화하여 AddressDto 객체로 변환 후 결과에 설정
+                AddressDto addressDto = cacheCodec.decode(cachedAddress, AddressDto.class);
                 result.setAddress(addressDto);
 
                 // [계측 주석 처리] 로깅 DTO 설정 (캐시 히트)
                 // addressApiResult.setCached(true);
                 // addressApiResult.setRoadAddress(addressDto.getRoadAddress());
                 // addressApiResult.setJibunAddress(addressDto.getJibunAddress());
-                // addressApiResult.setResponseSize(cachedAddress.length());
+                // addressApiResult.setResponseSize(cachedAddress.length);
                 // addressApiResult.setSuccess(true);
 
             } else {
@@ -823,9 +1931,9 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                 AddressDto addressDto = kakaoApiService.getAddress(latitude, longitude);
                 result.setAddress(addressDto);
 
-                // API 응답을 JSON 직렬화 후 Redis 2단계 캐시에 저장 (TTL: 24시간)
-                String addressJson = objectMapper.writeValueAsString(addressDto);
-                redisSingleDataService.setSingleData(cacheKey, addressJson, LEVEL2_CACHE_TTL);
+                // API 응답을 직렬화 후 Redis 2단계 캐시에 저장 (TTL: 24시간)
+                byte[] addressBytes = cacheCodec.encode(addressDto);
+                nearCacheDataService.setBinaryData(cacheKey, addressBytes, LEVEL2_CACHE_TTL);
 
                 log.info("[R-04] 주소 변환 결과 캐싱 완료");
 
@@ -833,7 +1941,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                 // addressApiResult.setCached(false);
                 // addressApiResult.setRoadAddress(addressDto.getRoadAddress());
                 // addressApiResult.setJibunAddress(addressDto.getJibunAddress());
-                // addressApiResult.setResponseSize(addressJson.length());
+                // addressApiResult.setResponseSize(addressBytes.length);
                 // addressApiResult.setSuccess(true);
             }
 
@@ -845,73 +1953,25 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             // addressApiResult.setSuccess(false);
             // addressApiResult.setErrorMessage(e.getMessage());
         }
+    }
 
-        // [계측 주석 처리] 시간 측정
-        // long addressEndNs = System.nanoTime();
-        // addressApiResult.setExecutionTimeNs(addressEndNs - addressStartNs);
-
-        // ============================================
-        // 2. 편의시설 조회 API 호출 (카카오맵 로컬 검색, 15개 카테고리)
-        // ============================================
-
-        // [계측 주석 처리] R04AmenityApiResult
-        // R04AmenityApiResult amenityApiResult = R04AmenityApiResult.builder()
-        //         .cached(false)
-        //         .cacheKey(null)
-        //         .categoryCount(0)
-        //         .placesByCategory(new HashMap<>())
-        //         .totalPlaces(0)
-        //         .responseSize(null)
-        //         .executionTimeNs(0)
-        //         .isSuccess(false)
-        //         .errorMessage(null)
-        //         .build();
-
-        // long amenityStartNs = System.nanoTime();
-
-        /* 모든 편의시설(Kakao Map API 15개 코드) */
-
+    /**
+     * R-04-2: 편의시설 조회 (격자 단위 캐시 우선, 미스 격자만 카카오맵 로컬 검색)
+     *
+     * 요청 좌표의 원본 값이 아닌 반경과 겹치는 geohash 격자 단위로 캐싱되므로
+     * 가까운 좌표의 요청끼리 같은 격자 캐시를 공유한다. (AmenityCellService 참고)
+     *
+     * 실패 시 예외를 던지지 않고 result 의 errors 에 기록한다.
+     */
+    private void fetchAmenities(double latitude, double longitude, int radius, ExternalApiResult result,
+                                StageListener stageListener) {
         try {
-            log.info("[R-04] 편의시설 조회 API 호출 시작 - 반경: {}m", radius);
-
-            // 캐시 키 생성 (좌표 + 반경 기반, 형식: "amenity:{lat}:{lon}:{radius}")
-            String cacheKey = "amenity:" + latitude + ":" + longitude + ":" + radius;
-            // [계측 주석 처리] amenityApiResult.setCacheKey(cacheKey);
-
-            // Redis 2단계 캐시 조회 시도
-            String cachedAmenity = redisSingleDataService.getSingleData(cacheKey);
-
-            Map<String, List<Map<String, Object>>> amenityData;
-
-            if (cachedAmenity != null && !cachedAmenity.isEmpty()) {
-                log.info("[R-04] 편의시설 캐시 히트");
-
-                // JSON 역직렬화하여 Map<카테고리코드, List<장소>> 형태로 변환 후 결과에 설정
-                amenityData = objectMapper.readValue(cachedAmenity,
-                        new TypeReference<Map<String, List<Map<String, Object>>>>() {});
-                result.setAmenityData(amenityData);
-
-                // [계측 주석 처리] 로깅 DTO 설정 (캐시 히트)
-                // amenityApiResult.setCached(true);
-                // amenityApiResult.setResponseSize(cachedAmenity.length());
-
-            } else {
-                log.info("[R-04] 편의시설 캐시 미스 - API 호출");
+            log.info("[R-04] 편의시설 조회 시작 - 반경: {}m", radius);
 
-                // 카카오맵 로컬 검색 API 호출 (15개 카테고리를 병렬로 조회)
-                amenityData = kakaoApiService.searchAllAmenities(latitude, longitude, radius);
-                result.setAmenityData(amenityData);
-
-                // API 응답을 JSON 직렬화 후 Redis 2단계 캐시에 저장 (TTL: 24시간)
-                String amenityJson = objectMapper.writeValueAsString(amenityData);
-                redisSingleDataService.setSingleData(cacheKey, amenityJson, LEVEL2_CACHE_TTL);
-
-                log.info("[R-04] 편의시설 결과 캐싱 완료 - 총 카테고리: {}개", amenityData.size());
-
-                // [계측 주석 처리] 로깅 DTO 설정 (캐시 미스)
-                // amenityApiResult.setCached(false);
-                // amenityApiResult.setResponseSize(amenityJson.length());
-            }
+            // 격자 x 카테고리 캐시 일괄 조회 → 미스 격자만 카카오 호출 → 인접 격자 병합 및 거리 필터 (카테고리 병합 시마다 통지)
+            Map<String, List<Map<String, Object>>> amenityData =
+                    amenityCellService.findAmenities(latitude, longitude, radius, stageListener::onAmenityCategory);
+            result.setAmenityData(amenityData);
 
             // 카테고리별 장소 개수 계산 (공통)
             Map<String, Integer> placesByCategory = new HashMap<>();
@@ -939,107 +1999,83 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             // amenityApiResult.setSuccess(false);
             // amenityApiResult.setErrorMessage(e.getMessage());
         }
+    }
 
-        // [계측 주석 처리] 시간 측정
-        // long amenityEndNs = System.nanoTime();
-        // amenityApiResult.setExecutionTimeNs(amenityEndNs - amenityStartNs);
-
-        // ============================================
-        // 3. 검거율 조회 (내부 DB 조회, 주소 변환 결과 필요) - Redis 캐싱 추가
-        // ============================================
+    /**
+     * R-04-3: 검거율 조회 (좌표가 속한 '구' 기준, 캐시 우선)
+     *
+     * '구'는 resolveDistrict 로 판정한다. 자치구 경계 인덱스가 적재되어 있으면 좌표만으로 판정하므로
+     * 주소 변환을 기다리지 않으며, 미적재 시에는 result 에 설정된 주소에서 추출하므로 fetchAddress 이후에 실행되어야 한다.
+     * 실패 시 검거율 0.0 으로 설정하고 result 의 errors 에 기록한다.
+     */
+    private void fetchArrestRate(double latitude, double longitude, ExternalApiResult result) {
+        try {
+            log.info("[R-04] 검거율 조회 시작");
 
-        // [계측 주석 처리] R04ArrestRateResult
-        // R04ArrestRateResult arrestRateResult = R04ArrestRateResult.builder()
-        //         .cached(false)
-        //         .cacheKey(null)
-        //         .guName(null)
-        //         .arrestRate(null)
-        //         .dataFound(false)
-        //         .executionTimeNs(0)
-        //         .isSuccess(false)
-        //         .errorMessage(null)
-        //         .build();
+            // 좌표 → '구' (경계 인덱스 우선, 미적재 / 경계 밖이면 도로명 주소에서 추출)
+            String gu = resolveDistrict(latitude, longitude, result.getAddress());
 
-        // long arrestRateStartNs = System.nanoTime();
+            if (gu != null) {
+                log.info("[R-04] 추출된 구: {}", gu);
 
-        try {
-            log.info("[R-04] 검거율 조회 시작");
+                // [계측 주석 처리] arrestRateResult.setGuName(gu);
 
-            if (result.getAddress() != null) {
-                String address = result.getAddress().getRoadAddress();
+                // 캐시 키 생성 (구 단위 기반, 형식: "arrest_rate:{구이름}")
+                String cacheKey = "arrest_rate:" + gu;
+                // [계측 주석 처리] arrestRateResult.setCacheKey(cacheKey);
 
-                // 주소 문자열에서 '구' 단위 추출 (예: "서울특별시 중구 세종대로 110" → "중구")
-                String gu = extractGu(address);
+                // Redis 캐시 조회 시도
+                String cachedRate = nearCacheDataService.getSingleData(cacheKey, LEVEL2_CACHE_TTL);
 
-                if (gu != null) {
-                    log.info("[R-04] 추출된 구: {}", gu);
+                if (cachedRate != null && !cachedRate.isEmpty()) {
+                    log.info("[R-04] 검거율 캐시 히트 - 구: {}", gu);
 
-                    // [계측 주석 처리] arrestRateResult.setGuName(gu);
+                    double rate = Double.parseDouble(cachedRate);
+                    result.setArrestRate(rate);
 
-                    // 캐시 키 생성 (구 단위 기반, 형식: "arrest_rate:{구이름}")
-                    String cacheKey = "arrest_rate:" + gu;
-                    // [계측 주석 처리] arrestRateResult.setCacheKey(cacheKey);
+                    // [계측 주석 처리] 로깅 DTO 설정 (캐시 히트)
+                    // arrestRateResult.setCached(true);
+                    // arrestRateResult.setArrestRate(rate);
+                    // arrestRateResult.setDataFound(true);
+                    // arrestRateResult.setSuccess(true);
 
-                    // Redis 캐시 조회 시도
-                    String cachedRate = redisSingleDataService.getSingleData(cacheKey);
+                } else {
+                    log.info("[R-04] 검거율 캐시 미스 - DB 조회");
 
-                    if (cachedRate != null && !cachedRate.isEmpty()) {
-                        log.info("[R-04] 검거율 캐시 히트 - 구: {}", gu);
+                    // ArrestRate 테이블에서 해당 '구'의 검거율 데이터 조회
+                    java.util.Optional<ArrestRate> arrestRateOpt = arrestRateRepository.findByAddr(gu);
 
-                        double rate = Double.parseDouble(cachedRate);
+                    if (arrestRateOpt.isPresent()) {
+                        double rate = arrestRateOpt.get().getRate();
                         result.setArrestRate(rate);
 
-                        // [계측 주석 처리] 로깅 DTO 설정 (캐시 히트)
-                        // arrestRateResult.setCached(true);
+                        // Redis 캐시에 저장 (TTL: 24시간)
+                        nearCacheDataService.setSingleData(cacheKey, String.valueOf(rate), LEVEL2_CACHE_TTL);
+                        log.info("[R-04] 검거율 조회 성공 및 캐싱 완료 - {}: {}", gu, rate);
+
+                        // [계측 주석 처리] 로깅 DTO 설정 (캐시 미스, 데이터 존재)
+                        // arrestRateResult.setCached(false);
                         // arrestRateResult.setArrestRate(rate);
                         // arrestRateResult.setDataFound(true);
                         // arrestRateResult.setSuccess(true);
 
                     } else {
-                        log.info("[R-04] 검거율 캐시 미스 - DB 조회");
-
-                        // ArrestRate 테이블에서 해당 '구'의 검거율 데이터 조회
-                        java.util.Optional<ArrestRate> arrestRateOpt = arrestRateRepository.findByAddr(gu);
-
-                        if (arrestRateOpt.isPresent()) {
-                            double rate = arrestRateOpt.get().getRate();
-                            result.setArrestRate(rate);
-
-                            // Redis 캐시에 저장 (TTL: 24시간)
-                            redisSingleDataService.setSingleData(cacheKey, String.valueOf(rate), LEVEL2_CACHE_TTL);
-                            log.info("[R-04] 검거율 조회 성공 및 캐싱 완료 - {}: {}", gu, rate);
-
-                            // [계측 주석 처리] 로깅 DTO 설정 (캐시 미스, 데이터 존재)
-                            // arrestRateResult.setCached(false);
-                            // arrestRateResult.setArrestRate(rate);
-                            // arrestRateResult.setDataFound(true);
-                            // arrestRateResult.setSuccess(true);
-
-                        } else {
-                            log.warn("[R-04] 검거율 데이터 없음 - 구: {}", gu);
-                            result.setArrestRate(0.0);
-
-                            // [계측 주석 처리] 로깅 DTO 설정 (캐시 미스, 데이터 없음)
-                            // arrestRateResult.setCached(false);
-                            // arrestRateResult.setArrestRate(0.0);
-                            // arrestRateResult.setDataFound(false);
-                            // arrestRateResult.setSuccess(true);
-                        }
-                    }
-                } else {
-                    log.warn("[R-04] 주소에서 구 추출 실패: {}", address);
-                    result.setArrestRate(0.0);
+                        log.warn("[R-04] 검거율 데이터 없음 - 구: {}", gu);
+                        result.setArrestRate(0.0);
 
-                    // [계측 주석 처리] 로깅 DTO 설정 (구 추출 실패)
-                    // arrestRateResult.setArrestRate(0.0);
-                    // arrestRateResult.setDataFound(false);
-                    // arrestRateResult.setSuccess(true);
+                        // [계측 주석 처리] 로깅 DTO 설정 (캐시 미스, 데이터 없음)
+                        // arrestRateResult.setCached(false);
+                        // arrestRateResult.setArrestRate(0.0);
+                        // arrestRateResult.setDataFound(false);
+                        // arrestRateResult.setSuccess(true);
+                    }
                 }
             } else {
-                log.warn("[R-04] 주소 변환 결과 없음 - 검거율 조회 불가");
+                log.warn("[R-04] 구 판정 실패 - 검거율 조회 불가 (위도: {}, 경도: {}, 주소: {})", latitude, longitude,
+                        result.getAddress() != null ? result.getAddress().getRoadAddress() : null);
                 result.setArrestRate(0.0);
 
-                // [계측 주석 처리] 로깅 DTO 설정 (주소 없음)
+                // [계측 주석 처리] 로깅 DTO 설정 (구 판정 실패)
                 // arrestRateResult.setArrestRate(0.0);
                 // arrestRateResult.setDataFound(false);
                 // arrestRateResult.setSuccess(true);
@@ -1055,30 +2091,200 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             // arrestRateResult.setSuccess(false);
             // arrestRateResult.setErrorMessage(e.getMessage());
         }
+    }
 
-        // [계측 주석 처리] 시간 측정
-        // long arrestRateEndNs = System.nanoTime();
-        // arrestRateResult.setExecutionTimeNs(arrestRateEndNs - arrestRateStartNs);
+    /**
+     * R-03 / R-04 / R-05(파출소 조회) 동시 실행
+     *
+     * 단계 의존성 그래프
+     *   [CCTV DB 조회 (R-03)] ──────────┐
+     *   [주소 변환] ──→ [검거율 조회] ───┤
+     *   [편의시설 조회 (15개 카테고리)] ─┼──→ 결과 병합
+     *   [가장 가까운 파출소 조회] ───────┘
+     *
+     * - 자치구 경계 인덱스(DistrictIndex) 적재 시 검거율은 좌표로 '구'를 판정하므로 주소 변환과 독립적으로 실행된다.
+     *   미적재 시에만 검거율이 주소 변환 결과('구')에 의존하며, 나머지 단계는 항상 서로 독립적으로 실행된다.
+     * - 요청 지연 시간 ≈ 가장 긴 경로 max(CCTV, 주소(+검거율), 편의시설, 파출소) (순차 실행 시 합계)
+     *
+     * 부분 결과 반환 (Fault Isolation)
+     * - 단계별 타임아웃(location-analysis.stage.timeout.*) 초과 또는 예외 발생 시 해당 단계만 기본값으로 대체하고
+     *   기존과 동일하게 DatabaseQueryResult / ExternalApiResult 의 errors 에 기록한다.
+     * - 타임아웃된 작업은 취소되지 않고 백그라운드에서 완료되며, 완료 시 캐시 적재는 정상 수행된다.
+     * - 단계마다 별도의 결과 객체를 사용한 뒤 병합하므로, 타임아웃 후 늦게 끝난 작업이 응답 객체를 수정하지 않는다.
+     *
+     * @param request 사용자 요청 DTO (위도, 경도, 반경)
+     * @param cacheResult R-02 캐시 조회 결과
+     * @return 병합된 DB 조회 결과와 외부 API 호출 결과
+     */
+    private StageResults performStagesConcurrently(LocationAnalysisRequestDTO request,
+                                                   CacheResult cacheResult,
+                                                   StageListener stageListener) {
 
-        // [계측 주석 처리] ============================================
-        // R-04 메인 로깅 DTO 최종 설정
-        // ============================================
+        log.info("[R-03/R-04] 단계 동시 실행 시작");
 
-        // long totalExecutionTimeNs = addressApiResult.getExecutionTimeNs()
-        //         + amenityApiResult.getExecutionTimeNs()
-        //         + arrestRateResult.getExecutionTimeNs();
+        double latitude = request.getLatitude();
+        double longitude = request.getLongitude();
+        int radius = request.getRadius();
 
-        // r04ApiResult.setAddressApiResult(addressApiResult);
-        // r04ApiResult.setAmenityApiResult(amenityApiResult);
-        // r04ApiResult.setArrestRateResult(arrestRateResult);
-        // r04ApiResult.setTotalExecutionTimeNs(totalExecutionTimeNs);
-        // r04ApiResult.setSuccess(true);
-        // r04ApiResult.setErrorMessage(null);
+        // 1. CCTV DB 조회 (R-03)
+        CompletableFuture<DatabaseQueryResult> cctvStage = runStage("CCTV 조회",
+                () -> performDatabaseQuery(cacheResult),
+                cctvStageTimeout,
+                ex -> {
+                    DatabaseQueryResult fallback = new DatabaseQueryResult();
+                    fallback.getCctvData().putAll(cacheResult.getCachedCctvData());
+                    fallback.addError("CCTV 데이터 조회 실패: " + describeStageFailure(ex, cctvStageTimeout));
+                    return fallback;
+                });
+
+        // 2. 주소 변환 / 검거율 조회 (경계 인덱스 미적재 시에만 검거율이 주소 변환 완료 후 시작)
+        CompletableFuture<ExternalApiResult> addressStage = runStage("주소 변환",
+                () -> {
+                    ExternalApiResult stageResult = new ExternalApiResult();
+                    fetchAddress(latitude, longitude, stageResult);
+                    return stageResult;
+                },
+                addressStageTimeout,
+                ex -> failedApiResult("주소 변환 실패: " + describeStageFailure(ex, addressStageTimeout)));
+
+        CompletableFuture<ExternalApiResult> arrestRateStage = districtIndex.isReady()
+                ? runArrestRateStage(latitude, longitude, null)
+                : addressStage.thenCompose(addressResult ->
+                        runArrestRateStage(latitude, longitude, addressResult.getAddress()));
+
+        // 3. 편의시설 조회 (15개 카테고리, 카테고리 단위 병렬 호출은 KakaoApiService 내부에서 수행)
+        CompletableFuture<ExternalApiResult> amenityStage = runStage("편의시설 조회",
+                () -> {
+                    ExternalApiResult stageResult = new ExternalApiResult();
+                    fetchAmenities(latitude, longitude, radius, stageResult, stageListener);
+                    return stageResult;
+                },
+                amenityStageTimeout,
+                ex -> failedApiResult("편의시설 조회 실패: " + describeStageFailure(ex, amenityStageTimeout)));
+
+        // 4. 가장 가까운 파출소 조회 (R-05에서 사용)
+        CompletableFuture<DatabaseQueryResult> policeStage = runStage("파출소 조회",
+                () -> {
+                    DatabaseQueryResult stageResult = new DatabaseQueryResult();
+                    stageResult.setNearestPolice(findNearestPolice(latitude, longitude));
+                    return stageResult;
+                },
+                policeStageTimeout,
+                ex -> {
+                    DatabaseQueryResult fallback = new DatabaseQueryResult();
+                    fallback.setNearestPolice(null);
+                    fallback.addError("파출소 조회 실패: " + describeStageFailure(ex, policeStageTimeout));
+                    return fallback;
+                });
+
+        // 5. 단계 완료 통지 (안전 인프라 → 검거율 순서 보장, 통지 실패는 단계 결과에 영향 없음)
+        CompletableFuture<Void> safetyInfraNotified = cctvStage.thenAcceptBoth(policeStage,
+                (cctvResult, policeResult) -> stageListener.onSafetyInfra(cctvResult, policeResult.getNearestPolice()));
+        CompletableFuture<Void> notified = CompletableFuture.allOf(
+                safetyInfraNotified.thenAcceptBoth(arrestRateStage,
+                        (ignored, arrestRateResult) -> stageListener.onArrestRate(arrestRateResult.getArrestRate())),
+                addressStage.thenAccept(addressResult -> stageListener.onAddress(addressResult.getAddress())))
+                .exceptionally(ex -> {
+                    log.warn("[R-03/R-04] 단계 완료 통지 실패: {}", ex.getMessage());
+                    return null;
+                });
+
+        // 모든 단계는 exceptionally 로 기본값을 반환하므로 join 은 예외 없이 단계별 타임아웃 내에 완료된다.
+        CompletableFuture.allOf(cctvStage, arrestRateStage, amenityStage, policeStage, notified).join();
+
+        // 결과 병합: DB 조회 결과
+        DatabaseQueryResult dbResult = cctvStage.join();
+        DatabaseQueryResult policeResult = policeStage.join();
+        dbResult.setNearestPolice(policeResult.getNearestPolice());
+        policeResult.getErrors().forEach(dbResult::addError);
+
+        // 결과 병합: 외부 API 호출 결과
+        ExternalApiResult addressResult = addressStage.join();
+        ExternalApiResult arrestRateResult = arrestRateStage.join();
+        ExternalApiResult amenityResult = amenityStage.join();
+
+        ExternalApiResult apiResult = new ExternalApiResult();
+        apiResult.setAddress(addressResult.getAddress());
+        apiResult.setAmenityData(amenityResult.getAmenityData());
+        apiResult.setArrestRate(arrestRateResult.getArrestRate());
+        addressResult.getErrors().forEach(apiResult::addError);
+        amenityResult.getErrors().forEach(apiResult::addError);
+        arrestRateResult.getErrors().forEach(apiResult::addError);
+
+        log.info("[R-03] 데이터베이스 조회 완료 - CCTV 총 격자: {}개", dbResult.getCctvData().size());
+        if (dbResult.hasErrors()) {
+            log.warn("[R-03] 발생한 오류: {}", dbResult.getErrors());
+        }
+        logExternalApiSummary(apiResult);
 
-        // ============================================
-        // 최종 결과 로깅
-        // ============================================
+        return new StageResults(dbResult, apiResult);
+    }
+
+    /**
+     * 단일 단계를 전용 스레드 풀에서 비동기 실행하고 타임아웃/예외 시 기본값으로 대체한다.
+     *
+     * 요청 스레드의 MDC(traceId)를 작업 스레드로 전달하여 단계별 로그가 같은 요청으로 묶이도록 한다.
+     */
+    private <T> CompletableFuture<T> runStage(String stageName,
+                                              Supplier<T> task,
+                                              Duration timeout,
+                                              Function<Throwable, T> fallback) {
+
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        return CompletableFuture.supplyAsync(() -> {
+                    if (mdcContext != null) {
+                        MDC.setContextMap(mdcContext);
+                    }
+                    try {
+                        return task.get();
+                    } finally {
+                        MDC.clear();
+                    }
+                }, stageExecutor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("[R-03/R-04] 단계 실패 - 기본값으로 대체 - 단계: {}, 원인: {}",
+                            stageName, describeStageFailure(ex, timeout));
+                    return fallback.apply(ex);
+                });
+    }
+
+    private String describeStageFailure(Throwable ex, Duration timeout) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+
+        if (cause instanceof TimeoutException) {
+            return "시간 초과 (" + timeout.toMillis() + "ms)";
+        }
+        return cause.getMessage();
+    }
+
+    /**
+     * 검거율 조회 단계 (address: 경계 인덱스 미적재 / 경계 밖일 때 '구' 추출에 사용할 주소, 없으면 null)
+     */
+    private CompletableFuture<ExternalApiResult> runArrestRateStage(double latitude, double longitude, AddressDto address) {
+        return runStage("검거율 조회",
+                () -> {
+                    ExternalApiResult stageResult = new ExternalApiResult();
+                    stageResult.setAddress(address);
+                    fetchArrestRate(latitude, longitude, stageResult);
+                    return stageResult;
+                },
+                arrestRateStageTimeout,
+                ex -> failedApiResult("검거율 조회 실패: " + describeStageFailure(ex, arrestRateStageTimeout)));
+    }
+
+    private ExternalApiResult failedApiResult(String error) {
+        ExternalApiResult fallback = new ExternalApiResult();
+        fallback.setArrestRate(0.0);
+        fallback.addError(error);
+        return fallback;
+    }
 
+    /**
+     * R-04 외부 API 호출 결과 요약 로깅 (순차/동시 실행 공통)
+     */
+    private void logExternalApiSummary(ExternalApiResult result) {
         log.info("[R-04] 외부 API 호출 결과:");
         log.info("[R-04] - 주소: {}", result.getAddress() != null ? "성공" : "실패");
         log.info("[R-04] - 편의시설: {}", result.getAmenityData() != null ?
@@ -1088,41 +2294,35 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         if (result.hasErrors()) {
             log.warn("[R-04] 발생한 오류: {}", result.getErrors());
         }
-
-        // [계측 주석 처리] 로깅 후 종료
-        // perfLogger.setResultData(r04ApiResult);
-        // perfLogger.end();
-
-        return result;
     }
 
     /**
      * R-05: 데이터 통합, 필터링, 최종 응답 생성 대기
      *
      * R-03과 R-04에서 조회한 모든 데이터를 통합하고, 사용자가 요청한 반경 내의 데이터만 필터링한다.
-     * 9-Block 그리드로 조회한 데이터는 약 450m × 450m 영역을 포함하므로,
+     * 격자 커버로 조회한 데이터는 반경 원을 감싸는 격자 전체를 포함하므로,
      * 정확한 반경(예: 500m) 필터링을 위해 Haversine 공식 기반 거리 계산이 필수적이다.
      *
      * 처리 흐름
-     * 1. 9개 격자에서 조회한 모든 CCTV 데이터를 단일 리스트로 통합
-     * 2. 각 CCTV와 요청 좌표 간 실제 거리 계산 (Haversine 공식)
+     * 1. 커버 격자에서 조회한 모든 CCTV 데이터를 단일 리스트로 통합
+     * 2. 각 CCTV 반경 판정 (RadiusFilter: 경계 상자 → 등장방형 근사 → 경계 부근만 Haversine)
      * 3. 반경 내 CCTV만 필터링 및 카운트 집계
-     * 4. 9개 격자에서 조회한 모든 파출소 데이터를 단일 리스트로 통합
+     * 4. 파출소 데이터 통합 (공간 인덱스 또는 최근접 조회 결과)
      * 5. 각 파출소와 요청 좌표 간 거리 계산 후 가장 가까운 파출소 선정
      * 6. 외부 API 결과(주소, 편의시설, 검거율)와 통합
-     * 7. 편의시설 각 장소별 거리 계산 및 카테고리별 AmenityDetailDto 생성
+     * 7. 편의시설 카테고리별 AmenityDetailDto 생성 (거리는 AmenityCellService 가 요청 좌표 기준으로 보고한 값 사용)
      *
      * @param request 사용자 요청 DTO (위도, 경도, 반경)
      * @param dbResult R-03에서 반환된 DB 조회 결과 (격자별 CCTV/파출소)
      * @param apiResult R-04에서 반환된 외부 API 호출 결과 (주소, 편의시설, 검거율)
-     * @param nineBlockGeohashes R-01에서 계산된 9개 격자 ID 목록
+     * @param coverGeohashes R-01에서 계산된 격자 커버 ID 목록
      * @return 통합 및 필터링된 데이터 결과 객체
      */
     private IntegratedDataResult integrateAndFilterData(
             LocationAnalysisRequestDTO request,
             DatabaseQueryResult dbResult,
             ExternalApiResult apiResult,
-            List<String> nineBlockGeohashes) {
+            List<String> coverGeohashes) {
 
         // [계측 주석 처리] R-05 PerformanceLogger
         // PerformanceLogger perfLogger = PerformanceLogger.start(
@@ -1167,39 +2367,49 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         //         .isSuccess(false)
         //         .build();
 
-        List<CctvGeo> allCctvList = new ArrayList<>();
+        List<CctvGeo> filteredCctvList;
+        int totalCameraCount = 0;
+
+        if (cctvSpatialIndex.isReady()) {
+            // 메모리 공간 인덱스에서 반경 내 CCTV 직접 조회 (격자 통합 및 거리 계산은 인덱스 내부에서 수행)
+            filteredCctvList = cctvSpatialIndex.findWithinRadius(userLatitude, userLongitude, radius);
 
-        for (String geohashId : nineBlockGeohashes) {
-            List<CctvGeo> cctvInGrid = dbResult.getCctvData().get(geohashId);
-            if (cctvInGrid != null) {
-                allCctvList.addAll(cctvInGrid);
+            for (CctvGeo cctv : filteredCctvList) {
+                totalCameraCount += cctv.getCameraCount();
             }
-        }
 
-        log.info("[R-05] 9개 격자에서 통합된 전체 CCTV 개수: {}개", allCctvList.size());
+        } else {
+            List<CctvGeo> allCctvList = new ArrayList<>();
 
-        // [계측 주석 처리] cctvFilterResult.setTotalCctvBeforeFilter(allCctvList.size());
+            for (String geohashId : coverGeohashes) {
+                List<CctvGeo> cctvInGrid = dbResult.getCctvData().get(geohashId);
+                if (cctvInGrid != null) {
+                    allCctvList.addAll(cctvInGrid);
+                }
+            }
 
-        List<CctvGeo> filteredCctvList = new ArrayList<>();
-        int totalCameraCount = 0;
+            log.info("[R-05] {}개 격자에서 통합된 전체 CCTV 개수: {}개", coverGeohashes.size(), allCctvList.size());
 
-        // [계측 주석 처리] CCTV 필터링 루프 시간 측정 시작
-        // long cctvFilterStartNs = System.nanoTime();
+            // [계측 주석 처리] cctvFilterResult.setTotalCctvBeforeFilter(allCctvList.size());
 
-        for (CctvGeo cctv : allCctvList) {
-            double distance = geohashService.calculateDistance(
-                    userLatitude, userLongitude,
-                    cctv.getLatitude(), cctv.getLongitude());
+            filteredCctvList = new ArrayList<>();
 
-            if (distance <= radius) {
-                filteredCctvList.add(cctv);
-                totalCameraCount += cctv.getCameraCount();
+            // [계측 주석 처리] CCTV 필터링 루프 시간 측정 시작
+            // long cctvFilterStartNs = System.nanoTime();
+
+            RadiusFilter radiusFilter = RadiusFilter.of(userLatitude, userLongitude, radius);
+
+            for (CctvGeo cctv : allCctvList) {
+                if (radiusFilter.contains(cctv.getLatitude(), cctv.getLongitude())) {
+                    filteredCctvList.add(cctv);
+                    totalCameraCount += cctv.getCameraCount();
+                }
             }
-        }
 
-        // [계측 주석 처리] CCTV 필터링 루프 시간 측정 종료
-        // long cctvFilterEndNs = System.nanoTime();
-        // cctvFilterResult.setFilterExecutionTimeNs(cctvFilterEndNs - cctvFilterStartNs);
+            // [계측 주석 처리] CCTV 필터링 루프 시간 측정 종료
+            // long cctvFilterEndNs = System.nanoTime();
+            // cctvFilterResult.setFilterExecutionTimeNs(cctvFilterEndNs - cctvFilterStartNs);
+        }
 
         result.setFilteredCctvList(filteredCctvList);
         result.setTotalCameraCount(totalCameraCount);
@@ -1219,66 +2429,35 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         log.info("[R-05] 반경 {}m 내 필터링된 CCTV: {}개 (총 카메라 대수: {}대)",
                 radius, filteredCctvList.size(), totalCameraCount);
 
-        // ============================================
-        // 2. 파출소 데이터 - 격자 상관없이 가장 가까운 파출소 1개만 찾기
-        // ============================================
-
-        log.info("[R-05] 가장 가까운 파출소 검색 시작");
-
-        // [계측 주석 처리] R05PoliceQueryResult
-        // R05PoliceQueryResult policeQueryResult = R05PoliceQueryResult.builder()
-        //         .queryDurationNs(0)
-        //         .found(false)
-        //         .nearestAddress(null)
-        //         .nearestDistance(null)
-        //         .isSuccess(false)
-        //         .errorMessage(null)
-        //         .build();
-
-        PoliceOfficeGeo nearestPolice = null;
-        double minDistance = Double.MAX_VALUE;
-
-        // [계측 주석 처리] long policeQueryStartNs = System.nanoTime();
-
-        try {
-            // DB에서 직접 가장 가까운 파출소 1개 조회
-            List<PoliceOfficeGeo> nearestPoliceList = policeOfficeGeoRepository
-                    .findNearestPoliceStations(userLatitude, userLongitude, 1);
-
-            // [계측 주석 처리] long policeQueryEndNs = System.nanoTime();
-            // policeQueryResult.setQueryDurationNs(policeQueryEndNs - policeQueryStartNs);
-
-            if (!nearestPoliceList.isEmpty()) {
-                nearestPolice = nearestPoliceList.get(0);
-                minDistance = geohashService.calculateDistance(
-                        userLatitude, userLongitude,
-                        nearestPolice.getLatitude(), nearestPolice.getLongitude());
-
-                log.info("[R-05] 가장 가까운 파출소 발견: {} (거리: {}m)",
-                        nearestPolice.getAddress(), Math.round(minDistance));
+        // ============================================
+        // 2. 파출소 데이터 - 격자 상관없이 가장 가까운 파출소 1개만 찾기
+        // ============================================
 
-                // [계측 주석 처리] policeQueryResult 설정
-                // policeQueryResult.setFound(true);
-                // policeQueryResult.setNearestAddress(nearestPolice.getAddress());
-                // policeQueryResult.setNearestDistance(minDistance);
-                // policeQueryResult.setSuccess(true);
+        log.info("[R-05] 가장 가까운 파출소 검색 시작");
 
-            } else {
-                // [계측 주석 처리] policeQueryResult 설정
-                // policeQueryResult.setFound(false);
-                // policeQueryResult.setNearestDistance(Double.MAX_VALUE);
-                // policeQueryResult.setSuccess(true);
-            }
+        // [계측 주석 처리] R05PoliceQueryResult
+        // R05PoliceQueryResult policeQueryResult = R05PoliceQueryResult.builder()
+        //         .queryDurationNs(0)
+        //         .found(false)
+        //         .nearestAddress(null)
+        //         .nearestDistance(null)
+        //         .isSuccess(false)
+        //         .errorMessage(null)
+        //         .build();
 
-        } catch (Exception e) {
-            log.error("[R-05] 파출소 검색 중 오류 발생", e);
+        // 동시 실행 모드에서는 R-03과 함께 미리 조회된 결과를 재사용 (미조회 시 직접 조회)
+        PoliceOfficeGeo nearestPolice = dbResult.isNearestPoliceResolved()
+                ? dbResult.getNearestPolice()
+                : findNearestPolice(userLatitude, userLongitude);
+        double minDistance = Double.MAX_VALUE;
 
-            // [계측 주석 처리] 파출소 쿼리 시간 측정
-            // long policeQueryEndNs = System.nanoTime();
-            // policeQueryResult.setQueryDurationNs(policeQueryEndNs - policeQueryStartNs);
+        if (nearestPolice != null) {
+            minDistance = geohashService.calculateDistance(
+                    userLatitude, userLongitude,
+                    nearestPolice.getLatitude(), nearestPolice.getLongitude());
 
-            // policeQueryResult.setSuccess(false);
-            // policeQueryResult.setErrorMessage(e.getMessage());
+            log.info("[R-05] 가장 가까운 파출소 발견: {} (거리: {}m)",
+                    nearestPolice.getAddress(), Math.round(minDistance));
         }
 
         result.setNearestPolice(nearestPolice);
@@ -1295,6 +2474,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         log.info("[R-05] 외부 API 데이터 통합 시작");
 
         result.setAddress(apiResult.getAddress());
+        result.setDistrict(resolveDistrict(userLatitude, userLongitude, apiResult.getAddress()));
         result.setArrestRate(apiResult.getArrestRate());
 
         // ============================================
@@ -1350,16 +2530,15 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
                     double placeLatitude = ((Number) place.get("latitude")).doubleValue();
                     double placeLongitude = ((Number) place.get("longitude")).doubleValue();
 
-                    double distance = geohashService.calculateDistance(
-                            userLatitude, userLongitude,
-                            placeLatitude, placeLongitude);
+                    // 요청 좌표 기준 Haversine 거리 (AmenityCellService 가 반경 판정 후 보고, 재계산 불필요)
+                    int distance = ((Number) place.get("distance")).intValue();
 
                     if (distance <= radius) {
                         PlaceDto placeDto = new PlaceDto();
                         placeDto.setName(name);
                         placeDto.setLatitude(placeLatitude);
                         placeDto.setLongitude(placeLongitude);
-                        placeDto.setDistance((int) Math.round(distance));
+                        placeDto.setDistance(distance);
 
                         placeDtoList.add(placeDto);
                     }
@@ -1436,6 +2615,59 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         return result;
     }
 
+    /**
+     * R-05 파출소 조회: 격자와 무관하게 요청 좌표에서 가장 가까운 파출소 1개를 조회
+     *
+     * PoliceOfficeSpatialIndex 적재 완료 시 메모리 k-NN 으로 응답하고, 미적재/비활성 시에만 DB(ACOS 전체 스캔)로 조회한다.
+     * 동시 실행 모드에서는 R-03/R-04와 함께 독립 단계로 먼저 실행된다.
+     *
+     * @return 가장 가까운 파출소 (미존재 또는 조회 실패 시 null)
+     */
+    private PoliceOfficeGeo findNearestPolice(double userLatitude, double userLongitude) {
+
+        PoliceOfficeGeo nearestPolice = null;
+
+        // [계측 주석 처리] long policeQueryStartNs = System.nanoTime();
+
+        try {
+            // 메모리 인덱스 우선, 미적재 시 DB에서 직접 가장 가까운 파출소 1개 조회
+            List<PoliceOfficeGeo> nearestPoliceList = policeOfficeSpatialIndex.isReady()
+                    ? policeOfficeSpatialIndex.findNearest(userLatitude, userLongitude, 1)
+                    : policeOfficeGeoRepository.findNearestPoliceStations(userLatitude, userLongitude, 1);
+
+            // [계측 주석 처리] long policeQueryEndNs = System.nanoTime();
+            // policeQueryResult.setQueryDurationNs(policeQueryEndNs - policeQueryStartNs);
+
+            if (!nearestPoliceList.isEmpty()) {
+                nearestPolice = nearestPoliceList.get(0);
+
+                // [계측 주석 처리] policeQueryResult 설정
+                // policeQueryResult.setFound(true);
+                // policeQueryResult.setNearestAddress(nearestPolice.getAddress());
+                // policeQueryResult.setNearestDistance(minDistance);
+                // policeQueryResult.setSuccess(true);
+
+            } else {
+                // [계측 주석 처리] policeQueryResult 설정
+                // policeQueryResult.setFound(false);
+                // policeQueryResult.setNearestDistance(Double.MAX_VALUE);
+                // policeQueryResult.setSuccess(true);
+            }
+
+        } catch (Exception e) {
+            log.error("[R-05] 파출소 검색 중 오류 발생", e);
+
+            // [계측 주석 처리] 파출소 쿼리 시간 측정
+            // long policeQueryEndNs = System.nanoTime();
+            // policeQueryResult.setQueryDurationNs(policeQueryEndNs - policeQueryStartNs);
+
+            // policeQueryResult.setSuccess(false);
+            // policeQueryResult.setErrorMessage(e.getMessage());
+        }
+
+        return nearestPolice;
+    }
+
     /**
      * 카테고리 코드 -> 카테고리명 매핑 생성
      *
@@ -1569,36 +2801,25 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
      * - CCTV: 40%
      * - 검거율: 30%
      *
+     * 공식은 SafetyScoreFormula 로 안전 점수 격자(SafetyTileGrid)와 공유한다.
+     * 단, 격자의 사전 계산 점수는 읽지 않는다. 격자 점수는 셀 중심(요청 좌표와 최대 약 100m 차이)과 고정 반경(safety-tile.radius)
+     * 기준 근사값이라, 응답에 함께 담기는 요청 좌표 / 요청 반경 기준 CCTV 목록 · 파출소 거리와 어긋난 점수가 된다.
+     * 또한 그 목록 / 거리는 응답에 필요해 어차피 계산되므로 격자 조회로 줄어드는 계산도 없다.
+     *
      * @param data 통합 데이터
      * @return 0-100 범위의 안전 점수
      */
     private double calculateSafetyScore(IntegratedDataResult data) {
-        // 1. 파출소 거리 점수 계산 (JS와 동일하게 800m 기준)
-        double distanceScore = 0;
-        if (data.getNearestPolice() != null) {
-            double distance = data.getDistanceToNearestPolice();
-            if (distance <= 800) {
-                distanceScore = (800 - distance) / 800 * 100;
-            } else {
-                distanceScore = 0;
-            }
-        }
-
-        // 2. CCTV 점수 계산 (JS와 동일하게 30개 기준)
+        double distance = data.getNearestPolice() != null ? data.getDistanceToNearestPolice() : Double.POSITIVE_INFINITY;
         int cctvCount = data.getFilteredCctvList().size();
-        double cctvScore = Math.min(cctvCount / 30.0 * 100, 100);
-
-        // 3. 검거율 점수 계산 (검거율 × 100)
-        double arrestScore = data.getArrestRate() * 100;
 
-        // 4. 가중치 적용 (JS의 weight 객체와 동일)
-        double safetyScore = (distanceScore * 0.3) + (cctvScore * 0.4) + (arrestScore * 0.3);
+        double safetyScore = SafetyScoreFormula.safetyScore(distance, cctvCount, data.getArrestRate());
 
         log.debug("안전 점수 계산 상세:");
-        log.debug("- 파출소 거리 점수: {} (거리: {}m)", distanceScore,
-                data.getNearestPolice() != null ? Math.round(data.getDistanceToNearestPolice()) : "없음");
-        log.debug("- CCTV 점수: {} (개수: {}개)", cctvScore, cctvCount);
-        log.debug("- 검거율 점수: {} (검거율: {})", arrestScore, data.getArrestRate());
+        log.debug("- 파출소 거리 점수: {} (거리: {}m)", SafetyScoreFormula.policeDistanceScore(distance),
+                data.getNearestPolice() != null ? Math.round(distance) : "없음");
+        log.debug("- CCTV 점수: {} (개수: {}개)", SafetyScoreFormula.cctvScore(cctvCount), cctvCount);
+        log.debug("- 검거율 점수: {} (검거율: {})", SafetyScoreFormula.arrestRateScore(data.getArrestRate()), data.getArrestRate());
         log.debug("- 최종 안전 점수: {}", safetyScore);
 
         return safetyScore;
@@ -1608,32 +2829,19 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
      * 안전 점수 로깅 DTO 생성 헬퍼 메서드
      */
     private R06SafetyScoreResult createSafetyScoreResult(IntegratedDataResult data, double finalScore) {
-        double distanceScore = 0;
-        double distance = 0;
-
-        if (data.getNearestPolice() != null) {
-            distance = data.getDistanceToNearestPolice();
-            if (distance <= 800) {
-                distanceScore = (800 - distance) / 800 * 100;
-            }
-        } else {
-            distance = Double.MAX_VALUE;
-        }
-
+        double distance = data.getNearestPolice() != null ? data.getDistanceToNearestPolice() : Double.MAX_VALUE;
         int cctvCount = data.getFilteredCctvList().size();
-        double cctvScore = Math.min(cctvCount / 30.0 * 100, 100);
-        double arrestScore = data.getArrestRate() * 100;
 
         return R06SafetyScoreResult.builder()
-                .policeDistanceScore(distanceScore)
+                .policeDistanceScore(SafetyScoreFormula.policeDistanceScore(distance))
                 .policeDistance(distance)
-                .cctvScore(cctvScore)
+                .cctvScore(SafetyScoreFormula.cctvScore(cctvCount))
                 .cctvCount(cctvCount)
-                .arrestRateScore(arrestScore)
+                .arrestRateScore(SafetyScoreFormula.arrestRateScore(data.getArrestRate()))
                 .arrestRate(data.getArrestRate())
-                .policeWeight(0.3)
-                .cctvWeight(0.4)
-                .arrestWeight(0.3)
+                .policeWeight(SafetyScoreFormula.POLICE_WEIGHT)
+                .cctvWeight(SafetyScoreFormula.CCTV_WEIGHT)
+                .arrestWeight(SafetyScoreFormula.ARREST_WEIGHT)
                 .finalScore(finalScore)
                 .isSuccess(true)
                 .build();
@@ -1681,11 +2889,8 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         populationData.put("송파구", 656310);
         populationData.put("강동구", 451474);
 
-        // 현재 구 이름 가져오기 (주소에서 추출)
-        String currentGu = null;
-        if (data.getAddress() != null) {
-            currentGu = extractGu(data.getAddress().getRoadAddress());
-        }
+        // 현재 구 이름 (경계 인덱스 판정, 미적재 시 주소에서 추출)
+        String currentGu = data.getDistrict();
 
         // 현재 구의 인구수 (기본값: 400000)
         int population = populationData.getOrDefault(currentGu, 400000);
@@ -1831,10 +3036,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         populationData.put("송파구", 656310);
         populationData.put("강동구", 451474);
 
-        String currentGu = null;
-        if (data.getAddress() != null) {
-            currentGu = extractGu(data.getAddress().getRoadAddress());
-        }
+        String currentGu = data.getDistrict();
 
         int population = populationData.getOrDefault(currentGu, 400000);
 
@@ -1919,21 +3121,20 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
     }
 
     /**
-     * R-07: 최종 응답 생성 및 캐싱
+     * R-07: 최종 응답 생성
      *
-     * 모든 처리 결과를 LocationAnalysisResponseDTO로 변환하고 캐싱한다.
+     * 모든 처리 결과를 LocationAnalysisResponseDTO로 변환한다.
+     * (1단계 캐시에는 응답이 아닌 격자 상위집합을 저장하므로 이 단계에서는 캐싱하지 않는다. cacheLevel1Snapshot 참고)
      *
      * @param request 원본 요청 (좌표 정보용)
-     * @param integratedResult 통합된 데이터
+     * @param integratedResult 요청 반경으로 파생된 데이터
      * @param scoringResult 계산된 점수
-     * @param centerGeohashId 중심 격자 ID (캐싱용)
      * @return 최종 응답 DTO
      */
     private LocationAnalysisResponseDTO buildFinalResponse(
             LocationAnalysisRequestDTO request,
             IntegratedDataResult integratedResult,
-            ScoringResult scoringResult,
-            String centerGeohashId) {
+            ScoringResult scoringResult) {
 
         // [계측 주석 처리] R-07 PerformanceLogger
         // PerformanceLogger perfLogger = PerformanceLogger.start(
@@ -1978,49 +3179,9 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             // [계측 주석 처리] r07ResponseResult.setHasAddress(integratedResult.getAddress() != null);
 
             // 안전성 점수 정보 설정
-            SafetyScoreDto safetyScore = new SafetyScoreDto();
+            SafetyScoreDto safetyScore = buildSafetyScoreDto(integratedResult);
             safetyScore.setTotal((int) Math.round(scoringResult.getSafetyScore()));
 
-            log.info("[R-07] nearestPolice: {}", integratedResult.getNearestPolice());
-            log.info("[R-07] policeDistance: {}", integratedResult.getDistanceToNearestPolice());
-
-            // 파출소 거리 및 상세 정보 설정
-            if (integratedResult.getNearestPolice() != null) {
-                safetyScore.setPoliceDistance((int) Math.round(integratedResult.getDistanceToNearestPolice()));
-
-                PoliceOfficeDto policeDto = new PoliceOfficeDto();
-                policeDto.setAddress(integratedResult.getNearestPolice().getAddress());
-                policeDto.setLatitude(integratedResult.getNearestPolice().getLatitude());
-                policeDto.setLongitude(integratedResult.getNearestPolice().getLongitude());
-                policeDto.setDistance((int) Math.round(integratedResult.getDistanceToNearestPolice()));
-
-                safetyScore.setNearestPoliceOffice(policeDto);
-
-            } else {
-                safetyScore.setPoliceDistance(null);
-                safetyScore.setNearestPoliceOffice(null);
-            }
-
-            // CCTV 정보
-            safetyScore.setCctvCount(integratedResult.getFilteredCctvList().size());
-
-            // CCTV 상세 리스트 변환
-            List<CctvDetailDto> cctvDetailList = new ArrayList<>();
-
-            for (CctvGeo cctv : integratedResult.getFilteredCctvList()) {
-
-                CctvDetailDto cctvDetail = new CctvDetailDto();
-                cctvDetail.setAddress(cctv.getAddress());
-                cctvDetail.setLatitude(cctv.getLatitude());
-                cctvDetail.setLongitude(cctv.getLongitude());
-                cctvDetail.setCameraCount(cctv.getCameraCount());
-                cctvDetailList.add(cctvDetail);
-            }
-            safetyScore.setCctvList(cctvDetailList);
-
-            // 검거율
-            safetyScore.setArrestRate(integratedResult.getArrestRate());
-
             response.setSafetyScore(safetyScore);
             // [계측 주석 처리] r07ResponseResult.setHasSafetyScore(true);
 
@@ -2044,45 +3205,6 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             response.setWarnings(warnings);
             // [계측 주석 처리] r07ResponseResult.setWarnings(warnings);
 
-            // 1단계 캐시에 저장 (TTL: 5분)
-            // [계측 주석 처리] R07CacheWriteResult
-            // R07CacheWriteResult cacheWriteResult = R07CacheWriteResult.builder()
-            //         .cacheKey(null)
-            //         .dataSize(0)
-            //         .ttlSeconds(0)
-            //         .isSuccess(false)
-            //         .errorMessage(null)
-            //         .build();
-
-            try {
-                String cacheKey = "dto:" + centerGeohashId;
-                String jsonData = objectMapper.writeValueAsString(response);
-
-                redisSingleDataService.setSingleData(cacheKey, jsonData, LEVEL1_CACHE_TTL);
-
-                log.info("[R-07] 최종 응답 캐싱 완료 - Key: {}", cacheKey);
-
-                // [계측 주석 처리] 캐시 쓰기 성공
-                // int dataSize = jsonData.getBytes().length;
-                // cacheWriteResult.setCacheKey(cacheKey);
-                // cacheWriteResult.setDataSize(dataSize);
-                // cacheWriteResult.setTtlSeconds(LEVEL1_CACHE_TTL.getSeconds());
-                // cacheWriteResult.setSuccess(true);
-                // cacheWriteResult.setErrorMessage(null);
-
-                // [계측 주석 처리] 응답 크기 설정
-                // r07ResponseResult.setResponseSizeBytes(dataSize);
-
-            } catch (Exception e) {
-                log.warn("[R-07] 최종 응답 캐싱 실패: {}", e.getMessage());
-
-                // [계측 주석 처리] 캐시 쓰기 실패
-                // cacheWriteResult.setSuccess(false);
-                // cacheWriteResult.setErrorMessage(e.getMessage());
-            }
-
-            // [계측 주석 처리] r07ResponseResult.setCacheWrite(cacheWriteResult);
-
             log.info("[R-07] 최종 응답 생성 완료");
 
             // [계측 주석 처리] R-07 메인 로깅 DTO 최종 설정
@@ -2104,6 +3226,55 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         return response;
     }
 
+    /**
+     * 안전성 정보 DTO 생성 (종합 점수 total 제외, 최종 응답 / 스트리밍 cctv · safety 이벤트 공통)
+     */
+    private SafetyScoreDto buildSafetyScoreDto(IntegratedDataResult integratedResult) {
+        SafetyScoreDto safetyScore = new SafetyScoreDto();
+
+        log.info("[R-07] nearestPolice: {}", integratedResult.getNearestPolice());
+        log.info("[R-07] policeDistance: {}", integratedResult.getDistanceToNearestPolice());
+
+        // 파출소 거리 및 상세 정보 설정
+        if (integratedResult.getNearestPolice() != null) {
+            safetyScore.setPoliceDistance((int) Math.round(integratedResult.getDistanceToNearestPolice()));
+
+            PoliceOfficeDto policeDto = new PoliceOfficeDto();
+            policeDto.setAddress(integratedResult.getNearestPolice().getAddress());
+            policeDto.setLatitude(integratedResult.getNearestPolice().getLatitude());
+            policeDto.setLongitude(integratedResult.getNearestPolice().getLongitude());
+            policeDto.setDistance((int) Math.round(integratedResult.getDistanceToNearestPolice()));
+
+            safetyScore.setNearestPoliceOffice(policeDto);
+
+        } else {
+            safetyScore.setPoliceDistance(null);
+            safetyScore.setNearestPoliceOffice(null);
+        }
+
+        // CCTV 정보
+        safetyScore.setCctvCount(integratedResult.getFilteredCctvList().size());
+
+        // CCTV 상세 리스트 변환
+        List<CctvDetailDto> cctvDetailList = new ArrayList<>();
+
+        for (CctvGeo cctv : integratedResult.getFilteredCctvList()) {
+
+            CctvDetailDto cctvDetail = new CctvDetailDto();
+            cctvDetail.setAddress(cctv.getAddress());
+            cctvDetail.setLatitude(cctv.getLatitude());
+            cctvDetail.setLongitude(cctv.getLongitude());
+            cctvDetail.setCameraCount(cctv.getCameraCount());
+            cctvDetailList.add(cctvDetail);
+        }
+        safetyScore.setCctvList(cctvDetailList);
+
+        // 검거율
+        safetyScore.setArrestRate(integratedResult.getArrestRate());
+
+        return safetyScore;
+    }
+
     /**
      * 점수 기반 추천사항 생성
      */
@@ -2266,6 +3437,7 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         private PoliceOfficeGeo nearestPolice;
         private double distanceToNearestPolice = 0.0;
         private AddressDto address;
+        private String district;  // 좌표가 속한 '구' (resolveDistrict)
         private double arrestRate = 0.0;
 
         /**
@@ -2314,6 +3486,14 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             this.address = address;
         }
 
+        public String getDistrict() {
+            return district;
+        }
+
+        public void setDistrict(String district) {
+            this.district = district;
+        }
+
         public double getArrestRate() {
             return arrestRate;
         }
@@ -2332,32 +3512,20 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
     }
 
     /**
-     * 주소 문자열에서 '구' 이름 추출
+     * 좌표가 속한 '구' 이름 판정
      *
-     * 도로명 주소를 공백 기준으로 분리하여 "구"로 끝나는 행정구역 단위를 찾는다.
-     * 검거율 데이터는 '구' 단위로 저장되어 있으므로 주소에서 구를 추출해야 한다.
+     * 자치구 경계 인덱스(DistrictIndex)가 적재되어 있으면 점-다각형 판정 결과를 사용하고,
+     * 미적재 또는 경계 밖(서울 외 좌표)이면 도로명 주소에서 추출한다.
      *
-     * @param address 전체 주소 문자열 (예: "서울특별시 중구 세종대로 110")
-     * @return 추출된 '구' 이름 (예: "중구"), 추출 실패 시 null
-     *
-     * @see #performExternalApiCalls(LocationAnalysisRequestDTO)
+     * @param address 주소 변환 결과 (없으면 null)
+     * @return '구' 이름 (예: "중구"), 판정 실패 시 null
      */
-    private String extractGu(String address) {
-        if (address == null || address.isEmpty()) {
-            return null;
-        }
-
-        // 주소를 공백 기준으로 분리 (예: ["서울특별시", "중구", "세종대로", "110"])
-        String[] parts = address.split(" ");
-
-        // 배열을 순회하며 "구"로 끝나는 단어 찾기 (행정구역 단위)
-        for (String part : parts) {
-            if (part.endsWith("구")) {
-                return part;
-            }
+    private String resolveDistrict(double latitude, double longitude, AddressDto address) {
+        String gu = districtIndex.resolve(latitude, longitude);
+        if (gu == null && address != null) {
+            gu = DistrictIndex.extractGu(address.getRoadAddress());
         }
-
-        return null;
+        return gu;
     }
 
     /**
@@ -2384,27 +3552,39 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
     }
 
     /**
-     * 격자별 데이터를 Redis 2단계 캐시에 저장하는 헬퍼 메서드
+     * 격자별 데이터를 Redis 2단계 캐시에 일괄 저장하는 헬퍼 메서드
      *
      * DB에서 조회한 격자별 데이터를 JSON 직렬화하여 Redis에 저장한다.
      * 캐시 키는 "data:{geohashId}:{dataType}" 형식으로 생성되며,
      * TTL은 24시간으로 설정된다 (공공 데이터의 변경 주기 고려)
+     * 격자 수와 관계없이 파이프라인 1회(1 RTT)로 전송한다.
      *
-     * @param geohashId 격자 ID (예: "wydm7p1")
+     * @param dataByGeohash 격자 ID를 키로 하는 캐싱할 데이터 (List<CctvGeo> 또는 List<PoliceOfficeGeo>)
      * @param dataType 데이터 타입 (예: "cctv", "police")
-     * @param data 캐싱할 데이터 객체 (List<CctvGeo> 또는 List<PoliceOfficeGeo>)
      *
      * @see #performDatabaseQuery(CacheResult)
      */
-    private void cacheGeohashData(String geohashId, String dataType, Object data) {
+    private void cacheGeohashData(Map<String, ? extends Object> dataByGeohash, String dataType) {
+        if (dataByGeohash.isEmpty()) {
+            return;
+        }
+
         try {
-            String cacheKey = "data:" + geohashId + ":" + dataType;
-            String jsonData = objectMapper.writeValueAsString(data);
-            redisSingleDataService.setSingleData(cacheKey, jsonData, LEVEL2_CACHE_TTL);
-            log.debug("[R-03] 캐싱 성공 - Key: {}", cacheKey);
+            Map<String, byte[]> cacheEntries = new HashMap<>();
+            for (Map.Entry<String, ? extends Object> entry : dataByGeohash.entrySet()) {
+                String cacheKey = "data:" + entry.getKey() + ":" + dataType;
+                cacheEntries.put(cacheKey, cacheCodec.encode(entry.getValue()));
+            }
+
+            int saved = nearCacheDataService.setMultiBinaryData(cacheEntries, LEVEL2_CACHE_TTL);
+            if (saved == 1) {
+                log.debug("[R-03] 캐싱 성공 - DataType: {}, 격자 수: {}", dataType, cacheEntries.size());
+            } else {
+                log.warn("[R-03] 캐싱 실패 - DataType: {}, 격자: {}", dataType, dataByGeohash.keySet());
+            }
         } catch (Exception e) {
-            log.warn("[R-03] 캐싱 실패 - GeohashId: {}, DataType: {}, 오류: {}",
-                    geohashId, dataType, e.getMessage());
+            log.warn("[R-03] 캐싱 실패 - DataType: {}, 격자: {}, 오류: {}",
+                    dataType, dataByGeohash.keySet(), e.getMessage());
         }
     }
 
@@ -2506,6 +3686,30 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         }
     }
 
+    /**
+     * 동시 실행 단계(R-03 / R-04 / 파출소 조회)의 병합 결과를 담는 내부 클래스
+     *
+     * @see #performStagesConcurrently(LocationAnalysisRequestDTO, CacheResult, StageListener)
+     */
+    private static class StageResults {
+
+        private final DatabaseQueryResult dbResult;
+        private final ExternalApiResult apiResult;
+
+        private StageResults(DatabaseQueryResult dbResult, ExternalApiResult apiResult) {
+            this.dbResult = dbResult;
+            this.apiResult = apiResult;
+        }
+
+        public DatabaseQueryResult getDbResult() {
+            return dbResult;
+        }
+
+        public ExternalApiResult getApiResult() {
+            return apiResult;
+        }
+    }
+
     /**
      * DB 조회 결과를 담는 내부 클래스
      *
@@ -2525,6 +3729,12 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         // Map<GeohashId, List<PoliceOfficeGeo>> 형태 (예: "wydm7p1" -> [파출소1, 파출소2, ...])
         private final Map<String, List<PoliceOfficeGeo>> policeData = new HashMap<>();
 
+        // 요청 좌표 기준 가장 가까운 파출소 (동시 실행 모드에서 R-03과 함께 미리 조회한 결과)
+        private PoliceOfficeGeo nearestPolice;
+
+        // 파출소 조회 완료 여부 (true 이면 R-05에서 재조회하지 않음)
+        private boolean nearestPoliceResolved = false;
+
         // DB 조회 중 발생한 오류 메시지 목록
         private final List<String> errors = new ArrayList<>();
 
@@ -2536,6 +3746,19 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             return policeData;
         }
 
+        public PoliceOfficeGeo getNearestPolice() {
+            return nearestPolice;
+        }
+
+        public void setNearestPolice(PoliceOfficeGeo nearestPolice) {
+            this.nearestPolice = nearestPolice;
+            this.nearestPoliceResolved = true;
+        }
+
+        public boolean isNearestPoliceResolved() {
+            return nearestPoliceResolved;
+        }
+
         public List<String> getErrors() {
             return errors;
         }
@@ -2563,11 +3786,17 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         // 1단계 캐시(전체 DTO) 히트 여부 플래그
         private boolean level1Hit = false;
 
-        // 1단계 캐시 히트 시 반환할 최종 응답 DTO 객체
-        private LocationAnalysisResponseDTO cachedResponse;
+        // 1단계 캐시 히트 시 응답 파생에 사용할 격자 상위집합
+        private CellAnalysisSnapshot cachedSnapshot;
+
+        // 1단계 캐시 soft 만료 경과 여부 (true: stale 응답 반환 + 백그라운드 갱신 대상)
+        private boolean level1Stale = false;
 
-        // R-01에서 계산된 9개 격자 ID 목록 (중심 1개 + 인접 8개)
-        private List<String> nineBlockGeohashes;
+        // 1단계 캐시 저장 후 경과 시간 (ms)
+        private long level1AgeMillis;
+
+        // R-01에서 계산된 격자 커버 ID 목록 (0번: 7자리 중심 격자, 이후: 정밀도 혼합 커버 격자)
+        private List<String> coverGeohashes;
 
         // 2단계 캐시: 격자별로 캐시 히트된 CCTV 데이터
         // Map<GeohashId, List<CctvGeo>> 형태
@@ -2586,16 +3815,38 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         /**
          * 1단계 캐시 히트 시 사용하는 정적 팩토리 메서드
          *
-         * @param dto 캐시에서 조회된 최종 응답 DTO
+         * @param snapshot 캐시에서 조회된 격자 상위집합
          * @return 1단계 히트 상태의 CacheResult 객체
          */
-        public static CacheResult level1Hit(LocationAnalysisResponseDTO dto) {
+        public static CacheResult level1Hit(CellAnalysisSnapshot snapshot) {
             CacheResult result = new CacheResult();
             result.level1Hit = true;
-            result.cachedResponse = dto;
+            result.cachedSnapshot = snapshot;
+            return result;
+        }
+
+        /**
+         * 1단계 캐시가 soft 만료 ~ hard 만료 사이일 때 사용하는 정적 팩토리 메서드
+         *
+         * @param snapshot 캐시에서 조회된 격자 상위집합
+         * @param ageMillis 캐시 저장 후 경과 시간 (ms)
+         * @return stale 상태의 1단계 히트 CacheResult 객체
+         */
+        public static CacheResult level1StaleHit(CellAnalysisSnapshot snapshot, long ageMillis) {
+            CacheResult result = level1Hit(snapshot);
+            result.level1Stale = true;
+            result.level1AgeMillis = ageMillis;
             return result;
         }
 
+        public boolean isLevel1Stale() {
+            return level1Stale;
+        }
+
+        public long getLevel1AgeMillis() {
+            return level1AgeMillis;
+        }
+
         public boolean isLevel1Hit() {
             return level1Hit;
         }
@@ -2604,16 +3855,16 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
             this.level1Hit = level1Hit;
         }
 
-        public LocationAnalysisResponseDTO getCachedResponse() {
-            return cachedResponse;
+        public CellAnalysisSnapshot getCachedSnapshot() {
+            return cachedSnapshot;
         }
 
-        public List<String> getNineBlockGeohashes() {
-            return nineBlockGeohashes;
+        public List<String> getCoverGeohashes() {
+            return coverGeohashes;
         }
 
-        public void setNineBlockGeohashes(List<String> nineBlockGeohashes) {
-            this.nineBlockGeohashes = nineBlockGeohashes;
+        public void setCoverGeohashes(List<String> coverGeohashes) {
+            this.coverGeohashes = coverGeohashes;
         }
 
         public void addCachedCctv(String geohashId, List<CctvGeo> data) {
@@ -2649,6 +3900,171 @@ public class LocationAnalysisServiceImpl implements ILocationAnalysisService {
         }
     }
 
+    // ========================================
+    // 스트리밍 응답: 단계 완료 통지
+    // ========================================
+
+    /**
+     * 동시 실행 단계 완료 통지 대상 (performStagesConcurrently / AmenityCellService 작업 스레드에서 호출)
+     *
+     * 통지 값은 상위집합(SUPERSET_RADIUS) 기준이므로 구현체가 요청 반경으로 잘라서 사용한다.
+     * onArrestRate 는 항상 onSafetyInfra 이후에 호출된다.
+     */
+    private interface StageListener {
+
+        StageListener NONE = new StageListener() { };
+
+        default void onSafetyInfra(DatabaseQueryResult cctvResult, PoliceOfficeGeo nearestPolice) { }
+
+        default void onArrestRate(double arrestRate) { }
+
+        default void onAddress(AddressDto address) { }
+
+        default void onAmenityCategory(String categoryCode, List<Map<String, Object>> places) { }
+    }
+
+    /**
+     * 이벤트 전달 직렬화 및 연결 종료 처리
+     *
+     * 여러 작업 스레드의 전달을 하나씩 처리하고, 클라이언트 연결이 끊기면 이후 이벤트는 버린다.
+     * (분석 / 캐시 저장은 계속 진행되어 다음 요청이 1단계 캐시를 사용할 수 있다)
+     */
+    private static final class ProgressiveEmitter {
+        private final LocationAnalysisEventSink sink;
+        private boolean closed;
+
+        private ProgressiveEmitter(LocationAnalysisEventSink sink) {
+            this.sink = sink;
+        }
+
+        private synchronized void send(String event, Object payload) {
+            if (closed) {
+                return;
+            }
+            try {
+                sink.send(event, payload);
+            } catch (IOException | RuntimeException e) {
+                closed = true;
+                log.info("[Stream] 클라이언트 연결 종료 - 이후 이벤트 생략 (이벤트: {}, 원인: {})", event, e.getMessage());
+            }
+        }
+
+        /* 마지막 이벤트 전달 (타임아웃 후 늦게 끝난 단계의 통지가 result 뒤에 전달되지 않도록 이후 이벤트는 버림) */
+        private synchronized void finish(String event, Object payload) {
+            send(event, payload);
+            closed = true;
+        }
+    }
+
+    /**
+     * 1단계 캐시 미스 시 상위집합 단계 결과를 요청 반경으로 잘라 이벤트로 전달
+     */
+    private final class ProgressiveStageListener implements StageListener {
+        private final LocationAnalysisRequestDTO request;
+        private final List<String> coverGeohashes;
+        private final ProgressiveEmitter emitter;
+        private final Map<String, String> categoryNames = createCategoryNameMap();
+
+        // onSafetyInfra → onArrestRate 순서로만 접근 (CompletableFuture 의존 관계로 가시성 보장)
+        private final IntegratedDataResult safetyData = new IntegratedDataResult();
+
+        private ProgressiveStageListener(LocationAnalysisRequestDTO request,
+                                         List<String> coverGeohashes,
+                                         ProgressiveEmitter emitter) {
+            this.request = request;
+            this.coverGeohashes = coverGeohashes;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSafetyInfra(DatabaseQueryResult cctvResult, PoliceOfficeGeo nearestPolice) {
+            double latitude = request.getLatitude();
+            double longitude = request.getLongitude();
+
+            List<CctvGeo> cctvList;
+            if (cctvSpatialIndex.isReady()) {
+                cctvList = cctvSpatialIndex.findWithinRadius(latitude, longitude, request.getRadius());
+            } else {
+                RadiusFilter radiusFilter = RadiusFilter.of(latitude, longitude, request.getRadius());
+                cctvList = new ArrayList<>();
+                for (String geohashId : coverGeohashes) {
+                    List<CctvGeo> cctvInGrid = cctvResult.getCctvData().get(geohashId);
+                    if (cctvInGrid == null) {
+                        continue;
+                    }
+                    for (CctvGeo cctv : cctvInGrid) {
+                        if (radiusFilter.contains(cctv.getLatitude(), cctv.getLongitude())) {
+                            cctvList.add(cctv);
+                        }
+                    }
+                }
+            }
+
+            int totalCameraCount = 0;
+            for (CctvGeo cctv : cctvList) {
+                totalCameraCount += cctv.getCameraCount();
+            }
+
+            safetyData.setFilteredCctvList(cctvList);
+            safetyData.setTotalCameraCount(totalCameraCount);
+            safetyData.setNearestPolice(nearestPolice);
+            safetyData.setDistanceToNearestPolice(nearestPolice != null
+                    ? geohashService.calculateDistance(latitude, longitude, nearestPolice.getLatitude(), nearestPolice.getLongitude())
+                    : Double.MAX_VALUE);
+
+            emitter.send("cctv", safetyLayerOf(buildSafetyScoreDto(safetyData)));
+        }
+
+        @Override
+        public void onArrestRate(double arrestRate) {
+            safetyData.setArrestRate(arrestRate);
+
+            SafetyScoreDto safetyScore = buildSafetyScoreDto(safetyData);
+            safetyScore.setTotal((int) Math.round(calculateSafetyScore(safetyData)));
+            emitter.send("safety", safetyScore);
+        }
+
+        @Override
+        public void onAddress(AddressDto address) {
+            if (address != null) {
+                emitter.send("address", address);
+            }
+        }
+
+        @Override
+        public void onAmenityCategory(String categoryCode, List<Map<String, Object>> places) {
+            List<PlaceDto> placeDtoList = new ArrayList<>();
+
+            // 장소 목록은 요청 좌표 기준 거리 오름차순
+            for (Map<String, Object> place : places) {
+                int distance = ((Number) place.get("distance")).intValue();
+                if (distance > request.getRadius()) {
+                    break;
+                }
+
+                PlaceDto placeDto = new PlaceDto();
+                placeDto.setName((String) place.get("name"));
+                placeDto.setLatitude(((Number) place.get("latitude")).doubleValue());
+                placeDto.setLongitude(((Number) place.get("longitude")).doubleValue());
+                placeDto.setDistance(distance);
+                placeDtoList.add(placeDto);
+            }
+
+            if (placeDtoList.isEmpty()) {
+                return;
+            }
+
+            AmenityDetailDto amenityDetail = new AmenityDetailDto();
+            amenityDetail.setCategoryCode(categoryCode);
+            amenityDetail.setCategoryName(categoryNames.getOrDefault(categoryCode, categoryCode));
+            amenityDetail.setCount(placeDtoList.size());
+            amenityDetail.setClosestDistance(placeDtoList.get(0).getDistance());
+            amenityDetail.setPlaces(placeDtoList);
+
+            emitter.send("amenity", convertToAmenityDetailDtos(List.of(amenityDetail)).get(0));
+        }
+    }
+
     private List<com.wherehouse.information.model.AmenityDetailDto>
     convertToAmenityDetailDtos(List<AmenityDetailDto> internalList) {
 
@@ -0,0 +1,480 @@
+package com.wherehouse.information.util;
+
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.index.RadiusFilter;
+import com.wherehouse.information.model.AmenityCellPlaces;
+import com.wherehouse.information.model.KakaoPlaces;
+import com.wherehouse.redis.codec.VersionedCacheCodec;
+import com.wherehouse.redis.service.NearCacheDataService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 격자(Geohash) 단위 편의시설 캐시
+ *
+ * 목적:
+ * - 기존 "amenity:{lat}:{lon}:{radius}" 키는 원본 좌표를 그대로 사용하여 10m 떨어진 두 요청도 캐시를 공유하지 못했다.
+ * - 편의시설을 격자 x 카테고리 단위로 저장하고, 임의 좌표의 결과는 반경과 겹치는 격자들을 병합한 뒤 로컬에서 거리 필터링한다.
+ *
+ * 저장 구조:
+ * - 키: "amenity:{geohash}:{카테고리 코드}", 값: 해당 격자 안에 위치한 장소 열 배열(AmenityCellPlaces) (TTL 24시간)
+ * - 격자 1개 채우기: 격자 중심에서 격자 외접원 반경(+ 여유)으로 카카오 카테고리 검색(거리순) 후 격자 경계로 잘라 저장
+ *   (경계로 자르므로 인접 격자 간 중복 저장 없음)
+ *   - 페이지(15건)가 가득 차고 마지막 장소가 아직 격자 외접원 안이면 다음 페이지를 이어서 조회한다. (최대 3페이지 45건)
+ *   - 외접원 밖 장소가 나오거나 페이지가 덜 차면 격자 안 장소는 모두 받은 것이므로 중단 (장소가 드문 카테고리 / 외곽 격자는 1페이지로 끝남)
+ *
+ * 조회:
+ * 1. 요청 반경 원을 감싸는 경계 상자와 겹치는 격자 목록 산출
+ * 2. 격자 x 카테고리 키 일괄 조회 (로컬 Near Cache → Redis MGET)
+ * 3. 미스 키는 오프라인 저장소(AMENITY_STORE, AmenityStoreHarvester 가 서울 전역을 미리 수집) 일괄 조회
+ *    - 저장소 값은 격자 캐시와 같은 인코딩이므로 그대로 Redis 에 되채운다.
+ * 4. 저장소에도 없는 키만 카카오 API 병렬 호출 후 일괄 저장 (파이프라인 1회)
+ *    - 같은 격자 x 카테고리를 동시에 채우는 요청(일괄 분석, 인접 좌표 동시 요청)은 진행 중인 호출 1건을 공유한다.
+ * 5. 카테고리별 병합: RadiusFilter 로 반경 판정(근사) → 근사 거리순 상위 PLACES_PER_CATEGORY 건 선택
+ *    → 선택된 장소만 보고용 Haversine 거리 계산 후 거리순 정렬
+ *    (카테고리마다 해당 카테고리의 미스 격자가 모두 채워지는 즉시 병합하므로, 느린 카테고리가 다른 카테고리를 기다리지 않는다)
+ *
+ * 부분 결과 (카카오 호출 실패 / KakaoApiGateway 거절):
+ * - 채우기에 실패한 격자는 캐시에 저장하지 않고(빈 결과를 24시간 고정하지 않도록) 해당 요청의 병합에서만 빠진다.
+ * - 나머지 격자(캐시 적중 + 성공한 채우기)로 카테고리를 병합하므로, 서킷 브레이커가 열려 있는 동안에도
+ *   이미 캐시된 격자 범위의 편의시설은 그대로 응답한다. (누락 건수는 cellDegraded 통계로 확인)
+ *
+ * 한계:
+ * - 카카오 카테고리 검색은 같은 조건으로 45건까지만 반환하므로, 3페이지를 채우고도 외접원 안인 밀집 격자는
+ *   격자 중심에서 가까운 45건만 저장되고 truncated 로 표시된다. (cellTruncated 통계로 확인)
+ *   격자 정밀도(amenity-cache.cell-precision)를 7 로 높이면 이런 격자가 없어지지만, 반경 2km 조회가 상한(MAX_CELLS)을 넘는
+ *   격자(약 900개)와 겹치므로 정밀도는 6 을 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AmenityCellService {
+
+    private static final String KEY_PREFIX = "amenity:";
+    private static final Duration CELL_CACHE_TTL = Duration.ofHours(24);
+
+    // 카테고리별 응답 장소 수 (카카오 1페이지 크기, 기존 응답 및 점수 계산 기준과 동일)
+    private static final int PLACES_PER_CATEGORY = 15;
+
+    // 반경 원 하나가 겹칠 수 있는 최대 격자 수 (정밀도 설정 오류 시 호출 폭주 방지)
+    private static final int MAX_CELLS = 256;
+
+    // 카카오 카테고리 검색 페이지 크기 / 최대 페이지 (같은 조건으로 45건까지만 조회 가능)
+    private static final int KAKAO_PAGE_SIZE = 15;
+    private static final int KAKAO_MAX_PAGES = 3;
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final KakaoApiService kakaoApiService;
+    private final AmenityStoreService amenityStoreService;
+    private final GeohashService geohashService;
+    private final NearCacheDataService nearCacheDataService;
+    private final VersionedCacheCodec cacheCodec;
+
+    @Value("${amenity-cache.cell-precision:6}")
+    private int cellPrecision;
+
+    @Value("${amenity-cache.query-margin:50}")
+    private int queryMargin;
+
+    // 채우기 진행 중인 격자 x 카테고리 키 (완료 시 제거, 노드 내 중복 카카오 호출 방지)
+    private final Map<String, CompletableFuture<AmenityCellPlaces>> inFlightFills = new ConcurrentHashMap<>();
+
+    private final AtomicLong cellHitCount = new AtomicLong();
+    private final AtomicLong cellStoreHitCount = new AtomicLong(); // 격자 캐시 미스 중 오프라인 저장소에서 찾은 수
+    private final AtomicLong cellMissCount = new AtomicLong();   // 채우기를 시작한 미스 수
+    private final AtomicLong kakaoCallCount = new AtomicLong();  // 채우기의 카카오 카테고리 검색 호출 수 (페이지 포함)
+    private final AtomicLong cellTruncatedCount = new AtomicLong(); // 45건 상한에 걸린 채우기 수
+    private final AtomicLong cellSharedCount = new AtomicLong(); // 진행 중인 채우기를 공유한 미스 수
+    private final AtomicLong cellDegradedCount = new AtomicLong(); // 채우기 실패 / 거절로 병합에서 빠진 격자 수
+
+    /**
+     * (latitude, longitude) 반경 radius 안의 편의시설을 카테고리별로 조회한다.
+     *
+     * @return 카테고리별 장소 목록 (key: 카테고리 코드, value: 요청 좌표 기준 거리순 장소 목록, "distance" 는 요청 좌표 기준 미터)
+     */
+    public Map<String, List<Map<String, Object>>> findAmenities(double latitude, double longitude, int radius) {
+        return findAmenities(latitude, longitude, radius, (category, places) -> { });
+    }
+
+    /**
+     * (latitude, longitude) 반경 radius 안의 편의시설을 카테고리별로 조회하며, 카테고리 병합이 끝날 때마다 categoryListener 를 호출한다.
+     *
+     * categoryListener 는 캐시만으로 채워진 카테고리는 호출 스레드에서, 카카오 호출이 필요한 카테고리는 마지막 응답을 받은
+     * 카카오 API 스레드에서 호출된다. (카테고리 간 호출 순서 보장 없음, 반환 전에 모든 호출이 끝남)
+     *
+     * @param categoryListener (카테고리 코드, 해당 카테고리 장소 목록) 을 받는 콜백
+     * @return 카테고리별 장소 목록 (key: 카테고리 코드, value: 요청 좌표 기준 거리순 장소 목록, "distance" 는 요청 좌표 기준 미터)
+     */
+    public Map<String, List<Map<String, Object>>> findAmenities(double latitude, double longitude, int radius,
+                                                                BiConsumer<String, List<Map<String, Object>>> categoryListener) {
+        long[] cells = coveringCells(latitude, longitude, radius);
+
+        // 1. 격자 x 카테고리 키 일괄 조회
+        List<String> keys = new ArrayList<>(cells.length * KakaoApiService.AMENITY_CATEGORIES.length);
+        for (long cell : cells) {
+            for (String category : KakaoApiService.AMENITY_CATEGORIES) {
+                keys.add(cellKey(cell, category));
+            }
+        }
+
+        List<byte[]> cachedValues = nearCacheDataService.getMultiBinaryData(keys, CELL_CACHE_TTL);
+
+        // 카카오 응답 스레드에서 채워지므로 동시성 Map 사용
+        Map<String, AmenityCellPlaces> cellPlaces = new ConcurrentHashMap<>(keys.size() * 2);
+        Map<String, byte[]> toStore = new ConcurrentHashMap<>();
+        Map<String, List<CompletableFuture<Void>>> pendingByCategory = new HashMap<>();
+        int pendingCount = 0;
+
+        List<String> storeKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            AmenityCellPlaces places = decode(cachedValues.get(i));
+
+            if (places != null) {
+                cellHitCount.incrementAndGet();
+                cellPlaces.put(keys.get(i), places);
+            } else {
+                storeKeys.add(keys.get(i).substring(KEY_PREFIX.length()));
+            }
+        }
+
+        // 2. 캐시 미스 키는 오프라인 저장소에서 일괄 조회 (카카오 호출 전)
+        Map<String, byte[]> storedValues = amenityStoreService.findPlaces(storeKeys);
+
+        int index = 0;
+        for (long cell : cells) {
+            for (String category : KakaoApiService.AMENITY_CATEGORIES) {
+                String key = keys.get(index++);
+                if (cellPlaces.containsKey(key)) {
+                    continue;
+                }
+
+                byte[] storedValue = storedValues.get(key.substring(KEY_PREFIX.length()));
+                AmenityCellPlaces stored = storedValue != null ? decode(storedValue) : null;
+                if (stored != null) {
+                    cellStoreHitCount.incrementAndGet();
+                    cellPlaces.put(key, stored);
+                    toStore.put(key, storedValue);   // 격자 캐시 되채우기 (같은 인코딩)
+                    continue;
+                }
+
+                // 3. 저장소에도 없는 격자: 격자 외접원 반경으로 카카오 검색 (KakaoApiGateway 경유 병렬 실행) 후 격자 경계로 자름
+                //    진행 중인 같은 키의 채우기가 있으면 공유하고, 저장은 채우기를 시작한 요청만 수행
+                boolean[] started = new boolean[1];
+                CompletableFuture<AmenityCellPlaces> shared = inFlightFills.computeIfAbsent(key, k -> {
+                    started[0] = true;
+                    return startFill(cell, category, kakaoCallCount::incrementAndGet);
+                });
+
+                if (started[0]) {
+                    cellMissCount.incrementAndGet();
+                    shared.whenComplete((filled, ex) -> inFlightFills.remove(key, shared));
+                } else {
+                    cellSharedCount.incrementAndGet();
+                }
+
+                boolean owner = started[0];
+                CompletableFuture<Void> fill = shared.handle((clipped, ex) -> {
+                    if (ex != null) {
+                        // 부분 결과: 이 격자만 빼고 병합, 캐시에 저장하지 않음 (다음 요청에서 다시 채우기)
+                        cellDegradedCount.incrementAndGet();
+                        log.warn("[AmenityCell] 격자 채우기 실패 - 부분 결과로 처리, Key: {}, 원인: {}", key, ex.getMessage());
+                        return null;
+                    }
+                    cellPlaces.put(key, clipped);
+
+                    if (!owner) {
+                        return null;
+                    }
+                    if (clipped.isTruncated()) {
+                        cellTruncatedCount.incrementAndGet();
+                    }
+                    try {
+                        toStore.put(key, cacheCodec.encode(clipped));
+                    } catch (Exception e) {
+                        log.warn("[AmenityCell] 격자 편의시설 인코딩 실패 - Key: {}, 오류: {}", key, e.getMessage());
+                    }
+                    return null;
+                });
+
+                pendingByCategory.computeIfAbsent(category, c -> new ArrayList<>()).add(fill);
+                pendingCount++;
+            }
+        }
+
+        if (pendingCount > 0) {
+            log.info("[AmenityCell] 격자 캐시 미스 - 격자: {}개 중 채우기 대기 {}건 (진행 중 공유 포함)", cells.length, pendingCount);
+        }
+
+        // 4. 카테고리별 병합 및 요청 좌표 기준 거리 필터링 (미스 격자가 있는 카테고리는 해당 격자가 모두 채워진 뒤)
+        RadiusFilter filter = RadiusFilter.of(latitude, longitude, radius);
+
+        Map<String, List<Map<String, Object>>> results = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> merges = new ArrayList<>();
+
+        for (String category : KakaoApiService.AMENITY_CATEGORIES) {
+            List<CompletableFuture<Void>> fills = pendingByCategory.get(category);
+
+            Runnable merge = () -> {
+                List<Map<String, Object>> places = mergeCategory(category, cells, cellPlaces, filter);
+                results.put(category, places);
+                categoryListener.accept(category, places);
+            };
+
+            if (fills == null) {
+                merge.run();
+            } else {
+                merges.add(CompletableFuture.allOf(fills.toArray(CompletableFuture[]::new)).thenRun(merge));
+            }
+        }
+
+        CompletableFuture.allOf(merges.toArray(CompletableFuture[]::new)).join();
+
+        // 5. 저장소 조회 / 카카오 채우기 격자 일괄 저장 (파이프라인 1회)
+        if (!toStore.isEmpty()) {
+            nearCacheDataService.setMultiBinaryData(new HashMap<>(toStore), CELL_CACHE_TTL);
+        }
+
+        log.info("[AmenityCell] 편의시설 조립 완료 - 격자: {}개, 반경: {}m, 채우기 대기: {}건",
+                cells.length, radius, pendingCount);
+
+        return new HashMap<>(results);
+    }
+
+    /**
+     * 격자 1개 x 카테고리 1개 채우기: 격자 중심에서 격자 외접원 반경(+ 여유)으로 카카오 검색 후 격자 경계로 자름
+     * (오프라인 저장소 수집기 AmenityStoreHarvester 공용, 실패 / 게이트웨이 거절 시 예외로 완료)
+     *
+     * @param kakaoCall 카카오 검색 호출(페이지)마다 호출 직전에 실행 (호출 수 집계용)
+     */
+    public CompletableFuture<AmenityCellPlaces> startFill(long cell, String category, Runnable kakaoCall) {
+        double centerLatitude = GeohashCodec.centerLatitude(cell);
+        double centerLongitude = GeohashCodec.centerLongitude(cell);
+        double cellRadius = geohashService.calculateDistance(centerLatitude, centerLongitude,
+                GeohashCodec.northLatitude(cell), GeohashCodec.eastLongitude(cell));
+        int queryRadius = (int) Math.ceil(cellRadius) + queryMargin;
+
+        // 페이지는 앞 페이지 완료 후 순차 조회하므로 동기화 불필요
+        List<KakaoPlaces> pages = new ArrayList<>(KAKAO_MAX_PAGES);
+        return fetchPages(centerLatitude, centerLongitude, category, queryRadius, cellRadius, 1, pages, kakaoCall)
+                .thenApply(truncated -> clipToCell(pages, cell, truncated));
+    }
+
+    /*
+     * page 번째 페이지 조회 후, 가득 찼고 마지막 장소(거리순)가 아직 격자 외접원 안이면 다음 페이지 조회
+     * @return 최대 페이지까지 조회하고도 외접원 안 장소가 더 있을 수 있으면 true
+     */
+    private CompletableFuture<Boolean> fetchPages(double latitude, double longitude, String category, int queryRadius,
+                                                  double cellRadius, int page, List<KakaoPlaces> pages, Runnable kakaoCall) {
+        kakaoCall.run();
+        return kakaoApiService.searchPlacesByCategoryAsync(latitude, longitude, category, queryRadius, page)
+                .thenCompose(found -> {
+                    pages.add(found);
+                    int size = found.getSize();
+                    if (size < KAKAO_PAGE_SIZE || found.getDistances()[size - 1] > cellRadius) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    if (page == KAKAO_MAX_PAGES) {
+                        return CompletableFuture.completedFuture(true);
+                    }
+                    return fetchPages(latitude, longitude, category, queryRadius, cellRadius, page + 1, pages, kakaoCall);
+                });
+    }
+
+    /* 카테고리 하나의 격자 장소를 모아 반경 안 근사 거리 상위 PLACES_PER_CATEGORY 건을 장소 Map 목록으로 변환 */
+    private List<Map<String, Object>> mergeCategory(String category, long[] cells,
+                                                    Map<String, AmenityCellPlaces> cellPlaces, RadiusFilter filter) {
+        NearestPlaces nearest = new NearestPlaces(PLACES_PER_CATEGORY);
+
+        for (long cell : cells) {
+            AmenityCellPlaces places = cellPlaces.get(cellKey(cell, category));
+            if (places == null) {
+                continue;
+            }
+
+            double[] lats = places.getLatitudes();
+            double[] lons = places.getLongitudes();
+            for (int i = 0, size = places.size(); i < size; i++) {
+                if (filter.contains(lats[i], lons[i])) {
+                    nearest.offer(places, i, filter.approximateSquared(lats[i], lons[i]));
+                }
+            }
+        }
+
+        return nearest.toPlaces(filter);
+    }
+
+    /**
+     * 반경 원을 감싸는 경계 상자와 겹치는 격자 목록 (남서 격자부터 동쪽 → 북쪽 순)
+     */
+    private long[] coveringCells(double latitude, double longitude, int radius) {
+        double deltaLatitude = radius / METERS_PER_DEGREE_LAT;
+        double deltaLongitude = radius / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(latitude)));
+
+        double maxLatitude = latitude + deltaLatitude;
+        double maxLongitude = longitude + deltaLongitude;
+
+        long[] cells = new long[MAX_CELLS];
+        int count = 0;
+        long row = GeohashCodec.encode(latitude - deltaLatitude, longitude - deltaLongitude, cellPrecision);
+
+        while (GeohashCodec.southLatitude(row) <= maxLatitude && count < MAX_CELLS) {
+            long cell = row;
+            while (GeohashCodec.westLongitude(cell) <= maxLongitude && count < MAX_CELLS) {
+                cells[count++] = cell;
+                cell = GeohashCodec.neighbour(cell, 0, 1);
+            }
+            row = GeohashCodec.neighbour(row, 1, 0);
+        }
+
+        if (count >= MAX_CELLS) {
+            log.warn("[AmenityCell] 겹치는 격자 수가 상한({})에 도달 - 정밀도: {}, 반경: {}m", MAX_CELLS, cellPrecision, radius);
+        }
+        return Arrays.copyOf(cells, count);
+    }
+
+    /* 페이지들의 장소 중 격자 경계 [남, 북) x [서, 동) 안의 장소만 열 배열로 유지 (인접 격자와 중복 방지) */
+    private AmenityCellPlaces clipToCell(List<KakaoPlaces> pages, long cell, boolean truncated) {
+        double south = GeohashCodec.southLatitude(cell);
+        double north = GeohashCodec.northLatitude(cell);
+        double west = GeohashCodec.westLongitude(cell);
+        double east = GeohashCodec.eastLongitude(cell);
+
+        int total = 0;
+        for (KakaoPlaces places : pages) {
+            total += places.getSize();
+        }
+        String[] names = new String[total];
+        double[] latitudes = new double[total];
+        double[] longitudes = new double[total];
+        String[] categoryNames = new String[total];
+        int count = 0;
+
+        for (KakaoPlaces places : pages) {
+            for (int i = 0, size = places.getSize(); i < size; i++) {
+                double placeLatitude = places.getLatitudes()[i];
+                double placeLongitude = places.getLongitudes()[i];
+
+                if (placeLatitude >= south && placeLatitude < north && placeLongitude >= west && placeLongitude < east) {
+                    names[count] = places.getNames()[i];
+                    latitudes[count] = placeLatitude;
+                    longitudes[count] = placeLongitude;
+                    categoryNames[count] = places.getCategoryNames()[i];
+                    count++;
+                }
+            }
+        }
+
+        return AmenityCellPlaces.builder()
+                .names(Arrays.copyOf(names, count))
+                .latitudes(Arrays.copyOf(latitudes, count))
+                .longitudes(Arrays.copyOf(longitudes, count))
+                .categoryNames(Arrays.copyOf(categoryNames, count))
+                .truncated(truncated)
+                .build();
+    }
+
+    private AmenityCellPlaces decode(byte[] bytes) {
+        try {
+            return cacheCodec.decode(bytes, AmenityCellPlaces.class);
+        } catch (Exception e) {
+            log.warn("[AmenityCell] 격자 편의시설 역직렬화 실패 - 미스로 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String cellKey(long cell, String category) {
+        return KEY_PREFIX + AmenityStoreService.storeKey(cell, category);
+    }
+
+    /**
+     * 편의시설 격자 정밀도 (오프라인 저장소 수집 격자 단위)
+     */
+    public int getCellPrecision() {
+        return cellPrecision;
+    }
+
+    // ========================================
+    // 카테고리별 근사 거리 상위 k 후보
+    // ========================================
+
+    private static final class NearestPlaces {
+        private final AmenityCellPlaces[] owners;
+        private final int[] indexes;
+        private final double[] squared;
+        private int count;
+
+        private NearestPlaces(int k) {
+            this.owners = new AmenityCellPlaces[k];
+            this.indexes = new int[k];
+            this.squared = new double[k];
+        }
+
+        /* 삽입 정렬 방식으로 후보 추가 (k 는 작은 값이므로 힙보다 단순하고 빠름) */
+        private void offer(AmenityCellPlaces owner, int index, double distanceSquared) {
+            if (count == owners.length && distanceSquared >= squared[count - 1]) {
+                return;
+            }
+            int pos = (count < owners.length) ? count++ : count - 1;
+            while (pos > 0 && squared[pos - 1] > distanceSquared) {
+                owners[pos] = owners[pos - 1];
+                indexes[pos] = indexes[pos - 1];
+                squared[pos] = squared[pos - 1];
+                pos--;
+            }
+            owners[pos] = owner;
+            indexes[pos] = index;
+            squared[pos] = distanceSquared;
+        }
+
+        /* 선택된 후보만 보고용 거리(Haversine) 계산 후 기존 장소 Map 형식으로 변환 */
+        private List<Map<String, Object>> toPlaces(RadiusFilter filter) {
+            List<Map<String, Object>> places = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                AmenityCellPlaces owner = owners[i];
+                int index = indexes[i];
+
+                Map<String, Object> place = new HashMap<>();
+                place.put("name", owner.getNames()[index]);
+                place.put("latitude", owner.getLatitudes()[index]);
+                place.put("longitude", owner.getLongitudes()[index]);
+                place.put("distance", (int) Math.round(filter.distance(owner.getLatitudes()[index], owner.getLongitudes()[index])));
+                place.put("categoryName", owner.getCategoryNames()[index]);
+                places.add(place);
+            }
+            places.sort((p1, p2) -> Integer.compare((Integer) p1.get("distance"), (Integer) p2.get("distance")));
+            return places;
+        }
+    }
+
+    /**
+     * 격자 캐시 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cellPrecision", cellPrecision);
+        stats.put("cellHits", cellHitCount.get());
+        stats.put("cellStoreHits", cellStoreHitCount.get());
+        stats.put("cellMisses", cellMissCount.get());
+        stats.put("kakaoCalls", kakaoCallCount.get());
+        stats.put("cellTruncated", cellTruncatedCount.get());
+        stats.put("cellSharedMisses", cellSharedCount.get());
+        stats.put("cellDegraded", cellDegradedCount.get());
+        stats.put("fillsInFlight", inFlightFills.size());
+        return stats;
+    }
+}
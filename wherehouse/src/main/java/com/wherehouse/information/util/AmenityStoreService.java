@@ -0,0 +1,90 @@
+package com.wherehouse.information.util;
+
+import com.wherehouse.information.dao.AmenityStoreRepository;
+import com.wherehouse.information.entity.AmenityStoreCell;
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.model.AmenityCellPlaces;
+import com.wherehouse.redis.codec.VersionedCacheCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 편의시설 저장소(AMENITY_STORE) 읽기 / 쓰기
+ *
+ * - 읽기: AmenityCellService 가 격자 캐시(Redis) 미스 키를 카카오 호출 전에 조회한다.
+ *   값은 Redis 격자 캐시와 같은 인코딩(VersionedCacheCodec)이므로 디코딩 / 재인코딩 없이 Redis 에 되채울 수 있다.
+ * - 쓰기: AmenityStoreHarvester 가 격자 x 카테고리 1건을 수집할 때마다 즉시 저장한다. (중단 후 재실행 시 이어서 수집)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AmenityStoreService {
+
+    // Oracle IN 절 최대 원소 수
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    private final AmenityStoreRepository amenityStoreRepository;
+    private final VersionedCacheCodec cacheCodec;
+
+    @Value("${amenity-store.enabled:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장소 키 "{geohash}:{카테고리 코드}"
+     */
+    public static String storeKey(long cell, String category) {
+        return GeohashCodec.toBase32(cell) + ":" + category;
+    }
+
+    /**
+     * 저장소 키 목록 일괄 조회
+     *
+     * @return 저장된 키만 포함한 (저장소 키 → 인코딩된 AmenityCellPlaces), 비활성화 / 조회 실패 시 빈 Map
+     */
+    public Map<String, byte[]> findPlaces(List<String> storeKeys) {
+        Map<String, byte[]> found = new HashMap<>();
+        if (!enabled || storeKeys.isEmpty()) {
+            return found;
+        }
+
+        try {
+            for (int from = 0; from < storeKeys.size(); from += IN_CLAUSE_LIMIT) {
+                List<String> chunk = storeKeys.subList(from, Math.min(from + IN_CLAUSE_LIMIT, storeKeys.size()));
+                for (AmenityStoreCell row : amenityStoreRepository.findByCellKeyIn(chunk)) {
+                    found.put(row.getCellKey(), row.getPlaces());
+                }
+            }
+        } catch (Exception e) {
+            // 저장소 장애 시 카카오 호출 경로로 진행 (조회 실패가 분석 실패가 되지 않도록)
+            log.warn("[AmenityStore] 저장소 조회 실패 - 카카오 호출로 대체: {}", e.getMessage());
+            found.clear();
+        }
+        return found;
+    }
+
+    /**
+     * 격자 x 카테고리 수집 결과 저장 (있으면 갱신)
+     */
+    public void save(long cell, String category, AmenityCellPlaces places) throws IOException {
+        amenityStoreRepository.save(AmenityStoreCell.builder()
+                .cellKey(storeKey(cell, category))
+                .geohashId(GeohashCodec.toBase32(cell))
+                .categoryCode(category)
+                .places(cacheCodec.encode(places))
+                .placeCount(places.size())
+                .harvestedAt(LocalDateTime.now())
+                .build());
+    }
+}
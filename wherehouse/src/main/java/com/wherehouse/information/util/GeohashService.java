@@ -1,6 +1,7 @@
 package com.wherehouse.information.util;
 
-import ch.hsr.geohash.GeoHash;
+import com.wherehouse.information.index.GeohashCellCover;
+import com.wherehouse.information.index.GeohashCodec;
 import com.wherehouse.logger.PerformanceLogger;
 import com.wherehouse.logger.result.R01.R01GeohashCalculationResult;
 import org.springframework.stereotype.Service;
@@ -9,11 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Geohash 기반 9-Block 그리드 계산 서비스
+ * Geohash 기반 격자 범위 계산 서비스
  *
  * 역할:
- * - 사용자 클릭 좌표를 기준으로 9개 격자(3x3) ID 생성
- * - 중심 격자 1개 + 인접 8개 격자 = 총 9개
+ * - 사용자 클릭 좌표를 기준으로 반경 원을 덮는 격자 ID 생성 (calculateCellCover, R-01 사용)
+ * - 사용자 클릭 좌표를 기준으로 9개 격자(3x3) ID 생성 (calculate9BlockGeohashes)
  *
  * 설계 근거:
  * - 7자리 정밀도 Geohash: 약 150m x 150m 격자
@@ -36,8 +37,7 @@ public class GeohashService {
      * @return 7자리 Geohash ID (예: "wydm7p1")
      */
     public String encode(double latitude, double longitude) {
-        GeoHash geoHash = GeoHash.withCharacterPrecision(latitude, longitude, GEOHASH_PRECISION);
-        return geoHash.toBase32();
+        return GeohashCodec.toBase32(GeohashCodec.encode(latitude, longitude, GEOHASH_PRECISION));
     }
 
     /**
@@ -88,19 +88,20 @@ public class GeohashService {
 
         try {
             // 중심 격자 Geohash 생성
-            GeoHash centerHash = GeoHash.withCharacterPrecision(latitude, longitude, GEOHASH_PRECISION);
+            long centerHash = GeohashCodec.encode(latitude, longitude, GEOHASH_PRECISION);
 
             // 1. 중심 격자 추가
-            nineBlockIds.add(centerHash.toBase32());
+            nineBlockIds.add(GeohashCodec.toBase32(centerHash));
             // 2. 8방향 인접 격자 추가
-            GeoHash[] adjacents = centerHash.getAdjacent();
+            long[] adjacents = new long[8];
+            GeohashCodec.adjacent(centerHash, adjacents);
 
-            for (GeoHash adjacent : adjacents) {
-                nineBlockIds.add(adjacent.toBase32());
+            for (long adjacent : adjacents) {
+                nineBlockIds.add(GeohashCodec.toBase32(adjacent));
             }
 
             // 로깅 객체 내 멤버 변수 내 결과 값에 대한 추가 설정
-            r01GeohashCalculationResult.setCenterHash(centerHash.toBase32());
+            r01GeohashCalculationResult.setCenterHash(nineBlockIds.get(0));
             r01GeohashCalculationResult.setAdjacentHashes(nineBlockIds);
             r01GeohashCalculationResult.setSuccess(true);
             r01GeohashCalculationResult.setErrorMessage(null);
@@ -122,6 +123,23 @@ public class GeohashService {
         return nineBlockIds;
     }
 
+    /**
+     * 반경 원을 덮는 Geohash ID 목록 생성 (정밀도 혼합)
+     *
+     * 원 안에 완전히 들어오는 영역은 6자리 이하 굵은 격자로, 경계에 걸치는 영역은 7자리 격자로 덮는다.
+     * 9-Block 과 달리 반경이 커지면 격자 범위도 함께 넓어지고, 원과 겹치지 않는 격자는 포함하지 않는다.
+     *
+     * @param latitude     중심 좌표 위도
+     * @param longitude    중심 좌표 경도
+     * @param radiusMeters 덮을 반경 (미터)
+     * @return 격자 ID 목록 (0번: 7자리 중심 격자, 이후: 서로 겹치지 않는 나머지 격자)
+     *
+     * @see GeohashCellCover
+     */
+    public List<String> calculateCellCover(double latitude, double longitude, double radiusMeters) {
+        return GeohashCellCover.cover(latitude, longitude, radiusMeters);
+    }
+
 
 
     /**
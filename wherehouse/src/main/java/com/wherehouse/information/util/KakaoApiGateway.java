@@ -0,0 +1,435 @@
+package com.wherehouse.information.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 API 호출 게이트웨이 (적응형 동시성 제한 + 유한 대기열 + 서킷 브레이커)
+ *
+ * 목적:
+ * - 기존 KAKAO_API_EXECUTOR 는 모든 요청이 공유하는 15 스레드 고정 풀 + 무제한 대기열이었다.
+ *   분석 1건이 카테고리 호출 15건을 넣으므로 동시 사용자 20명이면 300건이 쌓이고, 뒤에 선 요청의 지연이 끝없이 늘어난다.
+ * - 동시 호출 수를 카카오 응답 지연에 맞춰 조절하고, 넘치는 호출은 짧게만 대기시키거나 즉시 거절하여 꼬리 지연을 묶어 둔다.
+ *
+ * 동시성 제한 (AIMD):
+ * - 동시 호출 수(inFlight)가 limit 미만이면 바로 실행, 이상이면 대기열에 넣는다.
+ * - 호출이 latency-threshold 이내에 성공하면 limit += 1 / limit (limit 만큼 성공하면 약 +1, 가산 증가)
+ * - 실패하거나 latency-threshold 를 넘기면 limit *= backoff-ratio (승산 감소)
+ *   단, 직전 감소 이후에 시작한 호출만 감소시킨다. 감소 전에 이미 실행 중이던 호출은 같은 혼잡을 본 것이므로
+ *   느린 호출 N건이 한꺼번에 끝나도 limit 은 한 번만 줄어든다. (지연 창당 최대 1회 감소)
+ * - limit 은 [min-limit, max-limit] 범위로 제한하며, 실행 스레드 수는 max-limit 으로 고정한다.
+ *
+ * 대기열 (bulkhead):
+ * - 대기열이 queue-capacity 만큼 차면 새 호출은 즉시 거절한다. (RejectedException)
+ * - 대기열에서 max-queue-wait 를 넘긴 호출은 실행하지 않고 거절한다. (이미 호출 측 단계 타임아웃에 가까운 호출)
+ *
+ * 서킷 브레이커:
+ * - 최근 window-size 건 중 실패 비율이 failure-rate-threshold 이상이면(min-calls 건 이상일 때) OPEN 으로 전환한다.
+ * - OPEN 동안 모든 호출을 즉시 거절하고, open-duration 경과 후 HALF_OPEN 에서 시험 호출 1건만 통과시킨다.
+ *   시험 호출 성공 시 CLOSED (기록 초기화), 실패 시 다시 OPEN.
+ * - 시험 호출도 limit 이 차 있으면 대기열에 들어가며, 꺼낼 때 브레이커 판정을 다시 하지 않는다. (이미 허용된 시험 호출)
+ *   시험 호출이 실행되지 못하고 거절되면(대기열 초과 / 대기 시간 초과 / 종료) 시험 호출 자리를 비워 다음 호출이 시험 호출이 된다.
+ *
+ * 거절 / 실패 시 반환 Future 는 예외로 완료된다. 호출 측(AmenityCellService)은 해당 격자를 캐시에 저장하지 않고
+ * 이미 캐시된 격자만으로 부분 결과를 만든다.
+ *
+ * 통계: limit / inFlight / queued / 거절(대기열 초과 · 대기 초과 · 브레이커) / 성공 / 실패 / 브레이커 상태 (getStats)
+ */
+@Component
+@Slf4j
+public class KakaoApiGateway {
+
+    private enum BreakerState { CLOSED, OPEN, HALF_OPEN }
+
+    @Value("${kakao-gateway.initial-limit:15}")
+    private int initialLimit;
+
+    @Value("${kakao-gateway.min-limit:4}")
+    private int minLimit;
+
+    @Value("${kakao-gateway.max-limit:48}")
+    private int maxLimit;
+
+    @Value("${kakao-gateway.queue-capacity:60}")
+    private int queueCapacity;
+
+    @Value("${kakao-gateway.max-queue-wait:1s}")
+    private Duration maxQueueWait;
+
+    @Value("${kakao-gateway.latency-threshold:800ms}")
+    private Duration latencyThreshold;
+
+    @Value("${kakao-gateway.backoff-ratio:0.75}")
+    private double backoffRatio;
+
+    @Value("${kakao-gateway.circuit-breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${kakao-gateway.circuit-breaker.min-calls:10}")
+    private int minCalls;
+
+    @Value("${kakao-gateway.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${kakao-gateway.circuit-breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    private ExecutorService executor;
+
+    // ---- lock 으로 보호되는 상태 ----
+    private final Object lock = new Object();
+    private final ArrayDeque<Call<?>> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseNs;      // 마지막 limit 감소 시각 (이 시각 이전에 시작한 호출은 다시 감소시키지 않음)
+
+    private BreakerState breakerState = BreakerState.CLOSED;
+    private long openedAtNs;
+    private boolean probeInFlight;
+    private boolean[] outcomes;       // 최근 호출 결과 링 버퍼 (true: 실패)
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int outcomeFailures;
+
+    private long accepted;
+    private long succeeded;
+    private long failed;
+    private long slowCalls;
+    private long rejectedQueueFull;
+    private long rejectedQueueTimeout;
+    private long rejectedOpenCircuit;
+    private long breakerOpenCount;
+    private int maxQueued;
+
+    @PostConstruct
+    public void init() {
+        minLimit = Math.max(1, minLimit);
+        maxLimit = Math.max(minLimit, maxLimit);
+        limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        lastDecreaseNs = System.nanoTime();
+        outcomes = new boolean[Math.max(1, windowSize)];
+
+        executor = Executors.newFixedThreadPool(maxLimit, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("kakao-api-worker-" + thread.getId());
+            thread.setDaemon(true);  // JVM 종료 시 함께 종료
+            return thread;
+        });
+
+        log.info("[KakaoGateway] 초기화 - limit: {} ({} ~ {}), 대기열: {}건, 최대 대기: {}ms, 브레이커 창: {}건 / 실패율 {}",
+                (int) limit, minLimit, maxLimit, queueCapacity, maxQueueWait.toMillis(), windowSize, failureRateThreshold);
+    }
+
+    /**
+     * 카카오 API 호출을 동시성 제한 아래에서 실행한다.
+     *
+     * @param call 카카오 API 호출 (블로킹, 실패 시 예외를 던져야 브레이커 / limit 에 반영됨)
+     * @return 호출 결과 Future (거절 시 RejectedException, 호출 실패 시 해당 예외로 완료)
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> call) {
+        Call<T> pending = new Call<>(call, System.nanoTime());
+
+        synchronized (lock) {
+            if (!admitByBreaker(pending)) {
+                rejectedOpenCircuit++;
+                pending.reject("서킷 브레이커 OPEN");
+                return pending.future;
+            }
+            accepted++;
+
+            if (inFlight < (int) limit) {
+                inFlight++;
+            } else if (queue.size() < queueCapacity) {
+                queue.addLast(pending);
+                maxQueued = Math.max(maxQueued, queue.size());
+                return pending.future;
+            } else {
+                releaseProbe(pending);
+                rejectedQueueFull++;
+                pending.reject("대기열 초과 (" + queueCapacity + "건)");
+                return pending.future;
+            }
+        }
+
+        dispatch(pending);
+        return pending.future;
+    }
+
+    /* lock 보유 상태에서 호출. HALF_OPEN 에서는 시험 호출 1건만 통과 */
+    private boolean admitByBreaker(Call<?> call) {
+        if (breakerState == BreakerState.OPEN) {
+            if (System.nanoTime() - openedAtNs < openDuration.toNanos()) {
+                return false;
+            }
+            breakerState = BreakerState.HALF_OPEN;
+            log.info("[KakaoGateway] 서킷 브레이커 HALF_OPEN - 시험 호출 허용");
+        }
+        if (breakerState == BreakerState.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+            call.probe = true;
+        }
+        return true;
+    }
+
+    /* lock 보유 상태에서 호출. 실행되지 못하고 거절되는 호출이 시험 호출이면 시험 호출 자리를 비운다 */
+    private void releaseProbe(Call<?> call) {
+        if (call.probe) {
+            probeInFlight = false;
+        }
+    }
+
+    private void dispatch(Call<?> call) {
+        try {
+            executor.execute(() -> run(call));
+        } catch (RejectedExecutionException e) {
+            synchronized (lock) {
+                inFlight--;
+                releaseProbe(call);
+            }
+            call.reject("실행기 종료");
+        }
+    }
+
+    private <T> void run(Call<T> call) {
+        long startNs = System.nanoTime();
+        call.startedAtNs = startNs;
+        T result = null;
+        Throwable failure = null;
+
+        try {
+            result = call.callable.call();
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        List<Call<?>> next = onComplete(call, failure == null, System.nanoTime() - startNs);
+        for (Call<?> queued : next) {
+            dispatch(queued);
+        }
+
+        if (failure == null) {
+            call.future.complete(result);
+        } else {
+            call.future.completeExceptionally(failure);
+        }
+    }
+
+    /* 호출 종료: limit / 브레이커 갱신 후 대기열에서 실행할 호출을 꺼낸다 */
+    private List<Call<?>> onComplete(Call<?> call, boolean success, long latencyNs) {
+        List<Call<?>> next = new ArrayList<>();
+        List<Call<?>> rejected = new ArrayList<>();
+
+        synchronized (lock) {
+            inFlight--;
+
+            boolean slow = latencyNs > latencyThreshold.toNanos();
+            if (success) {
+                succeeded++;
+            } else {
+                failed++;
+            }
+            if (slow) {
+                slowCalls++;
+            }
+
+            // AIMD (감소는 직전 감소 이후 시작한 호출만)
+            if (success && !slow) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            } else if (call.startedAtNs - lastDecreaseNs > 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNs = System.nanoTime();
+            }
+
+            recordOutcome(call, success);
+
+            long now = System.nanoTime();
+            while (inFlight < (int) limit && !queue.isEmpty()) {
+                Call<?> queued = queue.pollFirst();
+                if (now - queued.enqueuedAtNs > maxQueueWait.toNanos()) {
+                    releaseProbe(queued);
+                    rejectedQueueTimeout++;
+                    queued.rejectReason = "대기 시간 초과 (" + maxQueueWait.toMillis() + "ms)";
+                    rejected.add(queued);
+                    continue;
+                }
+                // 시험 호출은 대기열에 넣을 때 이미 허용됨 (다시 판정하면 자기 자신의 probeInFlight 에 막힘)
+                if (!queued.probe && breakerState != BreakerState.CLOSED && !admitByBreaker(queued)) {
+                    rejectedOpenCircuit++;
+                    queued.rejectReason = "서킷 브레이커 OPEN";
+                    rejected.add(queued);
+                    continue;
+                }
+                inFlight++;
+                next.add(queued);
+            }
+
+            // OPEN 전환 시 대기 중인 호출은 모두 즉시 거절
+            if (breakerState == BreakerState.OPEN) {
+                rejectedOpenCircuit += queue.size();
+                for (Call<?> queued : queue) {
+                    releaseProbe(queued);
+                    queued.rejectReason = "서킷 브레이커 OPEN";
+                    rejected.add(queued);
+                }
+                queue.clear();
+            }
+        }
+
+        for (Call<?> r : rejected) {
+            r.reject(r.rejectReason);
+        }
+        return next;
+    }
+
+    /* lock 보유 상태에서 호출 */
+    private void recordOutcome(Call<?> call, boolean success) {
+        if (call.probe) {
+            probeInFlight = false;
+            if (success) {
+                breakerState = BreakerState.CLOSED;
+                outcomeIndex = 0;
+                outcomeCount = 0;
+                outcomeFailures = 0;
+                log.info("[KakaoGateway] 서킷 브레이커 CLOSED - 시험 호출 성공");
+            } else {
+                openBreaker();
+            }
+            return;
+        }
+        if (breakerState != BreakerState.CLOSED) {
+            return;
+        }
+
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                outcomeFailures--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = !success;
+        if (!success) {
+            outcomeFailures++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+
+        if (outcomeCount >= minCalls && (double) outcomeFailures / outcomeCount >= failureRateThreshold) {
+            openBreaker();
+        }
+    }
+
+    private void openBreaker() {
+        breakerState = BreakerState.OPEN;
+        openedAtNs = System.nanoTime();
+        breakerOpenCount++;
+        log.warn("[KakaoGateway] 서킷 브레이커 OPEN - {}ms 동안 카카오 호출 차단 (최근 {}건 중 실패 {}건)",
+                openDuration.toMillis(), outcomeCount, outcomeFailures);
+    }
+
+    /**
+     * 게이트웨이 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (lock) {
+            stats.put("limit", (int) limit);
+            stats.put("minLimit", minLimit);
+            stats.put("maxLimit", maxLimit);
+            stats.put("inFlight", inFlight);
+            stats.put("queued", queue.size());
+            stats.put("maxQueued", maxQueued);
+            stats.put("queueCapacity", queueCapacity);
+            stats.put("accepted", accepted);
+            stats.put("succeeded", succeeded);
+            stats.put("failed", failed);
+            stats.put("slowCalls", slowCalls);
+            stats.put("rejectedQueueFull", rejectedQueueFull);
+            stats.put("rejectedQueueTimeout", rejectedQueueTimeout);
+            stats.put("rejectedOpenCircuit", rejectedOpenCircuit);
+            stats.put("breakerState", breakerState.name());
+            stats.put("breakerOpenCount", breakerOpenCount);
+        }
+        return stats;
+    }
+
+    /**
+     * 서비스 종료 시 스레드 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        log.info("[KakaoGateway] 스레드 풀 종료 시작");
+
+        List<Call<?>> pending;
+        synchronized (lock) {
+            pending = new ArrayList<>(queue);
+            pending.forEach(this::releaseProbe);
+            queue.clear();
+        }
+        pending.forEach(call -> call.reject("게이트웨이 종료"));
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("[KakaoGateway] 스레드 풀 정상 종료 실패 - 강제 종료 시도");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            log.error("[KakaoGateway] 스레드 풀 종료 대기 중 인터럽트 발생", e);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("[KakaoGateway] 스레드 풀 종료 완료");
+    }
+
+    // ========================================
+    // 호출 단위 / 거절 예외
+    // ========================================
+
+    private static final class Call<T> {
+
+        private final Callable<T> callable;
+        private final long enqueuedAtNs;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private boolean probe;
+        private long startedAtNs;
+        private String rejectReason;
+
+        private Call(Callable<T> callable, long enqueuedAtNs) {
+            this.callable = callable;
+            this.enqueuedAtNs = enqueuedAtNs;
+        }
+
+        private void reject(String reason) {
+            future.completeExceptionally(new RejectedException(reason));
+        }
+    }
+
+    /**
+     * 게이트웨이가 호출을 실행하지 않고 거절했음을 나타낸다. (대기열 초과 / 대기 시간 초과 / 서킷 브레이커 OPEN)
+     */
+    public static class RejectedException extends RuntimeException {
+
+        public RejectedException(String reason) {
+            super("카카오 API 호출 거절: " + reason);
+        }
+    }
+}
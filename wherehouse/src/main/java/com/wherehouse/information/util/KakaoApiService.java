@@ -3,19 +3,22 @@ package com.wherehouse.information.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wherehouse.information.model.AddressDto;
+import com.wherehouse.information.model.KakaoPlaces;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 
@@ -29,7 +32,8 @@ import java.util.stream.Collectors;
  * 성능 최적화:
  * - CompletableFuture.allOf()를 사용한 병렬 API 호출
  * - 15개 카테고리 동시 조회로 응답 시간 대폭 단축
- * - I/O 바운드 작업에 최적화된 스레드 풀 사용
+ * - 호출은 KakaoApiGateway(적응형 동시성 제한 + 유한 대기열 + 서킷 브레이커)를 거쳐 실행
+ * - 편의시설 검색 응답은 String / JsonNode 트리를 거치지 않고 수신 버퍼를 스트리밍 파싱하여 KakaoPlaces 열 배열로 바로 채움
  *
  * API 키 관리:
  * - application.yml에서 환경변수로 주입
@@ -46,37 +50,18 @@ public class KakaoApiService {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final KakaoApiGateway kakaoApiGateway;
 
     @Value("${KAKAO_API_KEY}")
     private String kakaoApiKey;
 
-    private static final String KAKAO_API_BASE_URL = "https://dapi.kakao.com";
+    // 카카오 로컬 API 주소 (수집기 / 부하 검증 시 로컬 stub 서버로 교체)
+    @Value("${kakao.api.base-url:https://dapi.kakao.com}")
+    private String kakaoApiBaseUrl;
 
-    /**
-     * I/O 바운드 작업에 최적화된 스레드 풀
-     *
-     * 설계 근거:
-     * - 카카오맵 API 호출은 I/O 바운드 작업 (네트워크 대기 시간이 주요 병목)
-     * - 스레드가 I/O 대기 중에는 CPU를 사용하지 않으므로 많은 스레드 생성 가능
-     * - 15개 카테고리 동시 호출을 위해 최소 15개 스레드 필요
-     * - 여유분을 고려하여 20개 스레드로 설정 (동시 요청 처리 능력 확보)
-     *
-     * 스레드 풀 크기 계산:
-     * - I/O 바운드: 스레드 수 = CPU 코어 수 * (1 + 대기시간/연산시간)
-     * - 카카오맵 API: 대기시간(100ms) >> 연산시간(1ms) → 비율 약 100:1
-     * - CPU 코어 8개 기준: 8 * (1 + 100) = 808개까지 가능하나, 실용적으로 20개 설정
-     *
-     * 대안:
-     * - ForkJoinPool.commonPool() 사용 가능하나, 다른 작업과 격리를 위해 전용 풀 사용
-     * - Executors.newCachedThreadPool() 사용 가능하나, 최대 스레드 수 제한 위해 고정 크기 선택
-     */
-    private static final ExecutorService KAKAO_API_EXECUTOR =
-            Executors.newFixedThreadPool(15, runnable -> {
-                Thread thread = new Thread(runnable);
-                thread.setName("kakao-api-worker-" + thread.getId());
-                thread.setDaemon(true);  // JVM 종료 시 함께 종료
-                return thread;
-            });
+    /** 편의시설 15개 카테고리 코드 (amenity.js 기준) */
+    public static final String[] AMENITY_CATEGORIES = {"SW8", "CS2", "FD6", "CE7", "MT1", "BK9", "PO3",
+            "CT1", "HP8", "PM9", "PK6", "OL7", "SC4", "AC5", "AT4"};
 
     /**
      * 좌표를 주소로 변환 (Reverse Geocoding)
@@ -99,10 +84,7 @@ public class KakaoApiService {
     public AddressDto getAddress(double latitude, double longitude) {
         try {
             String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("dapi.kakao.com")
-                            .path("/v2/local/geo/coord2address.json")
+                    .uri(kakaoApiBaseUrl + "/v2/local/geo/coord2address.json", uriBuilder -> uriBuilder
                             .queryParam("x", longitude)
                             .queryParam("y", latitude)
                             .build())
@@ -147,7 +129,7 @@ public class KakaoApiService {
      * @param longitude 검색 중심 경도
      * @param categoryCode 카테고리 코드 (예: "CS2" - 편의점 등)
      * @param radius 검색 반경 (미터, 최대 20000)
-     * @return 해당 카테고리의 장소 목록
+     * @return 해당 카테고리의 장소 목록 (실패 시 빈 결과)
      *
      * API 엔드포인트:
      * GET https://dapi.kakao.com/v2/local/search/category.json
@@ -163,45 +145,99 @@ public class KakaoApiService {
      *     "category_group_name": "편의점"
      *   }]
      * }
+     *
+     * 응답 처리:
+     * - 본문을 DataBuffer 조각으로 받아 조각마다 KakaoPlaceStreamParser 에 ByteBuffer 뷰로 넣고 즉시 해제한다.
+     *   (응답 전체를 String 으로 모으거나 JsonNode 트리 / 장소별 Map 을 만들지 않음)
+     */
+    public KakaoPlaces searchCategoryPlaces(double latitude, double longitude, String categoryCode, int radius) {
+
+        try {
+            return fetchCategoryPlaces(latitude, longitude, categoryCode, radius, 1);
+
+        } catch (Exception e) {
+            log.error("카카오맵 장소 검색 API 호출 실패 (카테고리: {})", categoryCode, e);
+            return KakaoPlaces.empty();
+        }
+    }
+
+    /* 카테고리 검색 호출 본체 (실패 시 예외 전파 - 게이트웨이가 실패를 limit / 서킷 브레이커에 반영하도록) */
+    private KakaoPlaces fetchCategoryPlaces(double latitude, double longitude, String categoryCode, int radius, int page) {
+
+        KakaoPlaces places = webClient.get()
+                .uri(kakaoApiBaseUrl + "/v2/local/search/category.json", uriBuilder -> uriBuilder
+                        .queryParam("category_group_code", categoryCode)
+                        .queryParam("x", longitude)
+                        .queryParam("y", latitude)
+                        .queryParam("radius", radius)
+                        .queryParam("sort", "distance")   // 최대 반경 결과를 작은 반경으로 잘라도 동일한 상위 결과가 되도록 거리순
+                        .queryParam("page", page)
+                        .build())
+                .header("Authorization", "KakaoAK " + kakaoApiKey)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .reduceWith(this::newPlaceParser, KakaoApiService::feedAndRelease)
+                .map(KakaoApiService::finishPlaceParser)
+                .block();
+
+        return places != null ? places : KakaoPlaces.empty();
+    }
+
+    /**
+     * 특정 카테고리의 편의시설 검색 (장소별 Map 형태)
+     *
+     * searchCategoryPlaces 결과를 장소별 Map(name, latitude, longitude, distance, categoryName)으로 변환한다.
+     * (searchAllAmenities 응답 형식 유지용)
      */
     public List<Map<String, Object>> searchPlacesByCategory(
             double latitude, double longitude, String categoryCode, int radius) {
+        return toPlaceMaps(searchCategoryPlaces(latitude, longitude, categoryCode, radius));
+    }
 
-        try {
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("dapi.kakao.com")
-                            .path("/v2/local/search/category.json")
-                            .queryParam("category_group_code", categoryCode)
-                            .queryParam("x", longitude)
-                            .queryParam("y", latitude)
-                            .queryParam("radius", radius)
-                            .build())
-                    .header("Authorization", "KakaoAK " + kakaoApiKey)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    /**
+     * KakaoPlaces 열 배열 → 장소별 Map 목록
+     */
+    public static List<Map<String, Object>> toPlaceMaps(KakaoPlaces places) {
+        List<Map<String, Object>> result = new ArrayList<>(places.getSize());
+        for (int i = 0; i < places.getSize(); i++) {
+            Map<String, Object> place = new HashMap<>();
+            place.put("name", places.getNames()[i]);
+            place.put("latitude", places.getLatitudes()[i]);
+            place.put("longitude", places.getLongitudes()[i]);
+            place.put("distance", places.getDistances()[i]);
+            place.put("categoryName", places.getCategoryNames()[i]);
+            result.add(place);
+        }
+        return result;
+    }
 
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode documents = root.path("documents");
+    private KakaoPlaceStreamParser newPlaceParser() {
+        try {
+            return new KakaoPlaceStreamParser(objectMapper.getFactory());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            List<Map<String, Object>> places = new ArrayList<>();
-            for (JsonNode doc : documents) {
-                Map<String, Object> place = new HashMap<>();
-                place.put("name", doc.path("place_name").asText());
-                place.put("latitude", doc.path("y").asDouble());
-                place.put("longitude", doc.path("x").asDouble());
-                place.put("distance", doc.path("distance").asInt());
-                place.put("categoryName", doc.path("category_group_name").asText());
-                places.add(place);
+    /* 응답 조각을 ByteBuffer 뷰(복사 없음)로 파서에 넣고 버퍼를 해제 */
+    private static KakaoPlaceStreamParser feedAndRelease(KakaoPlaceStreamParser parser, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                parser.feed(iterator.next());
             }
+            return parser;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
 
-            return places;
-
-        } catch (Exception e) {
-            log.error("카카오맵 장소 검색 API 호출 실패 (카테고리: {})", categoryCode, e);
-            return new ArrayList<>();
+    private static KakaoPlaces finishPlaceParser(KakaoPlaceStreamParser parser) {
+        try {
+            return parser.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -249,39 +285,14 @@ public class KakaoApiService {
 
         log.info("[KakaoApiService] 15개 카테고리 병렬 검색 시작 - 좌표: ({}, {}), 반경: {}m",
                 latitude, longitude, radius);
-        // 15개 카테고리 코드 배열
-        String[] categories = {"SW8", "CS2", "FD6", "CE7", "MT1", "BK9", "PO3",
-                "CT1", "HP8", "PM9", "PK6", "OL7", "SC4", "AC5", "AT4"};
         // 카테고리별 CompletableFuture 생성 (비동기 작업 시작), Map.Entry<카테고리코드, CompletableFuture<장소목록>>
-        Map<String, CompletableFuture<List<Map<String, Object>>>> futureMap = new HashMap<>();
-
-        for (String category : categories) {
-            // supplyAsync: 별도 스레드에서 searchPlacesByCategory 실행
-            // KAKAO_API_EXECUTOR: I/O 바운드 작업에 최적화된 전용 스레드 풀 사용
-            CompletableFuture<List<Map<String, Object>>> future =
-                    CompletableFuture.supplyAsync(() -> {
-                                log.info("[KakaoApiService] 카테고리 {} 조회 시작 - 스레드: {}",
-                                        category, Thread.currentThread().getName());
-
-                                List<Map<String, Object>> result =
-                                        searchPlacesByCategory(latitude, longitude, category, radius);
-
-                                log.debug("[KakaoApiService] 카테고리 {} 조회 완료 - 결과: {}건, 스레드: {}",
-                                        category, result.size(), Thread.currentThread().getName());
-
-                                return result;
-
-                            }, KAKAO_API_EXECUTOR)
-                            .exceptionally(ex -> {
-                                // 장애 격리: 특정 카테고리 실패 시 빈 리스트 반환 (전체 프로세스 중단 방지)
-                                log.error("[KakaoApiService] 카테고리 {} 조회 실패 - 빈 리스트 반환", category, ex);
-                                return new ArrayList<>();
-                            });
-            
-            // CompletableFuture 구문 종료
+        Map<String, CompletableFuture<KakaoPlaces>> futureMap = new HashMap<>();
 
+        for (String category : AMENITY_CATEGORIES) {
             // 결과 저장.
-            futureMap.put(category, future);
+            // 장애 격리: 특정 카테고리 실패 / 게이트웨이 거절 시 빈 결과 (전체 프로세스 중단 방지)
+            futureMap.put(category, searchPlacesByCategoryAsync(latitude, longitude, category, radius)
+                    .exceptionally(ex -> KakaoPlaces.empty()));
         }      // For 구문 종료
 
         CompletableFuture<Void> allFutures = CompletableFuture.allOf(
@@ -296,7 +307,7 @@ public class KakaoApiService {
         Map<String, List<Map<String, Object>>> results = futureMap.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,           // 카테고리 코드
-                        entry -> entry.getValue().join()  // CompletableFuture → List 변환
+                        entry -> toPlaceMaps(entry.getValue().join())  // CompletableFuture → List 변환
                 ));
 
         // 결과 통계 로깅
@@ -311,26 +322,38 @@ public class KakaoApiService {
     }
 
     /**
-     * 서비스 종료 시 스레드 풀 정리
+     * 특정 카테고리 편의시설 비동기 검색 (KakaoApiGateway 경유)
      *
-     * @apiNote 이 메서드는 Spring 컨테이너가 Bean 소멸 시 자동 호출
+     * 호출 실패 또는 게이트웨이 거절(대기열 초과 / 대기 시간 초과 / 서킷 브레이커 OPEN) 시 Future 는 예외로 완료된다.
+     * 빈 결과로 바꾸지 않는 것은 호출 측이 실패를 구분하도록 하기 위함이다.
+     * (searchAllAmenities: 빈 결과로 대체, AmenityCellService: 해당 격자를 캐시하지 않고 부분 결과로 처리)
+     */
+    public CompletableFuture<KakaoPlaces> searchPlacesByCategoryAsync(
+            double latitude, double longitude, String category, int radius) {
+        return searchPlacesByCategoryAsync(latitude, longitude, category, radius, 1);
+    }
+
+    /**
+     * 특정 카테고리 편의시설 비동기 검색 - page 번째 페이지 (1 부터, 페이지당 15건, 카카오는 3페이지 45건까지만 반환)
      */
-    @jakarta.annotation.PreDestroy
-    public void shutdown() {
-        log.info("[KakaoApiService] 스레드 풀 종료 시작");
+    public CompletableFuture<KakaoPlaces> searchPlacesByCategoryAsync(
+            double latitude, double longitude, String category, int radius, int page) {
 
-        KAKAO_API_EXECUTOR.shutdown();
+        return kakaoApiGateway.submit(() -> {
+                    log.info("[KakaoApiService] 카테고리 {} 조회 시작 - 페이지: {}, 스레드: {}",
+                            category, page, Thread.currentThread().getName());
 
-        try {
-            if (!KAKAO_API_EXECUTOR.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS)) {
-                log.warn("[KakaoApiService] 스레드 풀 정상 종료 실패 - 강제 종료 시도");
-                KAKAO_API_EXECUTOR.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            log.error("[KakaoApiService] 스레드 풀 종료 대기 중 인터럽트 발생", e);
-            KAKAO_API_EXECUTOR.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-        log.info("[KakaoApiService] 스레드 풀 종료 완료");
+                    KakaoPlaces result = fetchCategoryPlaces(latitude, longitude, category, radius, page);
+
+                    log.debug("[KakaoApiService] 카테고리 {} 조회 완료 - 페이지: {}, 결과: {}건, 스레드: {}",
+                            category, page, result.getSize(), Thread.currentThread().getName());
+
+                    return result;
+                })
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("[KakaoApiService] 카테고리 {} 조회 실패 - {}", category, ex.getMessage());
+                    }
+                });
     }
-}
\ No newline at end of file
+}
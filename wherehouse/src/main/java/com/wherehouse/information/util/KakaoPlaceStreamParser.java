@@ -0,0 +1,312 @@
+package com.wherehouse.information.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.wherehouse.information.model.KakaoPlaces;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 카카오 카테고리 검색 응답 스트리밍 파서 (응답 1건당 1개, 스레드 안전하지 않음)
+ *
+ * 목적:
+ * - 기존 방식은 응답 전체를 String 으로 모은 뒤 JsonNode 트리로 파싱하고, 장소마다 HashMap 으로 다시 복사했다.
+ *   (응답 바이트 → char → String → 트리 노드 → Map / 박싱 값, 장소 1건당 수십 개 객체)
+ * - Netty 수신 버퍼(ByteBuffer 뷰)를 Jackson 비동기 파서에 그대로 넣고, 토큰을 읽으며 필요한 필드만 KakaoPlaces 열 배열에 채운다.
+ *
+ * 동작:
+ * - feed(ByteBuffer) 로 도착한 조각을 넣을 때마다 NOT_AVAILABLE 이 나올 때까지 토큰을 소비한다.
+ *   (조각 경계에서 잘린 토큰은 파서가 이어 붙이므로, 호출 측은 feed 반환 후 바로 버퍼를 해제해도 된다)
+ * - documents 배열 바로 아래 객체의 place_name / x / y / distance / category_group_name 만 읽고 나머지 필드와 meta 는 건너뛴다.
+ * - x / y / distance 는 문자열 값의 문자 배열을 직접 숫자로 변환한다. (String 생성 없음)
+ * - category_group_name 은 카테고리 검색 특성상 모든 장소가 같으므로 직전 값과 같으면 같은 String 을 재사용한다.
+ */
+public final class KakaoPlaceStreamParser {
+
+    private static final int INITIAL_CAPACITY = 16;  // 카카오 검색 1페이지 최대 15건
+
+    private static final int FIELD_OTHER = 0;
+    private static final int FIELD_NAME = 1;
+    private static final int FIELD_X = 2;
+    private static final int FIELD_Y = 3;
+    private static final int FIELD_DISTANCE = 4;
+    private static final int FIELD_CATEGORY = 5;
+
+    /* 10^0 ~ 10^22 : double 로 정확히 표현되는 10의 거듭제곱 (빠른 소수 변환 경로) */
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+    }
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    private int depth;
+    private boolean rootDocumentsField;
+    private boolean inDocuments;
+    private int field = FIELD_OTHER;
+
+    // 현재 장소
+    private String name;
+    private double latitude;
+    private double longitude;
+    private int distance;
+    private String categoryName;
+
+    // 결과 열 배열
+    private String[] names = new String[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private int[] distances = new int[INITIAL_CAPACITY];
+    private String[] categoryNames = new String[INITIAL_CAPACITY];
+    private int size;
+
+    public KakaoPlaceStreamParser(JsonFactory jsonFactory) throws IOException {
+        this.parser = jsonFactory.createNonBlockingByteBufferParser();
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 조각 1개를 파싱한다. 반환 시점에는 buffer 의 내용이 모두 소비되어 있다.
+     */
+    public void feed(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining()) {
+            return;
+        }
+        feeder.feedInput(buffer);
+        drain();
+    }
+
+    /**
+     * 입력 종료 후 남은 토큰을 처리하고 결과를 반환한다.
+     */
+    public KakaoPlaces finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        parser.close();
+
+        if (depth != 0) {
+            throw new IOException("카카오 응답 JSON 이 완결되지 않았습니다 (depth: " + depth + ")");
+        }
+
+        return KakaoPlaces.builder()
+                .names(names)
+                .latitudes(latitudes)
+                .longitudes(longitudes)
+                .distances(distances)
+                .categoryNames(categoryNames)
+                .size(size)
+                .build();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT -> {
+                depth++;
+                if (inDocuments && depth == 3) {
+                    startPlace();
+                }
+            }
+            case START_ARRAY -> {
+                depth++;
+                if (depth == 2 && rootDocumentsField) {
+                    inDocuments = true;
+                }
+            }
+            case END_OBJECT -> {
+                if (inDocuments && depth == 3) {
+                    endPlace();
+                }
+                depth--;
+            }
+            case END_ARRAY -> {
+                if (inDocuments && depth == 2) {
+                    inDocuments = false;
+                }
+                depth--;
+            }
+            case FIELD_NAME -> {
+                if (depth == 1) {
+                    rootDocumentsField = "documents".equals(parser.currentName());
+                } else if (inDocuments && depth == 3) {
+                    field = fieldOf(parser.currentName());
+                }
+            }
+            default -> {
+                if (inDocuments && depth == 3 && field != FIELD_OTHER && token != JsonToken.VALUE_NULL) {
+                    readValue(token);
+                }
+            }
+        }
+    }
+
+    private static int fieldOf(String fieldName) {
+        // Jackson 은 필드명을 심볼 테이블로 정규화하므로 매번 같은 String 이 넘어온다
+        return switch (fieldName) {
+            case "place_name" -> FIELD_NAME;
+            case "x" -> FIELD_X;
+            case "y" -> FIELD_Y;
+            case "distance" -> FIELD_DISTANCE;
+            case "category_group_name" -> FIELD_CATEGORY;
+            default -> FIELD_OTHER;
+        };
+    }
+
+    private void readValue(JsonToken token) throws IOException {
+        switch (field) {
+            case FIELD_NAME -> name = parser.getText();
+            case FIELD_X -> longitude = readDouble(token);
+            case FIELD_Y -> latitude = readDouble(token);
+            case FIELD_DISTANCE -> distance = readInt(token);
+            case FIELD_CATEGORY -> categoryName = readCategoryName();
+            default -> {
+            }
+        }
+    }
+
+    private void startPlace() {
+        field = FIELD_OTHER;
+        name = "";
+        latitude = 0;
+        longitude = 0;
+        distance = 0;
+        categoryName = "";
+    }
+
+    private void endPlace() {
+        if (size == latitudes.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            categoryNames = Arrays.copyOf(categoryNames, capacity);
+        }
+        names[size] = name;
+        latitudes[size] = latitude;
+        longitudes[size] = longitude;
+        distances[size] = distance;
+        categoryNames[size] = categoryName;
+        size++;
+        field = FIELD_OTHER;
+    }
+
+    // ========================================
+    // 값 변환 (문자 배열 직접 변환)
+    // ========================================
+
+    private String readCategoryName() throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+
+        String previous = size > 0 ? categoryNames[size - 1] : null;
+        if (previous != null && previous.length() == length) {
+            boolean same = true;
+            for (int i = 0; i < length; i++) {
+                if (previous.charAt(i) != chars[offset + i]) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return previous;
+            }
+        }
+        return new String(chars, offset, length);
+    }
+
+    private double readDouble(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return 0;
+        }
+        char[] chars = parser.getTextCharacters();
+        return parseDecimal(chars, parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private int readInt(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return 0;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars[offset + i];
+            if (c < '0' || c > '9') {
+                return 0;  // 빈 문자열 등 (중심 좌표 없이 검색한 경우)
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 부호 / 소수점만 있는 10진수 문자열 변환 (예: "126.97755")
+     *
+     * 유효 숫자 15자리 이하이면 (정수 가수) / 10^소수자리 로 계산한다. 두 값 모두 double 로 정확하므로 결과는
+     * Double.parseDouble 과 같다(정확히 반올림된 나눗셈 1회). 그 밖의 형식은 Double.parseDouble 로 넘긴다.
+     */
+    static double parseDecimal(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                digits = -1;
+                break;
+            }
+        }
+
+        if (digits <= 0 || digits > 15) {
+            try {
+                return Double.parseDouble(new String(chars, offset, length));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+}
@@ -1,11 +1,13 @@
 package com.wherehouse.information.util;
 
 import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -15,22 +17,53 @@ import java.time.Duration;
  * 목적:
  * - 외부 API(카카오맵) 호출을 위한 WebClient 빈 생성
  * - 타임아웃 설정으로 안정성 확보
+ * - dapi.kakao.com 연결 재사용 (TLS 핸드셰이크 반복 방지)
  *
  * 타임아웃 설정:
  * - 연결 타임아웃: 3초
  * - 응답 타임아웃: 5초
+ *
+ * 연결 풀 설정 (kakao.http.*):
+ * - max-connections: 카카오 API 전용 스레드 풀 크기 x 동시 분석 여유분. 초과 요청은 pending-acquire-timeout 동안 대기
+ * - max-idle-time: 카카오 측 keep-alive 종료보다 먼저 닫아, 끊긴 연결을 집어 요청이 실패하지 않도록 함
+ * - max-life-time: 연결 수명 상한 (DNS 변경 / 서버 측 재배포 반영)
+ * - 유휴 연결은 백그라운드에서 주기적으로 정리하고, 소켓 keep-alive 로 NAT 유휴 절단을 늦춘다.
  */
 @Configuration
 public class WebClientConfig {
 
+    @Value("${kakao.http.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${kakao.http.pending-acquire-timeout:2s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${kakao.http.max-idle-time:20s}")
+    private Duration maxIdleTime;
+
+    @Value("${kakao.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
     @Bean
     public WebClient webClient() {
-        HttpClient httpClient = HttpClient.create()
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .lifo()                                               // 최근 사용 연결 우선 (유휴 연결이 자연스럽게 만료되도록)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)  // 연결 타임아웃 3초
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.TCP_NODELAY, true)
                 .responseTimeout(Duration.ofSeconds(5));              // 응답 타임아웃 5초
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -5,17 +5,20 @@ import com.wherehouse.recommand.batch.dto.Property;
 import com.wherehouse.recommand.batch.entity.PropertyCharter;
 import com.wherehouse.recommand.batch.entity.PropertyMonthly;
 import com.wherehouse.recommand.batch.event.DataCollectionCompletedEvent;
+import com.wherehouse.recommand.batch.event.PropertyRedisSyncCompletedEvent;
 import com.wherehouse.recommand.batch.repository.*;
 import com.wherehouse.redis.handler.RedisHandler;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -91,6 +94,9 @@ public class RdbSyncListener {
     // [2차 테스트] 영속성 컨텍스트 초기화용 EntityManager
     private final EntityManager entityManager;
 
+    // 동기화 완료 이벤트 발행 (추천 매물 인덱스 복제본 재구축)
+    private final ApplicationEventPublisher eventPublisher;
+
     // 서울시 25개 자치구 코드 매핑 (안전성 점수 계산용)
     private static final Map<String, String> SEOUL_DISTRICT_CODES;
     static {
@@ -275,6 +281,13 @@ public class RdbSyncListener {
         // Step 6. [Redis] 안전성 점수(Safety Score) 계산 및 적재
         calculateAndStoreSafetyScores();
 
+        // Step 7. 동기화 완료 이벤트 발행 (구독자는 트랜잭션 커밋 이후 실행)
+        eventPublisher.publishEvent(PropertyRedisSyncCompletedEvent.builder()
+                .completedAt(LocalDateTime.now())
+                .charterCount(charterTotalCount)
+                .monthlyCount(monthlyTotalCount)
+                .build());
+
         long endTime = System.currentTimeMillis();
         log.info(">>> [Phase 2] 배치 동기화 프로세스 정상 종료. 총 소요시간: {}ms", (endTime - startTime));
 
@@ -0,0 +1,34 @@
+package com.wherehouse.recommand.batch.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물 Redis 동기화 완료 이벤트
+ *
+ * RdbSyncListener 가 RDB 재조회 → Redis 인덱스/Hash 적재 → 정규화 범위 / 안전성 점수 적재를 모두 마친 후 발행하는 이벤트입니다.
+ * 추천 매물 인덱스 메모리 복제본(PropertyIndexReplica)이 이 이벤트를 구독하여 트랜잭션 커밋 이후 복제본을 재구축합니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class PropertyRedisSyncCompletedEvent {
+
+    /**
+     * 동기화 완료 시각
+     */
+    private LocalDateTime completedAt;
+
+    /**
+     * Redis 에 적재된 전세 매물 수 (RDB 재조회 기준)
+     */
+    private int charterCount;
+
+    /**
+     * Redis 에 적재된 월세 매물 수 (RDB 재조회 기준)
+     */
+    private int monthlyCount;
+}
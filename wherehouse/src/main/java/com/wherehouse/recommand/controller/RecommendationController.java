@@ -1,11 +1,13 @@
 package com.wherehouse.recommand.controller;
 
+import com.wherehouse.recommand.index.PropertyIndexReplica;
 import com.wherehouse.recommand.model.CharterRecommendationRequestDto;
 import com.wherehouse.recommand.model.CharterRecommendationResponseDto;
 import com.wherehouse.recommand.model.MonthlyRecommendationRequestDto;
 import com.wherehouse.recommand.model.MonthlyRecommendationResponseDto;
 import com.wherehouse.recommand.service.CharterRecommendationService;
 import com.wherehouse.recommand.service.MonthlyRecommendationService;
+import com.wherehouse.recommand.service.RedisCandidateIntersector;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/recommendations")
 @RequiredArgsConstructor
@@ -23,6 +27,8 @@ public class RecommendationController {
 
     private final CharterRecommendationService charterRecommendationService;
     private final MonthlyRecommendationService monthlyRecommendationService;
+    private final PropertyIndexReplica propertyIndexReplica;
+    private final RedisCandidateIntersector candidateIntersector;
 
     /**
      * 전세 지역구 추천 API - POST 방식
@@ -96,4 +102,20 @@ public class RecommendationController {
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("OK");
     }
+
+    /**
+     * 추천 매물 인덱스 메모리 복제본 상태 (적재 건수, 재구축 시간, 부분 갱신 건수)
+     */
+    @GetMapping("/property-index-stats")
+    public ResponseEntity<Map<String, Object>> propertyIndexStats() {
+        return ResponseEntity.ok(propertyIndexReplica.getStats());
+    }
+
+    /**
+     * 서버 측 후보 교집합(Lua) 실행 / 실패(클라이언트 교집합 대체) 건수
+     */
+    @GetMapping("/candidate-intersection-stats")
+    public ResponseEntity<Map<String, Object>> candidateIntersectionStats() {
+        return ResponseEntity.ok(candidateIntersector.getStats());
+    }
 }
\ No newline at end of file
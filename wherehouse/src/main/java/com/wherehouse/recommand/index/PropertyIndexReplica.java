@@ -0,0 +1,627 @@
+package com.wherehouse.recommand.index;
+
+import com.wherehouse.PropertyManagement.event.PropertyChangedEvent;
+import com.wherehouse.recommand.batch.entity.PropertyCharter;
+import com.wherehouse.recommand.batch.entity.PropertyMonthly;
+import com.wherehouse.recommand.batch.event.PropertyRedisSyncCompletedEvent;
+import com.wherehouse.recommand.batch.repository.PropertyCharterRepository;
+import com.wherehouse.recommand.batch.repository.PropertyMonthlyRepository;
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 추천 매물 인덱스 메모리 상주 복제본 (지역구 × 임대 유형 단위 열 지향 파티션)
+ *
+ * 목적:
+ * - 추천 S-01(1차 검색)의 ZSet 범위 조회(MULTI/EXEC) + 후보 전체 HGETALL(Pipeline) 왕복을 요청 경로에서 제거
+ * - 정규화 범위(bounds:{지역구}:{유형})와 안전성 점수(safety:{지역구})도 함께 보관하여
+ *   추천 1건을 Redis 왕복 없이 처리 (리뷰 통계 RDB 조회는 그대로)
+ * - 미적재 / 비활성화 시 추천 서비스는 기존 Redis 경로를 그대로 사용 (Redis 가 폴백)
+ *
+ * 구조 (불변 스냅샷, 파티션 단위 copy-on-write):
+ * - 파티션 = (지역구, 전세|월세). 추천 대상(status=ACTIVE, 가격·면적 값 존재) 매물만 담는다.
+ * - 파티션 내 매물은 0..n-1 의 조밀한 서수(ordinal)를 가지며 records[ordinal] 가 상세 정보
+ * - 열 배열: deposits[ordinal] / monthlyRents[ordinal] / areas[ordinal]
+ * - 정렬 보조 배열: 열마다 값 오름차순 서수 순열(xxxOrder)과 그 순서의 값(sortedXxx)
+ *   → ZSet rangeByScore 와 같은 폐구간 범위를 이진 탐색 2회로 구한다.
+ *
+ * 범위 조회:
+ * - 열마다 [lo, hi) 구간 길이를 구한 뒤 가장 좁은 열의 서수만 순회하고
+ *   나머지 열은 서수로 직접 비교 (교집합용 Set 생성 없음)
+ *
+ * 갱신:
+ * - 애플리케이션 기동 완료 시 / RdbSyncListener 완료 이벤트(커밋 이후) 수신 시 RDB 전체를 청크로 읽어 재구축
+ * - 매물 쓰기 서비스가 Redis 동기화 직후 발행하는 PropertyChangedEvent 로 해당 파티션만 재생성하여 교체
+ * - 재구축 도중 도착한 변경은 기록해 두었다가 새 스냅샷에 다시 적용 (이벤트는 변경 후 Hash 전체라 재적용해도 같은 결과)
+ * - 조회 중인 요청은 이전 스냅샷을 끝까지 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyIndexReplica {
+
+    public static final String CHARTER = "전세";
+    public static final String MONTHLY = "월세";
+
+    // 서울시 25개 자치구 목록 (bounds / safety 적재 대상)
+    private static final List<String> SEOUL_DISTRICTS = Arrays.asList(
+            "종로구", "중구", "용산구", "성동구", "광진구", "동대문구", "중랑구", "성북구",
+            "강북구", "도봉구", "노원구", "은평구", "서대문구", "마포구", "양천구", "강서구",
+            "구로구", "금천구", "영등포구", "동작구", "관악구", "서초구", "강남구", "송파구", "강동구"
+    );
+
+    private final PropertyCharterRepository propertyCharterRepository;
+    private final PropertyMonthlyRepository propertyMonthlyRepository;
+    private final RedisHandler redisHandler;
+
+    @Value("${property-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${property-index.load-chunk-size:10000}")
+    private int loadChunkSize;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /* 스냅샷 교체 직렬화 + 재구축 중 도착한 변경 기록 (재구축 중에만 non-null) */
+    private final Object patchLock = new Object();
+    private List<PendingChange> pendingChanges;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private final AtomicLong replayedChanges = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private volatile long lastRebuildMillis;
+
+    // ========================================
+    // 적재 / 재구축
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePropertyRedisSyncCompletedEvent(PropertyRedisSyncCompletedEvent event) {
+        log.info("[PropertyIndexReplica] Redis 동기화 완료 이벤트 수신 - 전세 {}건, 월세 {}건, 복제본 재구축",
+                event.getCharterCount(), event.getMonthlyCount());
+        rebuild();
+    }
+
+    /**
+     * RDB 전체 매물과 Redis bounds / safety 를 읽어 새 스냅샷을 만들고 현재 스냅샷을 교체한다.
+     * 실패 시 기존 스냅샷을 유지한다. 동시에 두 번 요청되면 뒤의 요청은 생략한다.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            log.info("[PropertyIndexReplica] 비활성화 상태 - 적재 생략 (기존 Redis 경로 사용)");
+            return;
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[PropertyIndexReplica] 재구축 진행 중 - 중복 요청 생략");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        synchronized (patchLock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        try {
+            Map<String, List<PropertyRecord>> charterRecords = loadCharterRecords();
+            Map<String, List<PropertyRecord>> monthlyRecords = loadMonthlyRecords();
+
+            // bounds 는 쓰기 서비스가 계속 확장하므로 RDB 적재 뒤에 읽는다
+            Map<String, Map<Object, Object>> bounds = new HashMap<>();
+            Map<String, Map<Object, Object>> safety = new HashMap<>();
+            loadBoundsAndSafety(bounds, safety);
+
+            Snapshot rebuilt = new Snapshot(
+                    buildPartitions(charterRecords, false),
+                    buildPartitions(monthlyRecords, true),
+                    bounds, safety, LocalDateTime.now());
+
+            int replayed;
+            synchronized (patchLock) {
+                for (PendingChange change : pendingChanges) {
+                    rebuilt = rebuilt.patched(change.event, change.bounds);
+                }
+                replayed = pendingChanges.size();
+                this.snapshot = rebuilt;
+            }
+            replayedChanges.addAndGet(replayed);
+            lastRebuildMillis = System.currentTimeMillis() - startTime;
+
+            log.info("[PropertyIndexReplica] 복제본 구축 완료 - 전세: {}건 ({}개 구), 월세: {}건 ({}개 구), bounds: {}개, 재적용 변경: {}건, 소요 시간: {}ms",
+                    rebuilt.propertyCount(false), rebuilt.charter.size(),
+                    rebuilt.propertyCount(true), rebuilt.monthly.size(),
+                    bounds.size(), replayed, lastRebuildMillis);
+
+        } catch (Exception e) {
+            log.error("[PropertyIndexReplica] 복제본 구축 실패 - 기존 스냅샷 유지 (전세: {}건, 월세: {}건)",
+                    snapshot.propertyCount(false), snapshot.propertyCount(true), e);
+        } finally {
+            synchronized (patchLock) {
+                pendingChanges = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 매물 쓰기 서비스의 Redis 동기화 직후 변경분을 해당 파티션에만 반영한다.
+     * 변경된 지역구의 bounds 는 쓰기 서비스가 이미 확장했으므로 Redis 에서 다시 읽어 교체한다 (쓰기 경로 1회 왕복).
+     */
+    @EventListener
+    public void handlePropertyChangedEvent(PropertyChangedEvent event) {
+        if (!enabled || event.getPropertyId() == null || event.getDistrictName() == null) {
+            return;
+        }
+
+        Map<Object, Object> freshBounds = fetchBounds(event.getDistrictName(), event.getLeaseType());
+
+        synchronized (patchLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(new PendingChange(event, freshBounds));
+            }
+            // 최초 적재 전에는 부분 스냅샷을 만들지 않는다 (재구축 시 RDB 에서 읽히거나 위에서 기록된 변경으로 재적용)
+            if (snapshot.builtAt != null) {
+                this.snapshot = snapshot.patched(event, freshBounds);
+            }
+        }
+        appliedChanges.incrementAndGet();
+
+        log.debug("[PropertyIndexReplica] 변경 반영 - {} {} {} ({})",
+                event.getChangeType(), event.getLeaseType(), event.getPropertyId(), event.getDistrictName());
+    }
+
+    private Map<String, List<PropertyRecord>> loadCharterRecords() {
+        Map<String, List<PropertyRecord>> byDistrict = new HashMap<>();
+        Pageable pageable = PageRequest.of(0, loadChunkSize, Sort.by("propertyId"));
+        Slice<PropertyCharter> slice;
+
+        do {
+            slice = propertyCharterRepository.findAllBy(pageable);
+            for (PropertyCharter entity : slice.getContent()) {
+                PropertyRecord record = PropertyRecord.of(entity);
+                if (isIndexable(record, false)) {
+                    byDistrict.computeIfAbsent(record.getDistrictName(), d -> new ArrayList<>()).add(record);
+                }
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        return byDistrict;
+    }
+
+    private Map<String, List<PropertyRecord>> loadMonthlyRecords() {
+        Map<String, List<PropertyRecord>> byDistrict = new HashMap<>();
+        Pageable pageable = PageRequest.of(0, loadChunkSize, Sort.by("propertyId"));
+        Slice<PropertyMonthly> slice;
+
+        do {
+            slice = propertyMonthlyRepository.findAllBy(pageable);
+            for (PropertyMonthly entity : slice.getContent()) {
+                PropertyRecord record = PropertyRecord.of(entity);
+                if (isIndexable(record, true)) {
+                    byDistrict.computeIfAbsent(record.getDistrictName(), d -> new ArrayList<>()).add(record);
+                }
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        return byDistrict;
+    }
+
+    /* 25개 구 × (bounds 전세, bounds 월세, safety) 를 단일 Pipeline 으로 조회. 키가 없으면 빈 Map 으로 보관 */
+    private void loadBoundsAndSafety(Map<String, Map<Object, Object>> bounds, Map<String, Map<Object, Object>> safety) {
+        List<Object> results = redisHandler.redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    for (String district : SEOUL_DISTRICTS) {
+                        connection.hGetAll(("bounds:" + district + ":" + CHARTER).getBytes());
+                        connection.hGetAll(("bounds:" + district + ":" + MONTHLY).getBytes());
+                        connection.hGetAll(("safety:" + district).getBytes());
+                    }
+                    return null;
+                });
+
+        for (int i = 0; i < SEOUL_DISTRICTS.size(); i++) {
+            String district = SEOUL_DISTRICTS.get(i);
+            bounds.put(boundsKey(district, CHARTER), asHash(results.get(i * 3)));
+            bounds.put(boundsKey(district, MONTHLY), asHash(results.get(i * 3 + 1)));
+            safety.put(district, asHash(results.get(i * 3 + 2)));
+        }
+    }
+
+    /* 변경 이벤트용 단건 bounds 조회. 실패 시 null (기존 값 유지) */
+    private Map<Object, Object> fetchBounds(String districtName, String leaseType) {
+        try {
+            return new HashMap<>(redisHandler.redisTemplate.opsForHash()
+                    .entries("bounds:" + districtName + ":" + leaseType));
+        } catch (Exception e) {
+            log.warn("[PropertyIndexReplica] bounds 재조회 실패 - 기존 값 유지: {} {}", districtName, leaseType);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> asHash(Object result) {
+        return result instanceof Map ? new HashMap<>((Map<Object, Object>) result) : new HashMap<>();
+    }
+
+    private static Map<String, Partition> buildPartitions(Map<String, List<PropertyRecord>> byDistrict, boolean monthly) {
+        Map<String, Partition> partitions = new HashMap<>();
+        byDistrict.forEach((district, records) -> partitions.put(district, Partition.build(records, monthly)));
+        return partitions;
+    }
+
+    /* 추천 대상 판정: 추천 서비스 matchesHardCondition 의 범위 외 조건과 동일 */
+    static boolean isIndexable(PropertyRecord record, boolean monthly) {
+        return record != null
+                && record.getDistrictName() != null
+                && "ACTIVE".equals(record.getStatus())
+                && (monthly ? MONTHLY : CHARTER).equals(record.getLeaseType())
+                && record.getDeposit() != null
+                && record.getAreaInPyeong() != null
+                && (!monthly || record.getMonthlyRent() != null);
+    }
+
+    private static String boundsKey(String districtName, String leaseType) {
+        return districtName + ":" + leaseType;
+    }
+
+    // ========================================
+    // 조회
+    // ========================================
+
+    /**
+     * 복제본 사용 가능 여부 (활성화 + 1건 이상 적재)
+     */
+    public boolean isReady() {
+        Snapshot current = snapshot;
+        return enabled && current.builtAt != null && (!current.charter.isEmpty() || !current.monthly.isEmpty());
+    }
+
+    /**
+     * 전세 매물 범위 조회 (전세금·평수 폐구간). idx:charterPrice / idx:area:{구}:전세 교집합 + HGETALL 과 같은 결과
+     */
+    public List<PropertyRecord> findCharter(String districtName, double depositMin, double depositMax,
+                                            double areaMin, double areaMax) {
+        queries.incrementAndGet();
+        Partition partition = snapshot.charter.get(districtName);
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        return partition.find(depositMin, depositMax,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, areaMin, areaMax);
+    }
+
+    /**
+     * 월세 매물 범위 조회 (보증금·월세금·평수 폐구간). idx:deposit / idx:monthlyRent / idx:area:{구}:월세 교집합 + HGETALL 과 같은 결과
+     */
+    public List<PropertyRecord> findMonthly(String districtName, double depositMin, double depositMax,
+                                            double monthlyRentMin, double monthlyRentMax,
+                                            double areaMin, double areaMax) {
+        queries.incrementAndGet();
+        Partition partition = snapshot.monthly.get(districtName);
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        return partition.find(depositMin, depositMax, monthlyRentMin, monthlyRentMax, areaMin, areaMax);
+    }
+
+    /**
+     * 적재 시점의 "bounds:{지역구}:{유형}" Hash. Redis 에 키가 없었으면 빈 Map, 복제본에 없으면 null
+     */
+    public Map<Object, Object> getBoundsHash(String districtName, String leaseType) {
+        return snapshot.bounds.get(boundsKey(districtName, leaseType));
+    }
+
+    /**
+     * 적재 시점의 "safety:{지역구}" Hash. Redis 에 키가 없었으면 빈 Map, 복제본에 없으면 null
+     */
+    public Map<Object, Object> getSafetyHash(String districtName) {
+        return snapshot.safety.get(districtName);
+    }
+
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", isReady());
+        stats.put("builtAt", current.builtAt);
+        stats.put("charterProperties", current.propertyCount(false));
+        stats.put("charterPartitions", current.charter.size());
+        stats.put("monthlyProperties", current.propertyCount(true));
+        stats.put("monthlyPartitions", current.monthly.size());
+        stats.put("boundsEntries", current.bounds.size());
+        stats.put("safetyEntries", current.safety.size());
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        stats.put("appliedChanges", appliedChanges.get());
+        stats.put("replayedChanges", replayedChanges.get());
+        stats.put("queries", queries.get());
+        return stats;
+    }
+
+    // ========================================
+    // 스냅샷 / 파티션
+    // ========================================
+
+    private static final class PendingChange {
+        final PropertyChangedEvent event;
+        final Map<Object, Object> bounds;
+
+        PendingChange(PropertyChangedEvent event, Map<Object, Object> bounds) {
+            this.event = event;
+            this.bounds = bounds;
+        }
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(
+                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), null);
+
+        final Map<String, Partition> charter;                // 지역구 → 전세 파티션
+        final Map<String, Partition> monthly;                // 지역구 → 월세 파티션
+        final Map<String, Map<Object, Object>> bounds;       // "지역구:유형" → bounds Hash
+        final Map<String, Map<Object, Object>> safety;       // 지역구 → safety Hash
+        final LocalDateTime builtAt;
+
+        Snapshot(Map<String, Partition> charter, Map<String, Partition> monthly,
+                 Map<String, Map<Object, Object>> bounds, Map<String, Map<Object, Object>> safety,
+                 LocalDateTime builtAt) {
+            this.charter = charter;
+            this.monthly = monthly;
+            this.bounds = bounds;
+            this.safety = safety;
+            this.builtAt = builtAt;
+        }
+
+        int propertyCount(boolean monthlyType) {
+            int count = 0;
+            for (Partition partition : (monthlyType ? monthly : charter).values()) {
+                count += partition.size();
+            }
+            return count;
+        }
+
+        /**
+         * 변경 1건을 반영한 새 스냅샷. 대상 파티션만 다시 만들고 나머지 파티션 / bounds 는 참조를 공유한다.
+         */
+        Snapshot patched(PropertyChangedEvent event, Map<Object, Object> freshBounds) {
+            boolean monthlyType = MONTHLY.equals(event.getLeaseType());
+            String district = event.getDistrictName();
+
+            PropertyRecord record = event.getChangeType() == PropertyChangedEvent.ChangeType.UPSERT
+                    && event.getFields() != null
+                    ? PropertyRecord.of(event.getPropertyId(), event.getFields())
+                    : null;
+            if (!isIndexable(record, monthlyType) || !district.equals(record.getDistrictName())) {
+                record = null;      // 추천 대상이 아니면 제거로 처리
+            }
+
+            Map<String, Partition> partitions = new HashMap<>(monthlyType ? monthly : charter);
+            Partition next = partitions.getOrDefault(district, Partition.EMPTY)
+                    .with(event.getPropertyId(), record, monthlyType);
+            if (next.size() == 0) {
+                partitions.remove(district);
+            } else {
+                partitions.put(district, next);
+            }
+
+            Map<String, Map<Object, Object>> nextBounds = bounds;
+            if (freshBounds != null) {
+                nextBounds = new HashMap<>(bounds);
+                nextBounds.put(boundsKey(district, event.getLeaseType()), freshBounds);
+            }
+
+            return new Snapshot(monthlyType ? charter : partitions, monthlyType ? partitions : monthly,
+                    nextBounds, safety, builtAt);
+        }
+    }
+
+    /**
+     * 지역구 × 임대 유형 1개 파티션 (불변). 전세 파티션은 월세금 열이 없다(monthlyRents == null).
+     */
+    private static final class Partition {
+
+        static final Partition EMPTY = build(Collections.emptyList(), false);
+
+        final PropertyRecord[] records;     // 서수 → 상세
+        final Map<String, Integer> ordinals; // propertyId → 서수
+
+        final int[] deposits;               // 서수 → 전세금/보증금
+        final int[] monthlyRents;           // 서수 → 월세금 (전세 null)
+        final double[] areas;               // 서수 → 평수
+
+        final int[] depositOrder;           // 전세금/보증금 오름차순 서수
+        final int[] sortedDeposits;
+        final int[] monthlyRentOrder;
+        final int[] sortedMonthlyRents;
+        final int[] areaOrder;
+        final double[] sortedAreas;
+
+        private Partition(PropertyRecord[] records, boolean monthly) {
+            int n = records.length;
+            this.records = records;
+            this.ordinals = new HashMap<>(n * 2);
+            this.deposits = new int[n];
+            this.monthlyRents = monthly ? new int[n] : null;
+            this.areas = new double[n];
+
+            for (int i = 0; i < n; i++) {
+                ordinals.put(records[i].getPropertyId(), i);
+                deposits[i] = records[i].getDeposit();
+                areas[i] = records[i].getAreaInPyeong();
+                if (monthly) {
+                    monthlyRents[i] = records[i].getMonthlyRent();
+                }
+            }
+
+            this.depositOrder = sortedOrdinals(n, i -> deposits[i]);
+            this.sortedDeposits = gather(deposits, depositOrder);
+            this.monthlyRentOrder = monthly ? sortedOrdinals(n, i -> monthlyRents[i]) : null;
+            this.sortedMonthlyRents = monthly ? gather(monthlyRents, monthlyRentOrder) : null;
+            this.areaOrder = sortedOrdinals(n, i -> areas[i]);
+            this.sortedAreas = new double[n];
+            for (int i = 0; i < n; i++) {
+                sortedAreas[i] = areas[areaOrder[i]];
+            }
+        }
+
+        static Partition build(List<PropertyRecord> records, boolean monthly) {
+            return new Partition(records.toArray(new PropertyRecord[0]), monthly);
+        }
+
+        int size() {
+            return records.length;
+        }
+
+        /* propertyId 를 제거하고 record 가 있으면 추가한 새 파티션 (서수는 다시 조밀하게 부여) */
+        Partition with(String propertyId, PropertyRecord record, boolean monthly) {
+            Integer existing = ordinals.get(propertyId);
+            if (existing == null && record == null) {
+                return this;
+            }
+            List<PropertyRecord> next = new ArrayList<>(records.length + 1);
+            for (int i = 0; i < records.length; i++) {
+                if (existing == null || i != existing) {
+                    next.add(records[i]);
+                }
+            }
+            if (record != null) {
+                next.add(record);
+            }
+            return build(next, monthly);
+        }
+
+        /* 폐구간 범위 3개를 모두 만족하는 매물. 가장 좁은 열의 구간만 순회한다 */
+        List<PropertyRecord> find(double depositMin, double depositMax,
+                                  double rentMin, double rentMax,
+                                  double areaMin, double areaMax) {
+            if (records.length == 0) {
+                return Collections.emptyList();
+            }
+
+            int[] driver = depositOrder;
+            int lo = lowerBound(sortedDeposits, depositMin);
+            int hi = upperBound(sortedDeposits, depositMax);
+
+            int areaLo = lowerBound(sortedAreas, areaMin);
+            int areaHi = upperBound(sortedAreas, areaMax);
+            if (areaHi - areaLo < hi - lo) {
+                driver = areaOrder;
+                lo = areaLo;
+                hi = areaHi;
+            }
+
+            boolean checkRent = monthlyRents != null;
+            if (checkRent) {
+                int rentLo = lowerBound(sortedMonthlyRents, rentMin);
+                int rentHi = upperBound(sortedMonthlyRents, rentMax);
+                if (rentHi - rentLo < hi - lo) {
+                    driver = monthlyRentOrder;
+                    lo = rentLo;
+                    hi = rentHi;
+                }
+            }
+
+            if (hi <= lo) {
+                return Collections.emptyList();
+            }
+
+            List<PropertyRecord> result = new ArrayList<>(hi - lo);
+            for (int i = lo; i < hi; i++) {
+                int ordinal = driver[i];
+                int deposit = deposits[ordinal];
+                double area = areas[ordinal];
+                if (deposit < depositMin || deposit > depositMax || area < areaMin || area > areaMax) {
+                    continue;
+                }
+                if (checkRent && (monthlyRents[ordinal] < rentMin || monthlyRents[ordinal] > rentMax)) {
+                    continue;
+                }
+                result.add(records[ordinal]);
+            }
+            return result;
+        }
+
+        private static int[] sortedOrdinals(int n, IntToDoubleFunction value) {
+            return IntStream.range(0, n).boxed()
+                    .sorted((a, b) -> Double.compare(value.applyAsDouble(a), value.applyAsDouble(b)))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private static int[] gather(int[] values, int[] order) {
+            int[] sorted = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = values[order[i]];
+            }
+            return sorted;
+        }
+
+        /* 값 >= key 인 첫 위치 */
+        private static int lowerBound(int[] sorted, double key) {
+            int lo = 0, hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < key) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        /* 값 > key 인 첫 위치 */
+        private static int upperBound(int[] sorted, double key) {
+            int lo = 0, hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] <= key) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        private static int lowerBound(double[] sorted, double key) {
+            int lo = 0, hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < key) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        private static int upperBound(double[] sorted, double key) {
+            int lo = 0, hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] <= key) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.wherehouse.recommand.index;
+
+import com.wherehouse.recommand.batch.entity.PropertyCharter;
+import com.wherehouse.recommand.batch.entity.PropertyMonthly;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 추천 매물 인덱스 복제본의 매물 상세 1건 (불변)
+ *
+ * Redis "property:charter:{id}" / "property:monthly:{id}" Hash 중 추천 서비스가 읽는 필드와 같은 구성이다.
+ * RDB 엔티티(전체 재구축) 또는 PropertyChangedEvent 의 Hash(부분 갱신)로부터 만든다.
+ */
+@Getter
+@Builder
+public class PropertyRecord {
+
+    private final String propertyId;
+    private final String aptNm;
+    private final Double excluUseAr;
+    private final Integer floor;
+    private final Integer buildYear;
+    private final String dealDate;
+    private final Integer deposit;
+    private final Integer monthlyRent;
+    private final String leaseType;
+    private final String umdNm;
+    private final String jibun;
+    private final String sggCd;
+    private final String address;
+    private final Double areaInPyeong;
+    private final String rgstDate;
+    private final String districtName;
+    private final String dataSource;
+    private final String status;
+    private final String registeredUserId;
+
+    /* RdbSyncListener.convertCharterEntityToProperty 와 같은 기본값 (dataSource=BATCH, status=ACTIVE) */
+    static PropertyRecord of(PropertyCharter entity) {
+        return PropertyRecord.builder()
+                .propertyId(entity.getPropertyId())
+                .aptNm(entity.getAptNm())
+                .excluUseAr(entity.getExcluUseAr())
+                .floor(entity.getFloor())
+                .buildYear(entity.getBuildYear())
+                .dealDate(entity.getDealDate())
+                .deposit(entity.getDeposit())
+                .monthlyRent(null)
+                .leaseType(PropertyIndexReplica.CHARTER)
+                .umdNm(entity.getUmdNm())
+                .jibun(entity.getJibun())
+                .sggCd(entity.getSggCd())
+                .address(entity.getAddress())
+                .areaInPyeong(entity.getAreaInPyeong())
+                .rgstDate(entity.getRgstDate())
+                .districtName(entity.getDistrictName())
+                .dataSource(entity.getDataSource() != null ? entity.getDataSource().name() : "BATCH")
+                .status(entity.getStatus() != null ? entity.getStatus().name() : "ACTIVE")
+                .registeredUserId(entity.getRegisteredUserId())
+                .build();
+    }
+
+    static PropertyRecord of(PropertyMonthly entity) {
+        return PropertyRecord.builder()
+                .propertyId(entity.getPropertyId())
+                .aptNm(entity.getAptNm())
+                .excluUseAr(entity.getExcluUseAr())
+                .floor(entity.getFloor())
+                .buildYear(entity.getBuildYear())
+                .dealDate(entity.getDealDate())
+                .deposit(entity.getDeposit())
+                .monthlyRent(entity.getMonthlyRent())
+                .leaseType(PropertyIndexReplica.MONTHLY)
+                .umdNm(entity.getUmdNm())
+                .jibun(entity.getJibun())
+                .sggCd(entity.getSggCd())
+                .address(entity.getAddress())
+                .areaInPyeong(entity.getAreaInPyeong())
+                .rgstDate(entity.getRgstDate())
+                .districtName(entity.getDistrictName())
+                .dataSource(entity.getDataSource() != null ? entity.getDataSource().name() : "BATCH")
+                .status(entity.getStatus() != null ? entity.getStatus().name() : "ACTIVE")
+                .registeredUserId(entity.getRegisteredUserId())
+                .build();
+    }
+
+    /* PropertyHashBuilder 결과 (NULL 은 빈 문자열) → 레코드. 추천 서비스 convertHashToPropertyDetail 과 같은 파싱 규칙 */
+    static PropertyRecord of(String propertyId, Map<String, Object> hash) {
+        return PropertyRecord.builder()
+                .propertyId(propertyId)
+                .aptNm(stringValue(hash, "aptNm"))
+                .excluUseAr(doubleValue(hash, "excluUseAr"))
+                .floor(integerValue(hash, "floor"))
+                .buildYear(integerValue(hash, "buildYear"))
+                .dealDate(stringValue(hash, "dealDate"))
+                .deposit(integerValue(hash, "deposit"))
+                .monthlyRent(integerValue(hash, "monthlyRent"))
+                .leaseType(stringValue(hash, "leaseType"))
+                .umdNm(stringValue(hash, "umdNm"))
+                .jibun(stringValue(hash, "jibun"))
+                .sggCd(stringValue(hash, "sggCd"))
+                .address(stringValue(hash, "address"))
+                .areaInPyeong(doubleValue(hash, "areaInPyeong"))
+                .rgstDate(stringValue(hash, "rgstDate"))
+                .districtName(stringValue(hash, "districtName"))
+                .dataSource(stringValue(hash, "dataSource"))
+                .status(stringValue(hash, "status"))
+                .registeredUserId(stringValue(hash, "registeredUserId"))
+                .build();
+    }
+
+    private static String stringValue(Map<String, Object> hash, String key) {
+        Object value = hash.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Integer integerValue(Map<String, Object> hash, String key) {
+        Object value = hash.get(key);
+        if (value == null) return null;
+        try { return Integer.valueOf(value.toString()); } catch (NumberFormatException e) { return null; }
+    }
+
+    private static Double doubleValue(Map<String, Object> hash, String key) {
+        Object value = hash.get(key);
+        if (value == null) return null;
+        try { return Double.valueOf(value.toString()); } catch (NumberFormatException e) { return null; }
+    }
+}
@@ -1,5 +1,7 @@
 package com.wherehouse.recommand.service;
 
+import com.wherehouse.recommand.index.PropertyIndexReplica;
+import com.wherehouse.recommand.index.PropertyRecord;
 import com.wherehouse.recommand.model.*;
 import com.wherehouse.redis.handler.RedisHandler;
 import com.wherehouse.review.domain.ReviewStatisticsCharter;
@@ -22,7 +24,7 @@ import java.util.stream.Collectors;
  * 전세 전용 추천 서비스 - 명세서 4.2절 및 10.2절(Phase 2)
  *
  * 역할:
- * 1. Redis 인덱스를 활용한 매물 1차 검색 (가격, 평수 조건)
+ * 1. Redis 인덱스(또는 메모리 복제본)를 활용한 매물 1차 검색 (가격, 평수 조건)
  * 2. RDB(ReviewStatisticsCharter) 조회 및 하이브리드 점수 계산 (정량+정성)
  * 3. 최종 추천 리스트 생성 및 반환
  */
@@ -34,6 +36,10 @@ public class CharterRecommendationService {
     private final RedisHandler redisHandler;
     // [Phase 2 추가] 리뷰 통계 조회를 위한 Repository 주입 (RDB 접근)
     private final ReviewStatisticsCharterRepository reviewStatisticsRepository;
+    // 추천 매물 인덱스 메모리 복제본 (적재 전 / 비활성화 시 Redis 경로 사용)
+    private final PropertyIndexReplica propertyIndexReplica;
+    // 가격·면적 범위 필터 + 교집합을 Redis 서버 측 Lua 스크립트로 수행
+    private final RedisCandidateIntersector candidateIntersector;
 
 //    @Autowired(required = false)
 //    private F009RaceLatch f009RaceLatch;
@@ -97,8 +103,9 @@ public class CharterRecommendationService {
     /**
      * S-01: 전세 매물 1차 검색 (Strict Search) — 배치 최적화.
      *
-     * 전체 지역구 ZSet 조회를 단일 MULTI/EXEC, Hash 상세 조회를 단일 Pipeline으로 실행하여
-     * Redis 라운드트립을 최소화한다.
+     * 전체 지역구 ZSet 범위 필터 + 교집합을 Lua 스크립트 1회(실패 시 MULTI/EXEC + retainAll),
+     * Hash 상세 조회를 단일 Pipeline으로 실행하여 Redis 라운드트립과 전송량을 최소화한다.
+     * 추천 매물 인덱스 복제본이 적재되어 있으면 2~5단계를 복제본 범위 조회로 대체한다 (Redis 왕복 없음).
      *
      * @param request         사용자 요청 DTO (가격 범위, 평수 범위, 안전성 기준 등)
      * @param targetDistricts 검색 대상 지역구 목록 (최초 호출 시 서울 25개구, Fallback 시 부족 지역구만)
@@ -114,14 +121,28 @@ public class CharterRecommendationService {
             return Collections.emptyMap();
         }
 
-        /* 2단계: 전 지역구 가격·면적 인덱스(ZSet)를 단일 MULTI/EXEC로 원자적 배치 조회 → 지역구당 2개(가격,면적) Set 반환 */
-        List<Object> txResults = executeZSetBatchQuery(filteredDistricts, request);
-        if (txResults == null || txResults.size() < filteredDistricts.size() * 2) {
-            return Collections.emptyMap();
+        /* 2~5단계 (복제본): 지역구 파티션 범위 조회 + hard condition 검증 */
+        if (propertyIndexReplica.isReady()) {
+            return searchCharterReplica(filteredDistricts, request);
         }
 
-        /* 3단계: 지역구별 가격·면적 교집합(retainAll) → 양쪽 인덱스 모두 통과한 후보 propertyId 집합 도출 */
-        Map<String, Set<String>> districtCandidateIds = calculateIntersections(filteredDistricts, txResults);
+        /* 2~3단계 (서버 측): Lua 스크립트 1회로 전 지역구 가격·면적 범위 필터 + 교집합 → 생존 propertyId 만 수신 */
+        Map<String, Set<String>> districtCandidateIds = candidateIntersector.intersect(filteredDistricts, List.of(
+                RedisCandidateIntersector.IndexRange.of("idx:charterPrice:{district}",
+                        request.getBudgetMin(), request.getBudgetMax()),
+                RedisCandidateIntersector.IndexRange.of("idx:area:{district}:전세",
+                        request.getAreaMin(), request.getAreaMax())));
+
+        if (districtCandidateIds == null) {     // 스크립트 비활성화 / 실행 실패 시 기존 클라이언트 교집합
+            /* 2단계: 전 지역구 가격·면적 인덱스(ZSet)를 단일 MULTI/EXEC로 원자적 배치 조회 → 지역구당 2개(가격,면적) Set 반환 */
+            List<Object> txResults = executeZSetBatchQuery(filteredDistricts, request);
+            if (txResults == null || txResults.size() < filteredDistricts.size() * 2) {
+                return Collections.emptyMap();
+            }
+
+            /* 3단계: 지역구별 가격·면적 교집합(retainAll) → 양쪽 인덱스 모두 통과한 후보 propertyId 집합 도출 */
+            districtCandidateIds = calculateIntersections(filteredDistricts, txResults);
+        }
 
         Set<String> allCandidateIds = districtCandidateIds.values().stream()
                 .flatMap(Set::stream)
@@ -143,6 +164,33 @@ public class CharterRecommendationService {
         return assembleValidatedResults(districtCandidateIds, propertyDetailMap, request);
     }
 
+    /**
+     * 2~5단계를 추천 매물 인덱스 복제본으로 수행.
+     * 파티션의 정렬된 전세금·평수 열에서 범위를 구해 후보를 얻고, Redis 경로와 같은 matchesHardCondition()으로 재검증한다.
+     *
+     * @param districts 안전성 필터 통과 지역구 목록
+     * @param request   가격·면적 범위를 포함하는 요청 DTO
+     * @return 지역구명 → hard condition 통과 매물 상세 목록 (통과 매물 0건인 지역구는 제외)
+     */
+    private Map<String, List<PropertyDetail>> searchCharterReplica(List<String> districts,
+                                                                   CharterRecommendationRequestDto request) {
+        Map<String, List<PropertyDetail>> result = new HashMap<>();
+
+        for (String district : districts) {
+            List<PropertyDetail> validProperties = propertyIndexReplica.findCharter(district,
+                            request.getBudgetMin(), request.getBudgetMax(),
+                            request.getAreaMin(), request.getAreaMax()).stream()
+                    .map(this::convertRecordToPropertyDetail)
+                    .filter(detail -> matchesHardCondition(detail, request))
+                    .collect(Collectors.toList());
+
+            if (!validProperties.isEmpty()) {
+                result.put(district, validProperties);
+            }
+        }
+        return result;
+    }
+
     /**
      * 안전성 점수 기준 미달 지역구 제외.
      * Redis "safety:{지역구}" Hash에서 조회한 점수가 요청 기준(minSafetyScore) 미만이면 탈락.
@@ -157,7 +205,7 @@ public class CharterRecommendationService {
             return targetDistricts;
         }
         return targetDistricts.stream()
-                .filter(district -> getDistrictSafetyScoreFromRedis(district) >= request.getMinSafetyScore())
+                .filter(district -> getDistrictSafetyScore(district) >= request.getMinSafetyScore())
                 .collect(Collectors.toList());
     }
 
@@ -489,8 +537,8 @@ public class CharterRecommendationService {
                 continue;
             }
 
-            ScoreNormalizationBounds districtBounds = getCharterBoundsFromRedis(districtName);
-            double districtSafetyScore = getDistrictSafetyScoreFromRedis(districtName);
+            ScoreNormalizationBounds districtBounds = getCharterBounds(districtName);
+            double districtSafetyScore = getDistrictSafetyScore(districtName);
 
             List<PropertyWithScore> propertiesWithScores = new ArrayList<>();
 
@@ -786,12 +834,16 @@ public class CharterRecommendationService {
     // 전세 Redis 조회 메소드들 (기존 로직 유지)
     // ========================================
 
-    /* 지역구 전세금 최소/최대 값 및 공간 최소/최대 값을 Redis Hash 연산자로 가져 온다.*/
-    private ScoreNormalizationBounds getCharterBoundsFromRedis(String districtName) {
+    /* 지역구 전세금 최소/최대 값 및 공간 최소/최대 값을 복제본(없으면 Redis Hash 연산자)으로 가져 온다.*/
+    private ScoreNormalizationBounds getCharterBounds(String districtName) {
         try {
 
-            String boundsKey = "bounds:" + districtName + ":전세";
-            Map<Object, Object> boundsHash = redisHandler.redisTemplate.opsForHash().entries(boundsKey);
+            Map<Object, Object> boundsHash = propertyIndexReplica.isReady()
+                    ? propertyIndexReplica.getBoundsHash(districtName, PropertyIndexReplica.CHARTER) : null;
+            if (boundsHash == null) {
+                String boundsKey = "bounds:" + districtName + ":전세";
+                boundsHash = redisHandler.redisTemplate.opsForHash().entries(boundsKey);
+            }
 
             if (boundsHash.isEmpty()) { // ScoreNormalizationBounds : "boundsHash" 데이터를 객체로써 저장하기 위한 private 클래스
                 return ScoreNormalizationBounds.builder().minPrice(0.0).maxPrice(100000.0).minArea(10.0).maxArea(100.0).build();
@@ -807,11 +859,15 @@ public class CharterRecommendationService {
         }
     }
 
-    /* 해당 지역구의 안정성 점수를 Redis 로부터 로드. */
-    private double getDistrictSafetyScoreFromRedis(String districtName) {
+    /* 해당 지역구의 안정성 점수를 복제본(없으면 Redis)으로부터 로드. */
+    private double getDistrictSafetyScore(String districtName) {
         try {
-            String safetyKey = "safety:" + districtName;
-            Map<Object, Object> safetyHash = redisHandler.redisTemplate.opsForHash().entries(safetyKey);
+            Map<Object, Object> safetyHash = propertyIndexReplica.isReady()
+                    ? propertyIndexReplica.getSafetyHash(districtName) : null;
+            if (safetyHash == null) {
+                String safetyKey = "safety:" + districtName;
+                safetyHash = redisHandler.redisTemplate.opsForHash().entries(safetyKey);
+            }
             if (safetyHash.isEmpty() || safetyHash.get("safetyScore") == null) return 50.0;
             return Double.parseDouble(safetyHash.get("safetyScore").toString());
         } catch (Exception e) {
@@ -946,6 +1002,31 @@ public class CharterRecommendationService {
         }
     }
 
+    private PropertyDetail convertRecordToPropertyDetail(PropertyRecord record) {
+        return PropertyDetail.builder()
+                .propertyId(record.getPropertyId())
+                .aptNm(record.getAptNm())
+                .excluUseAr(record.getExcluUseAr())
+                .floor(record.getFloor())
+                .buildYear(record.getBuildYear())
+                .dealDate(record.getDealDate())
+                .deposit(record.getDeposit())
+                .monthlyRent(record.getMonthlyRent())
+                .leaseType(record.getLeaseType())
+                .umdNm(record.getUmdNm())
+                .jibun(record.getJibun())
+                .sggCd(record.getSggCd())
+                .address(record.getAddress())
+                .areaInPyeong(record.getAreaInPyeong())
+                .rgstDate(record.getRgstDate())
+                .districtName(record.getDistrictName())
+                .safetyScore(null)
+                .dataSource(record.getDataSource())
+                .status(record.getStatus())
+                .registeredUserId(record.getRegisteredUserId())
+                .build();
+    }
+
     private String getStringValue(Map<Object, Object> hash, String key) {
         Object value = hash.get(key);
         return value != null ? value.toString() : null;
@@ -0,0 +1,178 @@
+package com.wherehouse.recommand.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 S-01 후보 교집합을 Redis 서버 측 Lua 스크립트로 수행
+ *
+ * 기존 방식 (클라이언트 교집합):
+ * - 지역구마다 가격·면적(월세는 + 월세금) ZSet 범위 전체를 MULTI/EXEC 로 받아 Java 에서 retainAll
+ * - 예산 범위가 넓으면 버려질 ID 수만 건이 전송·역직렬화된다.
+ *
+ * 스크립트 방식:
+ * - 지역구마다 ZCOUNT 로 가장 좁은 인덱스를 고르고 그 구간만 ZRANGEBYSCORE
+ * - 나머지 인덱스는 후보별 ZSCORE(O(1)) 로 범위 확인
+ * - 전 지역구를 EVALSHA 1회로 처리하고 교집합 생존 ID 만 지역구별 배열로 반환
+ * - 스크립트 1회 실행은 MULTI/EXEC 와 같이 원자적이다.
+ *
+ * 스크립트 실행 실패(스크립트 비활성 환경 등) 또는 비활성화 시 null 을 반환하며,
+ * 호출 측은 기존 MULTI/EXEC + retainAll 경로로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCandidateIntersector {
+
+    /*
+     * KEYS: 지역구 순서대로 지역구당 인덱스 키 n 개 (ARGV 의 범위 순서와 같다)
+     * ARGV: n, min1, max1, ..., minN, maxN
+     * 반환: 지역구 순서대로 생존 member 배열
+     */
+    private static final DefaultRedisScript<List> INTERSECT_SCRIPT = new DefaultRedisScript<>(
+            "local n = tonumber(ARGV[1]) " +
+            "local mins, maxs = {}, {} " +
+            "for j = 1, n do mins[j] = tonumber(ARGV[2 * j]) maxs[j] = tonumber(ARGV[2 * j + 1]) end " +
+            "local result = {} " +
+            "for base = 0, #KEYS - n, n do " +
+            "  local best, bestCount = 1, -1 " +
+            "  for j = 1, n do " +
+            "    local c = redis.call('ZCOUNT', KEYS[base + j], mins[j], maxs[j]) " +
+            "    if bestCount < 0 or c < bestCount then best, bestCount = j, c end " +
+            "    if c == 0 then break end " +
+            "  end " +
+            "  local survivors = {} " +
+            "  if bestCount > 0 then " +
+            "    local members = redis.call('ZRANGEBYSCORE', KEYS[base + best], mins[best], maxs[best]) " +
+            "    for _, m in ipairs(members) do " +
+            "      local ok = true " +
+            "      for j = 1, n do " +
+            "        if j ~= best then " +
+            "          local s = redis.call('ZSCORE', KEYS[base + j], m) " +
+            "          if not s then ok = false break end " +
+            "          s = tonumber(s) " +
+            "          if s < mins[j] or s > maxs[j] then ok = false break end " +
+            "        end " +
+            "      end " +
+            "      if ok then survivors[#survivors + 1] = m end " +
+            "    end " +
+            "  end " +
+            "  result[#result + 1] = survivors " +
+            "end " +
+            "return result",
+            List.class);
+
+    private final RedisHandler redisHandler;
+
+    @Value("${recommendation.server-side-intersection.enabled:true}")
+    private boolean enabled;
+
+    private final AtomicLong scriptCalls = new AtomicLong();
+    private final AtomicLong scriptFailures = new AtomicLong();
+    private final AtomicLong survivingIds = new AtomicLong();
+
+    /**
+     * 인덱스 1개의 키 패턴과 폐구간 범위. 키 패턴의 "{district}" 는 지역구명으로 치환된다.
+     * 예) IndexRange.of("idx:area:{district}:전세", 10.0, 30.0)
+     */
+    public static final class IndexRange {
+        private final String keyPattern;
+        private final Number min;
+        private final Number max;
+
+        private IndexRange(String keyPattern, Number min, Number max) {
+            this.keyPattern = keyPattern;
+            this.min = min;
+            this.max = max;
+        }
+
+        public static IndexRange of(String keyPattern, Number min, Number max) {
+            return new IndexRange(keyPattern, min, max);
+        }
+
+        String key(String district) {
+            return keyPattern.replace("{district}", district);
+        }
+    }
+
+    /**
+     * 지역구별로 모든 인덱스 범위를 만족하는 propertyId 집합을 서버 측에서 계산한다.
+     *
+     * @param districts 조회 대상 지역구 목록
+     * @param ranges    인덱스별 키 패턴과 범위 (지역구 공통)
+     * @return 지역구명 → 생존 propertyId Set (생존 0건 지역구 제외), 비활성화 / 실패 시 null
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Set<String>> intersect(List<String> districts, List<IndexRange> ranges) {
+        if (!enabled || districts.isEmpty() || ranges.isEmpty()) {
+            return null;
+        }
+
+        List<String> keys = new ArrayList<>(districts.size() * ranges.size());
+        for (String district : districts) {
+            for (IndexRange range : ranges) {
+                keys.add(range.key(district));
+            }
+        }
+
+        // ARGV 는 템플릿 값 Serializer(JSON)로 직렬화되므로 숫자만 전달한다
+        Object[] args = new Object[1 + ranges.size() * 2];
+        args[0] = ranges.size();
+        for (int j = 0; j < ranges.size(); j++) {
+            args[1 + j * 2] = ranges.get(j).min.doubleValue();
+            args[2 + j * 2] = ranges.get(j).max.doubleValue();
+        }
+
+        scriptCalls.incrementAndGet();
+        try {
+            List<Object> results = redisHandler.redisTemplate.execute(INTERSECT_SCRIPT, keys, args);
+            if (results == null || results.size() != districts.size()) {
+                scriptFailures.incrementAndGet();
+                log.warn("교집합 스크립트 결과 크기 불일치 - 클라이언트 교집합으로 대체 (기대: {}, 실제: {})",
+                        districts.size(), results == null ? null : results.size());
+                return null;
+            }
+
+            Map<String, Set<String>> districtCandidateIds = new LinkedHashMap<>();
+            for (int i = 0; i < districts.size(); i++) {
+                List<Object> members = (List<Object>) results.get(i);
+                if (members == null || members.isEmpty()) {
+                    continue;
+                }
+                Set<String> ids = new HashSet<>(members.size() * 2);
+                for (Object member : members) {
+                    ids.add(member.toString());
+                }
+                survivingIds.addAndGet(ids.size());
+                districtCandidateIds.put(districts.get(i), ids);
+            }
+            return districtCandidateIds;
+
+        } catch (Exception e) {
+            scriptFailures.incrementAndGet();
+            log.warn("교집합 스크립트 실행 실패 - 클라이언트 교집합으로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("scriptCalls", scriptCalls.get());
+        stats.put("scriptFailures", scriptFailures.get());
+        stats.put("survivingIds", survivingIds.get());
+        return stats;
+    }
+}
@@ -0,0 +1,28 @@
+package com.wherehouse.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.io.IOException;
+
+/**
+ * Redis 캐시 값 본문(payload) 인코딩 규칙
+ *
+ * 구현체는 헤더 없이 본문만 변환하며, 형식 식별/버전 헤더는 VersionedCacheCodec 이 붙인다.
+ * 새 형식을 추가할 때는 기존 구현체와 겹치지 않는 formatId 를 부여해야 한다. (저장된 값 해석 기준)
+ */
+public interface CacheCodec {
+
+    /**
+     * 헤더에 기록되는 형식 식별자 (저장 이후 변경 금지)
+     */
+    byte formatId();
+
+    /**
+     * 설정(cache-codec.format)에서 사용하는 형식 이름
+     */
+    String formatName();
+
+    byte[] encode(Object value) throws IOException;
+
+    <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws IOException;
+}
@@ -0,0 +1,43 @@
+package com.wherehouse.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * JSON(UTF-8) 캐시 코덱
+ *
+ * 기존 저장 방식과 같은 Spring ObjectMapper 설정(SNAKE_CASE 등)을 사용하되,
+ * 문자열로 한 번 만든 뒤 Jackson2JsonRedisSerializer 가 다시 JSON 문자열로 감싸던 이중 인코딩 없이 바이트를 그대로 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonCacheCodec implements CacheCodec {
+
+    public static final byte FORMAT_ID = 1;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte formatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public String formatName() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws IOException {
+        return objectMapper.readValue(bytes, offset, length, type);
+    }
+}
@@ -0,0 +1,51 @@
+package com.wherehouse.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Smile(바이너리 JSON) 캐시 코덱
+ *
+ * - Spring ObjectMapper 설정(명명 전략, 역직렬화 옵션 등)을 그대로 복사하고 출력 형식만 Smile 로 바꾼다.
+ * - 숫자(위/경도, 점수)는 텍스트 대신 고정 길이 바이너리로, 반복되는 필드명/짧은 문자열 값은 백참조로 기록하여
+ *   List<CctvGeo> / 편의시설 Map 처럼 같은 구조가 반복되는 값에서 크기와 파싱 비용이 크게 줄어든다.
+ */
+@Component
+public class SmileCacheCodec implements CacheCodec {
+
+    public static final byte FORMAT_ID = 2;
+
+    private final ObjectMapper smileMapper;
+
+    public SmileCacheCodec(ObjectMapper objectMapper) {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)   // 반복 문자열 값 백참조 (카테고리 코드, 구 이름 등)
+                .build();
+        this.smileMapper = objectMapper.copyWith(smileFactory);
+    }
+
+    @Override
+    public byte formatId() {
+        return FORMAT_ID;
+    }
+
+    @Override
+    public String formatName() {
+        return "smile";
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return smileMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws IOException {
+        return smileMapper.readValue(bytes, offset, length, type);
+    }
+}
@@ -0,0 +1,126 @@
+package com.wherehouse.redis.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전 헤더를 붙이는 캐시 값 코덱 (위치 분석 dto: / data: / address: / amenity: 키 전용)
+ *
+ * 저장 형식: [MAGIC(1)] [VERSION(1)] [FORMAT_ID(1)] [본문]
+ * - MAGIC  : 0xCB. JSON 문서는 이 바이트로 시작할 수 없으므로 기존(헤더 없는) 값과 구분된다.
+ * - VERSION: 헤더 레이아웃 버전. 레이아웃을 바꿀 때만 올린다.
+ * - FORMAT : 본문 코덱 식별자 (JsonCacheCodec=1, SmileCacheCodec=2)
+ *
+ * 인코딩은 cache-codec.format 으로 선택한 코덱 하나로 수행하고,
+ * 디코딩은 헤더의 FORMAT 으로 코덱을 골라 수행한다. → 형식을 바꿔 배포해도 이미 저장된 값은 TTL 동안 그대로 읽힌다.
+ *
+ * 헤더가 없는 값은 이전 방식(ObjectMapper 문자열을 Jackson2JsonRedisSerializer 가 다시 JSON 문자열로 감싼 값)으로 보고
+ * 바깥 문자열을 먼저 벗긴 뒤 JSON 으로 해석한다.
+ */
+@Component
+@Slf4j
+public class VersionedCacheCodec {
+
+    public static final byte MAGIC = (byte) 0xCB;
+    public static final byte VERSION = 1;
+    public static final int HEADER_SIZE = 3;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Byte, CacheCodec> codecsById = new HashMap<>();
+    private final Map<String, CacheCodec> codecsByName = new HashMap<>();
+
+    @Value("${cache-codec.format:smile}")
+    private String format;
+
+    private CacheCodec activeCodec;
+
+    public VersionedCacheCodec(ObjectMapper objectMapper, List<CacheCodec> codecs) {
+        this.objectMapper = objectMapper;
+        for (CacheCodec codec : codecs) {
+            CacheCodec duplicate = codecsById.put(codec.formatId(), codec);
+            if (duplicate != null) {
+                throw new IllegalStateException("중복된 캐시 코덱 formatId: " + codec.formatId());
+            }
+            codecsByName.put(codec.formatName(), codec);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        this.activeCodec = codecsByName.get(format);
+        if (activeCodec == null) {
+            throw new IllegalStateException("지원하지 않는 cache-codec.format: " + format + " (지원: " + codecsByName.keySet() + ")");
+        }
+        log.info("[CacheCodec] 캐시 값 인코딩 형식: {} (formatId: {}, headerVersion: {})", format, activeCodec.formatId(), VERSION);
+    }
+
+    /**
+     * 현재 설정된 형식으로 인코딩하고 헤더를 붙인다.
+     */
+    public byte[] encode(Object value) throws IOException {
+        byte[] body = activeCodec.encode(value);
+
+        byte[] bytes = new byte[HEADER_SIZE + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = activeCodec.formatId();
+        System.arraycopy(body, 0, bytes, HEADER_SIZE, body.length);
+        return bytes;
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
+        return decode(bytes, objectMapper.constructType(type));
+    }
+
+    public <T> T decode(byte[] bytes, TypeReference<T> type) throws IOException {
+        return decode(bytes, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    /**
+     * 헤더의 형식에 맞는 코덱으로 디코딩한다.
+     *
+     * @return 디코딩 결과 (값이 없으면 null)
+     */
+    public <T> T decode(byte[] bytes, JavaType type) throws IOException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            return decodeLegacy(bytes, type);
+        }
+
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+            throw new IOException("지원하지 않는 캐시 헤더 버전: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        CacheCodec codec = codecsById.get(bytes[2]);
+        if (codec == null) {
+            throw new IOException("알 수 없는 캐시 코덱 formatId: " + bytes[2]);
+        }
+        return codec.decode(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    /* 헤더 없는 이전 값: "\"{...}\"" (이중 인코딩된 JSON 문자열) 또는 순수 JSON */
+    private <T> T decodeLegacy(byte[] bytes, JavaType type) throws IOException {
+        if (bytes[0] == '"') {
+            String json = objectMapper.readValue(bytes, String.class);
+            return objectMapper.readValue(json, type);
+        }
+        return objectMapper.readValue(bytes, type);
+    }
+}
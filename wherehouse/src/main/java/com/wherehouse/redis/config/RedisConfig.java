@@ -14,12 +14,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
@@ -317,4 +319,44 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 바이너리 캐시 값 전용 RedisTemplate.
+     *
+     * 위치 분석 캐시(dto:, data:, address:, amenity:)는 VersionedCacheCodec 이 만든 byte[] 를 그대로 저장한다.
+     * 범용 redisTemplate()(Jackson2JsonRedisSerializer)으로 저장하면 이미 JSON 인 문자열을 다시 JSON 문자열로 감싸
+     * 따옴표/이스케이프(\")가 추가되므로, Value 는 변환 없이 바이트를 통과시키는 byteArray 직렬화를 사용한다.
+     *
+     * [Key]   StringRedisSerializer      — Java String → UTF-8 byte[]
+     * [Value] RedisSerializer.byteArray() — byte[] 그대로 저장/조회
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    /**
+     * Redis Pub/Sub 메시지 수신 컨테이너 Bean.
+     *
+     * NearCacheDataService 가 "nearcache:invalidate" 채널을 구독하여
+     * 다른 노드에서 갱신/삭제된 키를 로컬 캐시에서 제거하는 데 사용한다.
+     * 구독 전용 커넥션 1개를 별도로 점유하므로 위 커넥션 풀(maxTotal 8)과는 독립적으로 동작한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+
+        return container;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.wherehouse.redis.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.wherehouse.redis.service.NearCacheDataService;
+
+import java.util.Map;
+
+/**
+ * Redis 앞단 Near Cache 의 통계 조회 및 로컬 캐시 초기화를 수행합니다.
+ *
+ * @fileName : NearCacheController
+ */
+@RestController
+@RequestMapping("/api/v1/redis/nearCache")
+public class NearCacheController {
+
+    private final NearCacheDataService nearCacheDataService;
+
+    public NearCacheController(NearCacheDataService nearCacheDataService) {
+
+        this.nearCacheDataService = nearCacheDataService;
+    }
+
+    /**
+     * Near Cache hit / miss / eviction 등 통계를 조회합니다.
+     *
+     * @return
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return new ResponseEntity<>(nearCacheDataService.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * 현재 노드의 로컬 캐시를 비웁니다. (Redis 데이터는 유지)
+     *
+     * @return
+     */
+    @DeleteMapping("/local")
+    public ResponseEntity<Object> clearLocal() {
+        nearCacheDataService.clearLocal();
+        return new ResponseEntity<>(1, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wherehouse.redis.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import com.wherehouse.redis.service.SingleFlightService;
+
+import java.util.Map;
+
+/**
+ * 캐시 미스 동시 요청 병합(Single-Flight) 통계를 조회합니다.
+ *
+ * @fileName : SingleFlightController
+ */
+@RestController
+@RequestMapping("/api/v1/redis/singleFlight")
+public class SingleFlightController {
+
+    private final SingleFlightService singleFlightService;
+
+    public SingleFlightController(SingleFlightService singleFlightService) {
+
+        this.singleFlightService = singleFlightService;
+    }
+
+    /**
+     * leader 계산 / 병합(coalesced) / 재조회 히트 / 대기 초과 등 통계를 조회합니다.
+     *
+     * @return
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return new ResponseEntity<>(singleFlightService.getStats(), HttpStatus.OK);
+    }
+}
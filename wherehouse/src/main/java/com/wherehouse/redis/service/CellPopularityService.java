@@ -0,0 +1,180 @@
+package com.wherehouse.redis.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 중심 격자(7자리 Geohash) 인기도 집계
+ *
+ * 목적:
+ * - 새벽 ETL 이후 캐시 예열(Level1CacheWarmupProcessor) 대상을 "최근 많이 조회된 격자" 순으로 고르기 위한 조회 수 집계
+ *
+ * 저장 구조:
+ * - Redis Sorted Set "cell-popularity" (member: 중심 geohash, score: 감쇠 조회 수)
+ * - 요청마다 Redis 를 호출하지 않도록 노드 로컬에서 격자별 조회 수를 모은 뒤 flush-interval 마다 ZINCRBY 파이프라인 1회로 반영
+ *
+ * 감쇠:
+ * - decay() 호출 시 ZUNIONSTORE(WEIGHTS decay-factor) 로 전체 점수를 한 번에 곱하고, min-score 미만 격자는 제거
+ * - 하루 1회(예열 직후) 호출하면 점수는 "일 단위 지수 감쇠 조회 수" 가 되어 최근 조회가 오래된 조회보다 크게 반영된다.
+ * - 여러 노드가 같은 날 중복 감쇠하지 않도록 호출 측에서 tryAcquireDailyLock 으로 1개 노드만 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CellPopularityService {
+
+    private static final String POPULARITY_KEY = "cell-popularity";
+    private static final byte[] POPULARITY_KEY_BYTES = POPULARITY_KEY.getBytes(StandardCharsets.UTF_8);
+    private static final String DAILY_LOCK_KEY_PREFIX = "cell-popularity:lock:";
+
+    private final RedisHandler redisHandler;
+
+    @Value("${cell-popularity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cell-popularity.decay-factor:0.5}")
+    private double decayFactor;
+
+    @Value("${cell-popularity.min-score:0.05}")
+    private double minScore;
+
+    // 노드 로컬 미반영 조회 수 (flush 시 교체)
+    private volatile Map<String, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    private final AtomicLong recordedHitCount = new AtomicLong();
+    private final AtomicLong flushedCellCount = new AtomicLong();
+    private final AtomicLong flushFailedCount = new AtomicLong();
+
+    /**
+     * 중심 격자 조회 1건을 기록한다. (Redis 호출 없음, 다음 flush 때 반영)
+     */
+    public void recordHit(String centerGeohashId) {
+        if (!enabled) {
+            return;
+        }
+        pendingHits.computeIfAbsent(centerGeohashId, k -> new LongAdder()).increment();
+        recordedHitCount.incrementAndGet();
+    }
+
+    /**
+     * 노드 로컬 조회 수를 ZINCRBY 파이프라인 1회로 반영한다.
+     * 실패 시 해당 구간의 조회 수는 버린다. (인기도는 근사값이면 충분)
+     */
+    @Scheduled(fixedDelayString = "${cell-popularity.flush-interval:10s}")
+    public void flush() {
+        if (!enabled || pendingHits.isEmpty()) {
+            return;
+        }
+
+        Map<String, LongAdder> drained = pendingHits;
+        pendingHits = new ConcurrentHashMap<>();
+
+        Map<String, Long> counts = new HashMap<>(drained.size() * 2);
+        drained.forEach((cell, adder) -> counts.put(cell, adder.sum()));
+
+        int result = redisHandler.executeOperation(() ->
+                redisHandler.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Map.Entry<String, Long> entry : counts.entrySet()) {
+                        connection.zSetCommands().zIncrBy(POPULARITY_KEY_BYTES, entry.getValue(),
+                                entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                }));
+
+        if (result == 1) {
+            flushedCellCount.addAndGet(counts.size());
+        } else {
+            flushFailedCount.incrementAndGet();
+            log.warn("[CellPopularity] 조회 수 반영 실패 - 격자 {}개 분량 폐기", counts.size());
+        }
+    }
+
+    /**
+     * 감쇠 조회 수 상위 limit 개 중심 격자 (점수 내림차순)
+     *
+     * @return 중심 geohash 목록 (Redis 오류 시 빈 목록)
+     */
+    public List<String> topCells(int limit) {
+        List<String> cells = new ArrayList<>();
+        if (limit <= 0) {
+            return cells;
+        }
+
+        try {
+            Set<byte[]> members = redisHandler.redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+                    connection.zSetCommands().zRevRange(POPULARITY_KEY_BYTES, 0, limit - 1));
+
+            if (members != null) {
+                for (byte[] member : members) {
+                    cells.add(new String(member, StandardCharsets.UTF_8));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[CellPopularity] 상위 격자 조회 실패: {}", e.getMessage());
+        }
+        return cells;
+    }
+
+    /**
+     * 전체 점수에 decay-factor 를 곱하고 min-score 미만 격자를 제거한다.
+     */
+    public void decay() {
+        int result = redisHandler.executeOperation(() ->
+                redisHandler.redisTemplate.execute((RedisCallback<Object>) connection -> {
+                    connection.zSetCommands().zUnionStore(POPULARITY_KEY_BYTES, RedisZSetCommands.Aggregate.SUM,
+                            RedisZSetCommands.Weights.of(decayFactor), POPULARITY_KEY_BYTES);
+                    connection.zSetCommands().zRemRangeByScore(POPULARITY_KEY_BYTES, Double.NEGATIVE_INFINITY, minScore);
+                    return null;
+                }));
+
+        log.info("[CellPopularity] 인기도 감쇠 {} - 계수: {}, 제거 기준: {} 미만",
+                result == 1 ? "완료" : "실패", decayFactor, minScore);
+    }
+
+    /**
+     * 하루 1회 작업(예열 / 감쇠)을 수행할 노드 1개를 정한다. (SET NX, TTL 동안 같은 name 재획득 불가)
+     *
+     * @param name 작업 구분 이름 (예: 날짜)
+     * @return 이 노드가 획득했으면 true (Redis 오류 시에도 true, 단일 노드 환경의 가용성 우선)
+     */
+    public boolean tryAcquireDailyLock(String name, Duration ttl) {
+        try {
+            Boolean acquired = redisHandler.getValueOperations().setIfAbsent(DAILY_LOCK_KEY_PREFIX + name, "1", ttl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("[CellPopularity] 일일 작업 잠금 획득 실패 - 잠금 없이 진행: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 인기도 집계 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("recordedHits", recordedHitCount.get());
+        stats.put("pendingCells", pendingHits.size());
+        stats.put("flushedCells", flushedCellCount.get());
+        stats.put("flushFailures", flushFailedCount.get());
+        return stats;
+    }
+}
@@ -1,6 +1,8 @@
 package com.wherehouse.redis.service;
 
-import java.time.Duration;;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 public interface IRedisSingleDataService {
 	
@@ -8,4 +10,6 @@ public interface IRedisSingleDataService {
     int setSingleData(String key, Object value, Duration duration);     // Redis 단일 데이터 값을 등록/수정합니다.(duration 값이 존재하면 메모리 상 유효시간을 지정합니다.)
     String getSingleData(String key);                                   // Redis 키를 기반으로 단일 데이터의 값을 조회합니다.
     int deleteSingleData(String key);                                   // Redis 키를 기반으로 단일 데이터의 값을 삭제합니다.
+    List<String> getMultiData(List<String> keys);                       // Redis 다중 키 값을 MGET 1회로 조회합니다.(키 순서 유지, 미 존재시 빈 문자열)
+    int setMultiData(Map<String, Object> keyValues, Duration duration); // Redis 다중 데이터 값을 파이프라인 1회로 등록/수정합니다.(모든 키에 동일 유효시간 지정)
 }
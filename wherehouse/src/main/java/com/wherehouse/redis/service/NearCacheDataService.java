@@ -0,0 +1,530 @@
+package com.wherehouse.redis.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 앞단 JVM 로컬 Near Cache
+ *
+ * 역할:
+ * - 위치 분석 서비스(LocationAnalysisServiceImpl)가 반복 조회하는 dto:, data:{geohash}:cctv,
+ *   address:, amenity:, arrest_rate: 키를 힙 메모리에 보관하여 Redis 네트워크 왕복을 제거한다.
+ * - 조회 순서: 로컬 캐시 → (미스) Redis → 로컬 캐시 적재
+ * - 저장/삭제는 Redis 에 먼저 반영(write-through)한 뒤 로컬 캐시를 갱신한다.
+ *
+ * 용량/유효시간 제한:
+ * - 최대 엔트리 수(near-cache.max-entries) 또는 최대 바이트(near-cache.max-bytes) 초과 시
+ *   가장 오래 사용되지 않은 엔트리부터 제거(LRU). 1단계 상위집합처럼 값 크기 편차가 크므로 개수만으로는 힙 사용량을 묶을 수 없다.
+ * - 엔트리 무게: 값 바이트 수(byte[] 는 길이, String 은 문자 수 × 2) + 키 문자 수 × 2. 단독으로 max-bytes 를 넘는 값은 로컬에 보관하지 않는다.
+ * - 엔트리별 만료 시각 보관. 저장 시에는 호출 측이 넘긴 TTL(LEVEL1_CACHE_TTL / LEVEL2_CACHE_TTL)을 따르고,
+ *   Redis 에서 읽어 적재할 때는 GET 과 함께 조회한 PTTL(남은 유효시간)을 넘지 않게 줄인다.
+ *   (Redis 에서 곧 만료될 값을 로컬에서 호출 측 TTL 만큼 더 돌려주지 않도록)
+ *
+ * 노드 간 일관성:
+ * - 저장/삭제 시 Redis Pub/Sub 채널(nearcache:invalidate)로 "{노드ID}|{키}" 메시지를 발행한다.
+ *   (다중 저장 시에는 키를 줄바꿈으로 이어 붙여 메시지 1건으로 발행)
+ * - 다른 노드는 메시지를 수신하면 해당 키를 로컬 캐시에서 제거하고, 다음 조회 시 Redis 에서 최신값을 다시 적재한다.
+ * - 자기 자신이 발행한 메시지는 노드 ID 비교로 무시한다.
+ *
+ * 바이너리 값:
+ * - getBinaryData / setBinaryData 계열은 VersionedCacheCodec 으로 인코딩된 byte[] 를 같은 LRU/TTL/무효화 규칙으로 보관한다.
+ * - 로컬에 보관한 byte[] 는 호출 측과 공유되므로 호출 측은 읽기 전용으로만 사용해야 한다. (디코딩 입력으로만 사용)
+ *
+ * 통계:
+ * - hit / miss / eviction(용량 초과 제거) / expiration(TTL 만료) / invalidation(원격 무효화) 카운터 제공
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NearCacheDataService implements IRedisSingleDataService {
+
+    public static final String INVALIDATION_CHANNEL = "nearcache:invalidate";
+
+    private final RedisSingleDataService redisSingleDataService;
+    private final RedisBinaryDataService redisBinaryDataService;
+    private final RedisHandler redisHandler;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${near-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${near-cache.max-bytes:64MB}")
+    private DataSize maxBytes;
+
+    @Value("${near-cache.default-ttl:5m}")
+    private Duration defaultTtl;
+
+    /* 발행 메시지의 출처 식별용 (자기 자신이 발행한 무효화 메시지 무시) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong oversizedCount = new AtomicLong();
+
+    /* access-order LinkedHashMap 기반 LRU. 모든 접근은 this 모니터로 동기화한다. */
+    private Map<String, CacheEntry> entries;
+    private long currentBytes;   // 보관 중인 엔트리 무게 합 (this 모니터로 보호)
+
+    @PostConstruct
+    public void init() {
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true);
+
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidationMessage(message),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+
+        log.info("[NearCache] 초기화 완료 - enabled: {}, maxEntries: {}, maxBytes: {}, nodeId: {}",
+                enabled, maxEntries, maxBytes, nodeId);
+    }
+
+    /**
+     * 로컬 캐시 우선 조회 (미스 시 Redis 조회 후 기본 TTL로 로컬 적재)
+     *
+     * @param key : redis key
+     * @return {String} 캐시 값 or 미 존재시 빈 문자열 (RedisSingleDataService 와 동일 규약)
+     */
+    @Override
+    public String getSingleData(String key) {
+        return getSingleData(key, defaultTtl);
+    }
+
+    /**
+     * 로컬 캐시 우선 조회 (미스 시 Redis 조회 후 지정 TTL로 로컬 적재)
+     *
+     * @param key      : redis key
+     * @param localTtl : Redis 에서 가져온 값을 로컬에 보관할 유효시간
+     * @return {String} 캐시 값 or 미 존재시 빈 문자열
+     */
+    public String getSingleData(String key, Duration localTtl) {
+        if (!enabled) {
+            return redisSingleDataService.getSingleData(key);
+        }
+
+        String localValue = getLocal(key, String.class);
+        if (localValue != null) {
+            hitCount.incrementAndGet();
+            return localValue;
+        }
+
+        missCount.incrementAndGet();
+        long[] pttlMillis = new long[1];
+        String remoteValue = redisSingleDataService.getMultiData(List.of(key), pttlMillis).get(0);
+
+        /* 빈 값(Redis 미존재)은 로컬에 적재하지 않는다 → 다른 노드가 채운 값을 다음 조회에서 바로 읽을 수 있도록 */
+        if (remoteValue != null && !remoteValue.isEmpty()) {
+            putLoaded(key, remoteValue, localTtl, pttlMillis[0]);
+        }
+        return remoteValue;
+    }
+
+    @Override
+    public int setSingleData(String key, Object value) {
+        return setSingleData(key, value, defaultTtl);
+    }
+
+    /**
+     * Redis 저장 후 로컬 캐시 갱신 및 다른 노드에 무효화 메시지 발행
+     *
+     * @param key      : redis key
+     * @param value    : redis value
+     * @param duration : Redis 및 로컬 캐시 유효시간
+     * @return {int} 성공(1), 실패(0)
+     */
+    @Override
+    public int setSingleData(String key, Object value, Duration duration) {
+        int result = redisSingleDataService.setSingleData(key, value, duration);
+
+        if (enabled && result == 1 && value != null) {
+            putLocal(key, String.valueOf(value), duration);
+            publishInvalidation(key);
+        }
+        return result;
+    }
+
+    @Override
+    public int deleteSingleData(String key) {
+        int result = redisSingleDataService.deleteSingleData(key);
+
+        if (enabled) {
+            removeLocal(key);
+            publishInvalidation(key);
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> getMultiData(List<String> keys) {
+        return getMultiData(keys, defaultTtl);
+    }
+
+    /**
+     * 로컬 캐시 우선 다중 조회 (로컬 미스 키만 모아 Redis GET + PTTL 파이프라인 1회로 조회 후 지정 TTL로 로컬 적재)
+     *
+     * @param keys     : redis key 목록
+     * @param localTtl : Redis 에서 가져온 값을 로컬에 보관할 유효시간
+     * @return {List<String>} 입력 키 순서와 동일한 값 목록 (미 존재 키는 빈 문자열)
+     */
+    public List<String> getMultiData(List<String> keys, Duration localTtl) {
+        if (!enabled) {
+            return redisSingleDataService.getMultiData(keys);
+        }
+
+        List<String> result = new ArrayList<>(Collections.nCopies(keys.size(), ""));
+        List<Integer> missIndexes = new ArrayList<>();
+        List<String> missKeys = new ArrayList<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            String localValue = getLocal(keys.get(i), String.class);
+            if (localValue != null) {
+                hitCount.incrementAndGet();
+                result.set(i, localValue);
+            } else {
+                missCount.incrementAndGet();
+                missIndexes.add(i);
+                missKeys.add(keys.get(i));
+            }
+        }
+
+        if (missKeys.isEmpty()) {
+            return result;
+        }
+
+        long[] pttlMillis = new long[missKeys.size()];
+        List<String> remoteValues = redisSingleDataService.getMultiData(missKeys, pttlMillis);
+        for (int i = 0; i < missKeys.size(); i++) {
+            String remoteValue = remoteValues.get(i);
+            result.set(missIndexes.get(i), remoteValue);
+
+            if (remoteValue != null && !remoteValue.isEmpty()) {
+                putLoaded(missKeys.get(i), remoteValue, localTtl, pttlMillis[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Redis 다중 저장(파이프라인 1회) 후 로컬 캐시 갱신 및 무효화 메시지 1건 발행
+     *
+     * @param keyValues : redis key - value 목록
+     * @param duration  : Redis 및 로컬 캐시 유효시간
+     * @return {int} 성공(1), 실패(0)
+     */
+    @Override
+    public int setMultiData(Map<String, Object> keyValues, Duration duration) {
+        int result = redisSingleDataService.setMultiData(keyValues, duration);
+
+        if (enabled && result == 1 && !keyValues.isEmpty()) {
+            for (Map.Entry<String, Object> entry : keyValues.entrySet()) {
+                if (entry.getValue() != null) {
+                    putLocal(entry.getKey(), String.valueOf(entry.getValue()), duration);
+                }
+            }
+            publishInvalidation(keyValues.keySet());
+        }
+        return result;
+    }
+
+    /**
+     * 바이너리 값 로컬 캐시 우선 조회 (미스 시 Redis 조회 후 지정 TTL로 로컬 적재)
+     *
+     * @param key      : redis key
+     * @param localTtl : Redis 에서 가져온 값을 로컬에 보관할 유효시간
+     * @return {byte[]} 캐시 값 or 미 존재시 null
+     */
+    public byte[] getBinaryData(String key, Duration localTtl) {
+        if (!enabled) {
+            return redisBinaryDataService.getBinaryData(key);
+        }
+
+        byte[] localValue = getLocal(key, byte[].class);
+        if (localValue != null) {
+            hitCount.incrementAndGet();
+            return localValue;
+        }
+
+        missCount.incrementAndGet();
+        long[] pttlMillis = new long[1];
+        byte[] remoteValue = redisBinaryDataService.getMultiBinaryData(List.of(key), pttlMillis).get(0);
+
+        if (remoteValue != null && remoteValue.length > 0) {
+            putLoaded(key, remoteValue, localTtl, pttlMillis[0]);
+        }
+        return remoteValue;
+    }
+
+    /**
+     * 바이너리 값 로컬 캐시 우선 다중 조회 (로컬 미스 키만 모아 Redis GET + PTTL 파이프라인 1회)
+     *
+     * @return {List<byte[]>} 입력 키 순서와 동일한 값 목록 (미 존재 키는 null)
+     */
+    public List<byte[]> getMultiBinaryData(List<String> keys, Duration localTtl) {
+        if (!enabled) {
+            return redisBinaryDataService.getMultiBinaryData(keys);
+        }
+
+        List<byte[]> result = new ArrayList<>(Collections.nCopies(keys.size(), (byte[]) null));
+        List<Integer> missIndexes = new ArrayList<>();
+        List<String> missKeys = new ArrayList<>();
+
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] localValue = getLocal(keys.get(i), byte[].class);
+            if (localValue != null) {
+                hitCount.incrementAndGet();
+                result.set(i, localValue);
+            } else {
+                missCount.incrementAndGet();
+                missIndexes.add(i);
+                missKeys.add(keys.get(i));
+            }
+        }
+
+        if (missKeys.isEmpty()) {
+            return result;
+        }
+
+        long[] pttlMillis = new long[missKeys.size()];
+        List<byte[]> remoteValues = redisBinaryDataService.getMultiBinaryData(missKeys, pttlMillis);
+        for (int i = 0; i < missKeys.size(); i++) {
+            byte[] remoteValue = remoteValues.get(i);
+            result.set(missIndexes.get(i), remoteValue);
+
+            if (remoteValue != null && remoteValue.length > 0) {
+                putLoaded(missKeys.get(i), remoteValue, localTtl, pttlMillis[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 바이너리 값 Redis 저장 후 로컬 캐시 갱신 및 무효화 메시지 발행
+     *
+     * @return {int} 성공(1), 실패(0)
+     */
+    public int setBinaryData(String key, byte[] value, Duration duration) {
+        int result = redisBinaryDataService.setBinaryData(key, value, duration);
+
+        if (enabled && result == 1 && value != null) {
+            putLocal(key, value, duration);
+            publishInvalidation(key);
+        }
+        return result;
+    }
+
+    /**
+     * 바이너리 값 Redis 다중 저장(파이프라인 1회) 후 로컬 캐시 갱신 및 무효화 메시지 1건 발행
+     *
+     * @return {int} 성공(1), 실패(0)
+     */
+    public int setMultiBinaryData(Map<String, byte[]> keyValues, Duration duration) {
+        int result = redisBinaryDataService.setMultiBinaryData(keyValues, duration);
+
+        if (enabled && result == 1 && !keyValues.isEmpty()) {
+            for (Map.Entry<String, byte[]> entry : keyValues.entrySet()) {
+                if (entry.getValue() != null) {
+                    putLocal(entry.getKey(), entry.getValue(), duration);
+                }
+            }
+            publishInvalidation(keyValues.keySet());
+        }
+        return result;
+    }
+
+    /**
+     * 로컬 캐시 전체 비우기 (ETL 완료 등 대량 변경 시점에 사용)
+     */
+    public synchronized void clearLocal() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Near Cache 통계 조회
+     *
+     * @return hit, miss, eviction, expiration, invalidation, oversized 카운터와 현재 엔트리 수 / 바이트
+     */
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        long total = hits + misses;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        synchronized (this) {
+            stats.put("size", entries.size());
+            stats.put("bytes", currentBytes);
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("maxBytes", maxBytes.toBytes());
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("evictions", evictionCount.get());
+        stats.put("expirations", expirationCount.get());
+        stats.put("invalidations", invalidationCount.get());
+        stats.put("oversized", oversizedCount.get());
+        return stats;
+    }
+
+    // ========================================
+    // 로컬 캐시 내부 연산
+    // ========================================
+
+    /* 저장된 값의 타입이 요청 타입과 다르면(문자열/바이너리 API 혼용) 미스로 취급 */
+    private synchronized <T> T getLocal(String key, Class<T> type) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            currentBytes -= entry.weight;
+            expirationCount.incrementAndGet();
+            return null;
+        }
+        return type.isInstance(entry.value) ? type.cast(entry.value) : null;
+    }
+
+    /*
+     * Redis 에서 읽은 값 적재. 로컬 유효시간은 Redis 남은 유효시간(PTTL)을 넘지 않는다.
+     * (PTTL -1: 만료 없음 → 호출 측 TTL, -2 또는 0: 조회 직후 만료 / 삭제 → 적재하지 않음)
+     */
+    private void putLoaded(String key, Object value, Duration localTtl, long pttlMillis) {
+        if (pttlMillis == -1) {
+            putLocal(key, value, localTtl);
+            return;
+        }
+        if (pttlMillis <= 0) {
+            return;
+        }
+        Duration remaining = Duration.ofMillis(pttlMillis);
+        Duration effectiveTtl = (localTtl == null || localTtl.isZero() || localTtl.isNegative()) ? defaultTtl : localTtl;
+        putLocal(key, value, remaining.compareTo(effectiveTtl) < 0 ? remaining : effectiveTtl);
+    }
+
+    private synchronized void putLocal(String key, Object value, Duration ttl) {
+        Duration effectiveTtl = (ttl == null || ttl.isZero() || ttl.isNegative()) ? defaultTtl : ttl;
+        long weight = weightOf(key, value);
+
+        if (weight > maxBytes.toBytes()) {
+            // 단독으로 용량을 넘는 값은 보관하지 않는다 (이전 값이 있으면 함께 제거하여 오래된 값이 남지 않게 함)
+            removeLocal(key);
+            oversizedCount.incrementAndGet();
+            return;
+        }
+
+        CacheEntry previous = entries.put(key, new CacheEntry(value, System.nanoTime() + effectiveTtl.toNanos(), weight));
+        if (previous != null) {
+            currentBytes -= previous.weight;
+        }
+        currentBytes += weight;
+
+        // 접근 순서 기준 가장 오래된 엔트리부터 제거 (방금 넣은 엔트리는 맨 뒤이며 단독으로는 한도 안)
+        Iterator<CacheEntry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || currentBytes > maxBytes.toBytes()) && eldest.hasNext()) {
+            currentBytes -= eldest.next().weight;
+            eldest.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private synchronized void removeLocal(String key) {
+        CacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            currentBytes -= removed.weight;
+        }
+    }
+
+    /* 값 바이트 수(byte[] 길이, String 은 UTF-16 문자 수 × 2) + 키 문자 수 × 2 */
+    private static long weightOf(String key, Object value) {
+        long valueBytes = value instanceof byte[] bytes ? bytes.length : 2L * String.valueOf(value).length();
+        return valueBytes + 2L * key.length();
+    }
+
+    // ========================================
+    // Pub/Sub 무효화
+    // ========================================
+
+    private void publishInvalidation(String key) {
+        publishInvalidation(Collections.singletonList(key));
+    }
+
+    private void publishInvalidation(Collection<String> keys) {
+        try {
+            redisHandler.redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + String.join("\n", keys));
+        } catch (Exception e) {
+            log.warn("[NearCache] 무효화 메시지 발행 실패 - Keys: {}, 오류: {}", keys, e.getMessage());
+        }
+    }
+
+    private void onInvalidationMessage(Message message) {
+        try {
+            Object body = redisHandler.redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body == null) {
+                return;
+            }
+
+            String payload = body.toString();
+            int separator = payload.indexOf('|');
+            if (separator < 0) {
+                return;
+            }
+
+            /* 자기 자신이 발행한 메시지는 이미 로컬에 최신값이 반영되어 있으므로 무시 */
+            if (payload.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+
+            for (String key : payload.substring(separator + 1).split("\n")) {
+                removeLocal(key);
+                invalidationCount.incrementAndGet();
+            }
+
+        } catch (Exception e) {
+            log.warn("[NearCache] 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시 엔트리 (값(String 또는 byte[]) + 만료 시각 + 무게)
+     */
+    private static final class CacheEntry {
+        private final Object value;
+        private final long expiresAtNanos;
+        private final long weight;
+
+        private CacheEntry(Object value, long expiresAtNanos, long weight) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+            this.weight = weight;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.wherehouse.redis.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 바이너리 값(byte[]) 조회/저장
+ *
+ * binaryRedisTemplate(RedisSerializer.byteArray())를 사용하여 VersionedCacheCodec 이 만든 바이트를 변환 없이 저장한다.
+ * 조회/다중 조회/파이프라인 다중 저장 규약은 RedisSingleDataService 와 동일하며, 미 존재 키는 null 로 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisBinaryDataService {
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisHandler redisHandler;
+
+    /**
+     * @param key : redis key
+     * @return {byte[]} redis value or 미 존재시 null
+     */
+    public byte[] getBinaryData(String key) {
+        return binaryRedisTemplate.opsForValue().get(key);
+    }
+
+    /**
+     * Redis 다중 키를 MGET 1회(1 RTT)로 조회.
+     *
+     * @param keys : redis key 목록
+     * @return {List<byte[]>} 입력 키 순서와 동일한 값 목록 (미 존재 키는 null)
+     */
+    public List<byte[]> getMultiBinaryData(List<String> keys) {
+        List<byte[]> result = new ArrayList<>(keys.size());
+        if (keys.isEmpty()) return result;
+
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+
+        for (int i = 0; i < keys.size(); i++) {
+            result.add(values == null ? null : values.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 키마다 GET + PTTL 을 파이프라인에 적재하여 1 RTT 로 조회. (Near Cache 가 로컬 유효시간을 Redis 남은 유효시간으로 제한할 때 사용)
+     *
+     * @param keys       : redis key 목록
+     * @param pttlMillis : 키별 남은 유효시간(ms)을 기록할 배열 (keys 와 같은 순서, 만료 없음 -1, 미 존재 -2)
+     * @return {List<byte[]>} 입력 키 순서와 동일한 값 목록 (미 존재 키는 null)
+     */
+    public List<byte[]> getMultiBinaryData(List<String> keys, long[] pttlMillis) {
+        List<byte[]> result = new ArrayList<>(keys.size());
+        if (keys.isEmpty()) return result;
+
+        List<Object> replies = binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+            }
+            return null;
+        });
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = replies.get(2 * i);
+            Object pttl = replies.get(2 * i + 1);
+            result.add(value instanceof byte[] bytes ? bytes : null);
+            pttlMillis[i] = pttl instanceof Long millis ? millis : -2L;
+        }
+        return result;
+    }
+
+    /**
+     * @return {int} 성공(1), 실패(0)
+     */
+    public int setBinaryData(String key, byte[] value, Duration duration) {
+        return redisHandler.executeOperation(() -> binaryRedisTemplate.opsForValue().set(key, value, duration));
+    }
+
+    /**
+     * 키마다 PSETEX 를 파이프라인에 적재하여 1 RTT 로 저장. (RedisSingleDataService.setMultiData 와 동일 방식)
+     *
+     * @return {int} 성공(1), 실패(0)
+     */
+    public int setMultiBinaryData(Map<String, byte[]> keyValues, Duration duration) {
+        if (keyValues.isEmpty()) return 1;
+
+        long ttlMillis = duration.toMillis();
+
+        return redisHandler.executeOperation(() ->
+                binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Map.Entry<String, byte[]> entry : keyValues.entrySet()) {
+                        connection.stringCommands().pSetEx(
+                                entry.getKey().getBytes(StandardCharsets.UTF_8),
+                                ttlMillis,
+                                entry.getValue());
+                    }
+                    return null;
+                }));
+    }
+}
@@ -5,7 +5,13 @@ import org.springframework.stereotype.Service;
 import com.wherehouse.redis.config.RedisConfig;
 import com.wherehouse.redis.handler.RedisHandler;
 
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -48,8 +54,9 @@ public class RedisSingleDataService implements IRedisSingleDataService{
      */
     @Override
     public String getSingleData(String key) {
-        if (redisHandler.getValueOperations().get(key) == null) return "";
-        return String.valueOf(redisHandler.getValueOperations().get(key));
+        Object value = redisHandler.getValueOperations().get(key);    // GET 1회로 존재 여부 확인과 값 조회를 함께 처리
+        if (value == null) return "";
+        return String.valueOf(value);
     }
 
     /**
@@ -62,5 +69,88 @@ public class RedisSingleDataService implements IRedisSingleDataService{
     public int deleteSingleData(String key) {
         return redisHandler.executeOperation(() -> redisConfig.redisTemplate().delete(key));
     }
-}
 
+    /**
+     * Redis 다중 키를 기반으로 데이터 값을 MGET 1회(1 RTT)로 조회.
+     *
+     * @param keys : redis key 목록
+     * @return {List<String>} 입력 키 순서와 동일한 값 목록 (미 존재 키는 빈 문자열)
+     */
+    @Override
+    public List<String> getMultiData(List<String> keys) {
+        List<String> result = new ArrayList<>(keys.size());
+        if (keys.isEmpty()) return result;
+
+        List<Object> values = redisHandler.getValueOperations().multiGet(keys);
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = (values == null) ? null : values.get(i);
+            result.add(value == null ? "" : String.valueOf(value));
+        }
+        return result;
+    }
+
+    /**
+     * 키마다 GET + PTTL 을 파이프라인에 적재하여 1 RTT 로 조회. (Near Cache 가 로컬 유효시간을 Redis 남은 유효시간으로 제한할 때 사용)
+     *
+     * GET 응답은 redisTemplate 의 값 직렬화기로 역직렬화되므로 getMultiData 와 같은 값을 돌려준다.
+     *
+     * @param keys       : redis key 목록
+     * @param pttlMillis : 키별 남은 유효시간(ms)을 기록할 배열 (keys 와 같은 순서, 만료 없음 -1, 미 존재 -2)
+     * @return {List<String>} 입력 키 순서와 동일한 값 목록 (미 존재 키는 빈 문자열)
+     */
+    public List<String> getMultiData(List<String> keys, long[] pttlMillis) {
+        List<String> result = new ArrayList<>(keys.size());
+        if (keys.isEmpty()) return result;
+
+        RedisSerializer<String> keySerializer = redisHandler.redisTemplate.getStringSerializer();
+
+        List<Object> replies = redisHandler.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] rawKey = keySerializer.serialize(key);
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+            }
+            return null;
+        });
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = replies.get(2 * i);
+            Object pttl = replies.get(2 * i + 1);
+            result.add(value == null ? "" : String.valueOf(value));
+            pttlMillis[i] = pttl instanceof Long millis ? millis : -2L;
+        }
+        return result;
+    }
+
+    /**
+     * Redis 다중 데이터 값을 executePipelined(RedisCallback) 1회(1 RTT)로 등록/수정.
+     *
+     * Redis 에는 TTL 을 지정하는 다중 SET 명령이 없으므로(MSET 은 TTL 미지원)
+     * 키마다 PSETEX 를 파이프라인에 적재하고 closePipeline 시점에 한 번에 전송한다. (flushOnClose 정책, RedisConfig 참고)
+     *
+     * @param keyValues : redis key - value 목록
+     * @param duration  : 모든 키에 적용할 메모리 상의 유효시간
+     * @return {int} 성공(1), 실패(0)
+     */
+    @Override
+    public int setMultiData(Map<String, Object> keyValues, Duration duration) {
+        if (keyValues.isEmpty()) return 1;
+
+        RedisSerializer<String> keySerializer = redisHandler.redisTemplate.getStringSerializer();
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisHandler.redisTemplate.getValueSerializer();
+        long ttlMillis = duration.toMillis();
+
+        return redisHandler.executeOperation(() ->
+                redisHandler.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Map.Entry<String, Object> entry : keyValues.entrySet()) {
+                        connection.stringCommands().pSetEx(
+                                keySerializer.serialize(entry.getKey()),
+                                ttlMillis,
+                                valueSerializer.serialize(entry.getValue()));
+                    }
+                    return null;
+                }));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.wherehouse.redis.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 동시 요청 병합(Single-Flight)
+ *
+ * 목적:
+ * - 인기 격자의 캐시 엔트리가 만료되는 순간 같은 키로 들어온 동시 요청이 모두 미스를 겪고
+ *   각자 DB 조회 / 외부 API 호출을 수행한 뒤 같은 값을 다시 저장하는 현상(cache stampede)을 막는다.
+ *
+ * 동작 (노드 내부):
+ * - 키별로 진행 중인 계산(CompletableFuture)을 하나만 등록한다.
+ * - 먼저 등록한 요청(leader)만 계산하고, 이후 요청(follower)은 같은 Future 의 결과를 기다린다.
+ * - leader 는 계산 직전 캐시를 한 번 더 조회하여, 직전 leader 가 방금 저장한 값이 있으면 그대로 사용한다.
+ * - follower 대기 시간이 초과되거나 leader 계산이 실패하면 follower 는 직접 계산한다. (가용성 우선)
+ *
+ * 동작 (노드 간, single-flight.distributed-lock.enabled=true):
+ * - leader 는 Redis 에 "singleflight:lock:{키}" 를 SET NX PX 로 짧게 선점한 노드만 계산한다.
+ * - 선점에 실패한 노드의 leader 는 캐시 조회를 주기적으로 반복하며 다른 노드의 저장 결과를 기다리고,
+ *   대기 시간 내 값이 나타나지 않으면 직접 계산한다.
+ * - 잠금 해제는 자기 노드가 설정한 값일 때만 삭제하는 Lua 스크립트로 수행한다.
+ *
+ * 통계:
+ * - leader 계산 / 노드 내 병합 / 노드 간 병합 / 재조회 히트 / 대기 초과 / 잠금 우회 카운터 제공
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SingleFlightService {
+
+    private static final String LOCK_KEY_PREFIX = "singleflight:lock:";
+
+    /* 자기 노드가 설정한 잠금일 때만 삭제 (다른 노드가 TTL 만료 후 재선점한 잠금 보호) */
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisHandler redisHandler;
+
+    @Value("${single-flight.enabled:true}")
+    private boolean enabled;
+
+    @Value("${single-flight.wait-timeout:10s}")
+    private Duration waitTimeout;
+
+    @Value("${single-flight.distributed-lock.enabled:false}")
+    private boolean distributedLockEnabled;
+
+    @Value("${single-flight.distributed-lock.ttl:10s}")
+    private Duration lockTtl;
+
+    @Value("${single-flight.distributed-lock.poll-interval:50ms}")
+    private Duration pollInterval;
+
+    /* 잠금 소유자 식별용 */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong leaderCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong remoteCoalescedCount = new AtomicLong();
+    private final AtomicLong recheckHitCount = new AtomicLong();
+    private final AtomicLong waitTimeoutCount = new AtomicLong();
+    private final AtomicLong lockBypassCount = new AtomicLong();
+
+    /**
+     * 같은 키의 동시 계산을 하나로 병합하여 실행한다.
+     *
+     * @param key 병합 기준 키 (예: dto:{중심 geohash})
+     * @param cacheLookup 캐시 재조회 (값이 없으면 null 반환)
+     * @param loader 실제 계산 (계산 결과의 캐시 저장까지 수행해야 함)
+     * @return 계산 결과 또는 다른 요청이 계산한 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<Object> ownFuture = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, ownFuture);
+
+        // follower: 진행 중인 leader 계산 결과 대기
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            try {
+                T result = (T) existing.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                log.debug("[SingleFlight] 병합 요청 결과 수신 - Key: {}", key);
+                return result;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.get();
+
+            } catch (Exception e) {
+                waitTimeoutCount.incrementAndGet();
+                log.warn("[SingleFlight] leader 결과 대기 실패 - 직접 계산, Key: {}, 원인: {}", key, e.toString());
+                return loader.get();
+            }
+        }
+
+        // leader
+        try {
+            T result = lead(key, cacheLookup, loader);
+            ownFuture.complete(result);
+            return result;
+
+        } catch (RuntimeException e) {
+            ownFuture.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            inFlight.remove(key, ownFuture);
+        }
+    }
+
+    private <T> T lead(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        // 직전 leader 가 방금 저장한 값 재확인
+        T cached = cacheLookup.get();
+        if (cached != null) {
+            recheckHitCount.incrementAndGet();
+            return cached;
+        }
+
+        if (!distributedLockEnabled) {
+            leaderCount.incrementAndGet();
+            return loader.get();
+        }
+
+        String lockKey = LOCK_KEY_PREFIX + key;
+
+        if (tryLock(lockKey)) {
+            try {
+                leaderCount.incrementAndGet();
+                return loader.get();
+            } finally {
+                releaseLock(lockKey);
+            }
+        }
+
+        // 다른 노드가 계산 중: 해당 노드의 캐시 저장을 기다림
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            cached = cacheLookup.get();
+            if (cached != null) {
+                remoteCoalescedCount.incrementAndGet();
+                log.debug("[SingleFlight] 다른 노드 계산 결과 수신 - Key: {}", key);
+                return cached;
+            }
+        }
+
+        lockBypassCount.incrementAndGet();
+        log.warn("[SingleFlight] 다른 노드 계산 대기 초과 - 직접 계산, Key: {}", key);
+        leaderCount.incrementAndGet();
+        return loader.get();
+    }
+
+    private boolean tryLock(String lockKey) {
+        try {
+            Boolean acquired = redisHandler.getValueOperations().setIfAbsent(lockKey, nodeId, lockTtl);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            // Redis 장애 시 잠금 없이 노드 내부 병합만 적용
+            log.warn("[SingleFlight] 분산 잠금 획득 실패 - 잠금 없이 계산, Key: {}, 원인: {}", lockKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock(String lockKey) {
+        redisHandler.executeOperation(() ->
+                redisHandler.redisTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(lockKey), nodeId));
+    }
+
+    /**
+     * 병합 통계를 반환합니다.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("distributedLockEnabled", distributedLockEnabled);
+        stats.put("inFlight", inFlight.size());
+        stats.put("leaders", leaderCount.get());
+        stats.put("coalesced", coalescedCount.get());
+        stats.put("remoteCoalesced", remoteCoalescedCount.get());
+        stats.put("recheckHits", recheckHitCount.get());
+        stats.put("waitTimeouts", waitTimeoutCount.get());
+        stats.put("lockBypasses", lockBypassCount.get());
+        return stats;
+    }
+}
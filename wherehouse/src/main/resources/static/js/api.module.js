@@ -28,5 +28,64 @@ export const LocationAPI = {
             console.error('Location analysis error:', error);
             throw error;
         }
+    },
+
+    /**
+     * 위치 분석 스트리밍 (Server-Sent Events)
+     * 단계가 끝날 때마다 handlers 의 같은 이름 콜백을 호출한다.
+     * (grid, cctv, safety, address, amenity, result, error)
+     *
+     * @returns {Function} 스트림 종료 함수
+     */
+    streamLocationAnalysis(latitude, longitude, radius = 500, handlers = {}) {
+        const params = new URLSearchParams({ latitude, longitude, radius });
+        const source = new EventSource(`/wherehouse/api/location-analysis/stream?${params}`);
+
+        let finished = false;
+        const close = () => {
+            finished = true;
+            source.close();
+        };
+
+        ['grid', 'cctv', 'safety', 'address', 'amenity'].forEach(name => {
+            source.addEventListener(name, event => {
+                if (handlers[name]) {
+                    handlers[name](JSON.parse(event.data));
+                }
+            });
+        });
+
+        source.addEventListener('result', event => {
+            close();
+            const data = JSON.parse(event.data);
+
+            if (data.analysis_status !== 'SUCCESS') {
+                if (handlers.error) {
+                    handlers.error(new Error('Analysis failed'));
+                }
+                return;
+            }
+
+            if (handlers.result) {
+                handlers.result(data);
+            }
+        });
+
+        // 서버가 보낸 error 이벤트(data 포함)와 연결 오류 모두 이 리스너로 전달된다.
+        source.addEventListener('error', event => {
+            if (finished) {
+                return;
+            }
+            close();
+
+            const message = event.data ? JSON.parse(event.data).message : 'Stream connection error';
+            console.error('Location analysis stream error:', message);
+
+            if (handlers.error) {
+                handlers.error(new Error(message));
+            }
+        });
+
+        return close;
     }
 };
\ No newline at end of file
@@ -1,5 +1,8 @@
 import { LocationAPI } from './api.module.js';  // modules 폴더 경로 제거
 
+// 진행 중인 스트리밍 분석 종료 함수 (새 지점 클릭 시 이전 분석 이벤트 무시)
+let closeAnalysisStream = null;
+
 // 지도 클릭 이벤트
 kakao.maps.event.addListener(map, 'click', async function(mouseEvent) {
     var latlng = mouseEvent.latLng;
@@ -26,7 +29,12 @@ kakao.maps.event.addListener(map, 'click', async function(mouseEvent) {
             document.querySelector("#btn").innerText = "◀";
         }
 
-        // API 호출
+        // API 호출 (스트리밍 미지원 브라우저는 단일 응답 API 사용)
+        if (window.EventSource) {
+            streamAnalysis(latlng.getLat(), latlng.getLng(), 500);
+            return;
+        }
+
         const data = await LocationAPI.analyzeLocation(
             latlng.getLat(),
             latlng.getLng(),
@@ -56,20 +64,91 @@ kakao.maps.event.addListener(map, 'zoom_changed', function() {
     }
 });
 
+// 스트리밍 분석: 단계가 끝나는 대로 화면 갱신 (CCTV / 파출소 → 안전성 → 주소 → 편의시설 → 종합)
+function streamAnalysis(latitude, longitude, radius) {
+    if (closeAnalysisStream) {
+        closeAnalysisStream();
+    }
+
+    var received = false;
+    var amenityDetails = [];
+
+    closeAnalysisStream = LocationAPI.streamLocationAnalysis(latitude, longitude, radius, {
+        grid: function(grid) {
+            // 사전 계산 격자 점수(근사)로 안전성 그래프를 먼저 이동, safety 이벤트에서 정확한 점수로 교체
+            if (grid.safety_tile_score !== undefined) {
+                moveGraph(document.querySelector("#safty"), grid.safety_tile_score);
+            }
+        },
+        cctv: function(safetyLayer) {
+            received = true;
+            updateSafetyLayer(safetyLayer);
+        },
+        safety: function(safetyScore) {
+            updateSafetyLayer(safetyScore);
+            moveGraph(document.querySelector("#safty"), safetyScore.total);
+        },
+        address: function(address) {
+            updateAddress(address);
+        },
+        amenity: function(amenityDetail) {
+            amenityDetails.push(amenityDetail);
+            setAmenityData(amenityDetails.slice());
+        },
+        result: function(data) {
+            closeAnalysisStream = null;
+            updateUI(data);
+        },
+        error: async function(error) {
+            closeAnalysisStream = null;
+
+            // 아무 단계도 받지 못한 경우 단일 응답 API 로 재시도
+            if (!received) {
+                try {
+                    updateUI(await LocationAPI.analyzeLocation(latitude, longitude, radius));
+                    return;
+                } catch (fallbackError) {
+                    console.error('Location analysis error:', fallbackError);
+                }
+            }
+            document.querySelector("#addr").textContent = "분석 실패. 다시 시도해주세요.";
+        }
+    });
+}
+
+// 주소 업데이트
+function updateAddress(address) {
+    document.querySelector("#addr").textContent = address.road_address;
+    document.querySelector(".detailAddr").innerHTML =
+        "도로명 : " + address.road_address +
+        "<br>지번 : " + address.jibun_address;
+}
+
+// 안전성 정보 (CCTV / 파출소) 업데이트
+function updateSafetyLayer(safetyScore) {
+    document.querySelector("#cctvPcs").textContent =
+        safetyScore.cctv_count + ' 개';
+    document.querySelector("#distance").textContent =
+        safetyScore.police_distance ?
+            safetyScore.police_distance + ' M' : '- M';
+
+    // 마커 표시
+    if (safetyScore.cctv_list) {
+        displayCCTVMarkers(safetyScore.cctv_list);
+    }
+
+    if (safetyScore.nearest_police_office) {
+        displayPoliceMarker(safetyScore.nearest_police_office);
+    }
+}
+
 // UI 업데이트 함수
 function updateUI(data) {
     // 주소 업데이트
-    document.querySelector("#addr").textContent = data.address.road_address;
-    document.querySelector(".detailAddr").innerHTML =
-        "도로명 : " + data.address.road_address +
-        "<br>지번 : " + data.address.jibun_address;
+    updateAddress(data.address);
 
     // 안전성 정보 업데이트
-    document.querySelector("#cctvPcs").textContent =
-        data.safety_score.cctv_count + ' 개';
-    document.querySelector("#distance").textContent =
-        data.safety_score.police_distance ?
-            data.safety_score.police_distance + ' M' : '- M';
+    updateSafetyLayer(data.safety_score);
 
     // 그래프 업데이트
     var safty = document.querySelector("#safty");
@@ -80,15 +159,6 @@ function updateUI(data) {
     moveGraph(conv, data.convenience_score.total);
     moveGraph(total, data.overall_score);
 
-    // 마커 표시
-    if (data.safety_score.cctv_list) {
-        displayCCTVMarkers(data.safety_score.cctv_list);
-    }
-
-    if (data.safety_score.nearest_police_office) {
-        displayPoliceMarker(data.safety_score.nearest_police_office);
-    }
-
     // 편의시설 데이터 설정
     if (data.convenience_score.amenity_details) {
         setAmenityData(data.convenience_score.amenity_details);
@@ -0,0 +1,358 @@
+package com.wherehouse.information.batch.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wherehouse.information.dao.AmenityStoreRepository;
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.model.AmenityCellPlaces;
+import com.wherehouse.information.util.AmenityCellService;
+import com.wherehouse.information.util.AmenityStoreService;
+import com.wherehouse.information.util.GeohashService;
+import com.wherehouse.information.util.KakaoApiGateway;
+import com.wherehouse.information.util.KakaoApiService;
+import com.wherehouse.redis.codec.VersionedCacheCodec;
+import com.wherehouse.redis.service.CellPopularityService;
+import com.wherehouse.redis.service.NearCacheDataService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LATITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LONGITUDE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AmenityStoreHarvester 수집 검증 (로컬 카카오 카테고리 검색 stub 서버 + 실제 AmenityCellService / KakaoApiService / KakaoApiGateway)
+ *
+ * 저장소(AMENITY_STORE)는 키 → 수집 시각 메모리 표로 대신한다. (save / findFreshCellKeys / findStaleCellKeys 를 표에 연결)
+ * 범위: 시청 격자와 동쪽 인접 격자 (정밀도 6) x 15개 카테고리 = 30건
+ *
+ * - 재개       : 1회차에 수집한 키는 2회차 대상에서 빠지고, 2회차는 남은 키만 수집한다. (같은 키 중복 수집 없음)
+ * - 호출 한도  : 페이지 포함 카카오 호출 수가 call-budget 에 도달하면 새 대상을 시작하지 않는다.
+ *               (parallelism 1 에서는 마지막 대상의 남은 페이지만큼, 최대 budget + 2)
+ * - 호출 수    : 결과의 kakaoCalls 가 stub 이 받은 요청 수와 같다.
+ * - 갱신 주기  : refresh-age 이내에 수집된 키는 건너뛰고, 미수집 키 → 오래된 키 순으로 수집한다.
+ * - 연속 실패  : stub 이 오류만 돌려주면 max-consecutive-failures 건 뒤 중단하고 아무것도 저장하지 않는다.
+ * - 수집 결과  : 저장된 장소는 모두 해당 격자 안이고, 페이지를 이어 받아도 같은 장소가 중복되지 않는다.
+ */
+class AmenityStoreHarvesterTest {
+
+    private static final int PRECISION = 6;
+    private static final int TARGETS = 2 * KakaoApiService.AMENITY_CATEGORIES.length;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AmenityStoreService amenityStoreService = mock(AmenityStoreService.class);
+    private final AmenityStoreRepository amenityStoreRepository = mock(AmenityStoreRepository.class);
+
+    // 메모리 저장소 표 (키 → 수집 시각) / 저장 순서 / 저장 값
+    private final Map<String, LocalDateTime> table = new ConcurrentHashMap<>();
+    private final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, AmenityCellPlaces> savedPlaces = new ConcurrentHashMap<>();
+
+    private final AtomicInteger stubCalls = new AtomicInteger();
+    private final AtomicBoolean stubFailing = new AtomicBoolean();
+
+    private HttpServer stub;
+    private ExecutorService stubWorkers;
+    private KakaoApiGateway gateway;
+    private AmenityStoreHarvester harvester;
+
+    private long cell;
+    private long eastCell;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubWorkers = Executors.newFixedThreadPool(4);
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/v2/local/search/category.json", this::handleCategorySearch);
+        stub.setExecutor(stubWorkers);
+        stub.start();
+
+        gateway = new KakaoApiGateway();
+        ReflectionTestUtils.setField(gateway, "initialLimit", 4);
+        ReflectionTestUtils.setField(gateway, "minLimit", 1);
+        ReflectionTestUtils.setField(gateway, "maxLimit", 8);
+        ReflectionTestUtils.setField(gateway, "queueCapacity", 20);
+        ReflectionTestUtils.setField(gateway, "maxQueueWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(gateway, "latencyThreshold", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(gateway, "backoffRatio", 0.75);
+        ReflectionTestUtils.setField(gateway, "windowSize", 20);
+        ReflectionTestUtils.setField(gateway, "minCalls", 10);
+        ReflectionTestUtils.setField(gateway, "failureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(gateway, "openDuration", Duration.ofSeconds(1));
+        gateway.init();
+
+        KakaoApiService kakaoApiService = new KakaoApiService(WebClient.create(), objectMapper, gateway);
+        ReflectionTestUtils.setField(kakaoApiService, "kakaoApiKey", "test-key");
+        ReflectionTestUtils.setField(kakaoApiService, "kakaoApiBaseUrl", "http://localhost:" + stub.getAddress().getPort());
+
+        AmenityCellService amenityCellService = new AmenityCellService(kakaoApiService, amenityStoreService,
+                new GeohashService(), mock(NearCacheDataService.class), mock(VersionedCacheCodec.class));
+        ReflectionTestUtils.setField(amenityCellService, "cellPrecision", PRECISION);
+        ReflectionTestUtils.setField(amenityCellService, "queryMargin", 50);
+
+        harvester = new AmenityStoreHarvester(amenityCellService, amenityStoreService, amenityStoreRepository,
+                mock(CellPopularityService.class));
+        ReflectionTestUtils.setField(harvester, "enabled", true);
+        ReflectionTestUtils.setField(harvester, "refreshAge", Duration.ofDays(30));
+        ReflectionTestUtils.setField(harvester, "callBudget", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(harvester, "parallelism", 1);
+        ReflectionTestUtils.setField(harvester, "callsPerSecond", 0.0);
+        ReflectionTestUtils.setField(harvester, "maxConsecutiveFailures", 3);
+        harvester.initExecutors();
+
+        cell = GeohashCodec.encode(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, PRECISION);
+        eastCell = GeohashCodec.neighbour(cell, 0, 1);
+
+        doAnswer(invocation -> {
+            String key = AmenityStoreService.storeKey(invocation.getArgument(0), invocation.getArgument(1));
+            table.put(key, LocalDateTime.now());
+            saved.add(key);
+            savedPlaces.put(key, invocation.getArgument(2));
+            return null;
+        }).when(amenityStoreService).save(anyLong(), anyString(), any());
+
+        when(amenityStoreRepository.findFreshCellKeys(any())).thenAnswer(invocation -> {
+            LocalDateTime cutoff = invocation.getArgument(0);
+            return table.entrySet().stream()
+                    .filter(entry -> !entry.getValue().isBefore(cutoff))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        });
+        when(amenityStoreRepository.findStaleCellKeys(any())).thenAnswer(invocation -> {
+            LocalDateTime cutoff = invocation.getArgument(0);
+            return table.entrySet().stream()
+                    .filter(entry -> entry.getValue().isBefore(cutoff))
+                    .sorted(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        harvester.shutdownExecutors();
+        gateway.shutdown();
+        stub.stop(0);
+        stubWorkers.shutdownNow();
+    }
+
+    @Test
+    void harvestsAllTargetsThenSkipsThemOnRerun() {
+        Map<String, Object> first = harvest(Integer.MAX_VALUE);
+
+        assertEquals(TARGETS, stat(first, "targets"));
+        assertEquals(TARGETS, stat(first, "harvested"));
+        assertEquals(0, stat(first, "failed"));
+        assertEquals(allKeys(), new HashSet<>(saved));
+        assertEquals(stubCalls.get(), stat(first, "kakaoCalls"));
+        assertTrue(stubCalls.get() >= TARGETS);
+        assertSavedPlacesInsideCellsWithoutDuplicates();
+
+        int callsAfterFirst = stubCalls.get();
+        Map<String, Object> second = harvest(Integer.MAX_VALUE);
+
+        assertEquals(0, stat(second, "targets"));
+        assertEquals(callsAfterFirst, stubCalls.get());
+        assertEquals(TARGETS, saved.size());
+    }
+
+    @Test
+    void callBudgetStopsRunAndNextRunResumes() {
+        int budget = 7;
+
+        Map<String, Object> first = harvest(budget);
+
+        int firstCalls = stat(first, "kakaoCalls");
+        int firstHarvested = stat(first, "harvested");
+        assertEquals(budget, stat(first, "targets"));
+        assertEquals(stubCalls.get(), firstCalls);
+        assertTrue(firstCalls <= budget + 2, "호출 " + firstCalls + "건 / 한도 " + budget + "건");
+        assertTrue(firstCalls >= budget || firstHarvested == budget, first.toString());
+        assertEquals(firstHarvested, saved.size());
+
+        Map<String, Object> second = harvest(Integer.MAX_VALUE);
+
+        assertEquals(TARGETS - firstHarvested, stat(second, "targets"));
+        assertEquals(TARGETS - firstHarvested, stat(second, "harvested"));
+        assertEquals(TARGETS, saved.size());
+        assertEquals(allKeys(), new HashSet<>(saved));   // 크기가 같고 집합이 같으므로 중복 수집 없음
+        assertEquals(stubCalls.get(), firstCalls + stat(second, "kakaoCalls"));
+    }
+
+    @Test
+    void refreshesOnlyRowsOlderThanRefreshAgeOldestFirst() {
+        List<String> keys = new ArrayList<>(allKeys());
+        Collections.sort(keys);
+
+        // 2건 미수집, 3건 갱신 대상(35 / 45 / 60일 전), 나머지는 1일 전 수집
+        LocalDateTime now = LocalDateTime.now();
+        List<String> missing = List.of(keys.get(0), keys.get(1));
+        String age35 = keys.get(2);
+        String age60 = keys.get(3);
+        String age45 = keys.get(4);
+        for (String key : keys.subList(5, keys.size())) {
+            table.put(key, now.minusDays(1));
+        }
+        table.put(age35, now.minusDays(35));
+        table.put(age60, now.minusDays(60));
+        table.put(age45, now.minusDays(45));
+
+        Map<String, Object> result = harvest(Integer.MAX_VALUE);
+
+        assertEquals(5, stat(result, "targets"));
+        assertEquals(2, stat(result, "missingTargets"));
+        assertEquals(5, saved.size());
+        assertEquals(new HashSet<>(missing), new HashSet<>(saved.subList(0, 2)));
+        assertEquals(List.of(age60, age45, age35), saved.subList(2, 5));
+        assertTrue(table.values().stream().allMatch(harvestedAt -> harvestedAt.isAfter(now.minusDays(30))));
+    }
+
+    @Test
+    void stopsAfterConsecutiveFailuresWithoutSaving() {
+        stubFailing.set(true);
+
+        Map<String, Object> result = harvest(Integer.MAX_VALUE);
+
+        assertEquals(TARGETS, stat(result, "targets"));
+        assertEquals(3, stat(result, "dispatched"));
+        assertEquals(3, stat(result, "failed"));
+        assertEquals(0, stat(result, "harvested"));
+        assertTrue(saved.isEmpty());
+        assertTrue(table.isEmpty());
+
+        // 장애 해소 후 다음 실행은 처음부터 이어서 수집
+        stubFailing.set(false);
+        Map<String, Object> next = harvest(Integer.MAX_VALUE);
+        assertEquals(TARGETS, stat(next, "harvested"));
+    }
+
+    private Map<String, Object> harvest(int budget) {
+        double latMargin = GeohashCodec.latitudeSpan(PRECISION) / 4;
+        double lonMargin = GeohashCodec.longitudeSpan(PRECISION) / 4;
+        return harvester.harvest(
+                GeohashCodec.southLatitude(cell) + latMargin, GeohashCodec.northLatitude(cell) - latMargin,
+                GeohashCodec.westLongitude(cell) + lonMargin, GeohashCodec.eastLongitude(eastCell) - lonMargin,
+                budget);
+    }
+
+    private Set<String> allKeys() {
+        Set<String> keys = new HashSet<>();
+        for (long target : new long[]{cell, eastCell}) {
+            for (String category : KakaoApiService.AMENITY_CATEGORIES) {
+                keys.add(AmenityStoreService.storeKey(target, category));
+            }
+        }
+        return keys;
+    }
+
+    private void assertSavedPlacesInsideCellsWithoutDuplicates() {
+        savedPlaces.forEach((key, places) -> {
+            long target = GeohashCodec.fromBase32(key.substring(0, key.indexOf(':')));
+            Set<String> names = new HashSet<>();
+            for (int i = 0; i < places.size(); i++) {
+                double latitude = places.getLatitudes()[i];
+                double longitude = places.getLongitudes()[i];
+                assertTrue(latitude >= GeohashCodec.southLatitude(target) && latitude < GeohashCodec.northLatitude(target)
+                        && longitude >= GeohashCodec.westLongitude(target) && longitude < GeohashCodec.eastLongitude(target), key);
+                assertTrue(names.add(places.getNames()[i]), key + " 중복 장소 " + places.getNames()[i]);
+            }
+        });
+    }
+
+    private static int stat(Map<String, Object> result, String name) {
+        return ((Number) result.get(name)).intValue();
+    }
+
+    // ========================================
+    // 카카오 카테고리 검색 stub
+    // ========================================
+
+    /* 요청 중심 반경 안에 거리순 최대 45건 중 page 번째 15건 (중심 좌표 / 카테고리로 시드를 정해 같은 요청은 같은 응답) */
+    private void handleCategorySearch(HttpExchange exchange) throws IOException {
+        stubCalls.incrementAndGet();
+        try {
+            if (stubFailing.get()) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            Map<String, String> query = new HashMap<>();
+            for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                query.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+            double x = Double.parseDouble(query.get("x"));
+            double y = Double.parseDouble(query.get("y"));
+            int radius = Integer.parseInt(query.get("radius"));
+            String category = query.get("category_group_code");
+            int page = Integer.parseInt(query.getOrDefault("page", "1"));
+
+            Random random = new Random(Double.hashCode(x) * 31L + Double.hashCode(y) + category.hashCode());
+            List<Map<String, Object>> documents = new ArrayList<>();
+            int distance = 0;
+            for (int i = 0; i < 45; i++) {
+                distance += 1 + random.nextInt(Math.max(1, radius / 15));
+                if (distance > radius) {
+                    break;
+                }
+                double bearing = random.nextDouble() * 2 * Math.PI;
+                double placeLatitude = y + distance * Math.cos(bearing) / 111_320.0;
+                double placeLongitude = x + distance * Math.sin(bearing) / (111_320.0 * Math.cos(Math.toRadians(y)));
+
+                if (i / 15 == page - 1) {
+                    Map<String, Object> document = new LinkedHashMap<>();
+                    document.put("place_name", category + " stub " + i);
+                    document.put("x", String.format(Locale.ROOT, "%.7f", placeLongitude));
+                    document.put("y", String.format(Locale.ROOT, "%.7f", placeLatitude));
+                    document.put("distance", String.valueOf(distance));
+                    document.put("category_group_name", category);
+                    documents.add(document);
+                }
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("documents", documents, "meta", Map.of()));
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
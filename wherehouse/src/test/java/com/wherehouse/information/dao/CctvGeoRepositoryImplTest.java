@@ -0,0 +1,94 @@
+package com.wherehouse.information.dao;
+
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.index.GeohashCodec;
+import com.wherehouse.information.index.GeohashKeyRanges;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CctvGeoRepositoryImpl 쿼리 조립 검증 (EntityManager 는 목 객체)
+ *
+ * - 쿼리 1회   : 구간 목록 전체를 OR 로 묶은 BETWEEN 조건 JPQL 1건으로 조회한다.
+ * - 문장 형태  : 구간 수를 2의 거듭제곱으로 올리고 남는 자리는 마지막 구간을 반복한다.
+ * - 나누기     : RANGES_PER_STATEMENT 개를 넘으면 그 단위로 나누어 조회하고 결과를 이어 붙인다.
+ * - 빈 목록    : 쿼리를 실행하지 않는다.
+ */
+class CctvGeoRepositoryImplTest {
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+
+    @SuppressWarnings("unchecked")
+    private final TypedQuery<CctvGeo> query = mock(TypedQuery.class);
+
+    private final CctvGeoRepositoryImpl repository = new CctvGeoRepositoryImpl();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+        when(entityManager.createQuery(anyString(), eq(CctvGeo.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(new CctvGeo()));
+    }
+
+    @Test
+    void padsRangeCountToPowerOfTwoInOneStatement() {
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(
+                List.of("wydm7p0", "wydm7p5", "wydm7pb"), 7, 0);
+        assertEquals(3, ranges.size());
+
+        List<CctvGeo> result = repository.findByGeohashIdRanges(ranges);
+
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(1)).createQuery(jpql.capture(), eq(CctvGeo.class));
+        assertEquals(4, jpql.getValue().split(" BETWEEN ", -1).length - 1);
+        assertEquals(1, result.size());
+
+        verify(query).setParameter("lower0", "wydm7p0");
+        verify(query).setParameter("lower2", "wydm7pb");
+        verify(query).setParameter("lower3", "wydm7pb");   // 남는 자리 = 마지막 구간 반복
+        verify(query).setParameter("upper3", "wydm7pb");
+    }
+
+    @Test
+    void splitsIntoStatementsOfAtMostRangesPerStatement() {
+        // 서로 1칸씩 떨어진 7자리 격자 → 틈 0 병합 시 격자마다 구간 1개
+        List<String> cells = new ArrayList<>();
+        long first = GeohashCodec.bits(GeohashCodec.fromBase32("wydm700"));
+        for (int i = 0; i < CctvGeoRepositoryImpl.RANGES_PER_STATEMENT + 6; i++) {
+            cells.add(GeohashCodec.toBase32(GeohashCodec.fromBits(first + 2L * i, 7)));
+        }
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(cells, 7, 0);
+        assertEquals(CctvGeoRepositoryImpl.RANGES_PER_STATEMENT + 6, ranges.size());
+
+        List<CctvGeo> result = repository.findByGeohashIdRanges(ranges);
+
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager, times(2)).createQuery(jpql.capture(), eq(CctvGeo.class));
+        assertEquals(CctvGeoRepositoryImpl.RANGES_PER_STATEMENT,
+                jpql.getAllValues().get(0).split(" BETWEEN ", -1).length - 1);
+        assertEquals(8, jpql.getAllValues().get(1).split(" BETWEEN ", -1).length - 1);
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void emptyRangesRunNoQuery() {
+        assertEquals(List.of(), repository.findByGeohashIdRanges(List.of()));
+        verify(entityManager, never()).createQuery(anyString(), eq(CctvGeo.class));
+    }
+}
@@ -0,0 +1,187 @@
+package com.wherehouse.information.index;
+
+import com.wherehouse.information.dao.CctvGeoRepository;
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.util.GeohashService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LATITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LONGITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.randomLatitude;
+import static com.wherehouse.information.index.SeoulTestArea.randomLongitude;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CctvSpatialIndex 반경 조회 / 관리 번호 조회 정합성 검증 (CctvGeoRepository 는 목 객체)
+ *
+ * 서울 영역 무작위 CCTV + 7자리 격자 경계(남서 모서리 / 바로 아래·왼쪽 격자로 넘어가는 값) 위의 CCTV:
+ * - 반경 조회   : forEachWithinRadius 가 방문한 관리 번호 집합이 전체 행 Haversine 단독 판정(거리 <= 반경)과 같고,
+ *                보고 거리는 GeohashService.calculateDistance 와 같다. (격자 경계 위 중심 포함)
+ * - 관리 번호   : findAddress 가 적재된 모든 관리 번호의 주소를 돌려주고, 없는 번호는 null 이다.
+ * - 좌표 누락   : 위도 / 경도가 없는 행은 적재하지 않는다.
+ * - 빈 스냅샷   : 적재 전 / 0건 적재 시 조회는 방문 0건, findAddress 는 null 이다.
+ */
+class CctvSpatialIndexTest {
+
+    private static final int RANDOM_ROWS = 4000;
+    private static final int BOUNDARY_CELLS = 300;
+    private static final int CENTERS = 150;
+
+    private final CctvGeoRepository cctvGeoRepository = mock(CctvGeoRepository.class);
+    private final GeohashService geohashService = new GeohashService();
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 150, 500, 1000, 2000})
+    void radiusQueryMatchesBruteForce(int radius) {
+        Random random = new Random(radius);
+        List<CctvGeo> rows = randomRows(random);
+        CctvSpatialIndex index = build(rows);
+
+        for (int c = 0; c < CENTERS; c++) {
+            double latitude;
+            double longitude;
+            if (c % 3 == 0) {
+                // 격자 경계 위 중심 (남서 모서리 / 서쪽 변 중점)
+                long cell = GeohashCodec.encode(randomLatitude(random), randomLongitude(random), 7);
+                latitude = c % 2 == 0 ? GeohashCodec.southLatitude(cell) : GeohashCodec.centerLatitude(cell);
+                longitude = GeohashCodec.westLongitude(cell);
+            } else {
+                latitude = randomLatitude(random);
+                longitude = randomLongitude(random);
+            }
+
+            Map<Long, Double> expected = new TreeMap<>();
+            for (CctvGeo row : rows) {
+                if (row.getLatitude() == null || row.getLongitude() == null) {
+                    continue;
+                }
+                double distance = geohashService.calculateDistance(latitude, longitude, row.getLatitude(), row.getLongitude());
+                if (distance <= radius) {
+                    expected.put(row.getNumbers(), distance);
+                }
+            }
+
+            Map<Long, Double> visited = new TreeMap<>();
+            int count = index.forEachWithinRadius(latitude, longitude, radius,
+                    (numbers, address, pointLat, pointLon, cameraCount, distance) -> {
+                        assertNull(visited.put(numbers, distance), "중복 방문 " + numbers);
+                        assertEquals(geohashService.calculateDistance(latitude, longitude, pointLat, pointLon), distance);
+                    });
+
+            String where = String.format("중심 (%.7f, %.7f) 반경 %dm", latitude, longitude, radius);
+            assertEquals(expected.keySet(), visited.keySet(), where);
+            assertEquals(expected, visited, where);
+            assertEquals(expected.size(), count, where);
+        }
+    }
+
+    @Test
+    void findAddressReturnsLoadedAddresses() {
+        Random random = new Random(5);
+        List<CctvGeo> rows = randomRows(random);
+        CctvSpatialIndex index = build(rows);
+
+        Map<Long, String> addresses = new HashMap<>();
+        for (CctvGeo row : rows) {
+            if (row.getLatitude() != null && row.getLongitude() != null) {
+                addresses.put(row.getNumbers(), row.getAddress());
+            }
+        }
+        assertEquals(addresses.size(), index.size());
+
+        for (CctvGeo row : rows) {
+            String address = addresses.containsKey(row.getNumbers()) ? addresses.get(row.getNumbers()) : null;
+            assertEquals(address, index.findAddress(row.getNumbers()), "관리 번호 " + row.getNumbers());
+        }
+        assertNull(index.findAddress(-1L));
+        assertNull(index.findAddress(Long.MAX_VALUE));
+    }
+
+    @Test
+    void emptySnapshotVisitsNothing() {
+        CctvSpatialIndex index = new CctvSpatialIndex(cctvGeoRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+
+        // 적재 전
+        assertFalse(index.isReady());
+        assertEquals(0, index.forEachWithinRadius(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 2000, CctvSpatialIndexTest::failVisit));
+        assertNull(index.findAddress(1L));
+
+        // 0건 적재 (좌표 누락 행만 있음)
+        when(cctvGeoRepository.findAll()).thenReturn(List.of(
+                CctvGeo.builder().numbers(1L).address("좌표 없음").latitude(CITY_HALL_LATITUDE).build()));
+        index.rebuild();
+
+        assertFalse(index.isReady());
+        assertEquals(0, index.size());
+        assertEquals(0, index.forEachWithinRadius(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 2000, CctvSpatialIndexTest::failVisit));
+        assertTrue(index.findWithinRadius(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 2000).isEmpty());
+        assertNull(index.findAddress(1L));
+    }
+
+    private CctvSpatialIndex build(List<CctvGeo> rows) {
+        when(cctvGeoRepository.findAll()).thenReturn(rows);
+        CctvSpatialIndex index = new CctvSpatialIndex(cctvGeoRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+        assertTrue(index.isReady());
+        return index;
+    }
+
+    /*
+     * 무작위 CCTV + 격자 경계 CCTV (남서 모서리, 바로 아래 격자로 넘어가는 남쪽 변 직전 값, 바로 왼쪽 격자로 넘어가는 서쪽 변 직전 값)
+     * + 좌표 누락 행을 섞은 목록. 관리 번호는 중복 없음, 주소는 일부 null
+     */
+    private static List<CctvGeo> randomRows(Random random) {
+        List<CctvGeo> rows = new ArrayList<>();
+        long numbers = 1_000_000L;
+
+        for (int i = 0; i < RANDOM_ROWS; i++) {
+            rows.add(row(numbers + random.nextInt(1000), randomLatitude(random), randomLongitude(random), random));
+            numbers += 1000;
+        }
+        for (int i = 0; i < BOUNDARY_CELLS; i++) {
+            long cell = GeohashCodec.encode(randomLatitude(random), randomLongitude(random), 7);
+            double south = GeohashCodec.southLatitude(cell);
+            double west = GeohashCodec.westLongitude(cell);
+            rows.add(row(numbers++, south, west, random));
+            rows.add(row(numbers++, Math.nextDown(south), GeohashCodec.centerLongitude(cell), random));
+            rows.add(row(numbers++, GeohashCodec.centerLatitude(cell), Math.nextDown(west), random));
+        }
+        rows.add(row(numbers++, null, CITY_HALL_LONGITUDE, random));
+        rows.add(row(numbers, CITY_HALL_LATITUDE, null, random));
+        Collections.shuffle(rows, random);
+        return rows;
+    }
+
+    private static CctvGeo row(long numbers, Double latitude, Double longitude, Random random) {
+        return CctvGeo.builder()
+                .numbers(numbers)
+                .address(random.nextInt(10) == 0 ? null : "CCTV-" + numbers)
+                .latitude(latitude)
+                .longitude(longitude)
+                .cameraCount(1 + random.nextInt(4))
+                .build();
+    }
+
+    private static void failVisit(long numbers, String address, double latitude, double longitude,
+                                  int cameraCount, double distanceMeters) {
+        throw new AssertionError("빈 스냅샷에서 방문 " + numbers);
+    }
+}
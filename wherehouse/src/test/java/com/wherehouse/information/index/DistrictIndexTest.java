@@ -0,0 +1,69 @@
+package com.wherehouse.information.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DistrictIndex 적재 / 판정 검증 (기본 경계 데이터 static/json/mapData.json)
+ *
+ * - 서울 25개 구가 모두 적재된다.
+ * - 구 내부가 분명한 지점은 해당 구로, 서울 밖 지점은 null 로 판정한다.
+ * - 주소 대체 판정(extractGu)은 "구" 로 끝나는 첫 토큰을 돌려준다.
+ */
+class DistrictIndexTest {
+
+    private static DistrictIndex districtIndex;
+
+    @BeforeAll
+    static void load() {
+        districtIndex = new DistrictIndex(new ObjectMapper(), new DefaultResourceLoader());
+        ReflectionTestUtils.setField(districtIndex, "enabled", true);
+        ReflectionTestUtils.setField(districtIndex, "boundaryResource", "classpath:static/json/mapData.json");
+        ReflectionTestUtils.setField(districtIndex, "nameProperties", List.of("name", "SIG_KOR_NM", "SGG_NM", "sggnm"));
+        ReflectionTestUtils.setField(districtIndex, "bucketDegrees", 0.005);
+        districtIndex.load();
+    }
+
+    @Test
+    void loadsAllSeoulDistricts() {
+        assertTrue(districtIndex.isReady());
+        assertEquals(25, districtIndex.getStats().get("districts"));
+    }
+
+    @Test
+    void resolvesLandmarksToTheirDistrict() {
+        assertEquals("중구", districtIndex.resolve(37.5663, 126.9779));      // 서울시청
+        assertEquals("종로구", districtIndex.resolve(37.5796, 126.9770));    // 경복궁
+        assertEquals("용산구", districtIndex.resolve(37.5512, 126.9882));    // 남산타워
+        assertEquals("강남구", districtIndex.resolve(37.5115, 127.0595));    // 코엑스
+        assertEquals("송파구", districtIndex.resolve(37.5126, 127.1025));    // 롯데월드타워
+        assertEquals("영등포구", districtIndex.resolve(37.5318, 126.9140));  // 국회의사당
+        assertEquals("관악구", districtIndex.resolve(37.4600, 126.9510));    // 서울대학교
+        assertEquals("노원구", districtIndex.resolve(37.6551, 127.0613));    // 노원역
+        assertEquals("강서구", districtIndex.resolve(37.5585, 126.7945));    // 김포공항
+    }
+
+    @Test
+    void returnsNullOutsideSeoul() {
+        assertNull(districtIndex.resolve(37.4563, 126.7052));  // 인천시청
+        assertNull(districtIndex.resolve(35.1796, 129.0756));  // 부산시청
+    }
+
+    @Test
+    void extractsGuFromAddress() {
+        assertEquals("중구", DistrictIndex.extractGu("서울특별시 중구 세종대로 110"));
+        assertEquals("강남구", DistrictIndex.extractGu("서울 강남구 테헤란로 152"));
+        assertNull(DistrictIndex.extractGu("경기도 가평군 가평읍"));
+        assertNull(DistrictIndex.extractGu(""));
+        assertNull(DistrictIndex.extractGu(null));
+    }
+}
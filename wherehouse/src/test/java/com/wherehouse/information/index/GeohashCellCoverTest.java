@@ -0,0 +1,111 @@
+package com.wherehouse.information.index;
+
+import ch.hsr.geohash.GeoHash;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.wherehouse.information.index.SeoulTestArea.randomLatitude;
+import static com.wherehouse.information.index.SeoulTestArea.randomLongitude;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * GeohashCellCover.cover 정합성 검증 (반경마다 서울 영역 무작위 중심, 원 안 무작위 지점 전수 대조)
+ *
+ * - 누락 없음 : 원 안 지점의 7자리 geohash(ch.hsr GeoHash 로 계산)는 커버 격자 중 하나를 접두사로 가진다.
+ * - 중심 격자 : 0번 격자는 중심 좌표의 7자리 geohash 와 같다. (1단계 캐시 키)
+ * - 중복 없음 : 어떤 격자도 다른 격자의 접두사가 아니다.
+ */
+class GeohashCellCoverTest {
+
+    private static final int CENTERS = 200;
+    private static final int POINTS_PER_CENTER = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 100, 250, 500, 1000, 2000})
+    void coversEveryPointInsideRadius(int radius) {
+        Random random = new Random(radius);
+
+        for (int c = 0; c < CENTERS; c++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+            Set<String> cells = new HashSet<>(GeohashCellCover.cover(latitude, longitude, radius));
+
+            RadiusFilter filter = RadiusFilter.of(latitude, longitude, radius);
+            for (int p = 0; p < POINTS_PER_CENTER; p++) {
+                double pointLat = filter.getMinLatitude()
+                        + random.nextDouble() * (filter.getMaxLatitude() - filter.getMinLatitude());
+                double pointLon = filter.getMinLongitude()
+                        + random.nextDouble() * (filter.getMaxLongitude() - filter.getMinLongitude());
+                if (filter.distance(pointLat, pointLon) > radius) {
+                    continue;
+                }
+                String geohash = GeoHash.withCharacterPrecision(pointLat, pointLon, 7).toBase32();
+                if (!coveredBy(geohash, cells)) {
+                    fail(String.format("누락 - 중심 (%f, %f) 반경 %dm, 지점 (%f, %f) %s",
+                            latitude, longitude, radius, pointLat, pointLon, geohash));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 100, 250, 500, 1000, 2000})
+    void firstCellIsCenterCell(int radius) {
+        Random random = new Random(radius);
+
+        for (int c = 0; c < CENTERS; c++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+
+            List<String> cover = GeohashCellCover.cover(latitude, longitude, radius);
+
+            assertEquals(GeoHash.withCharacterPrecision(latitude, longitude, 7).toBase32(), cover.get(0),
+                    String.format("중심 (%f, %f) 반경 %dm", latitude, longitude, radius));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 100, 250, 500, 1000, 2000})
+    void cellsDoNotOverlap(int radius) {
+        Random random = new Random(radius);
+
+        for (int c = 0; c < CENTERS; c++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+
+            List<String> cover = GeohashCellCover.cover(latitude, longitude, radius);
+            Set<String> cells = new HashSet<>(cover);
+
+            String message = String.format("중심 (%f, %f) 반경 %dm - %s", latitude, longitude, radius, cover);
+            assertEquals(cover.size(), cells.size(), message);
+            assertFalse(hasPrefixOverlap(cells), message);
+        }
+    }
+
+    private static boolean coveredBy(String geohash, Set<String> cells) {
+        for (int length = 1; length <= geohash.length(); length++) {
+            if (cells.contains(geohash.substring(0, length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasPrefixOverlap(Set<String> cells) {
+        for (String cell : cells) {
+            for (int length = 1; length < cell.length(); length++) {
+                if (cells.contains(cell.substring(0, length))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package com.wherehouse.information.index;
+
+import ch.hsr.geohash.BoundingBox;
+import ch.hsr.geohash.GeoHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.wherehouse.information.index.SeoulTestArea.randomLatitude;
+import static com.wherehouse.information.index.SeoulTestArea.randomLongitude;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * GeohashCodec 정합성 검증 (ch.hsr GeoHash 대비)
+ *
+ * 무작위 좌표 SAMPLES 개 (절반은 서울 영역 / 절반은 전 지구), 정밀도 1 ~ 12 각각:
+ * - 인코딩     : toBase32(encode(위도, 경도, 정밀도)) 가 ch.hsr withCharacterPrecision(...).toBase32() 와 같다.
+ * - 왕복       : fromBase32(문자열) 이 encode 결과와 같다.
+ * - 경계       : 남 / 북 / 서 / 동 경계가 ch.hsr getBoundingBox() 와 같다.
+ * - 인접 격자  : adjacent 8개가 ch.hsr getAdjacent() 와 같은 순서, 같은 값이다.
+ *               (극에 닿는 격자 제외 - 코덱은 극 격자에 고정, ch.hsr 은 반대쪽 극으로 순환)
+ * - 격자 경계값 : 7자리 격자 경계선 위의 좌표도 ch.hsr 과 같은 격자로 판정한다. (나눗셈 반올림 보정 확인)
+ */
+class GeohashCodecTest {
+
+    private static final int SAMPLES = 20000;
+
+    @Test
+    void encodeMatchesLibrary() {
+        forEachSample((latitude, longitude, precision) ->
+                assertEquals(GeoHash.withCharacterPrecision(latitude, longitude, precision).toBase32(),
+                        GeohashCodec.toBase32(GeohashCodec.encode(latitude, longitude, precision)),
+                        describe(latitude, longitude, precision)));
+    }
+
+    @Test
+    void base32RoundTrips() {
+        forEachSample((latitude, longitude, precision) -> {
+            long hash = GeohashCodec.encode(latitude, longitude, precision);
+            assertEquals(hash, GeohashCodec.fromBase32(GeohashCodec.toBase32(hash)),
+                    describe(latitude, longitude, precision));
+        });
+    }
+
+    @Test
+    void boundingBoxMatchesLibrary() {
+        forEachSample((latitude, longitude, precision) -> {
+            long hash = GeohashCodec.encode(latitude, longitude, precision);
+            BoundingBox box = GeoHash.withCharacterPrecision(latitude, longitude, precision).getBoundingBox();
+            String message = describe(latitude, longitude, precision);
+
+            assertEquals(box.getSouthLatitude(), GeohashCodec.southLatitude(hash), message);
+            assertEquals(box.getNorthLatitude(), GeohashCodec.northLatitude(hash), message);
+            assertEquals(box.getWestLongitude(), GeohashCodec.westLongitude(hash), message);
+            assertEquals(box.getEastLongitude(), GeohashCodec.eastLongitude(hash), message);
+        });
+    }
+
+    @Test
+    void adjacentMatchesLibrary() {
+        long[] adjacent = new long[8];
+
+        forEachSample((latitude, longitude, precision) -> {
+            long hash = GeohashCodec.encode(latitude, longitude, precision);
+            if (GeohashCodec.southLatitude(hash) == -90.0 || GeohashCodec.northLatitude(hash) == 90.0) {
+                return;
+            }
+            GeohashCodec.adjacent(hash, adjacent);
+            GeoHash[] expected = GeoHash.withCharacterPrecision(latitude, longitude, precision).getAdjacent();
+
+            for (int k = 0; k < adjacent.length; k++) {
+                assertEquals(expected[k].toBase32(), GeohashCodec.toBase32(adjacent[k]),
+                        describe(latitude, longitude, precision) + " 인접 " + k);
+            }
+        });
+    }
+
+    /* 서울 영역 7자리 격자의 남서 꼭짓점 좌표 (경계값 그대로) 를 인코딩해 ch.hsr 과 비교 */
+    @Test
+    void cellEdgeCoordinatesMatchLibrary() {
+        Random random = new Random(7);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+            long cell = GeohashCodec.encode(latitude, longitude, 7);
+
+            double south = GeohashCodec.southLatitude(cell);
+            double west = GeohashCodec.westLongitude(cell);
+            assertEquals(GeoHash.withCharacterPrecision(south, west, 7).toBase32(),
+                    GeohashCodec.toBase32(GeohashCodec.encode(south, west, 7)),
+                    describe(south, west, 7));
+        }
+    }
+
+    private static void forEachSample(SampleCheck check) {
+        Random random = new Random(42);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            double latitude;
+            double longitude;
+            if ((i & 1) == 0) {
+                latitude = randomLatitude(random);
+                longitude = randomLongitude(random);
+            } else {
+                latitude = random.nextDouble() * 180.0 - 90.0;
+                longitude = random.nextDouble() * 360.0 - 180.0;
+            }
+
+            for (int precision = 1; precision <= GeohashCodec.MAX_PRECISION; precision++) {
+                check.run(latitude, longitude, precision);
+            }
+        }
+    }
+
+    private static String describe(double latitude, double longitude, int precision) {
+        return String.format("(%.9f, %.9f) 정밀도 %d", latitude, longitude, precision);
+    }
+
+    @FunctionalInterface
+    private interface SampleCheck {
+        void run(double latitude, double longitude, int precision);
+    }
+}
@@ -0,0 +1,181 @@
+package com.wherehouse.information.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LATITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LONGITUDE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GeohashKeyRanges.merge 구간 계산 / 병합 검증 (저장 정밀도 7)
+ *
+ * - 상위 격자    : 6자리 이하 격자는 접두사 최소 키 ~ 최대 키 구간이 되고, 안에 든 하위 격자는 같은 구간에 흡수된다.
+ * - 같은 격자    : 중복된 격자는 구간 1개가 된다.
+ * - 긴 격자      : 저장 정밀도보다 긴 격자는 7자리 상위 격자로 취급한다.
+ * - 틈 0         : gapCells=0 이면 맞닿은 구간만 합치고, 1칸이라도 떨어진 구간은 나눈다.
+ * - 무작위 커버  : 정밀도 혼합 무작위 격자 목록에서 gapCells=0 구간 합집합이 요청 격자가 덮는 7자리 키 집합과 정확히 같고,
+ *                 구간은 시작 키 순이며 서로 겹치거나 맞닿지 않는다. gapCells>0 이면 요청 키를 모두 덮고 틈은 gapCells 이하다.
+ */
+class GeohashKeyRangesTest {
+
+    private static final int STORED_PRECISION = 7;
+
+    @Test
+    void parentCellCoversAllChildKeys() {
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(List.of("wydm7p"), STORED_PRECISION, 0);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "wydm7p0", "wydm7pz", 32);
+
+        ranges = GeohashKeyRanges.merge(List.of("wydm7"), STORED_PRECISION, 0);
+        assertRange(ranges.get(0), "wydm700", "wydm7zz", 32 * 32);
+    }
+
+    @Test
+    void childInsideParentIsAbsorbed() {
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(
+                List.of("wydm7pb", "wydm7p", "wydm7pz"), STORED_PRECISION, 0);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "wydm7p0", "wydm7pz", 32);
+    }
+
+    @Test
+    void identicalCellsMergeIntoOneRange() {
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(
+                List.of("wydm7pb", "wydm7pb", "wydm7pb"), STORED_PRECISION, 0);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "wydm7pb", "wydm7pb", 1);
+    }
+
+    @Test
+    void longerCellsUseStoredPrecisionParent() {
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(
+                List.of("wydm7pbx", "wydm7pb0q"), STORED_PRECISION, 0);
+
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "wydm7pb", "wydm7pb", 1);
+    }
+
+    @Test
+    void zeroGapMergesOnlyTouchingRanges() {
+        // b, c 는 키 순서상 맞닿음 → 합침 / e 는 d 1칸 건너 → 나눔
+        List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(
+                List.of("wydm7pe", "wydm7pc", "wydm7pb"), STORED_PRECISION, 0);
+
+        assertEquals(2, ranges.size());
+        assertRange(ranges.get(0), "wydm7pb", "wydm7pc", 2);
+        assertRange(ranges.get(1), "wydm7pe", "wydm7pe", 1);
+
+        ranges = GeohashKeyRanges.merge(List.of("wydm7pe", "wydm7pc", "wydm7pb"), STORED_PRECISION, 1);
+        assertEquals(1, ranges.size());
+        assertRange(ranges.get(0), "wydm7pb", "wydm7pe", 4);
+    }
+
+    @Test
+    void zeroGapRangesMatchCoveredKeysExactly() {
+        Random random = new Random(7);
+
+        for (int round = 0; round < 500; round++) {
+            List<String> cells = randomCells(random);
+            TreeSet<Long> covered = coveredKeys(cells);
+
+            List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(cells, STORED_PRECISION, 0);
+
+            TreeSet<Long> ranged = new TreeSet<>();
+            long previousUpper = Long.MIN_VALUE;
+            for (GeohashKeyRanges.Range range : ranges) {
+                long lower = keyBits(range.getLower());
+                long upper = keyBits(range.getUpper());
+                assertTrue(previousUpper == Long.MIN_VALUE || lower > previousUpper + 1, cells + " → " + ranges);
+                assertEquals(upper - lower + 1, range.getCellCount(), range.toString());
+                for (long key = lower; key <= upper; key++) {
+                    ranged.add(key);
+                }
+                previousUpper = upper;
+            }
+            assertEquals(covered, ranged, cells + " → " + ranges);
+        }
+    }
+
+    @Test
+    void gapRangesCoverRequestedKeysWithBoundedGaps() {
+        Random random = new Random(8);
+        int gapCells = 8;
+
+        for (int round = 0; round < 500; round++) {
+            List<String> cells = randomCells(random);
+            TreeSet<Long> covered = coveredKeys(cells);
+
+            List<GeohashKeyRanges.Range> ranges = GeohashKeyRanges.merge(cells, STORED_PRECISION, gapCells);
+            List<GeohashKeyRanges.Range> exact = GeohashKeyRanges.merge(cells, STORED_PRECISION, 0);
+            assertTrue(ranges.size() <= exact.size());
+
+            long previousUpper = Long.MIN_VALUE;
+            for (GeohashKeyRanges.Range range : ranges) {
+                long lower = keyBits(range.getLower());
+                long upper = keyBits(range.getUpper());
+                assertTrue(previousUpper == Long.MIN_VALUE || lower > previousUpper + 1 + gapCells, cells + " → " + ranges);
+                // 구간 양 끝은 요청 키 (틈은 안쪽에만 생김)
+                assertTrue(covered.contains(lower) && covered.contains(upper), range.toString());
+                previousUpper = upper;
+            }
+            for (long key : covered) {
+                assertTrue(ranges.stream().anyMatch(range ->
+                        keyBits(range.getLower()) <= key && key <= keyBits(range.getUpper())), cells + " 키 " + key);
+            }
+        }
+    }
+
+    /* 시청 주변 약 ±5km 무작위 좌표의 5 ~ 8자리 격자 1 ~ 40개 (같은 격자 / 포함 관계 격자가 섞이도록 일부는 앞 격자에서 파생) */
+    private static List<String> randomCells(Random random) {
+        int count = 1 + random.nextInt(40);
+        List<String> cells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (!cells.isEmpty() && random.nextInt(4) == 0) {
+                String previous = cells.get(random.nextInt(cells.size()));
+                cells.add(random.nextBoolean() || previous.length() < 6
+                        ? previous
+                        : previous.substring(0, previous.length() - 1));
+                continue;
+            }
+            double latitude = CITY_HALL_LATITUDE + (random.nextDouble() * 2 - 1) * 0.045;
+            double longitude = CITY_HALL_LONGITUDE + (random.nextDouble() * 2 - 1) * 0.055;
+            int precision = 5 + random.nextInt(4);
+            cells.add(GeohashCodec.toBase32(GeohashCodec.encode(latitude, longitude, precision)));
+        }
+        return cells;
+    }
+
+    /* 요청 격자들이 덮는 7자리 키 (비트열) */
+    private static TreeSet<Long> coveredKeys(List<String> cells) {
+        TreeSet<Long> keys = new TreeSet<>();
+        for (String cell : cells) {
+            long hash = GeohashCodec.parent(GeohashCodec.fromBase32(cell), STORED_PRECISION);
+            int shift = (STORED_PRECISION - GeohashCodec.precision(hash)) * 5;
+            long first = GeohashCodec.bits(hash) << shift;
+            for (long key = first; key < first + (1L << shift); key++) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static long keyBits(String key) {
+        assertEquals(STORED_PRECISION, key.length(), key);
+        return GeohashCodec.bits(GeohashCodec.fromBase32(key));
+    }
+
+    private static void assertRange(GeohashKeyRanges.Range range, String lower, String upper, long cellCount) {
+        assertEquals(lower, range.getLower());
+        assertEquals(upper, range.getUpper());
+        assertEquals(cellCount, range.getCellCount());
+    }
+}
@@ -0,0 +1,174 @@
+package com.wherehouse.information.index;
+
+import com.wherehouse.information.dao.PoliceOfficeGeoRepository;
+import com.wherehouse.information.entity.PoliceOfficeGeo;
+import com.wherehouse.information.util.GeohashService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LATITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LONGITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.randomLatitude;
+import static com.wherehouse.information.index.SeoulTestArea.randomLongitude;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PoliceOfficeSpatialIndex k-NN 정합성 검증 (PoliceOfficeGeoRepository 는 목 객체)
+ *
+ * 서울 영역 무작위 파출소 + 같은 좌표 / 같은 위도·경도 축을 공유하는 파출소 (분할 평면 위 지점):
+ * - 최근접 k 개 : findNearest 결과의 거리 순서가 전체 행 Haversine 거리 정렬 앞 k 개와 같다. (k = 1, 3, 10)
+ * - 행 복원     : 반환 파출소의 주소 / 좌표 / geohashId 가 적재한 행과 같다.
+ * - k > 건수   : 적재된 파출소 전체를 거리 순으로 반환한다. k <= 0 은 빈 목록
+ * - 빈 스냅샷   : 적재 전 / 0건 적재(좌표 누락 행만 있음) 시 빈 목록
+ */
+class PoliceOfficeSpatialIndexTest {
+
+    private static final int RANDOM_ROWS = 250;
+    private static final int QUERIES = 2000;
+
+    /* 같은 지점의 Haversine 거리를 다른 계산 순서로 비교할 때의 허용 오차 (미터) */
+    private static final double EPSILON = 1e-6;
+
+    private final PoliceOfficeGeoRepository policeOfficeGeoRepository = mock(PoliceOfficeGeoRepository.class);
+    private final GeohashService geohashService = new GeohashService();
+
+    @Test
+    void nearestMatchesBruteForceSort() {
+        Random random = new Random(5);
+        List<PoliceOfficeGeo> rows = randomRows(random);
+        PoliceOfficeSpatialIndex index = build(rows);
+
+        Map<String, PoliceOfficeGeo> byAddress = new HashMap<>();
+        for (PoliceOfficeGeo row : rows) {
+            byAddress.put(row.getAddress(), row);
+        }
+
+        for (int q = 0; q < QUERIES; q++) {
+            double latitude;
+            double longitude;
+            if (q % 4 == 0) {
+                // 파출소 위치 그대로 (거리 0, 같은 좌표 파출소와 동률)
+                PoliceOfficeGeo at = rows.get(random.nextInt(rows.size()));
+                latitude = at.getLatitude();
+                longitude = at.getLongitude();
+            } else {
+                latitude = randomLatitude(random);
+                longitude = randomLongitude(random);
+            }
+
+            for (int k : new int[] {1, 3, 10}) {
+                List<Double> expected = bruteForceDistances(rows, latitude, longitude, k);
+                List<PoliceOfficeGeo> nearest = index.findNearest(latitude, longitude, k);
+
+                String where = String.format("질의 (%.7f, %.7f) k=%d", latitude, longitude, k);
+                assertEquals(expected.size(), nearest.size(), where);
+                for (int i = 0; i < nearest.size(); i++) {
+                    PoliceOfficeGeo found = nearest.get(i);
+                    PoliceOfficeGeo row = byAddress.get(found.getAddress());
+                    assertEquals(row.getLatitude(), found.getLatitude(), where);
+                    assertEquals(row.getLongitude(), found.getLongitude(), where);
+                    assertEquals(row.getGeohashId(), found.getGeohashId(), where);
+
+                    double distance = geohashService.calculateDistance(latitude, longitude,
+                            found.getLatitude(), found.getLongitude());
+                    assertEquals(expected.get(i), distance, EPSILON, where + " 순위 " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void kLargerThanSizeReturnsAllInDistanceOrder() {
+        Random random = new Random(6);
+        List<PoliceOfficeGeo> rows = randomRows(random).subList(0, 7);
+        PoliceOfficeSpatialIndex index = build(rows);
+
+        List<PoliceOfficeGeo> nearest = index.findNearest(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 50);
+
+        assertEquals(7, nearest.size());
+        List<Double> expected = bruteForceDistances(rows, CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 50);
+        for (int i = 0; i < nearest.size(); i++) {
+            assertEquals(expected.get(i), geohashService.calculateDistance(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE,
+                    nearest.get(i).getLatitude(), nearest.get(i).getLongitude()), EPSILON);
+        }
+
+        assertTrue(index.findNearest(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 0).isEmpty());
+        assertTrue(index.findNearest(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, -1).isEmpty());
+    }
+
+    @Test
+    void emptySnapshotReturnsEmptyList() {
+        PoliceOfficeSpatialIndex index = new PoliceOfficeSpatialIndex(policeOfficeGeoRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+
+        // 적재 전
+        assertFalse(index.isReady());
+        assertTrue(index.findNearest(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 3).isEmpty());
+
+        // 0건 적재 (좌표 누락 행만 있음)
+        when(policeOfficeGeoRepository.findAll()).thenReturn(List.of(
+                PoliceOfficeGeo.builder().address("좌표 없음").longitude(CITY_HALL_LONGITUDE).build()));
+        index.rebuild();
+
+        assertFalse(index.isReady());
+        assertEquals(0, index.size());
+        assertTrue(index.findNearest(CITY_HALL_LATITUDE, CITY_HALL_LONGITUDE, 3).isEmpty());
+    }
+
+    private PoliceOfficeSpatialIndex build(List<PoliceOfficeGeo> rows) {
+        when(policeOfficeGeoRepository.findAll()).thenReturn(rows);
+        PoliceOfficeSpatialIndex index = new PoliceOfficeSpatialIndex(policeOfficeGeoRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+        assertTrue(index.isReady());
+        assertEquals(rows.size(), index.size());
+        return index;
+    }
+
+    /* 전체 행 Haversine 거리 오름차순 앞 k 개 */
+    private List<Double> bruteForceDistances(List<PoliceOfficeGeo> rows, double latitude, double longitude, int k) {
+        List<Double> distances = new ArrayList<>(rows.size());
+        for (PoliceOfficeGeo row : rows) {
+            distances.add(geohashService.calculateDistance(latitude, longitude, row.getLatitude(), row.getLongitude()));
+        }
+        distances.sort(Comparator.naturalOrder());
+        return distances.subList(0, Math.min(k, distances.size()));
+    }
+
+    /*
+     * 무작위 파출소 + 앞 지점과 같은 좌표 / 같은 위도 / 같은 경도를 쓰는 파출소를 섞은 목록 (주소는 중복 없음)
+     */
+    private static List<PoliceOfficeGeo> randomRows(Random random) {
+        List<PoliceOfficeGeo> rows = new ArrayList<>();
+        for (int i = 0; i < RANDOM_ROWS; i++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+            if (i > 0 && i % 10 == 0) {
+                PoliceOfficeGeo previous = rows.get(random.nextInt(rows.size()));
+                int shared = random.nextInt(3);
+                latitude = shared != 2 ? previous.getLatitude() : latitude;
+                longitude = shared != 1 ? previous.getLongitude() : longitude;
+            }
+            rows.add(PoliceOfficeGeo.builder()
+                    .address("파출소-" + i)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .geohashId(GeohashCodec.toBase32(GeohashCodec.encode(latitude, longitude, 7)))
+                    .build());
+        }
+        Collections.shuffle(rows, random);
+        return rows;
+    }
+}
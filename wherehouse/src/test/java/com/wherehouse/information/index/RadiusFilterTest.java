@@ -0,0 +1,137 @@
+package com.wherehouse.information.index;
+
+import com.wherehouse.information.util.GeohashService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static com.wherehouse.information.index.SeoulTestArea.randomLatitude;
+import static com.wherehouse.information.index.SeoulTestArea.randomLongitude;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RadiusFilter 판정 / 거리 정합성 검증 (GeohashService.calculateDistance 기준)
+ *
+ * 반경마다 서울 영역 무작위 중심, 중심 주변 지점 (반경 1.5배 사각형 + 반경 ±1% 경계 부근):
+ * - 판정      : contains 결과가 Haversine 단독 판정(거리 <= 반경)과 같다.
+ * - 거리      : distance 가 GeohashService.calculateDistance 와 같은 값이다.
+ * - 근사 오차 : 등장방형 근사 거리가 Haversine 거리 대비 경계 띠(±0.5%) 안에 든다. (반경 20km 까지)
+ * - 배열 필터 : filter 가 contains 를 만족하는 위치만 순서대로 기록한다.
+ */
+class RadiusFilterTest {
+
+    private static final int CENTERS = 200;
+    private static final int POINTS_PER_CENTER = 500;
+
+    /* RadiusFilter.BAND 와 같은 값 */
+    private static final double BAND = 0.005;
+
+    private final GeohashService geohashService = new GeohashService();
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 100, 250, 500, 1000, 2000, 20000})
+    void containsMatchesHaversine(int radius) {
+        forEachPoint(radius, (filter, latitude, longitude, pointLat, pointLon) ->
+                assertEquals(geohashService.calculateDistance(latitude, longitude, pointLat, pointLon) <= radius,
+                        filter.contains(pointLat, pointLon),
+                        describe(latitude, longitude, radius, pointLat, pointLon)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {30, 500, 2000, 20000})
+    void distanceMatchesGeohashService(int radius) {
+        forEachPoint(radius, (filter, latitude, longitude, pointLat, pointLon) ->
+                assertEquals(geohashService.calculateDistance(latitude, longitude, pointLat, pointLon),
+                        filter.distance(pointLat, pointLon),
+                        describe(latitude, longitude, radius, pointLat, pointLon)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {500, 2000, 5000, 20000})
+    void approximationErrorStaysInsideBand(int radius) {
+        forEachPoint(radius, (filter, latitude, longitude, pointLat, pointLon) -> {
+            double exact = filter.distance(pointLat, pointLon);
+            if (exact < 1.0) {
+                return;
+            }
+            double approximate = Math.sqrt(filter.approximateSquared(pointLat, pointLon));
+            assertTrue(Math.abs(approximate - exact) / exact < BAND,
+                    describe(latitude, longitude, radius, pointLat, pointLon)
+                            + String.format(" 근사 %.3fm / Haversine %.3fm", approximate, exact));
+        });
+    }
+
+    @Test
+    void filterRecordsContainedIndicesInOrder() {
+        Random random = new Random(11);
+        int radius = 1000;
+        int points = 5000;
+
+        double latitude = randomLatitude(random);
+        double longitude = randomLongitude(random);
+        RadiusFilter filter = RadiusFilter.of(latitude, longitude, radius);
+
+        double[] latitudes = new double[points];
+        double[] longitudes = new double[points];
+        for (int i = 0; i < points; i++) {
+            latitudes[i] = latitude + (random.nextDouble() * 2 - 1) * (filter.getMaxLatitude() - latitude) * 1.5;
+            longitudes[i] = longitude + (random.nextDouble() * 2 - 1) * (filter.getMaxLongitude() - longitude) * 1.5;
+        }
+
+        // 앞 3칸은 기존 기록으로 두고 이어서 기록되는지 확인
+        int[] out = new int[points + 3];
+        int count = filter.filter(latitudes, longitudes, 100, points, out, 3);
+
+        int expected = 3;
+        for (int i = 100; i < points; i++) {
+            if (filter.contains(latitudes[i], longitudes[i])) {
+                assertEquals(i, out[expected++]);
+            }
+        }
+        assertEquals(expected, count);
+    }
+
+    /*
+     * 중심마다 반경 1.5배 사각형 안 무작위 지점 절반, 반경 ±1% 원주 부근 지점 절반
+     * (경계 부근은 근사 판정과 Haversine 판정이 갈릴 수 있는 구간)
+     */
+    private static void forEachPoint(int radius, PointCheck check) {
+        Random random = new Random(radius);
+
+        for (int c = 0; c < CENTERS; c++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+            RadiusFilter filter = RadiusFilter.of(latitude, longitude, radius);
+
+            double latDelta = Math.toDegrees(radius / RadiusFilter.EARTH_RADIUS);
+            double lonDelta = latDelta / Math.cos(Math.toRadians(latitude));
+
+            for (int p = 0; p < POINTS_PER_CENTER; p++) {
+                double pointLat;
+                double pointLon;
+                if ((p & 1) == 0) {
+                    pointLat = latitude + (random.nextDouble() * 2 - 1) * latDelta * 1.5;
+                    pointLon = longitude + (random.nextDouble() * 2 - 1) * lonDelta * 1.5;
+                } else {
+                    double bearing = random.nextDouble() * 2 * Math.PI;
+                    double scale = 0.99 + random.nextDouble() * 0.02;
+                    pointLat = latitude + Math.sin(bearing) * latDelta * scale;
+                    pointLon = longitude + Math.cos(bearing) * lonDelta * scale;
+                }
+                check.run(filter, latitude, longitude, pointLat, pointLon);
+            }
+        }
+    }
+
+    private static String describe(double latitude, double longitude, int radius, double pointLat, double pointLon) {
+        return String.format("중심 (%.7f, %.7f) 반경 %dm, 지점 (%.7f, %.7f)", latitude, longitude, radius, pointLat, pointLon);
+    }
+
+    @FunctionalInterface
+    private interface PointCheck {
+        void run(RadiusFilter filter, double latitude, double longitude, double pointLat, double pointLon);
+    }
+}
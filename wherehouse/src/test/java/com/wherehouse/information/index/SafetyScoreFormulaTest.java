@@ -0,0 +1,42 @@
+package com.wherehouse.information.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SafetyScoreFormula 경계값 검증
+ *
+ * - 파출소 거리 : 0m 100점, 400m 50점, 800m 0점, 800m 초과 / 파출소 없음(POSITIVE_INFINITY) 0점
+ * - CCTV       : 15개 50점, 30개 이상 100점 상한
+ * - 합산       : 거리 30% / CCTV 40% / 검거율 30%
+ */
+class SafetyScoreFormulaTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void policeDistanceScoreIsLinearUpTo800Meters() {
+        assertEquals(100, SafetyScoreFormula.policeDistanceScore(0), EPSILON);
+        assertEquals(50, SafetyScoreFormula.policeDistanceScore(400), EPSILON);
+        assertEquals(0, SafetyScoreFormula.policeDistanceScore(800), EPSILON);
+        assertEquals(0, SafetyScoreFormula.policeDistanceScore(801), EPSILON);
+        assertEquals(0, SafetyScoreFormula.policeDistanceScore(Double.POSITIVE_INFINITY), EPSILON);
+    }
+
+    @Test
+    void cctvScoreIsCappedAt30Cameras() {
+        assertEquals(0, SafetyScoreFormula.cctvScore(0), EPSILON);
+        assertEquals(50, SafetyScoreFormula.cctvScore(15), EPSILON);
+        assertEquals(100, SafetyScoreFormula.cctvScore(30), EPSILON);
+        assertEquals(100, SafetyScoreFormula.cctvScore(120), EPSILON);
+    }
+
+    @Test
+    void safetyScoreAppliesWeights() {
+        // 거리 50점 × 0.3 + CCTV 50점 × 0.4 + 검거율 80점 × 0.3
+        assertEquals(15 + 20 + 24, SafetyScoreFormula.safetyScore(400, 15, 0.8), EPSILON);
+        assertEquals(100, SafetyScoreFormula.safetyScore(0, 30, 1.0), EPSILON);
+        assertEquals(0, SafetyScoreFormula.safetyScore(Double.POSITIVE_INFINITY, 0, 0), EPSILON);
+    }
+}
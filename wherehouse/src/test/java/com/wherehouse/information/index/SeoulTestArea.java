@@ -0,0 +1,33 @@
+package com.wherehouse.information.index;
+
+import java.util.Random;
+
+/**
+ * 테스트 공용 서울 좌표
+ *
+ * - 경계 상자 : 무작위 중심 / 지점을 뽑는 서울 영역 (대략, 위도 37.42 ~ 37.70 / 경도 126.76 ~ 127.18)
+ * - 시청      : 고정 중심이 필요한 테스트의 기준 좌표
+ */
+public final class SeoulTestArea {
+
+    // 서울 경계 상자 (대략)
+    public static final double MIN_LATITUDE = 37.42;
+    public static final double MAX_LATITUDE = 37.70;
+    public static final double MIN_LONGITUDE = 126.76;
+    public static final double MAX_LONGITUDE = 127.18;
+
+    // 서울시청
+    public static final double CITY_HALL_LATITUDE = 37.5665;
+    public static final double CITY_HALL_LONGITUDE = 126.9780;
+
+    private SeoulTestArea() {
+    }
+
+    public static double randomLatitude(Random random) {
+        return MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+    }
+
+    public static double randomLongitude(Random random) {
+        return MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+    }
+}
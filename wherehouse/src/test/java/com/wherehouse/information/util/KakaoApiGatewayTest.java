@@ -0,0 +1,328 @@
+package com.wherehouse.information.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * KakaoApiGateway 동시성 제한 / 대기열 / 서킷 브레이커 검증 (카카오 호출 대신 스텁 Callable)
+ *
+ * - 가산 증가   : latency-threshold 이내 성공마다 limit += 1 / limit
+ * - 승산 감소   : 함께 실행 중이던 느린 호출 N건이 끝나도 limit 은 한 번만 줄고, 감소 이후 시작한 호출은 다시 줄인다.
+ * - 대기열      : 대기열이 차면 즉시 거절, max-queue-wait 를 넘긴 호출은 실행하지 않고 거절
+ * - 브레이커    : 실패율 초과 시 OPEN (호출하지 않고 거절), HALF_OPEN 시험 호출 1건만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ * - 대기 시험 호출 : 대기열에 들어간 시험 호출이 꺼낼 때 자기 자신에게 막히지 않고, 대기 초과로 거절되면 다음 호출이 시험 호출이 된다.
+ */
+class KakaoApiGatewayTest {
+
+    private static final long AWAIT_SECONDS = 5;
+
+    private final List<KakaoApiGateway> gateways = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        gateways.forEach(KakaoApiGateway::shutdown);
+    }
+
+    @Test
+    void fastSuccessIncreasesLimitAdditively() {
+        KakaoApiGateway gateway = gateway(g -> ReflectionTestUtils.setField(g, "initialLimit", 4));
+
+        double expected = 4;
+        for (int i = 0; i < 20; i++) {
+            assertEquals("완료", gateway.submit(() -> "완료").join());
+            expected = Math.min(48, expected + 1.0 / expected);
+        }
+
+        assertEquals((int) expected, stat(gateway, "limit"));
+        assertEquals(20L, stat(gateway, "succeeded"));
+    }
+
+    @Test
+    void burstOfSlowCallsDecreasesLimitOnce() throws Exception {
+        KakaoApiGateway gateway = gateway(g -> {
+            ReflectionTestUtils.setField(g, "initialLimit", 16);
+            ReflectionTestUtils.setField(g, "maxLimit", 16);
+            ReflectionTestUtils.setField(g, "latencyThreshold", Duration.ofMillis(30));
+        });
+
+        CountDownLatch started = new CountDownLatch(8);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<String>> burst = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            burst.add(gateway.submit(blocking(started, release, "느린 호출 " + i)));
+        }
+        await(started);
+        Thread.sleep(60);
+        release.countDown();
+        burst.forEach(CompletableFuture::join);
+
+        assertEquals(8L, stat(gateway, "slowCalls"));
+        assertEquals(12, stat(gateway, "limit"));     // 16 * 0.75 한 번만
+
+        // 감소 이후 시작한 느린 호출은 다음 창으로 다시 감소
+        gateway.submit(() -> {
+            Thread.sleep(60);
+            return "다음 창";
+        }).join();
+        assertEquals(9, stat(gateway, "limit"));      // 12 * 0.75
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        KakaoApiGateway gateway = gateway(g -> {
+            fixLimit(g, 1);
+            ReflectionTestUtils.setField(g, "queueCapacity", 1);
+        });
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = gateway.submit(blocking(started, release, "실행 중"));
+        CompletableFuture<String> queued = gateway.submit(() -> "대기");
+        CompletableFuture<String> overflow = gateway.submit(() -> "초과");
+
+        assertRejected(overflow);
+        assertEquals(1, stat(gateway, "queued"));
+
+        release.countDown();
+        assertEquals("실행 중", running.join());
+        assertEquals("대기", queued.join());
+        assertEquals(1L, stat(gateway, "rejectedQueueFull"));
+    }
+
+    @Test
+    void rejectsCallsThatWaitedTooLong() throws Exception {
+        KakaoApiGateway gateway = gateway(g -> {
+            fixLimit(g, 1);
+            ReflectionTestUtils.setField(g, "maxQueueWait", Duration.ofMillis(30));
+        });
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger invoked = new AtomicInteger();
+        CompletableFuture<String> running = gateway.submit(blocking(started, release, "실행 중"));
+        CompletableFuture<String> queued = gateway.submit(counting(invoked, "대기"));
+
+        await(started);
+        Thread.sleep(60);
+        release.countDown();
+
+        assertEquals("실행 중", running.join());
+        assertRejected(queued);
+        assertEquals(0, invoked.get());
+        assertEquals(1L, stat(gateway, "rejectedQueueTimeout"));
+    }
+
+    @Test
+    void opensBreakerAndRejectsWithoutCalling() {
+        KakaoApiGateway gateway = gateway(g -> ReflectionTestUtils.setField(g, "openDuration", Duration.ofSeconds(10)));
+
+        for (int i = 0; i < 4; i++) {
+            assertFailed(gateway.submit(failing()));
+        }
+        assertEquals("OPEN", stat(gateway, "breakerState"));
+
+        AtomicInteger invoked = new AtomicInteger();
+        assertRejected(gateway.submit(counting(invoked, "차단")));
+        assertEquals(0, invoked.get());
+        assertEquals(1L, stat(gateway, "rejectedOpenCircuit"));
+    }
+
+    @Test
+    void halfOpenAdmitsSingleProbe() throws Exception {
+        KakaoApiGateway gateway = gateway(g -> ReflectionTestUtils.setField(g, "openDuration", Duration.ofMillis(50)));
+
+        for (int i = 0; i < 4; i++) {
+            assertFailed(gateway.submit(failing()));
+        }
+        Thread.sleep(80);
+
+        // 시험 호출 실패 → 다시 OPEN
+        assertFailed(gateway.submit(failing()));
+        assertEquals("OPEN", stat(gateway, "breakerState"));
+        assertEquals(2L, stat(gateway, "breakerOpenCount"));
+        Thread.sleep(80);
+
+        // 시험 호출 실행 중에는 다른 호출 거절, 성공하면 CLOSED
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> probe = gateway.submit(blocking(started, release, "시험 호출"));
+        await(started);
+        assertEquals("HALF_OPEN", stat(gateway, "breakerState"));
+        assertRejected(gateway.submit(() -> "동시 호출"));
+
+        release.countDown();
+        assertEquals("시험 호출", probe.join());
+        assertEquals("CLOSED", stat(gateway, "breakerState"));
+        assertEquals("다음 호출", gateway.submit(() -> "다음 호출").join());
+    }
+
+    @Test
+    void queuedProbeRunsWhenDequeued() throws Exception {
+        KakaoApiGateway gateway = gateway(g -> {
+            ReflectionTestUtils.setField(g, "openDuration", Duration.ofMillis(50));
+            ReflectionTestUtils.setField(g, "maxQueueWait", Duration.ofSeconds(5));
+        });
+        CountDownLatch[] releases = openBreakerWithTwoCallsInFlight(gateway);
+        Thread.sleep(80);
+
+        // limit 1, 실행 중 2건 → 시험 호출은 대기열로
+        CompletableFuture<String> probe = gateway.submit(() -> "시험 호출");
+        assertEquals(1, stat(gateway, "queued"));
+
+        releases[0].countDown();
+        assertEquals("시험 호출", probe.join());
+        assertEquals("CLOSED", stat(gateway, "breakerState"));
+        assertEquals(0L, stat(gateway, "rejectedOpenCircuit"));
+        releases[1].countDown();
+    }
+
+    @Test
+    void queuedProbeTimeoutFreesProbeSlot() throws Exception {
+        KakaoApiGateway gateway = gateway(g -> {
+            ReflectionTestUtils.setField(g, "openDuration", Duration.ofMillis(50));
+            ReflectionTestUtils.setField(g, "maxQueueWait", Duration.ofMillis(30));
+        });
+        CountDownLatch[] releases = openBreakerWithTwoCallsInFlight(gateway);
+        Thread.sleep(80);
+
+        AtomicInteger invoked = new AtomicInteger();
+        CompletableFuture<String> probe = gateway.submit(counting(invoked, "시험 호출"));
+        Thread.sleep(60);
+        releases[0].countDown();
+
+        assertRejected(probe);
+        assertEquals(0, invoked.get());
+        assertEquals(1L, stat(gateway, "rejectedQueueTimeout"));
+
+        // 시험 호출 자리가 비었으므로 다음 호출이 시험 호출로 실행된다
+        assertEquals("다음 시험 호출", gateway.submit(() -> "다음 시험 호출").join());
+        assertEquals("CLOSED", stat(gateway, "breakerState"));
+        releases[1].countDown();
+    }
+
+    /*
+     * 오래 걸리는 호출 2건을 실행 중으로 둔 채 실패 4건으로 브레이커를 OPEN 시킨다.
+     * 실패 4건은 함께 끝나므로 limit 은 한 번만 줄어 6 * 0.25 = 1.5 → 1 (실행 중 2건 ≥ limit)
+     * 반환: 실행 중 2건 각각의 해제 래치
+     */
+    private static CountDownLatch[] openBreakerWithTwoCallsInFlight(KakaoApiGateway gateway) {
+        ReflectionTestUtils.setField(gateway, "backoffRatio", 0.25);
+
+        CountDownLatch[] releases = {new CountDownLatch(1), new CountDownLatch(1)};
+        CountDownLatch running = new CountDownLatch(2);
+        for (CountDownLatch release : releases) {
+            gateway.submit(blocking(running, release, "실행 중"));
+        }
+        await(running);
+
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<String>> failures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            failures.add(gateway.submit(() -> {
+                started.countDown();
+                release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+                throw new IllegalStateException("카카오 오류");
+            }));
+        }
+        await(started);
+        release.countDown();
+        failures.forEach(KakaoApiGatewayTest::assertFailed);
+
+        assertEquals("OPEN", stat(gateway, "breakerState"));
+        assertEquals(1, stat(gateway, "limit"));
+        assertEquals(2, stat(gateway, "inFlight"));
+        return releases;
+    }
+
+    /* 기본값: limit 6 (1 ~ 48), 대기열 10건, 브레이커 창 4건 / 최소 4건 / 실패율 0.5, 지연 기준 10s (느린 호출 없음) */
+    private KakaoApiGateway gateway(Consumer<KakaoApiGateway> overrides) {
+        KakaoApiGateway gateway = new KakaoApiGateway();
+        ReflectionTestUtils.setField(gateway, "initialLimit", 6);
+        ReflectionTestUtils.setField(gateway, "minLimit", 1);
+        ReflectionTestUtils.setField(gateway, "maxLimit", 48);
+        ReflectionTestUtils.setField(gateway, "queueCapacity", 10);
+        ReflectionTestUtils.setField(gateway, "maxQueueWait", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(gateway, "latencyThreshold", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(gateway, "backoffRatio", 0.75);
+        ReflectionTestUtils.setField(gateway, "windowSize", 4);
+        ReflectionTestUtils.setField(gateway, "minCalls", 4);
+        ReflectionTestUtils.setField(gateway, "failureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(gateway, "openDuration", Duration.ofSeconds(1));
+        overrides.accept(gateway);
+        gateway.init();
+        gateways.add(gateway);
+        return gateway;
+    }
+
+    private static void fixLimit(KakaoApiGateway gateway, int limit) {
+        ReflectionTestUtils.setField(gateway, "initialLimit", limit);
+        ReflectionTestUtils.setField(gateway, "minLimit", limit);
+        ReflectionTestUtils.setField(gateway, "maxLimit", limit);
+    }
+
+    private static Callable<String> blocking(CountDownLatch started, CountDownLatch release, String value) {
+        return () -> {
+            started.countDown();
+            if (!release.await(AWAIT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("해제 대기 초과");
+            }
+            return value;
+        };
+    }
+
+    private static Callable<String> counting(AtomicInteger invoked, String value) {
+        return () -> {
+            invoked.incrementAndGet();
+            return value;
+        };
+    }
+
+    private static Callable<String> failing() {
+        return () -> {
+            throw new IllegalStateException("카카오 오류");
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(AWAIT_SECONDS, TimeUnit.SECONDS)) {
+                fail("호출 시작 대기 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+
+    private static void assertRejected(CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertTrue(e.getCause() instanceof KakaoApiGateway.RejectedException, String.valueOf(e.getCause()));
+    }
+
+    private static void assertFailed(CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+    }
+
+    private static Object stat(KakaoApiGateway gateway, String name) {
+        return gateway.getStats().get(name);
+    }
+}
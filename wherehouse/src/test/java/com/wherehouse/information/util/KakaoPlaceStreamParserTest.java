@@ -0,0 +1,176 @@
+package com.wherehouse.information.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wherehouse.information.model.KakaoPlaces;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LATITUDE;
+import static com.wherehouse.information.index.SeoulTestArea.CITY_HALL_LONGITUDE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * KakaoPlaceStreamParser 정합성 검증 (기존 String → JsonNode 트리 파싱 대비)
+ *
+ * - 조각 크기 : 응답을 1바이트 ~ 통째까지 direct ByteBuffer 조각으로 나누어 넣어도 장소명 / 좌표 / 거리 / 카테고리명이 트리 파싱과 같다.
+ *              (조각 경계가 한글 UTF-8 바이트, 숫자 문자열 중간에 걸리는 경우 포함)
+ * - 값 형식   : 숫자 값 x / y / distance, 빈 / null 거리, 누락 필드, 모르는 필드 안의 중첩 객체 / 배열을 트리 파싱과 같게 처리한다.
+ * - 소수 변환 : parseDecimal 이 Double.parseDouble 과 같은 값을 낸다.
+ * - 잘린 응답 : JSON 이 완결되지 않으면 IOException
+ */
+class KakaoPlaceStreamParserTest {
+
+    private static final String[] CATEGORY_NAMES = {"지하철역", "편의점", "음식점", "카페", "약국"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64, 512, 8192})
+    void matchesTreeParseForAnyChunkSize(int chunkSize) throws IOException {
+        Random random = new Random(chunkSize);
+
+        for (String categoryName : CATEGORY_NAMES) {
+            byte[] body = sampleResponse(random, categoryName, 15).getBytes(StandardCharsets.UTF_8);
+            assertSamePlaces(parseTree(body), parseStreaming(body, chunkSize));
+        }
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() throws IOException {
+        byte[] body = sampleResponse(new Random(3), "편의점", 45).getBytes(StandardCharsets.UTF_8);
+
+        KakaoPlaces places = parseStreaming(body, 8192);
+
+        assertEquals(45, places.getSize());
+        assertSamePlaces(parseTree(body), places);
+    }
+
+    @Test
+    void handlesNumericNullAndNestedValuesLikeTreeParse() throws IOException {
+        String json = "{\"meta\":{\"documents\":[{\"place_name\":\"meta 안\"}],\"same_name\":null},"
+                + "\"documents\":["
+                + "{\"place_name\":\"숫자 값\",\"x\":126.9780,\"y\":37.5665,\"distance\":120,"
+                + "\"category_group_name\":\"카페\",\"extra\":{\"place_name\":\"중첩\",\"x\":\"1.0\"},\"tags\":[[1,2],{\"y\":\"2.0\"}]},"
+                + "{\"place_name\":\"빈 거리\",\"x\":\"-126.5\",\"y\":\"+37.25\",\"distance\":\"\","
+                + "\"category_group_name\":\"카페\"},"
+                + "{\"place_name\":\"필드 누락\",\"x\":null,\"y\":\"37\",\"distance\":null}"
+                + "]}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        KakaoPlaces places = parseStreaming(body, 5);
+
+        assertSamePlaces(parseTree(body), places);
+        assertSame(places.getCategoryNames()[0], places.getCategoryNames()[1]);
+    }
+
+    @Test
+    void parseDecimalMatchesParseDouble() {
+        Random random = new Random(42);
+        List<String> values = new ArrayList<>(List.of("0", "0.0", "-0.5", "126.97755", "37.566535",
+                "127.000000000001", "1.0000000000000002", "12345678901234567", "1e3", ".5", "5."));
+        for (int i = 0; i < 20000; i++) {
+            int fraction = 1 + random.nextInt(14);
+            values.add(String.format(Locale.ROOT, "%." + fraction + "f", 126 + random.nextDouble()));
+            values.add(String.format(Locale.ROOT, "%." + fraction + "f", 37 + random.nextDouble()));
+        }
+
+        for (String value : values) {
+            char[] chars = ("##" + value + "##").toCharArray();
+            assertEquals(Double.parseDouble(value), KakaoPlaceStreamParser.parseDecimal(chars, 2, value.length()), value);
+        }
+    }
+
+    @Test
+    void rejectsTruncatedResponse() throws IOException {
+        byte[] body = sampleResponse(new Random(5), "약국", 15).getBytes(StandardCharsets.UTF_8);
+        byte[] truncated = new byte[body.length / 2];
+        System.arraycopy(body, 0, truncated, 0, truncated.length);
+
+        assertThrows(IOException.class, () -> parseStreaming(truncated, 64));
+    }
+
+    /* KakaoApiService 의 기존 searchPlacesByCategory 본문 처리와 같은 경로 */
+    private List<Map<String, Object>> parseTree(byte[] body) throws IOException {
+        JsonNode root = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+
+        List<Map<String, Object>> places = new ArrayList<>();
+        for (JsonNode doc : root.path("documents")) {
+            Map<String, Object> place = new LinkedHashMap<>();
+            place.put("name", doc.path("place_name").asText());
+            place.put("latitude", doc.path("y").asDouble());
+            place.put("longitude", doc.path("x").asDouble());
+            place.put("distance", doc.path("distance").asInt());
+            place.put("categoryName", doc.path("category_group_name").asText());
+            places.add(place);
+        }
+        return places;
+    }
+
+    private KakaoPlaces parseStreaming(byte[] body, int chunkSize) throws IOException {
+        KakaoPlaceStreamParser parser = new KakaoPlaceStreamParser(objectMapper.getFactory());
+        for (int from = 0; from < body.length; from += chunkSize) {
+            int length = Math.min(chunkSize, body.length - from);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(length);
+            chunk.put(body, from, length).flip();
+            parser.feed(chunk.asReadOnlyBuffer());
+        }
+        return parser.finish();
+    }
+
+    private static void assertSamePlaces(List<Map<String, Object>> expected, KakaoPlaces actual) {
+        assertEquals(expected.size(), actual.getSize());
+        for (int i = 0; i < expected.size(); i++) {
+            Map<String, Object> place = expected.get(i);
+            String message = "장소 " + i + " " + place;
+            assertEquals(place.get("name"), actual.getNames()[i], message);
+            assertEquals((double) place.get("latitude"), actual.getLatitudes()[i], message);
+            assertEquals((double) place.get("longitude"), actual.getLongitudes()[i], message);
+            assertEquals((int) place.get("distance"), actual.getDistances()[i], message);
+            assertEquals(place.get("categoryName"), actual.getCategoryNames()[i], message);
+        }
+    }
+
+    /* 카카오 카테고리 검색 응답 형식 (documents + meta, 좌표 / 거리는 문자열) */
+    private String sampleResponse(Random random, String categoryName, int count) throws IOException {
+        List<Map<String, Object>> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> doc = new LinkedHashMap<>();
+            doc.put("address_name", "서울 중구 태평로1가 " + (i + 1));
+            doc.put("category_group_code", "CS2");
+            doc.put("category_group_name", categoryName);
+            doc.put("category_name", "가정,생활 > " + categoryName + " > 예시 " + i);
+            doc.put("distance", String.valueOf(random.nextInt(1000)));
+            doc.put("id", String.valueOf(10_000_000 + random.nextInt(90_000_000)));
+            doc.put("place_name", categoryName + " 서울시청점 " + i);
+            doc.put("road_address_name", "서울 중구 세종대로 " + (100 + i));
+            doc.put("x", String.format(Locale.ROOT, "%.12f", CITY_HALL_LONGITUDE + (random.nextDouble() - 0.5) * 0.02));
+            doc.put("y", String.format(Locale.ROOT, "%.12f", CITY_HALL_LATITUDE + (random.nextDouble() - 0.5) * 0.02));
+            documents.add(doc);
+        }
+
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("is_end", false);
+        meta.put("pageable_count", 45);
+        meta.put("same_name", null);
+        meta.put("total_count", 120);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("documents", documents);
+        body.put("meta", meta);
+        return objectMapper.writeValueAsString(body);
+    }
+}
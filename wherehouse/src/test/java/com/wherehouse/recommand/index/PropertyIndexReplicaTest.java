@@ -0,0 +1,363 @@
+package com.wherehouse.recommand.index;
+
+import com.wherehouse.PropertyManagement.entity.PropertyStatus;
+import com.wherehouse.PropertyManagement.event.PropertyChangedEvent;
+import com.wherehouse.recommand.batch.entity.PropertyCharter;
+import com.wherehouse.recommand.batch.entity.PropertyMonthly;
+import com.wherehouse.recommand.batch.repository.PropertyCharterRepository;
+import com.wherehouse.recommand.batch.repository.PropertyMonthlyRepository;
+import com.wherehouse.redis.handler.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PropertyIndexReplica 조회 정합성 검증 (RDB 리포지토리 / RedisTemplate 은 목 객체)
+ *
+ * - 전체 적재  : 메모리 엔티티로 만든 파티션의 findCharter / findMonthly 결과가 같은 레코드 전체를 직접 거른 결과와 같다.
+ *               (ACTIVE / 임대 유형 / 필수 값 누락 제외, 폐구간 경계값 포함, 적재 청크보다 많은 행)
+ * - 부분 갱신  : UPSERT(값 변경 / 신규 / 비 ACTIVE 전이) · REMOVE(기존 / 없는 매물) 반영 후에도 직접 거른 결과와 같고,
+ *               변경 지역구의 bounds 는 Redis 에서 다시 읽은 값으로 바뀐다.
+ * - 재적용    : 재구축 중(RDB 적재 도중) 도착한 변경은 적재 결과 위에 다시 적용되어 새 스냅샷에 남는다.
+ */
+class PropertyIndexReplicaTest {
+
+    private static final List<String> DISTRICTS = List.of("강남구", "마포구", "종로구");
+    private static final String EMPTY_DISTRICT = "노원구";
+    private static final int ROWS = 600;
+    private static final int QUERIES = 200;
+
+    private final PropertyCharterRepository propertyCharterRepository = mock(PropertyCharterRepository.class);
+    private final PropertyMonthlyRepository propertyMonthlyRepository = mock(PropertyMonthlyRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+
+    private final List<PropertyCharter> charterRows = new ArrayList<>();
+    private final List<PropertyMonthly> monthlyRows = new ArrayList<>();
+
+    /* 기대 결과 계산용 전체 레코드 (propertyId → 레코드, 추천 대상 여부와 무관하게 보관) */
+    private final Map<String, PropertyRecord> charterModel = new LinkedHashMap<>();
+    private final Map<String, PropertyRecord> monthlyModel = new LinkedHashMap<>();
+
+    private final Random random = new Random(24);
+
+    private PropertyIndexReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            PropertyCharter charter = PropertyCharter.builder()
+                    .propertyId(String.format("c%04d", i))
+                    .districtName(DISTRICTS.get(random.nextInt(DISTRICTS.size())))
+                    .deposit(random.nextInt(30) == 0 ? null : randomDeposit())
+                    .areaInPyeong(random.nextInt(30) == 0 ? null : randomArea())
+                    .status(randomStatus())
+                    .build();
+            charterRows.add(charter);
+            charterModel.put(charter.getPropertyId(), PropertyRecord.of(charter));
+
+            PropertyMonthly monthly = PropertyMonthly.builder()
+                    .propertyId(String.format("m%04d", i))
+                    .districtName(DISTRICTS.get(random.nextInt(DISTRICTS.size())))
+                    .deposit(random.nextInt(30) == 0 ? null : randomDeposit() / 10)
+                    .monthlyRent(random.nextInt(30) == 0 ? null : randomRent())
+                    .areaInPyeong(random.nextInt(30) == 0 ? null : randomArea())
+                    .status(randomStatus())
+                    .build();
+            monthlyRows.add(monthly);
+            monthlyModel.put(monthly.getPropertyId(), PropertyRecord.of(monthly));
+        }
+
+        when(propertyCharterRepository.findAllBy(any(Pageable.class))).thenAnswer(pages(charterRows));
+        when(propertyMonthlyRepository.findAllBy(any(Pageable.class))).thenAnswer(pages(monthlyRows));
+
+        // 25개 구 × (bounds 전세, bounds 월세, safety) - 강남구(목록 23번째)만 값이 있고 나머지는 키 없음
+        List<Object> pipelined = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            boolean gangnam = i == 22;
+            pipelined.add(gangnam ? Map.of("depositMin", "1000") : null);
+            pipelined.add(gangnam ? Map.of("depositMin", "100") : null);
+            pipelined.add(gangnam ? Map.of("safetyScore", "71.5") : null);
+        }
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(pipelined);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of("depositMin", "500"));
+
+        replica = new PropertyIndexReplica(propertyCharterRepository, propertyMonthlyRepository,
+                new RedisHandler(redisTemplate, null));
+        ReflectionTestUtils.setField(replica, "enabled", true);
+        ReflectionTestUtils.setField(replica, "loadChunkSize", 128);
+    }
+
+    @Test
+    void rebuiltPartitionsMatchBruteForce() {
+        replica.rebuild();
+
+        assertTrue(replica.isReady());
+        assertEquals(indexableCount(charterModel, false), stat("charterProperties"));
+        assertEquals(indexableCount(monthlyModel, true), stat("monthlyProperties"));
+        assertEquals(Map.of("depositMin", "1000"), replica.getBoundsHash("강남구", PropertyIndexReplica.CHARTER));
+        assertEquals(Map.of(), replica.getBoundsHash("마포구", PropertyIndexReplica.CHARTER));
+
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void patchedSnapshotMatchesBruteForce() {
+        replica.rebuild();
+
+        PropertyRecord charter = firstIndexable(charterModel, false);
+        PropertyRecord monthly = firstIndexable(monthlyModel, true);
+
+        // 값 변경 (같은 지역구)
+        apply(upsert(charter.getPropertyId(), charter.getDistrictName(), PropertyIndexReplica.CHARTER,
+                "ACTIVE", 1000, null, 10.0));
+        apply(upsert(monthly.getPropertyId(), monthly.getDistrictName(), PropertyIndexReplica.MONTHLY,
+                "ACTIVE", 3000, 150, 25.5));
+        assertMatchesBruteForce();
+
+        // 신규 매물 / 매물이 없던 지역구의 신규 매물 (파티션 생성)
+        apply(upsert("c9999", "마포구", PropertyIndexReplica.CHARTER, "ACTIVE", 45000, null, 30.0));
+        apply(upsert("m9999", EMPTY_DISTRICT, PropertyIndexReplica.MONTHLY, "ACTIVE", 1000, 50, 12.0));
+        assertMatchesBruteForce();
+        assertEquals(Map.of("depositMin", "500"), replica.getBoundsHash(EMPTY_DISTRICT, PropertyIndexReplica.MONTHLY));
+
+        // 비 ACTIVE 전이 (UPSERT 지만 추천 대상에서 제외) / 필수 값 누락
+        apply(upsert(charter.getPropertyId(), charter.getDistrictName(), PropertyIndexReplica.CHARTER,
+                "COMPLETED", 1000, null, 10.0));
+        apply(upsert("m9999", EMPTY_DISTRICT, PropertyIndexReplica.MONTHLY, "ACTIVE", 1000, null, 12.0));
+        assertMatchesBruteForce();
+
+        // 제거 / 없는 매물 제거
+        apply(remove(monthly.getPropertyId(), monthly.getDistrictName(), PropertyIndexReplica.MONTHLY));
+        apply(remove("c_missing", "종로구", PropertyIndexReplica.CHARTER));
+        assertMatchesBruteForce();
+
+        assertEquals(indexableCount(charterModel, false), stat("charterProperties"));
+        assertEquals(indexableCount(monthlyModel, true), stat("monthlyProperties"));
+        assertEquals(8L, stat("appliedChanges"));
+        assertEquals(0L, stat("replayedChanges"));
+    }
+
+    @Test
+    void changesArrivingDuringRebuildAreReplayed() {
+        PropertyRecord updated = firstIndexable(charterModel, false);
+        PropertyRecord removed = firstIndexable(monthlyModel, true);
+
+        // 최초 적재: RDB 첫 청크를 읽는 도중 변경 2건 도착 (RDB 결과에는 변경 전 값이 들어 있음)
+        PropertyChangedEvent upsert = upsert(updated.getPropertyId(), updated.getDistrictName(),
+                PropertyIndexReplica.CHARTER, "ACTIVE", 777, null, 7.0);
+        PropertyChangedEvent remove = remove(removed.getPropertyId(), removed.getDistrictName(),
+                PropertyIndexReplica.MONTHLY);
+        fireDuringNextLoad(upsert, remove);
+
+        replica.rebuild();
+
+        assertEquals(2L, stat("replayedChanges"));
+        assertMatchesBruteForce();
+
+        // 재구축: 기존 스냅샷이 있으면 즉시 반영되고, 새 스냅샷에도 다시 적용된다
+        PropertyChangedEvent inserted = upsert("c8888", "종로구", PropertyIndexReplica.CHARTER,
+                "ACTIVE", 12000, null, 18.0);
+        fireDuringNextLoad(inserted);
+
+        replica.rebuild();
+
+        assertEquals(3L, stat("replayedChanges"));
+        assertEquals(3L, stat("appliedChanges"));
+        assertMatchesBruteForce();
+    }
+
+    /* 다음 전세 RDB 적재 첫 청크 조회 시 변경 이벤트를 발행하고 기대 결과에 반영 (리포지토리 결과는 변경 전 행) */
+    private void fireDuringNextLoad(PropertyChangedEvent... events) {
+        AtomicInteger calls = new AtomicInteger();
+        Answer<Slice<PropertyCharter>> rows = pages(charterRows);
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() == 0) {
+                for (PropertyChangedEvent event : events) {
+                    apply(event);
+                }
+            }
+            return rows.answer(invocation);
+        }).when(propertyCharterRepository).findAllBy(any(Pageable.class));
+    }
+
+    private void apply(PropertyChangedEvent event) {
+        Map<String, PropertyRecord> model = PropertyIndexReplica.MONTHLY.equals(event.getLeaseType())
+                ? monthlyModel : charterModel;
+        if (event.getChangeType() == PropertyChangedEvent.ChangeType.UPSERT) {
+            model.put(event.getPropertyId(), PropertyRecord.of(event.getPropertyId(), event.getFields()));
+        } else {
+            model.remove(event.getPropertyId());
+        }
+        replica.handlePropertyChangedEvent(event);
+    }
+
+    private void assertMatchesBruteForce() {
+        List<String> districts = new ArrayList<>(DISTRICTS);
+        districts.add(EMPTY_DISTRICT);
+
+        for (int q = 0; q < QUERIES; q++) {
+            String district = districts.get(random.nextInt(districts.size()));
+
+            double[] deposit = randomInterval(charterModel, PropertyRecord::getDeposit, 60000);
+            double[] area = randomInterval(charterModel, PropertyRecord::getAreaInPyeong, 50);
+            assertEquals(
+                    bruteForce(charterModel, district, false, deposit, null, area),
+                    ids(replica.findCharter(district, deposit[0], deposit[1], area[0], area[1])),
+                    "전세 " + district + " " + deposit[0] + "~" + deposit[1] + " / " + area[0] + "~" + area[1]);
+
+            deposit = randomInterval(monthlyModel, PropertyRecord::getDeposit, 6000);
+            double[] rent = randomInterval(monthlyModel, PropertyRecord::getMonthlyRent, 200);
+            area = randomInterval(monthlyModel, PropertyRecord::getAreaInPyeong, 50);
+            assertEquals(
+                    bruteForce(monthlyModel, district, true, deposit, rent, area),
+                    ids(replica.findMonthly(district, deposit[0], deposit[1], rent[0], rent[1], area[0], area[1])),
+                    "월세 " + district + " " + deposit[0] + "~" + deposit[1] + " / " + rent[0] + "~" + rent[1]
+                            + " / " + area[0] + "~" + area[1]);
+        }
+    }
+
+    /* 추천 서비스 Redis 경로와 같은 조건: 지역구 / ACTIVE / 임대 유형 / 필수 값 / 폐구간 범위 */
+    private static List<String> bruteForce(Map<String, PropertyRecord> model, String district, boolean monthly,
+                                           double[] deposit, double[] rent, double[] area) {
+        List<String> matched = new ArrayList<>();
+        for (PropertyRecord record : model.values()) {
+            if (!district.equals(record.getDistrictName())
+                    || !"ACTIVE".equals(record.getStatus())
+                    || !(monthly ? PropertyIndexReplica.MONTHLY : PropertyIndexReplica.CHARTER).equals(record.getLeaseType())
+                    || !within(record.getDeposit(), deposit)
+                    || !within(record.getAreaInPyeong(), area)
+                    || (monthly && !within(record.getMonthlyRent(), rent))) {
+                continue;
+            }
+            matched.add(record.getPropertyId());
+        }
+        matched.sort(null);
+        return matched;
+    }
+
+    private static boolean within(Number value, double[] interval) {
+        return value != null && value.doubleValue() >= interval[0] && value.doubleValue() <= interval[1];
+    }
+
+    private static List<String> ids(List<PropertyRecord> records) {
+        List<String> ids = new ArrayList<>();
+        for (PropertyRecord record : records) {
+            ids.add(record.getPropertyId());
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    /* 폐구간 경계가 실제 값과 겹치도록 절반은 기존 레코드 값에서 양 끝을 고른다 */
+    private double[] randomInterval(Map<String, PropertyRecord> model,
+                                    Function<PropertyRecord, Number> column, double max) {
+        double a = boundary(model, column, max);
+        double b = boundary(model, column, max);
+        return new double[] {Math.min(a, b), Math.max(a, b)};
+    }
+
+    private double boundary(Map<String, PropertyRecord> model,
+                            Function<PropertyRecord, Number> column, double max) {
+        if (random.nextBoolean()) {
+            List<PropertyRecord> records = new ArrayList<>(model.values());
+            Number value = column.apply(records.get(random.nextInt(records.size())));
+            if (value != null) {
+                return value.doubleValue();
+            }
+        }
+        return random.nextDouble() * max;
+    }
+
+    private static int indexableCount(Map<String, PropertyRecord> model, boolean monthly) {
+        return (int) model.values().stream().filter(record -> PropertyIndexReplica.isIndexable(record, monthly)).count();
+    }
+
+    private static PropertyRecord firstIndexable(Map<String, PropertyRecord> model, boolean monthly) {
+        return model.values().stream()
+                .filter(record -> PropertyIndexReplica.isIndexable(record, monthly))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /* PropertyHashBuilder 결과 형태 (문자열 값, NULL 은 빈 문자열) */
+    private static PropertyChangedEvent upsert(String propertyId, String districtName, String leaseType,
+                                               String status, Integer deposit, Integer monthlyRent, Double area) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("propertyId", propertyId);
+        fields.put("districtName", districtName);
+        fields.put("leaseType", leaseType);
+        fields.put("status", status);
+        fields.put("deposit", deposit != null ? deposit.toString() : "");
+        fields.put("monthlyRent", monthlyRent != null ? monthlyRent.toString() : "");
+        fields.put("areaInPyeong", area != null ? area.toString() : "");
+        return new PropertyChangedEvent(propertyId, leaseType, districtName,
+                PropertyChangedEvent.ChangeType.UPSERT, fields);
+    }
+
+    private static PropertyChangedEvent remove(String propertyId, String districtName, String leaseType) {
+        return new PropertyChangedEvent(propertyId, leaseType, districtName,
+                PropertyChangedEvent.ChangeType.REMOVE, null);
+    }
+
+    /* Pageable 의 offset / size 대로 rows 를 잘라 돌려준다 (호출 시점의 rows 내용 사용) */
+    private static <T> Answer<Slice<T>> pages(List<T> rows) {
+        return invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            int from = (int) Math.min(pageable.getOffset(), rows.size());
+            int to = Math.min(from + pageable.getPageSize(), rows.size());
+            return new SliceImpl<>(new ArrayList<>(rows.subList(from, to)), pageable, to < rows.size());
+        };
+    }
+
+    /* 경계값이 겹치도록 500 단위 */
+    private int randomDeposit() {
+        return 500 * (1 + random.nextInt(120));
+    }
+
+    private int randomRent() {
+        return 10 * (1 + random.nextInt(20));
+    }
+
+    private double randomArea() {
+        return Math.round((8 + random.nextDouble() * 40) * 2) / 2.0;
+    }
+
+    private PropertyStatus randomStatus() {
+        int roll = random.nextInt(20);
+        return roll == 0 ? PropertyStatus.COMPLETED : roll == 1 ? PropertyStatus.DELETED : roll == 2 ? null : PropertyStatus.ACTIVE;
+    }
+
+    private Object stat(String name) {
+        return replica.getStats().get(name);
+    }
+}
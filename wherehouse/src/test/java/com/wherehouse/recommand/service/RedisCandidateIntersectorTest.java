@@ -0,0 +1,120 @@
+package com.wherehouse.recommand.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RedisCandidateIntersector 대체 경로 계약 검증 (RedisTemplate 은 목 객체)
+ *
+ * - 정상      : KEYS 는 지역구 순서 × 인덱스 순서, ARGV 는 n, min1, max1, ... 이고 생존 0건 지역구는 결과에서 빠진다.
+ * - 실행 실패 : 스크립트 예외 시 null (호출 측 MULTI/EXEC + retainAll 경로), scriptFailures 증가
+ * - 크기 불일치 : 결과 배열 수가 지역구 수와 다르거나 null 이면 null, scriptFailures 증가
+ * - 비활성화  : 비활성화 / 빈 지역구 / 빈 범위 목록이면 스크립트를 실행하지 않고 null
+ */
+class RedisCandidateIntersectorTest {
+
+    private static final List<String> DISTRICTS = List.of("강남구", "마포구", "종로구");
+    private static final List<RedisCandidateIntersector.IndexRange> RANGES = List.of(
+            RedisCandidateIntersector.IndexRange.of("idx:charterPrice:{district}", 10000, 30000),
+            RedisCandidateIntersector.IndexRange.of("idx:area:{district}:전세", 10.0, 25.5));
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+
+    private RedisCandidateIntersector intersector;
+
+    @BeforeEach
+    void setUp() {
+        intersector = new RedisCandidateIntersector(new RedisHandler(redisTemplate, null));
+        ReflectionTestUtils.setField(intersector, "enabled", true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void returnsSurvivorsPerDistrict() {
+        stubScriptResult(Arrays.<Object>asList(List.of("p1", "p2"), List.of(), List.of("p3")));
+
+        Map<String, Set<String>> result = intersector.intersect(DISTRICTS, RANGES);
+
+        assertEquals(Map.of("강남구", Set.of("p1", "p2"), "종로구", Set.of("p3")), result);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertEquals(List.of(
+                "idx:charterPrice:강남구", "idx:area:강남구:전세",
+                "idx:charterPrice:마포구", "idx:area:마포구:전세",
+                "idx:charterPrice:종로구", "idx:area:종로구:전세"), keys.getValue());
+        assertArrayEquals(new Object[] {2, 10000.0, 30000.0, 10.0, 25.5}, args.getValue());
+
+        assertEquals(0L, stat("scriptFailures"));
+        assertEquals(3L, stat("survivingIds"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void returnsNullWhenScriptFails() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisSystemException("NOSCRIPT", new IllegalStateException()));
+
+        assertNull(intersector.intersect(DISTRICTS, RANGES));
+        assertEquals(1L, stat("scriptCalls"));
+        assertEquals(1L, stat("scriptFailures"));
+    }
+
+    @Test
+    void returnsNullWhenResultSizeMismatches() {
+        stubScriptResult(Arrays.<Object>asList(List.of("p1"), List.of("p2")));
+        assertNull(intersector.intersect(DISTRICTS, RANGES));
+
+        stubScriptResult(null);
+        assertNull(intersector.intersect(DISTRICTS, RANGES));
+
+        assertEquals(2L, stat("scriptCalls"));
+        assertEquals(2L, stat("scriptFailures"));
+        assertEquals(0L, stat("survivingIds"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void skipsScriptWhenDisabledOrEmpty() {
+        assertNull(intersector.intersect(List.of(), RANGES));
+        assertNull(intersector.intersect(DISTRICTS, List.of()));
+
+        ReflectionTestUtils.setField(intersector, "enabled", false);
+        assertNull(intersector.intersect(DISTRICTS, RANGES));
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertEquals(0L, stat("scriptCalls"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScriptResult(List<Object> result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(result);
+    }
+
+    private Object stat(String name) {
+        return intersector.getStats().get(name);
+    }
+}
@@ -0,0 +1,158 @@
+package com.wherehouse.redis.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wherehouse.information.entity.CctvGeo;
+import com.wherehouse.information.model.AddressDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * VersionedCacheCodec 인코딩 / 디코딩 정합성 검증
+ *
+ * - 왕복       : 형식(json / smile)별로 encode → decode 결과가 원래 값과 같다. (List<CctvGeo>, 편의시설 Map, AddressDto)
+ * - 헤더       : [MAGIC] [VERSION] [FORMAT_ID] 가 앞에 붙는다.
+ * - 형식 전환  : 다른 형식으로 저장된 값도 헤더의 FORMAT_ID 로 읽는다. (배포 중 형식 변경)
+ * - 이전 값    : 헤더 없는 이중 인코딩 JSON 문자열 값을 그대로 읽는다.
+ * - 잘못된 헤더 : 알 수 없는 버전 / FORMAT_ID 는 IOException
+ */
+class VersionedCacheCodecTest {
+
+    private static final TypeReference<List<CctvGeo>> CCTV_LIST = new TypeReference<>() {};
+    private static final TypeReference<Map<String, List<Map<String, Object>>>> AMENITIES = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"json", "smile"})
+    void roundTripsCachedValues(String format) throws IOException {
+        VersionedCacheCodec codec = codec(format);
+
+        List<CctvGeo> cctvList = sampleCctv();
+        assertEquals(cctvList, codec.decode(codec.encode(cctvList), CCTV_LIST));
+
+        Map<String, List<Map<String, Object>>> amenities = sampleAmenities();
+        assertEquals(amenities, codec.decode(codec.encode(amenities), AMENITIES));
+
+        AddressDto address = sampleAddress();
+        assertEquals(address, codec.decode(codec.encode(address), AddressDto.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"json", "smile"})
+    void prefixesVersionHeader(String format) throws IOException {
+        VersionedCacheCodec codec = codec(format);
+        byte[] bytes = codec.encode(sampleAddress());
+
+        assertEquals(VersionedCacheCodec.MAGIC, bytes[0]);
+        assertEquals(VersionedCacheCodec.VERSION, bytes[1]);
+        assertEquals("json".equals(format) ? JsonCacheCodec.FORMAT_ID : SmileCacheCodec.FORMAT_ID, bytes[2]);
+    }
+
+    @Test
+    void decodesValuesWrittenInAnotherFormat() throws IOException {
+        VersionedCacheCodec jsonCodec = codec("json");
+        VersionedCacheCodec smileCodec = codec("smile");
+        List<CctvGeo> cctvList = sampleCctv();
+
+        assertEquals(cctvList, smileCodec.decode(jsonCodec.encode(cctvList), CCTV_LIST));
+        assertEquals(cctvList, jsonCodec.decode(smileCodec.encode(cctvList), CCTV_LIST));
+    }
+
+    @Test
+    void decodesLegacyDoubleEncodedValues() throws IOException {
+        VersionedCacheCodec codec = codec("smile");
+        Jackson2JsonRedisSerializer<Object> legacySerializer = new Jackson2JsonRedisSerializer<>(Object.class);
+
+        Map<String, List<Map<String, Object>>> amenities = sampleAmenities();
+        byte[] legacy = legacySerializer.serialize(objectMapper.writeValueAsString(amenities));
+        assertEquals(amenities, codec.decode(legacy, AMENITIES));
+
+        AddressDto address = sampleAddress();
+        assertEquals(address, codec.decode(objectMapper.writeValueAsBytes(address), AddressDto.class));
+    }
+
+    @Test
+    void returnsNullForMissingValue() throws IOException {
+        VersionedCacheCodec codec = codec("smile");
+
+        assertNull(codec.decode(null, AddressDto.class));
+        assertNull(codec.decode(new byte[0], AddressDto.class));
+    }
+
+    @Test
+    void rejectsUnknownHeader() throws IOException {
+        VersionedCacheCodec codec = codec("json");
+        byte[] bytes = codec.encode(sampleAddress());
+
+        byte[] unknownVersion = bytes.clone();
+        unknownVersion[1] = (byte) (VersionedCacheCodec.VERSION + 1);
+        assertThrows(IOException.class, () -> codec.decode(unknownVersion, AddressDto.class));
+
+        byte[] unknownFormat = bytes.clone();
+        unknownFormat[2] = (byte) 0x7F;
+        assertThrows(IOException.class, () -> codec.decode(unknownFormat, AddressDto.class));
+    }
+
+    private VersionedCacheCodec codec(String format) {
+        VersionedCacheCodec codec = new VersionedCacheCodec(objectMapper,
+                List.of(new JsonCacheCodec(objectMapper), new SmileCacheCodec(objectMapper)));
+        ReflectionTestUtils.setField(codec, "format", format);
+        codec.init();
+        return codec;
+    }
+
+    private static List<CctvGeo> sampleCctv() {
+        List<CctvGeo> cctvList = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            cctvList.add(CctvGeo.builder()
+                    .numbers(100000L + i)
+                    .address("서울특별시 중구 세종대로 " + (100 + i))
+                    .latitude(37.56 + i * 0.0001)
+                    .longitude(126.97 + i * 0.0001)
+                    .cameraCount(1 + i % 4)
+                    .geohashId("wydm9qy")
+                    .build());
+        }
+        return cctvList;
+    }
+
+    private static Map<String, List<Map<String, Object>>> sampleAmenities() {
+        Map<String, List<Map<String, Object>>> amenities = new LinkedHashMap<>();
+        for (String category : new String[]{"SW8", "CS2", "FD6"}) {
+            List<Map<String, Object>> places = new ArrayList<>();
+            for (int i = 0; i < 15; i++) {
+                Map<String, Object> place = new HashMap<>();
+                place.put("name", category + " 장소 " + i);
+                place.put("latitude", 37.56 + i * 0.0003);
+                place.put("longitude", 126.97 + i * 0.0003);
+                place.put("distance", i * 30);
+                place.put("categoryName", category);
+                places.add(place);
+            }
+            amenities.put(category, places);
+        }
+        return amenities;
+    }
+
+    private static AddressDto sampleAddress() {
+        return AddressDto.builder()
+                .roadAddress("서울특별시 중구 세종대로 110")
+                .jibunAddress("서울특별시 중구 태평로1가 31")
+                .build();
+    }
+}
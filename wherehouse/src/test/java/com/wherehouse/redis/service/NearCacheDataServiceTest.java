@@ -0,0 +1,157 @@
+package com.wherehouse.redis.service;
+
+import com.wherehouse.redis.handler.RedisHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * NearCacheDataService 로컬 용량 / 유효시간 검증 (Redis 는 목 객체)
+ *
+ * - 바이트 상한 : 엔트리 무게(값 바이트 + 키 문자 수 × 2) 합이 max-bytes 를 넘으면 오래 사용하지 않은 엔트리부터 제거한다.
+ * - 큰 값      : 단독으로 max-bytes 를 넘는 값은 로컬에 보관하지 않고, 같은 키의 이전 값도 제거한다.
+ * - 값 교체    : 같은 키에 다시 저장하면 이전 값의 무게를 빼고 새 무게로 센다.
+ * - PTTL 제한  : Redis 에서 읽어 적재한 값은 호출 측 TTL 이 길어도 Redis 남은 유효시간이 지나면 로컬에서 만료된다.
+ *               (PTTL -1 은 호출 측 TTL, -2 는 적재하지 않음)
+ */
+class NearCacheDataServiceTest {
+
+    private static final int VALUE_BYTES = 300;
+    private static final int KEY_WEIGHT = 2 * "k0".length();
+
+    private final RedisSingleDataService redisSingleDataService = mock(RedisSingleDataService.class);
+    private final RedisBinaryDataService redisBinaryDataService = mock(RedisBinaryDataService.class);
+
+    private NearCacheDataService nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new NearCacheDataService(redisSingleDataService, redisBinaryDataService,
+                mock(RedisHandler.class), mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(nearCache, "enabled", true);
+        ReflectionTestUtils.setField(nearCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(nearCache, "maxBytes", DataSize.ofBytes(1000));
+        ReflectionTestUtils.setField(nearCache, "defaultTtl", Duration.ofMinutes(5));
+        nearCache.init();
+
+        when(redisBinaryDataService.setBinaryData(any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenBytesExceeded() {
+        for (int i = 0; i < 3; i++) {
+            nearCache.setBinaryData("k" + i, new byte[VALUE_BYTES], Duration.ofMinutes(1));
+        }
+        assertEquals(3L * (VALUE_BYTES + KEY_WEIGHT), stat("bytes"));
+
+        // k0 을 다시 읽어 가장 최근 사용으로 만든 뒤 4번째 값 저장 → 한도 초과, k1 제거
+        stubBinaryLoad(null, -2);
+        nearCache.getBinaryData("k0", Duration.ofMinutes(1));
+        nearCache.setBinaryData("k3", new byte[VALUE_BYTES], Duration.ofMinutes(1));
+
+        assertEquals(3, stat("size"));
+        assertEquals(3L * (VALUE_BYTES + KEY_WEIGHT), stat("bytes"));
+        assertEquals(1L, stat("evictions"));
+
+        assertNull(nearCache.getBinaryData("k1", Duration.ofMinutes(1)));
+        verify(redisBinaryDataService).getMultiBinaryData(eq(List.of("k1")), any(long[].class));
+        verify(redisBinaryDataService, never()).getMultiBinaryData(eq(List.of("k0")), any(long[].class));
+    }
+
+    @Test
+    void skipsValuesLargerThanLimit() {
+        nearCache.setBinaryData("k0", new byte[VALUE_BYTES], Duration.ofMinutes(1));
+        nearCache.setBinaryData("k0", new byte[2000], Duration.ofMinutes(1));
+
+        assertEquals(0, stat("size"));
+        assertEquals(0L, stat("bytes"));
+        assertEquals(1L, stat("oversized"));
+    }
+
+    @Test
+    void replacingValueReweighsEntry() {
+        nearCache.setBinaryData("k0", new byte[VALUE_BYTES], Duration.ofMinutes(1));
+        nearCache.setBinaryData("k0", new byte[100], Duration.ofMinutes(1));
+
+        assertEquals(1, stat("size"));
+        assertEquals(100L + KEY_WEIGHT, stat("bytes"));
+
+        nearCache.clearLocal();
+        assertEquals(0L, stat("bytes"));
+    }
+
+    @Test
+    void capsLocalTtlAtRedisPttl() throws InterruptedException {
+        byte[] value = {1, 2, 3};
+        stubBinaryLoad(value, 50);
+
+        assertArrayEquals(value, nearCache.getBinaryData("dto:wydm9qy", Duration.ofHours(1)));
+        assertArrayEquals(value, nearCache.getBinaryData("dto:wydm9qy", Duration.ofHours(1)));
+        verify(redisBinaryDataService, times(1)).getMultiBinaryData(anyList(), any(long[].class));
+
+        Thread.sleep(80);
+        nearCache.getBinaryData("dto:wydm9qy", Duration.ofHours(1));
+        verify(redisBinaryDataService, times(2)).getMultiBinaryData(anyList(), any(long[].class));
+        assertEquals(1L, stat("expirations"));
+    }
+
+    @Test
+    void keepsCallerTtlWhenKeyHasNoExpiry() throws InterruptedException {
+        stubBinaryLoad(new byte[] {1}, -1);
+
+        nearCache.getBinaryData("dto:wydm9qy", Duration.ofHours(1));
+        Thread.sleep(80);
+        nearCache.getBinaryData("dto:wydm9qy", Duration.ofHours(1));
+
+        verify(redisBinaryDataService, times(1)).getMultiBinaryData(anyList(), any(long[].class));
+    }
+
+    @Test
+    void capsStringValuesAndSkipsVanishedKeys() throws InterruptedException {
+        when(redisSingleDataService.getMultiData(anyList(), any(long[].class))).thenAnswer(invocation -> {
+            long[] pttl = invocation.getArgument(1);
+            pttl[0] = 50;    // address:a → 50ms 남음
+            pttl[1] = -2;    // address:b → 조회 직후 만료
+            return List.of("주소 A", "주소 B");
+        });
+
+        assertEquals(List.of("주소 A", "주소 B"),
+                nearCache.getMultiData(List.of("address:a", "address:b"), Duration.ofHours(1)));
+        assertEquals(1, stat("size"));
+
+        Thread.sleep(80);
+        nearCache.getMultiData(List.of("address:a", "address:b"), Duration.ofHours(1));
+        verify(redisSingleDataService, times(2)).getMultiData(eq(List.of("address:a", "address:b")), any(long[].class));
+    }
+
+    private void stubBinaryLoad(byte[] value, long pttlMillis) {
+        when(redisBinaryDataService.getMultiBinaryData(anyList(), any(long[].class))).thenAnswer(invocation -> {
+            long[] pttl = invocation.getArgument(1);
+            Arrays.fill(pttl, pttlMillis);
+            return Collections.singletonList(value);
+        });
+    }
+
+    private Object stat(String name) {
+        return nearCache.getStats().get(name);
+    }
+}